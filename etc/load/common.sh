@@ -0,0 +1,19 @@
+# Shared helpers for the load scripts in this directory; sourced, not executed.
+
+# Prints one result row from a hey report: summary <report> <label>
+summary() {
+    local rps p50 p99 failed
+
+    rps=$(awk '/Requests\/sec/ { print $2 }' "$1")
+    p50=$(awk '/ 50% in/ { print $3 * 1000 }' "$1")
+    p99=$(awk '/ 99% in/ { print $3 * 1000 }' "$1")
+    failed=$(awk '
+        /^Status code distribution/ { section = "status"; next }
+        /^Error distribution/ { section = "errors"; next }
+        section == "status" && /\[[0-9]+\]/ && $1 != "[200]" { failed += $2 }
+        section == "errors" && /\[[0-9]+\]/ { gsub(/[][]/, "", $1); failed += $1 }
+        END { print failed + 0 }
+    ' "$1")
+
+    printf "%-10s %10s %10s %10s %8s\n" "$2" "$rps" "$p50" "$p99" "$failed"
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+#
+# Compares the servlet and the reactive stacks of the data API under the same burst load.
+#
+# Start one instance of each stack against the same database, e.g.
+#   SPRING_PROFILE=prod          SPRING_PORT=8080 java -jar target/heraldsofchaos-5.0.0.jar
+#   SPRING_PROFILE=prod,reactive SPRING_PORT=8081 java -jar target/heraldsofchaos-5.0.0.jar
+# and run the script with hey (https://github.com/rakyll/hey) on the PATH:
+#   etc/load/compare-stacks.sh http://localhost:8080 http://localhost:8081
+#
+# Only /page endpoints are hit: /list and /{id} are served from in-process caches on the servlet stack, so they
+# would compare caches rather than stacks. No conditional headers are sent, so every request reaches Mongo.
+
+set -euo pipefail
+
+SERVLET_URL=${1:-http://localhost:8080}
+REACTIVE_URL=${2:-http://localhost:8081}
+CONCURRENCY=${CONCURRENCY:-256}
+DURATION=${DURATION:-30s}
+LANGUAGE=${LANGUAGE:-en}
+
+ENDPOINTS=(
+    "/characters/page?lang=${LANGUAGE}&page=0&size=20"
+    "/characters/page?lang=${LANGUAGE}&page=5&size=20&count=true"
+    "/worlds/page?lang=${LANGUAGE}&page=0&size=20"
+    "/creatures/page?lang=${LANGUAGE}&page=0&size=50"
+    "/items/page?lang=${LANGUAGE}&page=0&size=50"
+)
+
+source "$(dirname "$0")/common.sh"
+
+command -v hey > /dev/null || { echo "hey is required: https://github.com/rakyll/hey" >&2; exit 1; }
+
+RESULTS=$(mktemp -d)
+
+for endpoint in "${ENDPOINTS[@]}"; do
+    echo
+    echo ">>> ${endpoint} (${CONCURRENCY} clients, ${DURATION})"
+    printf "%-10s %10s %10s %10s %8s\n" "stack" "req/s" "p50 (ms)" "p99 (ms)" "failed"
+
+    for stack in servlet reactive; do
+        url=$([ "$stack" = servlet ] && echo "$SERVLET_URL" || echo "$REACTIVE_URL")
+        output="${RESULTS}/${stack}-$(echo "$endpoint" | tr -c '[:alnum:]' '_').txt"
+
+        hey -z "$DURATION" -c "$CONCURRENCY" "${url}${endpoint}" > "$output"
+        summary "$output" "$stack"
+    done
+done
+
+echo
+echo "Raw reports in ${RESULTS}"
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+#
+# Compares platform-thread and virtual-thread request handling of the data API as concurrency grows.
+#
+# Start one instance per threading mode against the same database. The platform instance gets the same connection
+# limit as the virtual-threads profile, so both accept every client and only the threading model differs:
+#   SPRING_PROFILE=prod                 SPRING_PORT=8080 java -jar target/heraldsofchaos-5.0.0.jar \
+#       --server.tomcat.max-connections=20000 --server.tomcat.accept-count=1000
+#   SPRING_PROFILE=prod,virtual-threads SPRING_PORT=8081 java -jar target/heraldsofchaos-5.0.0.jar
+# and run the script with hey (https://github.com/rakyll/hey) on the PATH:
+#   etc/load/virtual-threads.sh http://localhost:8080 http://localhost:8081
+#
+# Virtual threads need Java 21. While the run is going, the virtual instance reports long pins on
+# heraldsofchaos.threads.pinned (tagged MONGO_DRIVER, LOGGER, APPLICATION or OTHER) and in its log.
+
+set -euo pipefail
+
+PLATFORM_URL=${1:-http://localhost:8080}
+VIRTUAL_URL=${2:-http://localhost:8081}
+LEVELS=(${LEVELS:-1000 5000 10000})
+DURATION=${DURATION:-30s}
+LANGUAGE=${LANGUAGE:-en}
+ENDPOINT=${ENDPOINT:-/characters/page?lang=${LANGUAGE}&page=0&size=20}
+
+source "$(dirname "$0")/common.sh"
+
+command -v hey > /dev/null || { echo "hey is required: https://github.com/rakyll/hey" >&2; exit 1; }
+
+# Every client holds a socket open for the whole run.
+ulimit -n "$(( ${LEVELS[-1]} + 1024 ))" 2> /dev/null \
+    || echo "Could not raise the open file limit to $(( ${LEVELS[-1]} + 1024 )); expect socket errors." >&2
+
+RESULTS=$(mktemp -d)
+
+for level in "${LEVELS[@]}"; do
+    echo
+    echo ">>> ${ENDPOINT} (${level} clients, ${DURATION})"
+    printf "%-10s %10s %10s %10s %8s\n" "threads" "req/s" "p50 (ms)" "p99 (ms)" "failed"
+
+    for mode in platform virtual; do
+        url=$([ "$mode" = platform ] && echo "$PLATFORM_URL" || echo "$VIRTUAL_URL")
+        output="${RESULTS}/${mode}-${level}.txt"
+
+        hey -z "$DURATION" -c "$level" "${url}${ENDPOINT}" > "$output"
+        summary "$output" "$mode"
+    done
+done
+
+echo
+echo "Raw reports in ${RESULTS}"
@@ -0,0 +1,9 @@
+package org.gycoding.heraldsofchaos.application.dto.in.characters;
+
+import lombok.Builder;
+
+@Builder
+public record CharacterFilterIDTO(
+        String world,
+        String race
+) {}
@@ -0,0 +1,8 @@
+package org.gycoding.heraldsofchaos.application.dto.in.creatures;
+
+import lombok.Builder;
+
+@Builder
+public record CreatureFilterIDTO(
+        String race
+) {}
@@ -0,0 +1,8 @@
+package org.gycoding.heraldsofchaos.application.dto.in.items;
+
+import lombok.Builder;
+
+@Builder
+public record ItemFilterIDTO(
+        String type
+) {}
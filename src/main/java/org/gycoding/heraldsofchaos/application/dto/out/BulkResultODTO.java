@@ -0,0 +1,8 @@
+package org.gycoding.heraldsofchaos.application.dto.out;
+
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+
+public record BulkResultODTO(
+        String identifier,
+        HeraldsOfChaosError error
+) { }
@@ -0,0 +1,11 @@
+package org.gycoding.heraldsofchaos.application.dto.out;
+
+import lombok.Builder;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+
+@Builder
+public record CompletionODTO(
+        EntityType type,
+        String identifier,
+        String name
+) { }
@@ -0,0 +1,12 @@
+package org.gycoding.heraldsofchaos.application.dto.out;
+
+import lombok.Builder;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+
+@Builder
+public record FuzzyMatchODTO(
+        EntityType type,
+        String identifier,
+        String name,
+        int distance
+) { }
@@ -16,15 +16,17 @@ public record CharacterODTO(
         String race
 ) {
     public Map<String, Object> toMap() {
-        return new HashMap<String, Object>(Map.of(
-                "identifier", identifier,
-                "name", name,
-                "title", title,
-                "description", description,
-                "world", world,
-                "race", race,
-                "image", image
-        ));
+        final var map = new HashMap<String, Object>();
+
+        map.put("identifier", identifier);
+        map.put("name", name);
+        map.put("title", title);
+        map.put("description", description);
+        map.put("world", world);
+        map.put("race", race);
+        map.put("image", image);
+
+        return map;
     }
 }
 
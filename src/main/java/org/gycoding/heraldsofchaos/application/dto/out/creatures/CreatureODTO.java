@@ -14,13 +14,15 @@ public record CreatureODTO(
         String race
 ) {
     public Map<String, Object> toMap() {
-        return new HashMap<String, Object>(Map.of(
-                "identifier", identifier,
-                "name", name,
-                "description", description,
-                "image", image,
-                "race", race
-        ));
+        final var map = new HashMap<String, Object>();
+
+        map.put("identifier", identifier);
+        map.put("name", name);
+        map.put("description", description);
+        map.put("image", image);
+        map.put("race", race);
+
+        return map;
     }
 }
 
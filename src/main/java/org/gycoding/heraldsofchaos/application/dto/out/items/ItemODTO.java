@@ -2,6 +2,7 @@ package org.gycoding.heraldsofchaos.application.dto.out.items;
 
 import lombok.Builder;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Builder
@@ -13,12 +14,14 @@ public record ItemODTO(
         String type
 ) {
     public Map<String, Object> toMap() {
-        return Map.of(
-                "identifier", identifier,
-                "name", name,
-                "description", description,
-                "image", image,
-                "type", type
-        );
+        final var map = new HashMap<String, Object>();
+
+        map.put("identifier", identifier);
+        map.put("name", name);
+        map.put("description", description);
+        map.put("image", image);
+        map.put("type", type);
+
+        return map;
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.gycoding.heraldsofchaos.application.dto.out.worlds;
 
 import lombok.Builder;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Builder
@@ -12,11 +13,13 @@ public record PlaceODTO(
         String image
 ) {
     public Map<String, Object> toMap() {
-        return Map.of(
-                "identifier", identifier,
-                "name", name,
-                "description", description,
-                "image", image
-        );
+        final var map = new HashMap<String, Object>();
+
+        map.put("identifier", identifier);
+        map.put("name", name);
+        map.put("description", description);
+        map.put("image", image);
+
+        return map;
     }
 }
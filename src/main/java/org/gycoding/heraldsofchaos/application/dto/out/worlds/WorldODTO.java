@@ -2,6 +2,7 @@ package org.gycoding.heraldsofchaos.application.dto.out.worlds;
 
 import lombok.Builder;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,14 +17,16 @@ public record WorldODTO(
         List<PlaceODTO> places
 ) {
     public Map<String, Object> toMap() {
-        return Map.of(
-                "identifier", identifier,
-                "name", name,
-                "description", description,
-                "image", detailedIcon,
-                "detailedIcon", detailedIcon,
-                "mainColor", mainColor,
-                "places", places
-        );
+        final var map = new HashMap<String, Object>();
+
+        map.put("identifier", identifier);
+        map.put("name", name);
+        map.put("description", description);
+        map.put("image", image);
+        map.put("detailedIcon", detailedIcon);
+        map.put("mainColor", mainColor);
+        map.put("places", places);
+
+        return map;
     }
 }
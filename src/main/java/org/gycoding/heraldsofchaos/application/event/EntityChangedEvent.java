@@ -0,0 +1,17 @@
+package org.gycoding.heraldsofchaos.application.event;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+
+/**
+ * Published by the services once an entity has been saved, updated or removed, and by the invalidation listener
+ * when another replica did so, in which case it is {@code remote}.
+ */
+public record EntityChangedEvent(
+        EntityType type,
+        String identifier,
+        boolean remote
+) {
+    public EntityChangedEvent(EntityType type, String identifier) {
+        this(type, identifier, false);
+    }
+}
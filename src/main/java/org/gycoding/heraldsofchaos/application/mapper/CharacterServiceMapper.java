@@ -1,7 +1,10 @@
 package org.gycoding.heraldsofchaos.application.mapper;
 
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
 import org.gycoding.heraldsofchaos.shared.StringTranslator;
 import org.mapstruct.Mapper;
@@ -11,9 +14,15 @@ import org.mapstruct.Mapping;
 public interface CharacterServiceMapper {
     CharacterMO toMO(CharacterIDTO character);
 
-    @Mapping(target = "name", expression = "java(StringTranslator.translate(character.name(), language))")
-    @Mapping(target = "title", expression = "java(StringTranslator.translate(character.title(), language))")
-    @Mapping(target = "description", expression = "java(StringTranslator.translate(character.description(), language))")
-    @Mapping(target = "race", expression = "java(StringTranslator.translate(character.race(), language))")
-    CharacterODTO toODTO(CharacterMO character, String language);
+    CharacterFilterMO toMO(CharacterFilterIDTO filter);
+
+    default CharacterODTO toODTO(CharacterMO character, String language) {
+        return toODTO(character, language, Fieldset.ALL);
+    }
+
+    @Mapping(target = "name", expression = "java(fields.includes(\"name\") ? StringTranslator.translate(character.name(), language) : null)")
+    @Mapping(target = "title", expression = "java(fields.includes(\"title\") ? StringTranslator.translate(character.title(), language) : null)")
+    @Mapping(target = "description", expression = "java(fields.includes(\"description\") ? StringTranslator.translate(character.description(), language) : null)")
+    @Mapping(target = "race", expression = "java(fields.includes(\"race\") ? StringTranslator.translate(character.race(), language) : null)")
+    CharacterODTO toODTO(CharacterMO character, String language, Fieldset fields);
 }
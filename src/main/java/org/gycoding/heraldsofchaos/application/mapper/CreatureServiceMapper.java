@@ -1,7 +1,10 @@
 package org.gycoding.heraldsofchaos.application.mapper;
 
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
 import org.gycoding.heraldsofchaos.shared.StringTranslator;
 import org.mapstruct.Mapper;
@@ -11,8 +14,14 @@ import org.mapstruct.Mapping;
 public interface CreatureServiceMapper {
     CreatureMO toMO(CreatureIDTO creature);
 
-    @Mapping(target = "name", expression = "java(StringTranslator.translate(creature.name(), language))")
-    @Mapping(target = "description", expression = "java(StringTranslator.translate(creature.description(), language))")
-    @Mapping(target = "race", expression = "java(StringTranslator.translate(creature.race(), language))")
-    CreatureODTO toODTO(CreatureMO creature, String language);
+    CreatureFilterMO toMO(CreatureFilterIDTO filter);
+
+    default CreatureODTO toODTO(CreatureMO creature, String language) {
+        return toODTO(creature, language, Fieldset.ALL);
+    }
+
+    @Mapping(target = "name", expression = "java(fields.includes(\"name\") ? StringTranslator.translate(creature.name(), language) : null)")
+    @Mapping(target = "description", expression = "java(fields.includes(\"description\") ? StringTranslator.translate(creature.description(), language) : null)")
+    @Mapping(target = "race", expression = "java(fields.includes(\"race\") ? StringTranslator.translate(creature.race(), language) : null)")
+    CreatureODTO toODTO(CreatureMO creature, String language, Fieldset fields);
 }
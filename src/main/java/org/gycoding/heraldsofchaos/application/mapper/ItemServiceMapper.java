@@ -1,7 +1,10 @@
 package org.gycoding.heraldsofchaos.application.mapper;
 
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.items.ItemIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
 import org.gycoding.heraldsofchaos.shared.StringTranslator;
 import org.mapstruct.Mapper;
@@ -11,8 +14,14 @@ import org.mapstruct.Mapping;
 public interface ItemServiceMapper {
     ItemMO toMO(ItemIDTO item);
 
-    @Mapping(target = "name", expression = "java(StringTranslator.translate(item.name(), language))")
-    @Mapping(target = "description", expression = "java(StringTranslator.translate(item.description(), language))")
-    @Mapping(target = "type", expression = "java(StringTranslator.translate(item.type(), language))")
-    ItemODTO toODTO(ItemMO item, String language);
+    ItemFilterMO toMO(ItemFilterIDTO filter);
+
+    default ItemODTO toODTO(ItemMO item, String language) {
+        return toODTO(item, language, Fieldset.ALL);
+    }
+
+    @Mapping(target = "name", expression = "java(fields.includes(\"name\") ? StringTranslator.translate(item.name(), language) : null)")
+    @Mapping(target = "description", expression = "java(fields.includes(\"description\") ? StringTranslator.translate(item.description(), language) : null)")
+    @Mapping(target = "type", expression = "java(fields.includes(\"type\") ? StringTranslator.translate(item.type(), language) : null)")
+    ItemODTO toODTO(ItemMO item, String language, Fieldset fields);
 }
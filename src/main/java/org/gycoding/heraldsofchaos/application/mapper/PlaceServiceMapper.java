@@ -2,6 +2,7 @@ package org.gycoding.heraldsofchaos.application.mapper;
 
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.PlaceIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
 import org.gycoding.heraldsofchaos.shared.StringTranslator;
 import org.mapstruct.Mapper;
@@ -11,7 +12,11 @@ import org.mapstruct.Mapping;
 public interface PlaceServiceMapper {
     PlaceMO toMO(PlaceIDTO place);
 
-    @Mapping(target = "name", expression = "java(StringTranslator.translate(place.name(), language))")
-    @Mapping(target = "description", expression = "java(StringTranslator.translate(place.description(), language))")
-    PlaceODTO toODTO(PlaceMO place, String language);
+    default PlaceODTO toODTO(PlaceMO place, String language) {
+        return toODTO(place, language, Fieldset.ALL);
+    }
+
+    @Mapping(target = "name", expression = "java(fields.includes(\"name\") ? StringTranslator.translate(place.name(), language) : null)")
+    @Mapping(target = "description", expression = "java(fields.includes(\"description\") ? StringTranslator.translate(place.description(), language) : null)")
+    PlaceODTO toODTO(PlaceMO place, String language, Fieldset fields);
 }
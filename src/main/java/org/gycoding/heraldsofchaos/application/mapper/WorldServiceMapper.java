@@ -3,6 +3,7 @@ package org.gycoding.heraldsofchaos.application.mapper;
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.WorldIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
 import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
 import org.gycoding.heraldsofchaos.shared.StringTranslator;
@@ -16,10 +17,14 @@ public interface WorldServiceMapper {
     @Mapping(target = "places", ignore = true)
     WorldMO toMO(WorldIDTO world);
 
-    @Mapping(target = "name", expression = "java(StringTranslator.translate(world.name(), language))")
-    @Mapping(target = "description", expression = "java(StringTranslator.translate(world.description(), language))")
-    @Mapping(target = "places", expression = "java(toPlaceODTOList(world.places(), language))")
-    WorldODTO toODTO(WorldMO world, String language);
+    default WorldODTO toODTO(WorldMO world, String language) {
+        return toODTO(world, language, Fieldset.ALL);
+    }
+
+    @Mapping(target = "name", expression = "java(fields.includes(\"name\") ? StringTranslator.translate(world.name(), language) : null)")
+    @Mapping(target = "description", expression = "java(fields.includes(\"description\") ? StringTranslator.translate(world.description(), language) : null)")
+    @Mapping(target = "places", expression = "java(fields.includes(\"places\") ? toPlaceODTOList(world.places(), language) : null)")
+    WorldODTO toODTO(WorldMO world, String language, Fieldset fields);
 
     default List<PlaceODTO> toPlaceODTOList(List<PlaceMO> places, String language) {
         return places.stream()
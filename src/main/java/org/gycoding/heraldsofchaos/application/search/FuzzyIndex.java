@@ -0,0 +1,233 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import org.gycoding.heraldsofchaos.shared.TextFolding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Typo-tolerant lookup of folded terms within a bounded Levenshtein distance, through a trigram index.
+ * <p>
+ * Terms are padded as {@code "$$term$$"}, giving {@code length + 2} trigrams, and a single edit breaks at most three
+ * of them, so a term within distance {@code d} of the query shares at least {@code length + 2 - 3d} trigrams with
+ * it (the q-gram lemma). Only terms passing that count, and whose length is within {@code d}, are verified with a
+ * banded Levenshtein, never the whole index. The distance is capped per query so the bound stays positive.
+ */
+public class FuzzyIndex<K> {
+    public static final int MAX_DISTANCE = 2;
+
+    private static final int GRAM = 3;
+    private static final String PADDING = "$$";
+
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Term<K>> terms = new HashMap<>();
+    private final Map<K, List<Integer>> keys = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int nextTerm = 0;
+
+    private record Term<K>(K key, String text) { }
+
+    public record Match<K>(K key, String term, int distance) { }
+
+    public void put(K key, Collection<String> texts) {
+        lock.writeLock().lock();
+
+        try {
+            add(key, texts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+
+        try {
+            delete(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every key in {@code scope} with {@code replacements} in a single step.
+     */
+    public void replace(Predicate<K> scope, Map<K, ? extends Collection<String>> replacements) {
+        lock.writeLock().lock();
+
+        try {
+            keys.keySet().stream().filter(scope).toList().forEach(this::delete);
+            replacements.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keys accepted by {@code filter} with a term within {@code maxDistance} of {@code query}, closest first.
+     */
+    public List<Match<K>> find(String query, int maxDistance, Predicate<K> filter, int limit) {
+        final var folded = fold(query);
+
+        if (folded.isEmpty()) {
+            return List.of();
+        }
+
+        final var distance = distance(folded, maxDistance);
+        final var threshold = folded.length() + 2 - GRAM * distance;
+        final var grams = grams(folded);
+
+        lock.readLock().lock();
+
+        try {
+            final var shared = new HashMap<Integer, Integer>();
+
+            grams.forEach((gram, count) -> {
+                final var posting = postings.get(gram);
+
+                if (posting != null) {
+                    posting.forEach((term, termCount) -> shared.merge(term, Math.min(count, termCount), Integer::sum));
+                }
+            });
+
+            final var best = new LinkedHashMap<K, Match<K>>();
+
+            shared.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .map(entry -> terms.get(entry.getKey()))
+                    .filter(term -> Math.abs(term.text().length() - folded.length()) <= distance && filter.test(term.key()))
+                    .map(term -> new Match<>(term.key(), term.text(), levenshtein(folded, term.text(), distance)))
+                    .filter(match -> match.distance() <= distance)
+                    .sorted(Comparator.<Match<K>>comparingInt(Match::distance)
+                            .thenComparingInt(match -> Math.abs(match.term().length() - folded.length()))
+                            .thenComparing(Match::term))
+                    .forEach(match -> best.putIfAbsent(match.key(), match));
+
+            return best.values().stream().limit(limit).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Largest distance the trigram bound can filter for a query of this length, up to {@code requested}.
+     */
+    static int distance(String folded, int requested) {
+        return Math.max(0, Math.min(Math.min(requested, MAX_DISTANCE), (folded.length() + 1) / GRAM));
+    }
+
+    /**
+     * Levenshtein distance restricted to the diagonal band {@code bound} wide, returning {@code bound + 1} as soon as
+     * it is exceeded.
+     */
+    static int levenshtein(String source, String target, int bound) {
+        final var exceeded = bound + 1;
+
+        if (Math.abs(source.length() - target.length()) > bound) {
+            return exceeded;
+        }
+
+        var previous = new int[target.length() + 1];
+        var current = new int[target.length() + 1];
+
+        for (var column = 0; column <= target.length(); column++) {
+            previous[column] = column <= bound ? column : exceeded;
+        }
+
+        for (var row = 1; row <= source.length(); row++) {
+            final var from = Math.max(1, row - bound);
+            final var to = Math.min(target.length(), row + bound);
+            var rowMinimum = exceeded;
+
+            current[0] = row <= bound ? row : exceeded;
+
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+
+            for (var column = from; column <= to; column++) {
+                final var substitution = previous[column - 1] + (source.charAt(row - 1) == target.charAt(column - 1) ? 0 : 1);
+                final var deletion = previous[column] + 1;
+                final var insertion = current[column - 1] + 1;
+
+                current[column] = Math.min(exceeded, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[column]);
+            }
+
+            if (to < target.length()) {
+                current[to + 1] = exceeded;
+            }
+
+            if (rowMinimum > bound && current[0] > bound) {
+                return exceeded;
+            }
+
+            final var swap = previous;
+
+            previous = current;
+            current = swap;
+        }
+
+        return previous[target.length()];
+    }
+
+    private void add(K key, Collection<String> texts) {
+        delete(key);
+
+        final var added = new ArrayList<Integer>();
+
+        texts.stream().map(FuzzyIndex::fold).filter(text -> !text.isEmpty()).distinct().forEach(text -> {
+            final var id = nextTerm++;
+
+            terms.put(id, new Term<>(key, text));
+            grams(text).forEach((gram, count) -> postings.computeIfAbsent(gram, ignored -> new HashMap<>()).put(id, count));
+            added.add(id);
+        });
+
+        if (!added.isEmpty()) {
+            keys.put(key, added);
+        }
+    }
+
+    private void delete(K key) {
+        final var removed = keys.remove(key);
+
+        if (removed == null) {
+            return;
+        }
+
+        removed.forEach(id -> grams(terms.remove(id).text()).keySet().forEach(gram -> {
+            final var posting = postings.get(gram);
+
+            posting.remove(id);
+
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }));
+    }
+
+    private static String fold(String text) {
+        return String.join(" ", TextFolding.tokens(text));
+    }
+
+    private static Map<String, Integer> grams(String text) {
+        final var padded = PADDING + text + PADDING;
+        final var grams = new HashMap<String, Integer>();
+
+        for (var index = 0; index + GRAM <= padded.length(); index++) {
+            grams.merge(padded.substring(index, index + GRAM), 1, Integer::sum);
+        }
+
+        return grams;
+    }
+}
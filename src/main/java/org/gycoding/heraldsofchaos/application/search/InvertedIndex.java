@@ -0,0 +1,169 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Inverted index from terms to the documents containing them, ranked with Okapi BM25.
+ * <p>
+ * Documents are replaced as a whole on every write, so the index follows single entity writes without being
+ * rebuilt. Reads and writes are guarded by a read-write lock; searches run concurrently with each other.
+ */
+public class InvertedIndex<K> {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<K, Integer>> postings = new HashMap<>();
+    private final Map<K, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<K, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long totalLength = 0;
+
+    public record Hit<K>(K key, double score) { }
+
+    public void put(K key, List<String> terms) {
+        lock.writeLock().lock();
+
+        try {
+            add(key, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+
+        try {
+            delete(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every document in {@code scope} with {@code replacements} in a single step, so no search observes the
+     * scope half rebuilt.
+     */
+    public void replace(Predicate<K> scope, Map<K, List<String>> replacements) {
+        lock.writeLock().lock();
+
+        try {
+            documents.keySet().stream().filter(scope).toList().forEach(this::delete);
+            replacements.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best {@code limit} documents accepted by {@code filter} containing any of {@code terms}, best first.
+     */
+    public List<Hit<K>> search(Collection<String> terms, Predicate<K> filter, int limit) {
+        lock.readLock().lock();
+
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            final var count = documents.size();
+            final var averageLength = (double) totalLength / count;
+            final var scores = new HashMap<K, Double>();
+
+            for (final var term : new HashSet<>(terms)) {
+                final var posting = postings.get(term);
+
+                if (posting == null) {
+                    continue;
+                }
+
+                final var idf = Math.log(1 + (count - posting.size() + 0.5) / (posting.size() + 0.5));
+
+                posting.forEach((key, frequency) -> {
+                    if (filter.test(key)) {
+                        final var norm = K1 * (1 - B + B * lengths.get(key) / averageLength);
+
+                        scores.merge(key, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                    }
+                });
+            }
+
+            return best(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(K key, List<String> terms) {
+        delete(key);
+
+        if (terms.isEmpty()) {
+            return;
+        }
+
+        final var frequencies = new HashMap<String, Integer>();
+
+        terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, ignored -> new HashMap<>()).put(key, frequency));
+
+        documents.put(key, frequencies);
+        lengths.put(key, terms.size());
+        totalLength += terms.size();
+    }
+
+    private void delete(K key) {
+        final var frequencies = documents.remove(key);
+
+        if (frequencies == null) {
+            return;
+        }
+
+        frequencies.keySet().forEach(term -> {
+            final var posting = postings.get(term);
+
+            posting.remove(key);
+
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+
+        totalLength -= lengths.remove(key);
+    }
+
+    private static <K> List<Hit<K>> best(Map<K, Double> scores, int limit) {
+        final Comparator<Hit<K>> ranking = Comparator.<Hit<K>>comparingDouble(Hit::score)
+                .thenComparing(hit -> hit.key().toString(), Comparator.reverseOrder());
+        final var best = new PriorityQueue<>(ranking);
+
+        scores.forEach((key, score) -> {
+            best.add(new Hit<>(key, score));
+
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+
+        return best.stream().sorted(ranking.reversed()).toList();
+    }
+}
@@ -0,0 +1,259 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.shared.TextFolding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Character trie over folded entity names answering prefix completions without walking subtrees.
+ * <p>
+ * A name is reachable from the start of each of its words ("red dragon" also as "dragon"), and every node caches
+ * the best {@value #TOP} completions below it per entity type, so a completion is a walk down the prefix plus a
+ * merge of at most five short lists. Writes only recompute the cached lists on the path of the names they touch.
+ * Completions rank names matched from their first word first, then shorter names, then alphabetically.
+ */
+public class NameTrie {
+    public static final int TOP = 10;
+
+    private static final Comparator<Completion> RANKING = Comparator.comparingInt(Completion::word)
+            .thenComparingInt(completion -> completion.folded().length())
+            .thenComparing(Completion::folded)
+            .thenComparing(completion -> completion.key().identifier());
+
+    private final Node root = new Node();
+    private final Map<SearchKey, List<String>> terms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param word index of the word of the name the completion was reached from
+     */
+    public record Completion(SearchKey key, String name, String folded, int word) { }
+
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private List<Completion> terminals = List.of();
+        private final Map<EntityType, List<Completion>> top = new EnumMap<>(EntityType.class);
+
+        private Node child(char label) {
+            final var position = Arrays.binarySearch(labels, label);
+
+            return position >= 0 ? children[position] : null;
+        }
+
+        private Node addChild(char label) {
+            final var position = Arrays.binarySearch(labels, label);
+
+            if (position >= 0) {
+                return children[position];
+            }
+
+            final var insertion = -position - 1;
+            final var child = new Node();
+            final var nextLabels = new char[labels.length + 1];
+            final var nextChildren = new Node[children.length + 1];
+
+            System.arraycopy(labels, 0, nextLabels, 0, insertion);
+            System.arraycopy(children, 0, nextChildren, 0, insertion);
+            nextLabels[insertion] = label;
+            nextChildren[insertion] = child;
+            System.arraycopy(labels, insertion, nextLabels, insertion + 1, labels.length - insertion);
+            System.arraycopy(children, insertion, nextChildren, insertion + 1, children.length - insertion);
+
+            labels = nextLabels;
+            children = nextChildren;
+
+            return child;
+        }
+
+        private void removeChild(Node child) {
+            final var position = Arrays.asList(children).indexOf(child);
+            final var nextLabels = new char[labels.length - 1];
+            final var nextChildren = new Node[children.length - 1];
+
+            System.arraycopy(labels, 0, nextLabels, 0, position);
+            System.arraycopy(children, 0, nextChildren, 0, position);
+            System.arraycopy(labels, position + 1, nextLabels, position, labels.length - position - 1);
+            System.arraycopy(children, position + 1, nextChildren, position, children.length - position - 1);
+
+            labels = nextLabels;
+            children = nextChildren;
+        }
+
+        private boolean isEmpty() {
+            return terminals.isEmpty() && children.length == 0;
+        }
+
+        private void recompute() {
+            top.clear();
+
+            for (final var type : EntityType.values()) {
+                final var best = best(Stream.concat(
+                        terminals.stream().filter(completion -> completion.key().type() == type),
+                        Arrays.stream(children).flatMap(child -> child.top.getOrDefault(type, List.of()).stream())
+                ), TOP);
+
+                if (!best.isEmpty()) {
+                    top.put(type, best);
+                }
+            }
+        }
+    }
+
+    public void put(SearchKey key, String name) {
+        lock.writeLock().lock();
+
+        try {
+            delete(key, true);
+            add(key, name, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(SearchKey key) {
+        lock.writeLock().lock();
+
+        try {
+            delete(key, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces every name in {@code scope} with {@code replacements} in a single step, recomputing the cached
+     * completions once for the whole trie instead of once per name.
+     */
+    public void replace(Predicate<SearchKey> scope, Map<SearchKey, String> replacements) {
+        lock.writeLock().lock();
+
+        try {
+            terms.keySet().stream().filter(scope).toList().forEach(key -> delete(key, false));
+            replacements.forEach((key, name) -> add(key, name, false));
+            recomputeAll(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Completion> complete(String prefix, Set<EntityType> types, int size) {
+        final var folded = String.join(" ", TextFolding.tokens(prefix));
+
+        lock.readLock().lock();
+
+        try {
+            var node = root;
+
+            for (var index = 0; index < folded.length() && node != null; index++) {
+                node = node.child(folded.charAt(index));
+            }
+
+            if (node == null) {
+                return List.of();
+            }
+
+            final var found = node;
+
+            return best(types.stream().flatMap(type -> found.top.getOrDefault(type, List.of()).stream()), size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(SearchKey key, String name, boolean recompute) {
+        final var words = TextFolding.tokens(name);
+        final var folded = String.join(" ", words);
+        final var added = new ArrayList<String>();
+
+        for (var word = 0; word < words.size(); word++) {
+            final var term = String.join(" ", words.subList(word, words.size()));
+            final var path = path(term, true);
+            final var end = path.get(path.size() - 1);
+            final var terminals = new ArrayList<>(end.terminals);
+
+            terminals.add(new Completion(key, name, folded, word));
+            end.terminals = List.copyOf(terminals);
+            added.add(term);
+
+            if (recompute) {
+                recompute(path);
+            }
+        }
+
+        terms.put(key, added);
+    }
+
+    private void delete(SearchKey key, boolean recompute) {
+        final var removed = terms.remove(key);
+
+        if (removed == null) {
+            return;
+        }
+
+        for (final var term : removed) {
+            final var path = path(term, false);
+            final var end = path.get(path.size() - 1);
+
+            end.terminals = end.terminals.stream().filter(completion -> !completion.key().equals(key)).toList();
+
+            for (var index = path.size() - 1; index > 0 && path.get(index).isEmpty(); index--) {
+                path.get(index - 1).removeChild(path.get(index));
+                path.remove(index);
+            }
+
+            if (recompute) {
+                recompute(path);
+            }
+        }
+    }
+
+    private List<Node> path(String term, boolean create) {
+        final var path = new ArrayList<Node>(term.length() + 1);
+        var node = root;
+
+        path.add(node);
+
+        for (var index = 0; index < term.length(); index++) {
+            node = create ? node.addChild(term.charAt(index)) : node.child(term.charAt(index));
+            path.add(node);
+        }
+
+        return path;
+    }
+
+    private static void recompute(List<Node> path) {
+        for (var index = path.size() - 1; index >= 0; index--) {
+            path.get(index).recompute();
+        }
+    }
+
+    private static void recomputeAll(Node node) {
+        for (final var child : node.children) {
+            recomputeAll(child);
+        }
+
+        node.recompute();
+    }
+
+    private static List<Completion> best(Stream<Completion> completions, int size) {
+        final var distinct = new LinkedHashMap<SearchKey, Completion>();
+
+        completions.sorted(RANKING).forEach(completion -> distinct.putIfAbsent(completion.key(), completion));
+
+        return distinct.values().stream().limit(size).toList();
+    }
+}
@@ -0,0 +1,8 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+
+public record SearchKey(
+        EntityType type,
+        String identifier
+) { }
@@ -0,0 +1,24 @@
+package org.gycoding.heraldsofchaos.application.service;
+
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface CharacterReactiveService {
+    Mono<CharacterODTO> get(String identifier, String language, Fieldset fields);
+
+    Flux<CharacterODTO> list(CharacterFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Slice<Map<String, Object>>> slice(Pageable pageable, CharacterFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Window<Map<String, Object>>> scroll(String after, int size, CharacterFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Long> count(CharacterFilterIDTO filter, String language);
+}
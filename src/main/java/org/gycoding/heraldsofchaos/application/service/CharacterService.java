@@ -1,24 +1,40 @@
 package org.gycoding.heraldsofchaos.application.service;
 
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface CharacterService {
     CharacterODTO save(CharacterIDTO character) throws ServiceException;
 
+    List<BulkResultODTO> saveAll(List<CharacterIDTO> characters) throws ServiceException;
+
     CharacterODTO update(CharacterIDTO character) throws ServiceException;
 
     void delete(String identifier) throws ServiceException;
 
-    CharacterODTO get(String identifier, String language) throws ServiceException;
+    CharacterODTO get(String identifier, String language, Fieldset fields) throws ServiceException;
+
+    List<CharacterODTO> list(CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
 
-    List<CharacterODTO> list(String language) throws ServiceException;
+    Stream<CharacterODTO> stream(CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
 
     Page<Map<String, Object>> page(Pageable pageable, String language) throws ServiceException;
+
+    Slice<Map<String, Object>> slice(Pageable pageable, CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
+
+    Window<Map<String, Object>> scroll(String after, int size, CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
+
+    long count(CharacterFilterIDTO filter, String language) throws ServiceException;
 }
\ No newline at end of file
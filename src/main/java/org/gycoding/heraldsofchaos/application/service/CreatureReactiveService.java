@@ -0,0 +1,24 @@
+package org.gycoding.heraldsofchaos.application.service;
+
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface CreatureReactiveService {
+    Mono<CreatureODTO> get(String identifier, String language, Fieldset fields);
+
+    Flux<CreatureODTO> list(CreatureFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Slice<Map<String, Object>>> slice(Pageable pageable, CreatureFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Window<Map<String, Object>>> scroll(String after, int size, CreatureFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Long> count(CreatureFilterIDTO filter, String language);
+}
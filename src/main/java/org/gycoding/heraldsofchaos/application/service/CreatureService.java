@@ -1,24 +1,40 @@
 package org.gycoding.heraldsofchaos.application.service;
 
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface CreatureService {
     CreatureODTO save(CreatureIDTO creature) throws ServiceException;
 
+    List<BulkResultODTO> saveAll(List<CreatureIDTO> creatures) throws ServiceException;
+
     CreatureODTO update(CreatureIDTO creature) throws ServiceException;
 
     void delete(String identifier) throws ServiceException;
 
-    CreatureODTO get(String identifier, String language) throws ServiceException;
+    CreatureODTO get(String identifier, String language, Fieldset fields) throws ServiceException;
+
+    List<CreatureODTO> list(CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
 
-    List<CreatureODTO> list(String language) throws ServiceException;
+    Stream<CreatureODTO> stream(CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
 
     Page<Map<String, Object>> page(Pageable pageable, String language) throws ServiceException;
+
+    Slice<Map<String, Object>> slice(Pageable pageable, CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
+
+    Window<Map<String, Object>> scroll(String after, int size, CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
+
+    long count(CreatureFilterIDTO filter, String language) throws ServiceException;
 }
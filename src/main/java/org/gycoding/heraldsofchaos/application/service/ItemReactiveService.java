@@ -0,0 +1,24 @@
+package org.gycoding.heraldsofchaos.application.service;
+
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface ItemReactiveService {
+    Mono<ItemODTO> get(String identifier, String language, Fieldset fields);
+
+    Flux<ItemODTO> list(ItemFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Slice<Map<String, Object>>> slice(Pageable pageable, ItemFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Window<Map<String, Object>>> scroll(String after, int size, ItemFilterIDTO filter, String language, Fieldset fields);
+
+    Mono<Long> count(ItemFilterIDTO filter, String language);
+}
@@ -1,24 +1,40 @@
 package org.gycoding.heraldsofchaos.application.service;
 
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.items.ItemIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface ItemService {
     ItemODTO save(ItemIDTO item) throws ServiceException;
 
+    List<BulkResultODTO> saveAll(List<ItemIDTO> items) throws ServiceException;
+
     ItemODTO update(ItemIDTO item) throws ServiceException;
 
     void delete(String identifier) throws ServiceException;
 
-    ItemODTO get(String identifier, String language) throws ServiceException;
+    ItemODTO get(String identifier, String language, Fieldset fields) throws ServiceException;
+
+    List<ItemODTO> list(ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
 
-    List<ItemODTO> list(String language) throws ServiceException;
+    Stream<ItemODTO> stream(ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
 
     Page<Map<String, Object>> page(Pageable pageable, String language) throws ServiceException;
+
+    Slice<Map<String, Object>> slice(Pageable pageable, ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
+
+    Window<Map<String, Object>> scroll(String after, int size, ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException;
+
+    long count(ItemFilterIDTO filter, String language) throws ServiceException;
 }
@@ -2,12 +2,16 @@ package org.gycoding.heraldsofchaos.application.service;
 
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.PlaceIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface PlaceService {
     PlaceODTO save(PlaceIDTO place) throws ServiceException;
@@ -16,9 +20,17 @@ public interface PlaceService {
 
     void delete(String identifier) throws ServiceException;
 
-    PlaceODTO get(String identifier, String language) throws ServiceException;
+    PlaceODTO get(String identifier, String language, Fieldset fields) throws ServiceException;
 
-    List<PlaceODTO> list(String language) throws ServiceException;
+    List<PlaceODTO> list(String language, Fieldset fields) throws ServiceException;
+
+    Stream<PlaceODTO> stream(String language, Fieldset fields) throws ServiceException;
 
     Page<Map<String, Object>> page(Pageable pageable, String language) throws ServiceException;
+
+    Slice<Map<String, Object>> slice(Pageable pageable, String language, Fieldset fields) throws ServiceException;
+
+    Window<Map<String, Object>> scroll(String after, int size, String language, Fieldset fields) throws ServiceException;
+
+    long count() throws ServiceException;
 }
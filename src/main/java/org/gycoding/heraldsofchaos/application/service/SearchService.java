@@ -0,0 +1,16 @@
+package org.gycoding.heraldsofchaos.application.service;
+
+import org.gycoding.heraldsofchaos.application.dto.out.CompletionODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.FuzzyMatchODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.SearchHitODTO;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+
+import java.util.List;
+
+public interface SearchService {
+    List<SearchHitODTO> search(String query, String language, List<String> types, int size) throws ServiceException;
+
+    List<CompletionODTO> complete(String prefix, String language, List<String> types, int size) throws ServiceException;
+
+    List<FuzzyMatchODTO> fuzzy(String query, String language, List<String> types, int distance, int size) throws ServiceException;
+}
@@ -0,0 +1,13 @@
+package org.gycoding.heraldsofchaos.application.service;
+
+import org.gycoding.quasar.exceptions.model.ServiceException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+public interface SnapshotService {
+    void export(OutputStream output) throws ServiceException;
+
+    Map<String, Long> restore(InputStream input) throws ServiceException;
+}
@@ -0,0 +1,26 @@
+package org.gycoding.heraldsofchaos.application.service;
+
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface WorldReactiveService {
+    Mono<WorldODTO> get(String identifier, String language, Fieldset fields);
+
+    Flux<WorldODTO> list(String language, Fieldset fields);
+
+    Mono<Slice<Map<String, Object>>> slice(Pageable pageable, String language, Fieldset fields);
+
+    Mono<Window<Map<String, Object>>> scroll(String after, int size, String language, Fieldset fields);
+
+    Mono<Long> count();
+
+    Flux<PlaceODTO> listPlaces(String idWorld, String language);
+}
@@ -3,12 +3,16 @@ package org.gycoding.heraldsofchaos.application.service;
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.WorldIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface WorldService {
     WorldODTO save(WorldIDTO world) throws ServiceException;
@@ -17,11 +21,19 @@ public interface WorldService {
 
     void delete(String identifier) throws ServiceException;
 
-    WorldODTO get(String identifier, String language) throws ServiceException;
+    WorldODTO get(String identifier, String language, Fieldset fields) throws ServiceException;
 
-    List<WorldODTO> list(String language) throws ServiceException;
+    List<WorldODTO> list(String language, Fieldset fields) throws ServiceException;
+
+    Stream<WorldODTO> stream(String language, Fieldset fields) throws ServiceException;
 
     Page<Map<String, Object>> page(Pageable pageable, String language) throws ServiceException;
 
+    Slice<Map<String, Object>> slice(Pageable pageable, String language, Fieldset fields) throws ServiceException;
+
+    Window<Map<String, Object>> scroll(String after, int size, String language, Fieldset fields) throws ServiceException;
+
+    long count() throws ServiceException;
+
     List<PlaceODTO> listPlaces(String idWorld, String language) throws ServiceException;
 }
@@ -0,0 +1,61 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.application.mapper.CharacterServiceMapper;
+import org.gycoding.heraldsofchaos.application.service.CharacterReactiveService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.repository.CharacterReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class CharacterReactiveServiceImpl implements CharacterReactiveService {
+    private final CharacterReactiveRepository repository;
+
+    private final CharacterServiceMapper mapper;
+
+    @Override
+    public Mono<CharacterODTO> get(String identifier, String language, Fieldset fields) {
+        return repository.get(identifier)
+                .switchIfEmpty(Mono.error(() -> new ServiceException(HeraldsOfChaosError.CHARACTER_NOT_FOUND)))
+                .map(character -> mapper.toODTO(character, language, fields));
+    }
+
+    @Override
+    public Flux<CharacterODTO> list(CharacterFilterIDTO filter, String language, Fieldset fields) {
+        return repository.list(mapper.toMO(filter), language, fields)
+                .map(character -> mapper.toODTO(character, language, fields));
+    }
+
+    @Override
+    public Mono<Slice<Map<String, Object>>> slice(Pageable pageable, CharacterFilterIDTO filter, String language, Fieldset fields) {
+        return repository.slice(pageable, mapper.toMO(filter), language, fields)
+                .map(characters -> characters.map(character -> mapper.toODTO(character, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Window<Map<String, Object>>> scroll(String after, int size, CharacterFilterIDTO filter, String language, Fieldset fields) {
+        return repository.scroll(after, size, mapper.toMO(filter), language, fields)
+                .map(characters -> characters.map(character -> mapper.toODTO(character, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Long> count(CharacterFilterIDTO filter, String language) {
+        final var criteria = mapper.toMO(filter);
+
+        return criteria.isEmpty() ? repository.count() : repository.count(criteria, language);
+    }
+}
@@ -2,22 +2,33 @@ package org.gycoding.heraldsofchaos.application.service.impl;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.CharacterServiceMapper;
 import org.gycoding.heraldsofchaos.application.service.CharacterService;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
 import org.gycoding.heraldsofchaos.domain.repository.CharacterRepository;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -27,29 +38,58 @@ public class CharacterServiceImpl implements CharacterService {
 
     private final CharacterServiceMapper mapper;
 
+    private final ApplicationEventPublisher publisher;
+
     @Override
     public CharacterODTO save(CharacterIDTO character) throws ServiceException {
         final CharacterMO savedCharacter;
 
-        if (repository.get(character.identifier()).isPresent()) {
+        try {
+            savedCharacter = repository.save(mapper.toMO(character));
+        } catch(DuplicateKeyException e) {
             Logger.error("Character already exists.", character.identifier());
 
             throw new ServiceException(HeraldsOfChaosError.CHARACTER_ALREADY_EXISTS_CONFLICT);
-        }
-
-        try {
-            savedCharacter = repository.save(mapper.toMO(character));
         } catch(Exception e) {
             Logger.error(String.format("An error has occurred while saving a character: %s.", character.identifier()), e.getMessage());
 
             throw new ServiceException(HeraldsOfChaosError.CHARACTER_SAVE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.CHARACTER, savedCharacter.identifier()));
+
         Logger.info("Character saved successfully.", savedCharacter.identifier());
 
         return mapper.toODTO(savedCharacter, TranslatedString.EN);
     }
 
+    @Override
+    public List<BulkResultODTO> saveAll(List<CharacterIDTO> characters) throws ServiceException {
+        List<BulkResultMO> results;
+
+        try {
+            results = repository.saveAll(characters.stream().map(mapper::toMO).toList());
+        } catch(Exception e) {
+            Logger.error(String.format("An error has occurred while saving a batch of %d characters.", characters.size()), e.getMessage());
+
+            results = characters.stream()
+                    .map(character -> BulkResultMO.failed(character.identifier(), HeraldsOfChaosError.CHARACTER_SAVE_CONFLICT))
+                    .toList();
+        }
+
+        final var saved = results.stream().filter(BulkResultMO::succeeded).count();
+
+        if (saved > 0) {
+            publisher.publishEvent(new EntityChangedEvent(EntityType.CHARACTER, null));
+        }
+
+        Logger.info("Batch of characters saved.", String.format("%d of %d", saved, results.size()));
+
+        return results.stream()
+                .map(result -> new BulkResultODTO(result.identifier(), result.error()))
+                .toList();
+    }
+
     @Override
     public CharacterODTO update(CharacterIDTO character) throws ServiceException {
         final CharacterMO updatedCharacter;
@@ -62,6 +102,8 @@ public class CharacterServiceImpl implements CharacterService {
             throw new ServiceException(HeraldsOfChaosError.CHARACTER_UPDATE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.CHARACTER, updatedCharacter.identifier()));
+
         Logger.info("Character updated successfully.", updatedCharacter.identifier());
 
         return mapper.toODTO(updatedCharacter, TranslatedString.EN);
@@ -77,31 +119,59 @@ public class CharacterServiceImpl implements CharacterService {
             throw new ServiceException(HeraldsOfChaosError.CHARACTER_DELETE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.CHARACTER, identifier));
+
         Logger.info("Character removed successfully.", identifier);
     }
 
     @Override
-    public CharacterODTO get(String identifier, String language) throws ServiceException {
+    public CharacterODTO get(String identifier, String language, Fieldset fields) throws ServiceException {
         final var character = repository.get(identifier).orElseThrow(() ->
                 new ServiceException(HeraldsOfChaosError.CHARACTER_NOT_FOUND)
         );
 
-        return mapper.toODTO(character, language);
+        return mapper.toODTO(character, language, fields);
     }
 
     @Override
-    public List<CharacterODTO> list(String language) throws ServiceException {
-        final var characters = repository.list();
+    public List<CharacterODTO> list(CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var characters = repository.list(mapper.toMO(filter), language, fields);
 
         return characters.stream()
-                .map(character -> mapper.toODTO(character, language))
+                .map(character -> mapper.toODTO(character, language, fields))
                 .toList();
     }
 
+    @Override
+    public Stream<CharacterODTO> stream(CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        return repository.stream(mapper.toMO(filter), language, fields).map(character -> mapper.toODTO(character, language, fields));
+    }
+
     @Override
     public Page<Map<String, Object>> page(Pageable pageable, String language) throws ServiceException {
         final var characters = repository.page(pageable);
 
         return characters.map(character -> mapper.toODTO(character, language).toMap());
     }
+
+    @Override
+    public Slice<Map<String, Object>> slice(Pageable pageable, CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var characters = repository.slice(pageable, mapper.toMO(filter), language, fields);
+
+        return characters.map(character -> mapper.toODTO(character, language, fields).toMap());
+    }
+
+    @Override
+    public Window<Map<String, Object>> scroll(String after, int size, CharacterFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var characters = repository.scroll(after, size, mapper.toMO(filter), language, fields);
+
+        return characters.map(character -> mapper.toODTO(character, language, fields).toMap());
+    }
+
+    @Override
+    public long count(CharacterFilterIDTO filter, String language) throws ServiceException {
+        final var criteria = mapper.toMO(filter);
+
+        return criteria.isEmpty() ? repository.count() : repository.count(criteria, language);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.application.mapper.CreatureServiceMapper;
+import org.gycoding.heraldsofchaos.application.service.CreatureReactiveService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.repository.CreatureReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class CreatureReactiveServiceImpl implements CreatureReactiveService {
+    private final CreatureReactiveRepository repository;
+
+    private final CreatureServiceMapper mapper;
+
+    @Override
+    public Mono<CreatureODTO> get(String identifier, String language, Fieldset fields) {
+        return repository.get(identifier)
+                .switchIfEmpty(Mono.error(() -> new ServiceException(HeraldsOfChaosError.CREATURE_NOT_FOUND)))
+                .map(creature -> mapper.toODTO(creature, language, fields));
+    }
+
+    @Override
+    public Flux<CreatureODTO> list(CreatureFilterIDTO filter, String language, Fieldset fields) {
+        return repository.list(mapper.toMO(filter), language, fields)
+                .map(creature -> mapper.toODTO(creature, language, fields));
+    }
+
+    @Override
+    public Mono<Slice<Map<String, Object>>> slice(Pageable pageable, CreatureFilterIDTO filter, String language, Fieldset fields) {
+        return repository.slice(pageable, mapper.toMO(filter), language, fields)
+                .map(creatures -> creatures.map(creature -> mapper.toODTO(creature, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Window<Map<String, Object>>> scroll(String after, int size, CreatureFilterIDTO filter, String language, Fieldset fields) {
+        return repository.scroll(after, size, mapper.toMO(filter), language, fields)
+                .map(creatures -> creatures.map(creature -> mapper.toODTO(creature, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Long> count(CreatureFilterIDTO filter, String language) {
+        final var criteria = mapper.toMO(filter);
+
+        return criteria.isEmpty() ? repository.count() : repository.count(criteria, language);
+    }
+}
@@ -2,22 +2,33 @@ package org.gycoding.heraldsofchaos.application.service.impl;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.CreatureServiceMapper;
 import org.gycoding.heraldsofchaos.application.service.CreatureService;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
 import org.gycoding.heraldsofchaos.domain.repository.CreatureRepository;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -27,29 +38,58 @@ public class CreatureServiceImpl implements CreatureService {
 
     private final CreatureServiceMapper mapper;
 
+    private final ApplicationEventPublisher publisher;
+
     @Override
     public CreatureODTO save(CreatureIDTO creature) throws ServiceException {
         final CreatureMO savedCreature;
 
-        if (repository.get(creature.identifier()).isPresent()) {
+        try {
+            savedCreature = repository.save(mapper.toMO(creature));
+        } catch(DuplicateKeyException e) {
             Logger.error("Creature already exists.", creature.identifier());
 
             throw new ServiceException(HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT);
-        }
-
-        try {
-            savedCreature = repository.save(mapper.toMO(creature));
         } catch(Exception e) {
             Logger.error(String.format("An error has occurred while saving a creature: %s.", creature.identifier()), e.getMessage());
 
             throw new ServiceException(HeraldsOfChaosError.CREATURE_SAVE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.CREATURE, savedCreature.identifier()));
+
         Logger.info("Creature saved successfully.", savedCreature.identifier());
 
         return mapper.toODTO(savedCreature, TranslatedString.EN);
     }
 
+    @Override
+    public List<BulkResultODTO> saveAll(List<CreatureIDTO> creatures) throws ServiceException {
+        List<BulkResultMO> results;
+
+        try {
+            results = repository.saveAll(creatures.stream().map(mapper::toMO).toList());
+        } catch(Exception e) {
+            Logger.error(String.format("An error has occurred while saving a batch of %d creatures.", creatures.size()), e.getMessage());
+
+            results = creatures.stream()
+                    .map(creature -> BulkResultMO.failed(creature.identifier(), HeraldsOfChaosError.CREATURE_SAVE_CONFLICT))
+                    .toList();
+        }
+
+        final var saved = results.stream().filter(BulkResultMO::succeeded).count();
+
+        if (saved > 0) {
+            publisher.publishEvent(new EntityChangedEvent(EntityType.CREATURE, null));
+        }
+
+        Logger.info("Batch of creatures saved.", String.format("%d of %d", saved, results.size()));
+
+        return results.stream()
+                .map(result -> new BulkResultODTO(result.identifier(), result.error()))
+                .toList();
+    }
+
     @Override
     public CreatureODTO update(CreatureIDTO creature) throws ServiceException {
         final CreatureMO updatedCreature;
@@ -62,6 +102,8 @@ public class CreatureServiceImpl implements CreatureService {
             throw new ServiceException(HeraldsOfChaosError.CREATURE_UPDATE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.CREATURE, updatedCreature.identifier()));
+
         Logger.info("Creature updated successfully.", updatedCreature.identifier());
 
         return mapper.toODTO(updatedCreature, TranslatedString.EN);
@@ -77,23 +119,30 @@ public class CreatureServiceImpl implements CreatureService {
             throw new ServiceException(HeraldsOfChaosError.CREATURE_DELETE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.CREATURE, identifier));
+
         Logger.info("Creature removed successfully.", identifier);
     }
 
     @Override
-    public CreatureODTO get(String identifier, String language) throws ServiceException {
+    public CreatureODTO get(String identifier, String language, Fieldset fields) throws ServiceException {
         final var creature = repository.get(identifier).orElseThrow(() ->
                 new ServiceException(HeraldsOfChaosError.CREATURE_NOT_FOUND)
         );
 
-        return mapper.toODTO(creature, language);
+        return mapper.toODTO(creature, language, fields);
     }
 
     @Override
-    public List<CreatureODTO> list(String language) throws ServiceException {
-        final var creatures = repository.list();
+    public List<CreatureODTO> list(CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var creatures = repository.list(mapper.toMO(filter), language, fields);
+
+        return creatures.stream().map(creature -> mapper.toODTO(creature, language, fields)).toList();
+    }
 
-        return creatures.stream().map(creature -> mapper.toODTO(creature, language)).toList();
+    @Override
+    public Stream<CreatureODTO> stream(CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        return repository.stream(mapper.toMO(filter), language, fields).map(creature -> mapper.toODTO(creature, language, fields));
     }
 
     @Override
@@ -102,4 +151,25 @@ public class CreatureServiceImpl implements CreatureService {
 
         return creatures.map(creature -> mapper.toODTO(creature, language).toMap());
     }
+
+    @Override
+    public Slice<Map<String, Object>> slice(Pageable pageable, CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var creatures = repository.slice(pageable, mapper.toMO(filter), language, fields);
+
+        return creatures.map(creature -> mapper.toODTO(creature, language, fields).toMap());
+    }
+
+    @Override
+    public Window<Map<String, Object>> scroll(String after, int size, CreatureFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var creatures = repository.scroll(after, size, mapper.toMO(filter), language, fields);
+
+        return creatures.map(creature -> mapper.toODTO(creature, language, fields).toMap());
+    }
+
+    @Override
+    public long count(CreatureFilterIDTO filter, String language) throws ServiceException {
+        final var criteria = mapper.toMO(filter);
+
+        return criteria.isEmpty() ? repository.count() : repository.count(criteria, language);
+    }
 }
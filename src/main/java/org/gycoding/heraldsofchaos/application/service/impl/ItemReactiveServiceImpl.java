@@ -0,0 +1,61 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.application.mapper.ItemServiceMapper;
+import org.gycoding.heraldsofchaos.application.service.ItemReactiveService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.repository.ItemReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ItemReactiveServiceImpl implements ItemReactiveService {
+    private final ItemReactiveRepository repository;
+
+    private final ItemServiceMapper mapper;
+
+    @Override
+    public Mono<ItemODTO> get(String identifier, String language, Fieldset fields) {
+        return repository.get(identifier)
+                .switchIfEmpty(Mono.error(() -> new ServiceException(HeraldsOfChaosError.ITEM_NOT_FOUND)))
+                .map(item -> mapper.toODTO(item, language, fields));
+    }
+
+    @Override
+    public Flux<ItemODTO> list(ItemFilterIDTO filter, String language, Fieldset fields) {
+        return repository.list(mapper.toMO(filter), language, fields)
+                .map(item -> mapper.toODTO(item, language, fields));
+    }
+
+    @Override
+    public Mono<Slice<Map<String, Object>>> slice(Pageable pageable, ItemFilterIDTO filter, String language, Fieldset fields) {
+        return repository.slice(pageable, mapper.toMO(filter), language, fields)
+                .map(items -> items.map(item -> mapper.toODTO(item, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Window<Map<String, Object>>> scroll(String after, int size, ItemFilterIDTO filter, String language, Fieldset fields) {
+        return repository.scroll(after, size, mapper.toMO(filter), language, fields)
+                .map(items -> items.map(item -> mapper.toODTO(item, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Long> count(ItemFilterIDTO filter, String language) {
+        final var criteria = mapper.toMO(filter);
+
+        return criteria.isEmpty() ? repository.count() : repository.count(criteria, language);
+    }
+}
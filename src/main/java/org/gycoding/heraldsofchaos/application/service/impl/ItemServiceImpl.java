@@ -2,22 +2,33 @@ package org.gycoding.heraldsofchaos.application.service.impl;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.items.ItemIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.ItemServiceMapper;
 import org.gycoding.heraldsofchaos.application.service.ItemService;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
 import org.gycoding.heraldsofchaos.domain.repository.ItemRepository;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -27,29 +38,58 @@ public class ItemServiceImpl implements ItemService {
 
     private final ItemServiceMapper mapper;
 
+    private final ApplicationEventPublisher publisher;
+
     @Override
     public ItemODTO save(ItemIDTO item) throws ServiceException {
         final ItemMO savedItem;
 
-        if (repository.get(item.identifier()).isPresent()) {
+        try {
+            savedItem = repository.save(mapper.toMO(item));
+        } catch(DuplicateKeyException e) {
             Logger.error("Item already exists.", item.identifier());
 
             throw new ServiceException(HeraldsOfChaosError.ITEM_ALREADY_EXISTS_CONFLICT);
-        }
-
-        try {
-            savedItem = repository.save(mapper.toMO(item));
         } catch(Exception e) {
             Logger.error(String.format("An error has occurred while saving an item: %s.", item.identifier()), e.getMessage());
 
             throw new ServiceException(HeraldsOfChaosError.ITEM_SAVE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.ITEM, savedItem.identifier()));
+
         Logger.info("Item saved successfully.", savedItem.identifier());
 
         return mapper.toODTO(savedItem, TranslatedString.EN);
     }
 
+    @Override
+    public List<BulkResultODTO> saveAll(List<ItemIDTO> items) throws ServiceException {
+        List<BulkResultMO> results;
+
+        try {
+            results = repository.saveAll(items.stream().map(mapper::toMO).toList());
+        } catch(Exception e) {
+            Logger.error(String.format("An error has occurred while saving a batch of %d items.", items.size()), e.getMessage());
+
+            results = items.stream()
+                    .map(item -> BulkResultMO.failed(item.identifier(), HeraldsOfChaosError.ITEM_SAVE_CONFLICT))
+                    .toList();
+        }
+
+        final var saved = results.stream().filter(BulkResultMO::succeeded).count();
+
+        if (saved > 0) {
+            publisher.publishEvent(new EntityChangedEvent(EntityType.ITEM, null));
+        }
+
+        Logger.info("Batch of items saved.", String.format("%d of %d", saved, results.size()));
+
+        return results.stream()
+                .map(result -> new BulkResultODTO(result.identifier(), result.error()))
+                .toList();
+    }
+
     @Override
     public ItemODTO update(ItemIDTO item) throws ServiceException {
         final ItemMO updatedItem;
@@ -62,6 +102,8 @@ public class ItemServiceImpl implements ItemService {
             throw new ServiceException(HeraldsOfChaosError.ITEM_UPDATE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.ITEM, updatedItem.identifier()));
+
         Logger.info("Item updated successfully.", updatedItem.identifier());
 
         return mapper.toODTO(updatedItem, TranslatedString.EN);
@@ -77,23 +119,30 @@ public class ItemServiceImpl implements ItemService {
             throw new ServiceException(HeraldsOfChaosError.ITEM_DELETE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.ITEM, identifier));
+
         Logger.info("Item removed successfully.", identifier);
     }
 
     @Override
-    public ItemODTO get(String identifier, String language) throws ServiceException {
+    public ItemODTO get(String identifier, String language, Fieldset fields) throws ServiceException {
         final var item = repository.get(identifier).orElseThrow(() ->
                 new ServiceException(HeraldsOfChaosError.ITEM_NOT_FOUND)
         );
 
-        return mapper.toODTO(item, language);
+        return mapper.toODTO(item, language, fields);
     }
 
     @Override
-    public List<ItemODTO> list(String language) throws ServiceException {
-        final var items = repository.list();
+    public List<ItemODTO> list(ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var items = repository.list(mapper.toMO(filter), language, fields);
+
+        return items.stream().map(item -> mapper.toODTO(item, language, fields)).toList();
+    }
 
-        return items.stream().map(item -> mapper.toODTO(item, language)).toList();
+    @Override
+    public Stream<ItemODTO> stream(ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        return repository.stream(mapper.toMO(filter), language, fields).map(item -> mapper.toODTO(item, language, fields));
     }
 
     @Override
@@ -102,4 +151,25 @@ public class ItemServiceImpl implements ItemService {
 
         return items.map(item -> mapper.toODTO(item, language).toMap());
     }
+
+    @Override
+    public Slice<Map<String, Object>> slice(Pageable pageable, ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var items = repository.slice(pageable, mapper.toMO(filter), language, fields);
+
+        return items.map(item -> mapper.toODTO(item, language, fields).toMap());
+    }
+
+    @Override
+    public Window<Map<String, Object>> scroll(String after, int size, ItemFilterIDTO filter, String language, Fieldset fields) throws ServiceException {
+        final var items = repository.scroll(after, size, mapper.toMO(filter), language, fields);
+
+        return items.map(item -> mapper.toODTO(item, language, fields).toMap());
+    }
+
+    @Override
+    public long count(ItemFilterIDTO filter, String language) throws ServiceException {
+        final var criteria = mapper.toMO(filter);
+
+        return criteria.isEmpty() ? repository.count() : repository.count(criteria, language);
+    }
 }
@@ -0,0 +1,58 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.mapper.PlaceServiceMapper;
+import org.gycoding.heraldsofchaos.application.service.PlaceReactiveService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.repository.PlaceReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class PlaceReactiveServiceImpl implements PlaceReactiveService {
+    private final PlaceReactiveRepository repository;
+
+    private final PlaceServiceMapper mapper;
+
+    @Override
+    public Mono<PlaceODTO> get(String identifier, String language, Fieldset fields) {
+        return repository.get(identifier)
+                .switchIfEmpty(Mono.error(() -> new ServiceException(HeraldsOfChaosError.PLACE_NOT_FOUND)))
+                .map(place -> mapper.toODTO(place, language, fields));
+    }
+
+    @Override
+    public Flux<PlaceODTO> list(String language, Fieldset fields) {
+        return repository.list(language, fields)
+                .map(place -> mapper.toODTO(place, language, fields));
+    }
+
+    @Override
+    public Mono<Slice<Map<String, Object>>> slice(Pageable pageable, String language, Fieldset fields) {
+        return repository.slice(pageable, language, fields)
+                .map(places -> places.map(place -> mapper.toODTO(place, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Window<Map<String, Object>>> scroll(String after, int size, String language, Fieldset fields) {
+        return repository.scroll(after, size, language, fields)
+                .map(places -> places.map(place -> mapper.toODTO(place, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return repository.count();
+    }
+}
@@ -4,20 +4,28 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.PlaceIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.PlaceServiceMapper;
 import org.gycoding.heraldsofchaos.application.service.PlaceService;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
 import org.gycoding.heraldsofchaos.domain.repository.PlaceRepository;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -27,24 +35,26 @@ public class PlaceServiceImpl implements PlaceService {
 
     private final PlaceServiceMapper mapper;
 
+    private final ApplicationEventPublisher publisher;
+
     @Override
     public PlaceODTO save(PlaceIDTO place) throws ServiceException {
         final PlaceMO savedPlace;
 
-        if (repository.get(place.identifier()).isPresent()) {
+        try {
+            savedPlace = repository.save(mapper.toMO(place));
+        } catch(DuplicateKeyException e) {
             Logger.error("Place already exists.", place.identifier());
 
             throw new ServiceException(HeraldsOfChaosError.PLACE_ALREADY_EXISTS_CONFLICT);
-        }
-
-        try {
-            savedPlace = repository.save(mapper.toMO(place));
         } catch(Exception e) {
             Logger.error(String.format("An error has occurred while saving a place: %s.", place.identifier()), e.getMessage());
 
             throw new ServiceException(HeraldsOfChaosError.PLACE_SAVE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.PLACE, savedPlace.identifier()));
+
         Logger.info("Place saved successfully.", savedPlace.identifier());
 
         return mapper.toODTO(savedPlace, TranslatedString.EN);
@@ -62,6 +72,8 @@ public class PlaceServiceImpl implements PlaceService {
             throw new ServiceException(HeraldsOfChaosError.PLACE_UPDATE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.PLACE, updatedPlace.identifier()));
+
         Logger.info("Place updated successfully.", updatedPlace.identifier());
 
         return mapper.toODTO(updatedPlace, TranslatedString.EN);
@@ -77,23 +89,30 @@ public class PlaceServiceImpl implements PlaceService {
             throw new ServiceException(HeraldsOfChaosError.PLACE_DELETE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.PLACE, identifier));
+
         Logger.info("Place removed successfully.", identifier);
     }
 
     @Override
-    public PlaceODTO get(String identifier, String language) throws ServiceException {
+    public PlaceODTO get(String identifier, String language, Fieldset fields) throws ServiceException {
         final var place = repository.get(identifier).orElseThrow(() ->
                 new ServiceException(HeraldsOfChaosError.PLACE_NOT_FOUND)
         );
 
-        return mapper.toODTO(place, language);
+        return mapper.toODTO(place, language, fields);
     }
 
     @Override
-    public List<PlaceODTO> list(String language) throws ServiceException {
-        final var places = repository.list();
+    public List<PlaceODTO> list(String language, Fieldset fields) throws ServiceException {
+        final var places = repository.list(language, fields);
+
+        return places.stream().map(place -> mapper.toODTO(place, language, fields)).toList();
+    }
 
-        return places.stream().map(place -> mapper.toODTO(place, language)).toList();
+    @Override
+    public Stream<PlaceODTO> stream(String language, Fieldset fields) throws ServiceException {
+        return repository.stream(language, fields).map(place -> mapper.toODTO(place, language, fields));
     }
 
     @Override
@@ -102,4 +121,23 @@ public class PlaceServiceImpl implements PlaceService {
 
         return places.map(place -> mapper.toODTO(place, language).toMap());
     }
+
+    @Override
+    public Slice<Map<String, Object>> slice(Pageable pageable, String language, Fieldset fields) throws ServiceException {
+        final var places = repository.slice(pageable, language, fields);
+
+        return places.map(place -> mapper.toODTO(place, language, fields).toMap());
+    }
+
+    @Override
+    public Window<Map<String, Object>> scroll(String after, int size, String language, Fieldset fields) throws ServiceException {
+        final var places = repository.scroll(after, size, language, fields);
+
+        return places.map(place -> mapper.toODTO(place, language, fields).toMap());
+    }
+
+    @Override
+    public long count() throws ServiceException {
+        return repository.count();
+    }
 }
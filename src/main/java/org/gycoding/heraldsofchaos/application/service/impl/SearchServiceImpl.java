@@ -0,0 +1,298 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.out.CompletionODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.FuzzyMatchODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.SearchHitODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.application.search.FuzzyIndex;
+import org.gycoding.heraldsofchaos.application.search.InvertedIndex;
+import org.gycoding.heraldsofchaos.application.search.NameTrie;
+import org.gycoding.heraldsofchaos.application.search.SearchKey;
+import org.gycoding.heraldsofchaos.application.service.SearchService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
+import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
+import org.gycoding.heraldsofchaos.domain.repository.CharacterRepository;
+import org.gycoding.heraldsofchaos.domain.repository.CreatureRepository;
+import org.gycoding.heraldsofchaos.domain.repository.ItemRepository;
+import org.gycoding.heraldsofchaos.domain.repository.PlaceRepository;
+import org.gycoding.heraldsofchaos.domain.repository.WorldRepository;
+import org.gycoding.heraldsofchaos.shared.TextFolding;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over every translated field of every entity and name completion, one {@link InvertedIndex} and
+ * one {@link NameTrie} per language, plus a single {@link FuzzyIndex} of names in every language and identifiers
+ * for misspelled lookups.
+ * <p>
+ * The indexes are built once the application is ready and then follow each {@link EntityChangedEvent}, re-reading
+ * only the written entity, or its whole type when the event carries no identifier.
+ */
+@Service
+@AllArgsConstructor
+public class SearchServiceImpl implements SearchService {
+    private final CharacterRepository characterRepository;
+
+    private final CreatureRepository creatureRepository;
+
+    private final ItemRepository itemRepository;
+
+    private final PlaceRepository placeRepository;
+
+    private final WorldRepository worldRepository;
+
+    private final Map<String, InvertedIndex<SearchKey>> indexes = Map.of(
+            TranslatedString.EN, new InvertedIndex<>(),
+            TranslatedString.ES, new InvertedIndex<>()
+    );
+
+    private final Map<String, NameTrie> tries = Map.of(
+            TranslatedString.EN, new NameTrie(),
+            TranslatedString.ES, new NameTrie()
+    );
+
+    private final FuzzyIndex<SearchKey> fuzzyIndex = new FuzzyIndex<>();
+
+    private final Map<SearchKey, TranslatedString> names = new ConcurrentHashMap<>();
+
+    private record Indexed(SearchKey key, TranslatedString name, List<TranslatedString> fields) { }
+
+    @Override
+    public List<SearchHitODTO> search(String query, String language, List<String> types, int size) throws ServiceException {
+        final var searched = types(types);
+        final var index = indexes.get(indexed(language));
+
+        return index.search(TextFolding.tokens(query), key -> searched.contains(key.type()), size).stream()
+                .map(hit -> SearchHitODTO.builder()
+                        .type(hit.key().type())
+                        .identifier(hit.key().identifier())
+                        .name(Optional.ofNullable(names.get(hit.key())).map(name -> name.get(language)).orElse(null))
+                        .score(hit.score())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<CompletionODTO> complete(String prefix, String language, List<String> types, int size) throws ServiceException {
+        return tries.get(indexed(language)).complete(prefix, types(types), size).stream()
+                .map(completion -> CompletionODTO.builder()
+                        .type(completion.key().type())
+                        .identifier(completion.key().identifier())
+                        .name(completion.name())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<FuzzyMatchODTO> fuzzy(String query, String language, List<String> types, int distance, int size) throws ServiceException {
+        final var searched = types(types);
+
+        return fuzzyIndex.find(query, distance, key -> searched.contains(key.type()), size).stream()
+                .map(match -> FuzzyMatchODTO.builder()
+                        .type(match.key().type())
+                        .identifier(match.key().identifier())
+                        .name(Optional.ofNullable(names.get(match.key())).map(name -> name.get(language)).orElse(null))
+                        .distance(match.distance())
+                        .build())
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Arrays.stream(EntityType.values()).forEach(this::reindex);
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.identifier() == null) {
+            reindex(event.type());
+        } else {
+            reindex(event.type(), event.identifier());
+        }
+    }
+
+    private void reindex(EntityType type) {
+        final List<Indexed> documents;
+
+        try {
+            documents = list(type);
+        } catch (Exception e) {
+            Logger.error(String.format("Search index of %s could not be rebuilt.", type), e.getMessage());
+
+            return;
+        }
+
+        indexes.forEach((language, index) -> index.replace(
+                key -> key.type() == type,
+                documents.stream().collect(Collectors.toMap(Indexed::key, document -> terms(document, language)))
+        ));
+        tries.forEach((language, trie) -> trie.replace(
+                key -> key.type() == type,
+                documents.stream()
+                        .filter(document -> text(document.name(), language) != null)
+                        .collect(Collectors.toMap(Indexed::key, document -> text(document.name(), language)))
+        ));
+        fuzzyIndex.replace(
+                key -> key.type() == type,
+                documents.stream().collect(Collectors.toMap(Indexed::key, SearchServiceImpl::spellings))
+        );
+
+        names.keySet().removeIf(key -> key.type() == type);
+        documents.stream()
+                .filter(document -> document.name() != null)
+                .forEach(document -> names.put(document.key(), document.name()));
+
+        Logger.debug("Search index rebuilt.", String.format("%s: %d", type, documents.size()));
+    }
+
+    private void reindex(EntityType type, String identifier) {
+        final Optional<Indexed> document;
+
+        try {
+            document = get(type, identifier);
+        } catch (Exception e) {
+            Logger.error(String.format("Search index of %s could not be updated.", type), e.getMessage());
+
+            return;
+        }
+
+        final var key = new SearchKey(type, identifier);
+
+        names.remove(key);
+
+        if (document.isPresent()) {
+            indexes.forEach((language, index) -> index.put(key, terms(document.get(), language)));
+            tries.forEach((language, trie) -> {
+                final var name = text(document.get().name(), language);
+
+                if (name != null) {
+                    trie.put(key, name);
+                } else {
+                    trie.remove(key);
+                }
+            });
+
+            fuzzyIndex.put(key, spellings(document.get()));
+
+            if (document.get().name() != null) {
+                names.put(key, document.get().name());
+            }
+        } else {
+            indexes.values().forEach(index -> index.remove(key));
+            tries.values().forEach(trie -> trie.remove(key));
+            fuzzyIndex.remove(key);
+        }
+    }
+
+    private List<Indexed> list(EntityType type) {
+        return switch (type) {
+            case CHARACTER -> characterRepository.list().stream().map(SearchServiceImpl::indexed).toList();
+            case CREATURE -> creatureRepository.list().stream().map(SearchServiceImpl::indexed).toList();
+            case ITEM -> itemRepository.list().stream().map(SearchServiceImpl::indexed).toList();
+            case PLACE -> placeRepository.list().stream().map(SearchServiceImpl::indexed).toList();
+            case WORLD -> worldRepository.list().stream().map(SearchServiceImpl::indexed).toList();
+        };
+    }
+
+    private Optional<Indexed> get(EntityType type, String identifier) {
+        return switch (type) {
+            case CHARACTER -> characterRepository.get(identifier).map(SearchServiceImpl::indexed);
+            case CREATURE -> creatureRepository.get(identifier).map(SearchServiceImpl::indexed);
+            case ITEM -> itemRepository.get(identifier).map(SearchServiceImpl::indexed);
+            case PLACE -> placeRepository.get(identifier).map(SearchServiceImpl::indexed);
+            case WORLD -> worldRepository.get(identifier).map(SearchServiceImpl::indexed);
+        };
+    }
+
+    private static Indexed indexed(CharacterMO character) {
+        return indexed(EntityType.CHARACTER, character.identifier(), character.name(), character.title(), character.description(), character.race());
+    }
+
+    private static Indexed indexed(CreatureMO creature) {
+        return indexed(EntityType.CREATURE, creature.identifier(), creature.name(), creature.description(), creature.race());
+    }
+
+    private static Indexed indexed(ItemMO item) {
+        return indexed(EntityType.ITEM, item.identifier(), item.name(), item.description(), item.type());
+    }
+
+    private static Indexed indexed(PlaceMO place) {
+        return indexed(EntityType.PLACE, place.identifier(), place.name(), place.description());
+    }
+
+    private static Indexed indexed(WorldMO world) {
+        return indexed(EntityType.WORLD, world.identifier(), world.name(), world.description());
+    }
+
+    private static Indexed indexed(EntityType type, String identifier, TranslatedString name, TranslatedString... fields) {
+        return new Indexed(new SearchKey(type, identifier), name, Stream.concat(Stream.of(name), Arrays.stream(fields)).toList());
+    }
+
+    private static List<String> terms(Indexed document, String language) {
+        return document.fields().stream()
+                .filter(Objects::nonNull)
+                .map(field -> text(field, language))
+                .filter(Objects::nonNull)
+                .flatMap(text -> TextFolding.tokens(text).stream())
+                .toList();
+    }
+
+    /**
+     * Ways a document may be looked up by a misspelled query: its name in every language and its identifier.
+     */
+    private static List<String> spellings(Indexed document) {
+        return Stream.of(text(document.name(), TranslatedString.EN), text(document.name(), TranslatedString.ES), document.key().identifier())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Language whose index serves {@code language}, falling back to English like {@link TranslatedString#get(String)}.
+     */
+    private static String indexed(String language) {
+        return TranslatedString.ES.equals(language) ? TranslatedString.ES : TranslatedString.EN;
+    }
+
+    private static String text(TranslatedString field, String language) {
+        return field == null ? null : TranslatedString.ES.equals(language) ? field.es() : field.en();
+    }
+
+    private static Set<EntityType> types(List<String> types) throws ServiceException {
+        if (types == null || types.isEmpty()) {
+            return EnumSet.allOf(EntityType.class);
+        }
+
+        final var parsed = EnumSet.noneOf(EntityType.class);
+
+        for (final var type : types) {
+            try {
+                parsed.add(EntityType.valueOf(type.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new ServiceException(HeraldsOfChaosError.INVALID_SEARCH_TYPE);
+            }
+        }
+
+        return parsed;
+    }
+}
@@ -0,0 +1,68 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.application.service.SnapshotService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.repository.SnapshotRepository;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+@Service
+@AllArgsConstructor
+public class SnapshotServiceImpl implements SnapshotService {
+    private final SnapshotRepository repository;
+
+    private final ApplicationEventPublisher publisher;
+
+    @Override
+    public void export(OutputStream output) throws ServiceException {
+        try {
+            repository.export(output);
+        } catch(Exception e) {
+            Logger.error("An error has occurred while exporting a snapshot.", e.getMessage());
+
+            throw new ServiceException(HeraldsOfChaosError.SNAPSHOT_EXPORT_CONFLICT);
+        }
+
+        Logger.info("Snapshot exported successfully.", "");
+    }
+
+    @Override
+    public Map<String, Long> restore(InputStream input) throws ServiceException {
+        if (!repository.isEmpty()) {
+            Logger.error("Snapshot restore rejected, the database is not empty.", "");
+
+            throw new ServiceException(HeraldsOfChaosError.SNAPSHOT_TARGET_NOT_EMPTY_CONFLICT);
+        }
+
+        final Map<String, Long> restored;
+
+        try {
+            restored = repository.restore(input);
+        } catch(DatabaseException e) {
+            throw new ServiceException(HeraldsOfChaosError.INVALID_SNAPSHOT);
+        } catch(Exception e) {
+            Logger.error("An error has occurred while restoring a snapshot.", e.getMessage());
+
+            throw new ServiceException(HeraldsOfChaosError.SNAPSHOT_RESTORE_CONFLICT);
+        } finally {
+            // Even a failed restore may have written some collections, so every read model is invalidated.
+            for (final var type : EntityType.values()) {
+                publisher.publishEvent(new EntityChangedEvent(type, null));
+            }
+        }
+
+        Logger.info("Snapshot restored successfully.", restored.toString());
+
+        return restored;
+    }
+}
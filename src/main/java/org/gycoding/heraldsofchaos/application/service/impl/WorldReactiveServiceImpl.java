@@ -0,0 +1,65 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.application.mapper.WorldServiceMapper;
+import org.gycoding.heraldsofchaos.application.service.WorldReactiveService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.repository.WorldReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class WorldReactiveServiceImpl implements WorldReactiveService {
+    private final WorldReactiveRepository repository;
+
+    private final WorldServiceMapper mapper;
+
+    @Override
+    public Mono<WorldODTO> get(String identifier, String language, Fieldset fields) {
+        return repository.get(identifier)
+                .switchIfEmpty(Mono.error(() -> new ServiceException(HeraldsOfChaosError.WORLD_NOT_FOUND)))
+                .map(world -> mapper.toODTO(world, language, fields));
+    }
+
+    @Override
+    public Flux<WorldODTO> list(String language, Fieldset fields) {
+        return repository.list(language, fields)
+                .map(world -> mapper.toODTO(world, language, fields));
+    }
+
+    @Override
+    public Mono<Slice<Map<String, Object>>> slice(Pageable pageable, String language, Fieldset fields) {
+        return repository.slice(pageable, language, fields)
+                .map(worlds -> worlds.map(world -> mapper.toODTO(world, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Window<Map<String, Object>>> scroll(String after, int size, String language, Fieldset fields) {
+        return repository.scroll(after, size, language, fields)
+                .map(worlds -> worlds.map(world -> mapper.toODTO(world, language, fields).toMap()));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return repository.count();
+    }
+
+    @Override
+    public Flux<PlaceODTO> listPlaces(String idWorld, String language) {
+        return this.get(idWorld, language, Fieldset.ALL)
+                .flatMapIterable(WorldODTO::places);
+    }
+}
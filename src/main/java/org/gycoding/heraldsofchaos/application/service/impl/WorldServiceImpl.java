@@ -5,20 +5,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.WorldIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.WorldServiceMapper;
 import org.gycoding.heraldsofchaos.application.service.WorldService;
+import org.gycoding.heraldsofchaos.domain.exceptions.DetailedError;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
 import org.gycoding.heraldsofchaos.domain.repository.WorldRepository;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -28,24 +38,30 @@ public class WorldServiceImpl implements WorldService {
 
     private final WorldServiceMapper mapper;
 
+    private final ApplicationEventPublisher publisher;
+
     @Override
     public WorldODTO save(WorldIDTO world) throws ServiceException {
         final WorldMO savedWorld;
 
-        if (repository.get(world.identifier()).isPresent()) {
+        try {
+            savedWorld = repository.save(mapper.toMO(world), world.places());
+        } catch(DuplicateKeyException e) {
             Logger.error("World already exists.", world.identifier());
 
             throw new ServiceException(HeraldsOfChaosError.WORLD_ALREADY_EXISTS_CONFLICT);
-        }
+        } catch(DatabaseException e) {
+            Logger.error(String.format("World could not be saved: %s.", world.identifier()), e.getMessage());
 
-        try {
-            savedWorld = repository.save(mapper.toMO(world), world.places());
+            throw new ServiceException(DetailedError.of(e));
         } catch(Exception e) {
             Logger.error(String.format("An error has occurred while saving a world: %s.", world.identifier()), e.getMessage());
 
             throw new ServiceException(HeraldsOfChaosError.WORLD_SAVE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.WORLD, savedWorld.identifier()));
+
         Logger.info("World saved successfully.", savedWorld.identifier());
 
         return mapper.toODTO(savedWorld, TranslatedString.EN);
@@ -57,12 +73,18 @@ public class WorldServiceImpl implements WorldService {
 
         try {
             updatedWorld = repository.update(mapper.toMO(world), world.places());
+        } catch(DatabaseException e) {
+            Logger.error(String.format("World could not be updated: %s.", world.identifier()), e.getMessage());
+
+            throw new ServiceException(DetailedError.of(e));
         } catch(Exception e) {
             Logger.error(String.format("An error has occurred while updating a world: %s.", world.identifier()), e.getMessage());
 
             throw new ServiceException(HeraldsOfChaosError.WORLD_UPDATE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.WORLD, updatedWorld.identifier()));
+
         Logger.info("World updated successfully.", updatedWorld.identifier());
 
         return mapper.toODTO(updatedWorld, TranslatedString.EN);
@@ -78,23 +100,30 @@ public class WorldServiceImpl implements WorldService {
             throw new ServiceException(HeraldsOfChaosError.WORLD_DELETE_CONFLICT);
         }
 
+        publisher.publishEvent(new EntityChangedEvent(EntityType.WORLD, identifier));
+
         Logger.info("World removed successfully.", identifier);
     }
 
     @Override
-    public WorldODTO get(String identifier, String language) throws ServiceException {
+    public WorldODTO get(String identifier, String language, Fieldset fields) throws ServiceException {
         final var world = repository.get(identifier).orElseThrow(() ->
                 new ServiceException(HeraldsOfChaosError.WORLD_NOT_FOUND)
         );
 
-        return mapper.toODTO(world, language);
+        return mapper.toODTO(world, language, fields);
     }
 
     @Override
-    public List<WorldODTO> list(String language) throws ServiceException {
-        final var worlds = repository.list();
+    public List<WorldODTO> list(String language, Fieldset fields) throws ServiceException {
+        final var worlds = repository.list(language, fields);
+
+        return worlds.stream().map(world -> mapper.toODTO(world, language, fields)).toList();
+    }
 
-        return worlds.stream().map(world -> mapper.toODTO(world, language)).toList();
+    @Override
+    public Stream<WorldODTO> stream(String language, Fieldset fields) throws ServiceException {
+        return repository.stream(language, fields).map(world -> mapper.toODTO(world, language, fields));
     }
 
     @Override
@@ -104,9 +133,28 @@ public class WorldServiceImpl implements WorldService {
         return worlds.map(world -> mapper.toODTO(world, language).toMap());
     }
 
+    @Override
+    public Slice<Map<String, Object>> slice(Pageable pageable, String language, Fieldset fields) throws ServiceException {
+        final var worlds = repository.slice(pageable, language, fields);
+
+        return worlds.map(world -> mapper.toODTO(world, language, fields).toMap());
+    }
+
+    @Override
+    public Window<Map<String, Object>> scroll(String after, int size, String language, Fieldset fields) throws ServiceException {
+        final var worlds = repository.scroll(after, size, language, fields);
+
+        return worlds.map(world -> mapper.toODTO(world, language, fields).toMap());
+    }
+
+    @Override
+    public long count() throws ServiceException {
+        return repository.count();
+    }
+
     @Override
     public List<PlaceODTO> listPlaces(String idWorld, String language) throws ServiceException {
-        final var world = this.get(idWorld, language);
+        final var world = this.get(idWorld, language, Fieldset.ALL);
 
         return world.places();
     }
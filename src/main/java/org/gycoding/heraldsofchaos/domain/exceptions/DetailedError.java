@@ -0,0 +1,33 @@
+package org.gycoding.heraldsofchaos.domain.exceptions;
+
+import org.gycoding.quasar.exceptions.model.ExceptionError;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * A {@link HeraldsOfChaosError} whose message carries the details of the failure, e.g. the identifiers not found.
+ */
+public record DetailedError(String code, String message, HttpStatus status) implements ExceptionError {
+    public static DetailedError of(HeraldsOfChaosError error, String details) {
+        return new DetailedError(error.getCode(), String.format("%s %s", error.getMessage(), details), error.getStatus());
+    }
+
+    public static DetailedError of(QuasarException exception) {
+        return new DetailedError(exception.getCode(), exception.getMessage(), exception.getStatus());
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -36,7 +36,18 @@ public enum HeraldsOfChaosError implements ExceptionError {
     WORLD_ALREADY_EXISTS_CONFLICT("World trying to be saved already exists.", HttpStatus.CONFLICT),
     WORLD_SAVE_CONFLICT("An error has occurred while trying to save a new World.", HttpStatus.CONFLICT),
     WORLD_UPDATE_CONFLICT("An error has occurred while trying to update a new World.", HttpStatus.CONFLICT),
-    WORLD_DELETE_CONFLICT("An error has occurred while trying to remove a new World.", HttpStatus.CONFLICT);
+    WORLD_DELETE_CONFLICT("An error has occurred while trying to remove a new World.", HttpStatus.CONFLICT),
+
+    INVALID_CURSOR("Continuation token is not valid.", HttpStatus.BAD_REQUEST),
+    INVALID_BULK_BODY("Bulk request body is neither a JSON array nor NDJSON.", HttpStatus.BAD_REQUEST),
+    INVALID_BULK_ITEM("Element of the bulk request could not be read.", HttpStatus.BAD_REQUEST),
+    INVALID_SNAPSHOT("Snapshot is not a valid universe snapshot.", HttpStatus.BAD_REQUEST),
+    INVALID_SEARCH_TYPE("Searched types must be among character, creature, item, place and world.", HttpStatus.BAD_REQUEST),
+    INVALID_FIELDS("Requested fields must be among those of the returned entity.", HttpStatus.BAD_REQUEST),
+
+    SNAPSHOT_EXPORT_CONFLICT("An error has occurred while trying to export a snapshot.", HttpStatus.CONFLICT),
+    SNAPSHOT_RESTORE_CONFLICT("An error has occurred while trying to restore a snapshot.", HttpStatus.CONFLICT),
+    SNAPSHOT_TARGET_NOT_EMPTY_CONFLICT("Snapshots can only be restored into an empty database.", HttpStatus.CONFLICT);
 
     public final String code;
     public final String message;
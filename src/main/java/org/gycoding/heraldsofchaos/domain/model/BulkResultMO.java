@@ -0,0 +1,23 @@
+package org.gycoding.heraldsofchaos.domain.model;
+
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+
+/**
+ * Outcome of a single element of a bulk write: {@code error} is {@code null} when the element was written.
+ */
+public record BulkResultMO(
+        String identifier,
+        HeraldsOfChaosError error
+) {
+    public static BulkResultMO written(String identifier) {
+        return new BulkResultMO(identifier, null);
+    }
+
+    public static BulkResultMO failed(String identifier, HeraldsOfChaosError error) {
+        return new BulkResultMO(identifier, error);
+    }
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,24 @@
+package org.gycoding.heraldsofchaos.domain.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum EntityType {
+    CHARACTER,
+    CREATURE,
+    ITEM,
+    PLACE,
+    WORLD;
+
+    /**
+     * Types whose read models change when an entity of this type is written: worlds embed their places and
+     * characters embed the identifier of their world.
+     */
+    public Set<EntityType> affected() {
+        return switch (this) {
+            case PLACE -> EnumSet.of(PLACE, WORLD);
+            case WORLD -> EnumSet.of(WORLD, CHARACTER);
+            default -> EnumSet.of(this);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package org.gycoding.heraldsofchaos.domain.model;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Fields of an entity requested by a read, named as in its responses. The empty fieldset requests every field.
+ */
+public record Fieldset(
+        Set<String> fields
+) {
+    public static final Fieldset ALL = new Fieldset(Set.of());
+
+    public static Fieldset of(Collection<String> fields) {
+        return fields == null || fields.isEmpty() ? ALL : new Fieldset(Set.copyOf(fields));
+    }
+
+    public boolean isAll() {
+        return fields.isEmpty();
+    }
+
+    public boolean includes(String field) {
+        return fields.isEmpty() || fields.contains(field);
+    }
+}
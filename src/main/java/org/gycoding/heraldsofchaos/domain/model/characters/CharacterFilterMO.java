@@ -0,0 +1,13 @@
+package org.gycoding.heraldsofchaos.domain.model.characters;
+
+import lombok.Builder;
+
+@Builder
+public record CharacterFilterMO(
+        String world,
+        String race
+) {
+    public boolean isEmpty() {
+        return world == null && race == null;
+    }
+}
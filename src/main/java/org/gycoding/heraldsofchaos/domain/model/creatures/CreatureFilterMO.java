@@ -0,0 +1,12 @@
+package org.gycoding.heraldsofchaos.domain.model.creatures;
+
+import lombok.Builder;
+
+@Builder
+public record CreatureFilterMO(
+        String race
+) {
+    public boolean isEmpty() {
+        return race == null;
+    }
+}
@@ -0,0 +1,12 @@
+package org.gycoding.heraldsofchaos.domain.model.items;
+
+import lombok.Builder;
+
+@Builder
+public record ItemFilterMO(
+        String type
+) {
+    public boolean isEmpty() {
+        return type == null;
+    }
+}
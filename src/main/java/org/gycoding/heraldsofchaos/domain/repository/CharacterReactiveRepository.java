@@ -0,0 +1,21 @@
+package org.gycoding.heraldsofchaos.domain.repository;
+
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface CharacterReactiveRepository {
+    Mono<CharacterMO> get(String identifier);
+    Flux<CharacterMO> list(CharacterFilterMO filter, String language, Fieldset fields);
+    Mono<Slice<CharacterMO>> slice(Pageable pageable, CharacterFilterMO filter, String language, Fieldset fields);
+    Mono<Window<CharacterMO>> scroll(String after, int size, CharacterFilterMO filter, String language, Fieldset fields);
+    Mono<Long> count();
+    Mono<Long> count(CharacterFilterMO filter, String language);
+}
\ No newline at end of file
@@ -1,22 +1,35 @@
 package org.gycoding.heraldsofchaos.domain.repository;
 
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CharacterRepository {
     CharacterMO save(CharacterMO character) throws DatabaseException;
+    List<BulkResultMO> saveAll(List<CharacterMO> characters);
 
     CharacterMO update(CharacterMO character) throws DatabaseException;
     void delete(String identifier);
 
     Optional<CharacterMO> get(String identifier);
     List<CharacterMO> list();
+    List<CharacterMO> list(CharacterFilterMO filter, String language, Fieldset fields);
+    Stream<CharacterMO> stream(CharacterFilterMO filter, String language, Fieldset fields);
     Page<CharacterMO> page(Pageable pageable);
+    Slice<CharacterMO> slice(Pageable pageable, CharacterFilterMO filter, String language, Fieldset fields);
+    Window<CharacterMO> scroll(String after, int size, CharacterFilterMO filter, String language, Fieldset fields);
+    long count();
+    long count(CharacterFilterMO filter, String language);
 }
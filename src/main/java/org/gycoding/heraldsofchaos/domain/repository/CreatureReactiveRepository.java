@@ -0,0 +1,21 @@
+package org.gycoding.heraldsofchaos.domain.repository;
+
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface CreatureReactiveRepository {
+    Mono<CreatureMO> get(String identifier);
+    Flux<CreatureMO> list(CreatureFilterMO filter, String language, Fieldset fields);
+    Mono<Slice<CreatureMO>> slice(Pageable pageable, CreatureFilterMO filter, String language, Fieldset fields);
+    Mono<Window<CreatureMO>> scroll(String after, int size, CreatureFilterMO filter, String language, Fieldset fields);
+    Mono<Long> count();
+    Mono<Long> count(CreatureFilterMO filter, String language);
+}
\ No newline at end of file
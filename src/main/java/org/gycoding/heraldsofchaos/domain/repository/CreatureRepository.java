@@ -1,22 +1,35 @@
 package org.gycoding.heraldsofchaos.domain.repository;
 
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CreatureRepository {
     CreatureMO save(CreatureMO creature);
+    List<BulkResultMO> saveAll(List<CreatureMO> creatures);
 
     CreatureMO update(CreatureMO creature) throws DatabaseException;
     void delete(String identifier);
 
     Optional<CreatureMO> get(String identifier);
     List<CreatureMO> list();
+    List<CreatureMO> list(CreatureFilterMO filter, String language, Fieldset fields);
+    Stream<CreatureMO> stream(CreatureFilterMO filter, String language, Fieldset fields);
     Page<CreatureMO> page(Pageable pageable);
+    Slice<CreatureMO> slice(Pageable pageable, CreatureFilterMO filter, String language, Fieldset fields);
+    Window<CreatureMO> scroll(String after, int size, CreatureFilterMO filter, String language, Fieldset fields);
+    long count();
+    long count(CreatureFilterMO filter, String language);
 }
@@ -0,0 +1,21 @@
+package org.gycoding.heraldsofchaos.domain.repository;
+
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ItemReactiveRepository {
+    Mono<ItemMO> get(String identifier);
+    Flux<ItemMO> list(ItemFilterMO filter, String language, Fieldset fields);
+    Mono<Slice<ItemMO>> slice(Pageable pageable, ItemFilterMO filter, String language, Fieldset fields);
+    Mono<Window<ItemMO>> scroll(String after, int size, ItemFilterMO filter, String language, Fieldset fields);
+    Mono<Long> count();
+    Mono<Long> count(ItemFilterMO filter, String language);
+}
\ No newline at end of file
@@ -1,22 +1,35 @@
 package org.gycoding.heraldsofchaos.domain.repository;
 
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ItemRepository {
     ItemMO save(ItemMO item);
+    List<BulkResultMO> saveAll(List<ItemMO> items);
 
     ItemMO update(ItemMO item) throws DatabaseException;
     void delete(String identifier);
 
     Optional<ItemMO> get(String identifier);
     List<ItemMO> list();
+    List<ItemMO> list(ItemFilterMO filter, String language, Fieldset fields);
+    Stream<ItemMO> stream(ItemFilterMO filter, String language, Fieldset fields);
     Page<ItemMO> page(Pageable pageable);
+    Slice<ItemMO> slice(Pageable pageable, ItemFilterMO filter, String language, Fieldset fields);
+    Window<ItemMO> scroll(String after, int size, ItemFilterMO filter, String language, Fieldset fields);
+    long count();
+    long count(ItemFilterMO filter, String language);
 }
\ No newline at end of file
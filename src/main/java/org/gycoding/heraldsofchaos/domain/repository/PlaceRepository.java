@@ -1,13 +1,17 @@
 package org.gycoding.heraldsofchaos.domain.repository;
 
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlaceRepository {
@@ -18,5 +22,10 @@ public interface PlaceRepository {
 
     Optional<PlaceMO> get(String identifier);
     List<PlaceMO> list();
+    List<PlaceMO> list(String language, Fieldset fields);
+    Stream<PlaceMO> stream(String language, Fieldset fields);
     Page<PlaceMO> page(Pageable pageable);
+    Slice<PlaceMO> slice(Pageable pageable, String language, Fieldset fields);
+    Window<PlaceMO> scroll(String after, int size, String language, Fieldset fields);
+    long count();
 }
@@ -0,0 +1,16 @@
+package org.gycoding.heraldsofchaos.domain.repository;
+
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.springframework.stereotype.Repository;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+@Repository
+public interface SnapshotRepository {
+    boolean isEmpty();
+
+    void export(OutputStream output) throws DatabaseException;
+    Map<String, Long> restore(InputStream input) throws DatabaseException;
+}
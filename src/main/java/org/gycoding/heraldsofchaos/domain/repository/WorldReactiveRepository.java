@@ -0,0 +1,19 @@
+package org.gycoding.heraldsofchaos.domain.repository;
+
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface WorldReactiveRepository {
+    Mono<WorldMO> get(String identifier);
+    Flux<WorldMO> list(String language, Fieldset fields);
+    Mono<Slice<WorldMO>> slice(Pageable pageable, String language, Fieldset fields);
+    Mono<Window<WorldMO>> scroll(String after, int size, String language, Fieldset fields);
+    Mono<Long> count();
+}
\ No newline at end of file
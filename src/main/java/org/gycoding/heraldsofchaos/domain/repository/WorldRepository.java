@@ -1,22 +1,31 @@
 package org.gycoding.heraldsofchaos.domain.repository;
 
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WorldRepository {
-    WorldMO save(WorldMO world, List<String> places);
+    WorldMO save(WorldMO world, List<String> places) throws DatabaseException;
 
     WorldMO update(WorldMO world, List<String> places) throws DatabaseException;
     void delete(String identifier);
 
     Optional<WorldMO> get(String identifier);
     List<WorldMO> list();
+    List<WorldMO> list(String language, Fieldset fields);
+    Stream<WorldMO> stream(String language, Fieldset fields);
     Page<WorldMO> page(Pageable pageable);
+    Slice<WorldMO> slice(Pageable pageable, String language, Fieldset fields);
+    Window<WorldMO> scroll(String after, int size, String language, Fieldset fields);
+    long count();
 }
@@ -0,0 +1,111 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.bulk;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk.BulkItemRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk.BulkReportRSDTO;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads the body of the {@code /bulk} endpoints and hands it to the services in batches.
+ * <p>
+ * The body may be either a JSON array or NDJSON; both are read one element at a time, so only the current batch is
+ * held in memory. Elements that cannot be read are reported without stopping the import, while a body that is not
+ * well-formed JSON aborts it with {@link HeraldsOfChaosError#INVALID_BULK_BODY}, keeping the batches already written.
+ */
+@Component
+public class BulkImporter {
+    public static final String SAVED = "SAVED";
+    public static final String FAILED = "FAILED";
+
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public BulkImporter(ObjectMapper objectMapper, @Value("${heraldsofchaos.bulk.batch-size:500}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public <R, I> BulkReportRSDTO save(InputStream body, Class<R> type, Function<R, I> toIDTO, BatchWriter<I> writer) throws QuasarException {
+        final var items = new ArrayList<BulkItemRSDTO>();
+        final var batch = new ArrayList<I>(batchSize);
+        final var positions = new ArrayList<Integer>(batchSize);
+
+        try (final MappingIterator<R> elements = objectMapper.readerFor(type).readValues(body)) {
+            var index = 0;
+
+            while (elements.hasNextValue()) {
+                final var position = index++;
+
+                try {
+                    batch.add(toIDTO.apply(elements.nextValue()));
+                    positions.add(position);
+                } catch (JsonMappingException | RuntimeException e) {
+                    items.add(item(position, null, HeraldsOfChaosError.INVALID_BULK_ITEM));
+                }
+
+                if (batch.size() == batchSize) {
+                    flush(batch, positions, writer, items);
+                }
+            }
+        } catch (IOException e) {
+            throw new ServiceException(HeraldsOfChaosError.INVALID_BULK_BODY);
+        }
+
+        flush(batch, positions, writer, items);
+
+        items.sort(Comparator.comparingInt(BulkItemRSDTO::index));
+
+        final var saved = (int) items.stream().filter(item -> SAVED.equals(item.status())).count();
+
+        return BulkReportRSDTO.builder()
+                .total(items.size())
+                .saved(saved)
+                .failed(items.size() - saved)
+                .items(items)
+                .build();
+    }
+
+    private <I> void flush(List<I> batch, List<Integer> positions, BatchWriter<I> writer, List<BulkItemRSDTO> items) throws QuasarException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        final var results = writer.write(List.copyOf(batch));
+
+        for (var index = 0; index < results.size(); index++) {
+            items.add(item(positions.get(index), results.get(index).identifier(), results.get(index).error()));
+        }
+
+        batch.clear();
+        positions.clear();
+    }
+
+    private static BulkItemRSDTO item(int index, String identifier, HeraldsOfChaosError error) {
+        return BulkItemRSDTO.builder()
+                .index(index)
+                .identifier(identifier)
+                .status(error == null ? SAVED : FAILED)
+                .error(error != null ? error.code : null)
+                .message(error != null ? error.message : null)
+                .build();
+    }
+
+    @FunctionalInterface
+    public interface BatchWriter<I> {
+        List<BulkResultODTO> write(List<I> batch) throws QuasarException;
+    }
+}
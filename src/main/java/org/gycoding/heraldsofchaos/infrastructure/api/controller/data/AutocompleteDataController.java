@@ -0,0 +1,32 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.search.NameTrie;
+import org.gycoding.heraldsofchaos.application.service.SearchService;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.SearchControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/autocomplete")
+@AllArgsConstructor
+public class AutocompleteDataController {
+    private final SearchService service;
+
+    private final SearchControllerMapper mapper;
+
+    @GetMapping("")
+    public ResponseEntity<?> complete(
+            @RequestParam String prefix,
+            @RequestParam String lang,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "10") int size
+    ) throws QuasarException {
+        final var completions = service.complete(prefix, lang, types, Math.max(1, Math.min(size, NameTrie.TOP)));
+
+        return ResponseEntity.ok(completions.stream().map(mapper::toRSDTO).toList());
+    }
+}
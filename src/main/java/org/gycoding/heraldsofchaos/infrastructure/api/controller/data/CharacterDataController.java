@@ -1,33 +1,122 @@
 package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
 
 import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
 import org.gycoding.heraldsofchaos.application.service.CharacterService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.characters.CharacterRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.Fieldsets;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.ListResponseStore;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.NdjsonResponses;
 import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/characters")
+@Profile("!reactive")
 @AllArgsConstructor
 public class CharacterDataController {
     private final CharacterService service;
 
     private final CharacterControllerMapper mapper;
 
+    private final ListResponseStore responseStore;
+
+    private final EntityVersionRegistry versions;
+
+    private final NdjsonResponses ndjsonResponses;
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getCharacter(@PathVariable String id, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(mapper.toRSDTO(service.get(id, lang)));
+    public ResponseEntity<?> getCharacter(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        if (request.checkNotModified(versions.entityTag(EntityType.CHARACTER, id))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(Fieldsets.retain(mapper.toRSDTO(service.get(id, lang, fieldset)), fieldset));
     }
 
     @GetMapping("/list")
-    public ResponseEntity<?> listCharacters(@RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(service.list(lang).stream().map(mapper::toRSDTO).toList());
+    public ResponseEntity<?> listCharacters(
+            @RequestParam String lang,
+            @RequestParam(required = false) String world,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.CHARACTER))) {
+            return null;
+        }
+
+        final var filter = CharacterFilterIDTO.builder().world(world).race(race).build();
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (world != null || race != null || !fieldset.isAll()) {
+            return response.body(service.list(filter, lang, fieldset).stream().map(character -> Fieldsets.retain(mapper.toRSDTO(character), fieldset)).toList());
+        }
+
+        return response.body(responseStore.get(EntityType.CHARACTER, lang, language -> service.list(filter, language, fieldset).stream().map(mapper::toRSDTO).toList()));
+    }
+
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCharacters(
+            @RequestParam String lang,
+            @RequestParam(required = false) String world,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        if (request.checkNotModified(NdjsonResponses.tag(versions.collectionTag(EntityType.CHARACTER)))) {
+            return null;
+        }
+
+        return ndjsonResponses.of(service.stream(CharacterFilterIDTO.builder().world(world).race(race).build(), lang, fieldset).map(mapper::toRSDTO).map(character -> Fieldsets.retain(character, fieldset)));
     }
 
     @GetMapping("/page")
-    public ResponseEntity<?> pageCharacters(Pageable pageable, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(service.page(pageable, lang).getContent());
+    public ResponseEntity<?> pageCharacters(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String world,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.CHARACTER))) {
+            return null;
+        }
+
+        final var filter = CharacterFilterIDTO.builder().world(world).race(race).build();
+        final var total = count ? service.count(filter, lang) : null;
+
+        if (cursor != null) {
+            return PagedResponses.of(service.scroll(Cursors.decode(cursor), pageable.getPageSize(), filter, lang, fieldset).map(character -> Fieldsets.retain(character, fieldset)), total);
+        }
+
+        return PagedResponses.of(service.slice(pageable, filter, lang, fieldset).map(character -> Fieldsets.retain(character, fieldset)), total);
     }
 }
@@ -0,0 +1,92 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterReactiveService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.characters.CharacterRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.Fieldsets;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/characters")
+@Profile("reactive")
+@AllArgsConstructor
+public class CharacterReactiveDataController {
+    private final CharacterReactiveService service;
+
+    private final CharacterControllerMapper mapper;
+
+    private final EntityVersionRegistry versions;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getCharacter(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        if (exchange.checkNotModified(versions.entityTag(EntityType.CHARACTER, id))) {
+            return Mono.empty();
+        }
+
+        return service.get(id, lang, fieldset).map(character -> ResponseEntity.ok(Fieldsets.retain(mapper.toRSDTO(character), fieldset)));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<Flux<Object>>> listCharacters(
+            @RequestParam String lang,
+            @RequestParam(required = false) String world,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.CHARACTER))) {
+            return Mono.empty();
+        }
+
+        final var filter = CharacterFilterIDTO.builder().world(world).race(race).build();
+
+        return Mono.just(ResponseEntity.ok(service.list(filter, lang, fieldset).map(character -> Fieldsets.retain(mapper.toRSDTO(character), fieldset))));
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> pageCharacters(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String world,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.CHARACTER))) {
+            return Mono.empty();
+        }
+
+        final var filter = CharacterFilterIDTO.builder().world(world).race(race).build();
+        final var total = count ? service.count(filter, lang) : Mono.<Long>empty();
+
+        if (cursor != null) {
+            return PagedResponses.window(service.scroll(Cursors.decode(cursor), pageable.getPageSize(), filter, lang, fieldset).map(characters -> characters.map(character -> Fieldsets.retain(character, fieldset))), total);
+        }
+
+        return PagedResponses.slice(service.slice(pageable, filter, lang, fieldset).map(characters -> characters.map(character -> Fieldsets.retain(character, fieldset))), total);
+    }
+}
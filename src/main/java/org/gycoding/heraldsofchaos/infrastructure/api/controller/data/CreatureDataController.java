@@ -1,33 +1,119 @@
 package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
 
 import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
 import org.gycoding.heraldsofchaos.application.service.CreatureService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.creatures.CreatureRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.Fieldsets;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.ListResponseStore;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.NdjsonResponses;
 import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/creatures")
+@Profile("!reactive")
 @AllArgsConstructor
 public class CreatureDataController {
     private final CreatureService service;
 
     private final CreatureControllerMapper mapper;
 
+    private final ListResponseStore responseStore;
+
+    private final EntityVersionRegistry versions;
+
+    private final NdjsonResponses ndjsonResponses;
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getCreature(@PathVariable String id, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(mapper.toRSDTO(service.get(id, lang)));
+    public ResponseEntity<?> getCreature(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CreatureRSDTO.class);
+
+        if (request.checkNotModified(versions.entityTag(EntityType.CREATURE, id))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(Fieldsets.retain(mapper.toRSDTO(service.get(id, lang, fieldset)), fieldset));
     }
 
     @GetMapping("/list")
-    public ResponseEntity<?> listCreatures(@RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(service.list(lang).stream().map(mapper::toRSDTO).toList());
+    public ResponseEntity<?> listCreatures(
+            @RequestParam String lang,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CreatureRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.CREATURE))) {
+            return null;
+        }
+
+        final var filter = CreatureFilterIDTO.builder().race(race).build();
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (race != null || !fieldset.isAll()) {
+            return response.body(service.list(filter, lang, fieldset).stream().map(creature -> Fieldsets.retain(mapper.toRSDTO(creature), fieldset)).toList());
+        }
+
+        return response.body(responseStore.get(EntityType.CREATURE, lang, language -> service.list(filter, language, fieldset).stream().map(mapper::toRSDTO).toList()));
+    }
+
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCreatures(
+            @RequestParam String lang,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CreatureRSDTO.class);
+
+        if (request.checkNotModified(NdjsonResponses.tag(versions.collectionTag(EntityType.CREATURE)))) {
+            return null;
+        }
+
+        return ndjsonResponses.of(service.stream(CreatureFilterIDTO.builder().race(race).build(), lang, fieldset).map(mapper::toRSDTO).map(creature -> Fieldsets.retain(creature, fieldset)));
     }
 
     @GetMapping("/page")
-    public ResponseEntity<?> pageCreatures(Pageable pageable, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(service.page(pageable, lang).getContent());
+    public ResponseEntity<?> pageCreatures(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CreatureRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.CREATURE))) {
+            return null;
+        }
+
+        final var filter = CreatureFilterIDTO.builder().race(race).build();
+        final var total = count ? service.count(filter, lang) : null;
+
+        if (cursor != null) {
+            return PagedResponses.of(service.scroll(Cursors.decode(cursor), pageable.getPageSize(), filter, lang, fieldset).map(creature -> Fieldsets.retain(creature, fieldset)), total);
+        }
+
+        return PagedResponses.of(service.slice(pageable, filter, lang, fieldset).map(creature -> Fieldsets.retain(creature, fieldset)), total);
     }
 }
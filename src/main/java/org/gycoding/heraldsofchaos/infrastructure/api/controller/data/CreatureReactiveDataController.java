@@ -0,0 +1,90 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
+import org.gycoding.heraldsofchaos.application.service.CreatureReactiveService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.creatures.CreatureRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.Fieldsets;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/creatures")
+@Profile("reactive")
+@AllArgsConstructor
+public class CreatureReactiveDataController {
+    private final CreatureReactiveService service;
+
+    private final CreatureControllerMapper mapper;
+
+    private final EntityVersionRegistry versions;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getCreature(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CreatureRSDTO.class);
+
+        if (exchange.checkNotModified(versions.entityTag(EntityType.CREATURE, id))) {
+            return Mono.empty();
+        }
+
+        return service.get(id, lang, fieldset).map(creature -> ResponseEntity.ok(Fieldsets.retain(mapper.toRSDTO(creature), fieldset)));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<Flux<Object>>> listCreatures(
+            @RequestParam String lang,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CreatureRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.CREATURE))) {
+            return Mono.empty();
+        }
+
+        final var filter = CreatureFilterIDTO.builder().race(race).build();
+
+        return Mono.just(ResponseEntity.ok(service.list(filter, lang, fieldset).map(creature -> Fieldsets.retain(mapper.toRSDTO(creature), fieldset))));
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> pageCreatures(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String race,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CreatureRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.CREATURE))) {
+            return Mono.empty();
+        }
+
+        final var filter = CreatureFilterIDTO.builder().race(race).build();
+        final var total = count ? service.count(filter, lang) : Mono.<Long>empty();
+
+        if (cursor != null) {
+            return PagedResponses.window(service.scroll(Cursors.decode(cursor), pageable.getPageSize(), filter, lang, fieldset).map(creatures -> creatures.map(creature -> Fieldsets.retain(creature, fieldset))), total);
+        }
+
+        return PagedResponses.slice(service.slice(pageable, filter, lang, fieldset).map(creatures -> creatures.map(creature -> Fieldsets.retain(creature, fieldset))), total);
+    }
+}
@@ -0,0 +1,90 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
+import org.gycoding.heraldsofchaos.application.service.ItemReactiveService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.items.ItemRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.ItemControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.Fieldsets;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/items")
+@Profile("reactive")
+@AllArgsConstructor
+public class ItemReactiveDataController {
+    private final ItemReactiveService service;
+
+    private final ItemControllerMapper mapper;
+
+    private final EntityVersionRegistry versions;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getItem(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, ItemRSDTO.class);
+
+        if (exchange.checkNotModified(versions.entityTag(EntityType.ITEM, id))) {
+            return Mono.empty();
+        }
+
+        return service.get(id, lang, fieldset).map(item -> ResponseEntity.ok(Fieldsets.retain(mapper.toRSDTO(item), fieldset)));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<Flux<Object>>> listItems(
+            @RequestParam String lang,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, ItemRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.ITEM))) {
+            return Mono.empty();
+        }
+
+        final var filter = ItemFilterIDTO.builder().type(type).build();
+
+        return Mono.just(ResponseEntity.ok(service.list(filter, lang, fieldset).map(item -> Fieldsets.retain(mapper.toRSDTO(item), fieldset))));
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> pageItems(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, ItemRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.ITEM))) {
+            return Mono.empty();
+        }
+
+        final var filter = ItemFilterIDTO.builder().type(type).build();
+        final var total = count ? service.count(filter, lang) : Mono.<Long>empty();
+
+        if (cursor != null) {
+            return PagedResponses.window(service.scroll(Cursors.decode(cursor), pageable.getPageSize(), filter, lang, fieldset).map(items -> items.map(item -> Fieldsets.retain(item, fieldset))), total);
+        }
+
+        return PagedResponses.slice(service.slice(pageable, filter, lang, fieldset).map(items -> items.map(item -> Fieldsets.retain(item, fieldset))), total);
+    }
+}
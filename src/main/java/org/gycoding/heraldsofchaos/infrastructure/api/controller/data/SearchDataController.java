@@ -0,0 +1,47 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.search.FuzzyIndex;
+import org.gycoding.heraldsofchaos.application.service.SearchService;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.SearchControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@AllArgsConstructor
+public class SearchDataController {
+    public static final int MAX_SIZE = 100;
+
+    private final SearchService service;
+
+    private final SearchControllerMapper mapper;
+
+    @GetMapping("")
+    public ResponseEntity<?> search(
+            @RequestParam String q,
+            @RequestParam String lang,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "20") int size
+    ) throws QuasarException {
+        final var hits = service.search(q, lang, types, Math.max(1, Math.min(size, MAX_SIZE)));
+
+        return ResponseEntity.ok(hits.stream().map(mapper::toRSDTO).toList());
+    }
+
+    @GetMapping("/fuzzy")
+    public ResponseEntity<?> fuzzy(
+            @RequestParam String q,
+            @RequestParam String lang,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "2") int distance,
+            @RequestParam(defaultValue = "20") int size
+    ) throws QuasarException {
+        final var matches = service.fuzzy(q, lang, types, Math.max(0, Math.min(distance, FuzzyIndex.MAX_DISTANCE)), Math.max(1, Math.min(size, MAX_SIZE)));
+
+        return ResponseEntity.ok(matches.stream().map(mapper::toRSDTO).toList());
+    }
+}
@@ -1,59 +1,224 @@
 package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
 
 import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterService;
 import org.gycoding.heraldsofchaos.application.service.PlaceService;
 import org.gycoding.heraldsofchaos.application.service.WorldService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.characters.CharacterRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.PlaceRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.WorldRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.PlaceControllerMapper;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.WorldControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.Fieldsets;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.ListResponseStore;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.NdjsonResponses;
 import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/worlds")
+@Profile("!reactive")
 @AllArgsConstructor
 public class WorldDataController {
+    private static final Fieldset WORLD_IDENTIFIER = Fieldset.of(List.of("identifier"));
+
     private final WorldService worldService;
 
     private final PlaceService placeService;
 
+    private final CharacterService characterService;
+
     private final WorldControllerMapper worldMapper;
 
     private final PlaceControllerMapper placeMapper;
 
+    private final ListResponseStore responseStore;
+
+    private final EntityVersionRegistry versions;
+
+    private final NdjsonResponses ndjsonResponses;
+
     @GetMapping("/{id}")
-    public ResponseEntity<?> getWorld(@PathVariable String id, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(worldMapper.toRSDTO(worldService.get(id, lang)));
+    public ResponseEntity<?> getWorld(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, WorldRSDTO.class);
+
+        if (request.checkNotModified(versions.entityTag(EntityType.WORLD, id))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(Fieldsets.retain(worldMapper.toRSDTO(worldService.get(id, lang, fieldset)), fieldset));
     }
 
     @GetMapping("/list")
-    public ResponseEntity<?> listWorlds(@RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(worldService.list(lang).stream().map(worldMapper::toRSDTO).toList());
+    public ResponseEntity<?> listWorlds(@RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, WorldRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.WORLD))) {
+            return null;
+        }
+
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (!fieldset.isAll()) {
+            return response.body(worldService.list(lang, fieldset).stream().map(world -> Fieldsets.retain(worldMapper.toRSDTO(world), fieldset)).toList());
+        }
+
+        return response.body(responseStore.get(EntityType.WORLD, lang, language -> worldService.list(language, fieldset).stream().map(worldMapper::toRSDTO).toList()));
+    }
+
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamWorlds(@RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, WorldRSDTO.class);
+
+        if (request.checkNotModified(NdjsonResponses.tag(versions.collectionTag(EntityType.WORLD)))) {
+            return null;
+        }
+
+        return ndjsonResponses.of(worldService.stream(lang, fieldset).map(worldMapper::toRSDTO).map(world -> Fieldsets.retain(world, fieldset)));
     }
 
     @GetMapping("/page")
-    public ResponseEntity<?> pageWorlds(Pageable pageable, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(worldService.page(pageable, lang).getContent());
+    public ResponseEntity<?> pageWorlds(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, WorldRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.WORLD))) {
+            return null;
+        }
+
+        final var total = count ? worldService.count() : null;
+
+        if (cursor != null) {
+            return PagedResponses.of(worldService.scroll(Cursors.decode(cursor), pageable.getPageSize(), lang, fieldset).map(world -> Fieldsets.retain(world, fieldset)), total);
+        }
+
+        return PagedResponses.of(worldService.slice(pageable, lang, fieldset).map(world -> Fieldsets.retain(world, fieldset)), total);
+    }
+
+    @GetMapping("/{id}/characters")
+    public ResponseEntity<?> pageWorldCharacters(
+            @PathVariable String id,
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        worldService.get(id, lang, WORLD_IDENTIFIER);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.CHARACTER))) {
+            return null;
+        }
+
+        final var filter = CharacterFilterIDTO.builder().world(id).build();
+        final var total = count ? characterService.count(filter, lang) : null;
+
+        if (cursor != null) {
+            return PagedResponses.of(characterService.scroll(Cursors.decode(cursor), pageable.getPageSize(), filter, lang, fieldset).map(character -> Fieldsets.retain(character, fieldset)), total);
+        }
+
+        return PagedResponses.of(characterService.slice(pageable, filter, lang, fieldset).map(character -> Fieldsets.retain(character, fieldset)), total);
     }
 
     @GetMapping("/places/{id}")
-    public ResponseEntity<?> getPlace(@PathVariable String id, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(placeMapper.toRSDTO(placeService.get(id, lang)));
+    public ResponseEntity<?> getPlace(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (request.checkNotModified(versions.entityTag(EntityType.PLACE, id))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(Fieldsets.retain(placeMapper.toRSDTO(placeService.get(id, lang, fieldset)), fieldset));
     }
 
     @GetMapping("/places/list")
-    public ResponseEntity<?> listPlaces(@RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(placeService.list(lang).stream().map(placeMapper::toRSDTO).toList());
+    public ResponseEntity<?> listPlaces(@RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.PLACE))) {
+            return null;
+        }
+
+        final var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (!fieldset.isAll()) {
+            return response.body(placeService.list(lang, fieldset).stream().map(place -> Fieldsets.retain(placeMapper.toRSDTO(place), fieldset)).toList());
+        }
+
+        return response.body(responseStore.get(EntityType.PLACE, lang, language -> placeService.list(language, fieldset).stream().map(placeMapper::toRSDTO).toList()));
+    }
+
+    @GetMapping(value = "/places/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPlaces(@RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (request.checkNotModified(NdjsonResponses.tag(versions.collectionTag(EntityType.PLACE)))) {
+            return null;
+        }
+
+        return ndjsonResponses.of(placeService.stream(lang, fieldset).map(placeMapper::toRSDTO).map(place -> Fieldsets.retain(place, fieldset)));
     }
 
     @GetMapping("/places/page")
-    public ResponseEntity<?> pagePlaces(Pageable pageable, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(placeService.page(pageable, lang).getContent());
+    public ResponseEntity<?> pagePlaces(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) List<String> fields,
+            WebRequest request
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (request.checkNotModified(versions.collectionTag(EntityType.PLACE))) {
+            return null;
+        }
+
+        final var total = count ? placeService.count() : null;
+
+        if (cursor != null) {
+            return PagedResponses.of(placeService.scroll(Cursors.decode(cursor), pageable.getPageSize(), lang, fieldset).map(place -> Fieldsets.retain(place, fieldset)), total);
+        }
+
+        return PagedResponses.of(placeService.slice(pageable, lang, fieldset).map(place -> Fieldsets.retain(place, fieldset)), total);
     }
 
     @GetMapping("/places/{id}/list")
-    public ResponseEntity<?> listWorldPlaces(@PathVariable String id, @RequestParam String lang) throws QuasarException {
-        return ResponseEntity.ok(worldService.listPlaces(id, lang).stream().map(placeMapper::toRSDTO).toList());
+    public ResponseEntity<?> listWorldPlaces(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, WebRequest request) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (request.checkNotModified(versions.entityTag(EntityType.WORLD, id))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(worldService.listPlaces(id, lang).stream().map(place -> Fieldsets.retain(placeMapper.toRSDTO(place), fieldset)).toList());
     }
 }
@@ -0,0 +1,182 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterReactiveService;
+import org.gycoding.heraldsofchaos.application.service.PlaceReactiveService;
+import org.gycoding.heraldsofchaos.application.service.WorldReactiveService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.characters.CharacterRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.PlaceRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.WorldRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.PlaceControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.WorldControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.Fieldsets;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/worlds")
+@Profile("reactive")
+@AllArgsConstructor
+public class WorldReactiveDataController {
+    private static final Fieldset WORLD_IDENTIFIER = Fieldset.of(List.of("identifier"));
+
+    private final WorldReactiveService worldService;
+
+    private final PlaceReactiveService placeService;
+
+    private final CharacterReactiveService characterService;
+
+    private final WorldControllerMapper worldMapper;
+
+    private final PlaceControllerMapper placeMapper;
+
+    private final EntityVersionRegistry versions;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getWorld(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, WorldRSDTO.class);
+
+        if (exchange.checkNotModified(versions.entityTag(EntityType.WORLD, id))) {
+            return Mono.empty();
+        }
+
+        return worldService.get(id, lang, fieldset).map(world -> ResponseEntity.ok(Fieldsets.retain(worldMapper.toRSDTO(world), fieldset)));
+    }
+
+    @GetMapping("/list")
+    public Mono<ResponseEntity<Flux<Object>>> listWorlds(@RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, WorldRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.WORLD))) {
+            return Mono.empty();
+        }
+
+        return Mono.just(ResponseEntity.ok(worldService.list(lang, fieldset).map(world -> Fieldsets.retain(worldMapper.toRSDTO(world), fieldset))));
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> pageWorlds(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, WorldRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.WORLD))) {
+            return Mono.empty();
+        }
+
+        final var total = count ? worldService.count() : Mono.<Long>empty();
+
+        if (cursor != null) {
+            return PagedResponses.window(worldService.scroll(Cursors.decode(cursor), pageable.getPageSize(), lang, fieldset).map(worlds -> worlds.map(world -> Fieldsets.retain(world, fieldset))), total);
+        }
+
+        return PagedResponses.slice(worldService.slice(pageable, lang, fieldset).map(worlds -> worlds.map(world -> Fieldsets.retain(world, fieldset))), total);
+    }
+
+    @GetMapping("/{id}/characters")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> pageWorldCharacters(
+            @PathVariable String id,
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, CharacterRSDTO.class);
+
+        final var after = cursor != null ? Cursors.decode(cursor) : null;
+        final var filter = CharacterFilterIDTO.builder().world(id).build();
+
+        return worldService.get(id, lang, WORLD_IDENTIFIER).then(Mono.defer(() -> {
+            if (exchange.checkNotModified(versions.collectionTag(EntityType.CHARACTER))) {
+                return Mono.empty();
+            }
+
+            final var total = count ? characterService.count(filter, lang) : Mono.<Long>empty();
+
+            if (after != null) {
+                return PagedResponses.window(characterService.scroll(after, pageable.getPageSize(), filter, lang, fieldset).map(characters -> characters.map(character -> Fieldsets.retain(character, fieldset))), total);
+            }
+
+            return PagedResponses.slice(characterService.slice(pageable, filter, lang, fieldset).map(characters -> characters.map(character -> Fieldsets.retain(character, fieldset))), total);
+        }));
+    }
+
+    @GetMapping("/places/{id}")
+    public Mono<ResponseEntity<Object>> getPlace(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (exchange.checkNotModified(versions.entityTag(EntityType.PLACE, id))) {
+            return Mono.empty();
+        }
+
+        return placeService.get(id, lang, fieldset).map(place -> ResponseEntity.ok(Fieldsets.retain(placeMapper.toRSDTO(place), fieldset)));
+    }
+
+    @GetMapping("/places/list")
+    public Mono<ResponseEntity<Flux<Object>>> listPlaces(@RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.PLACE))) {
+            return Mono.empty();
+        }
+
+        return Mono.just(ResponseEntity.ok(placeService.list(lang, fieldset).map(place -> Fieldsets.retain(placeMapper.toRSDTO(place), fieldset))));
+    }
+
+    @GetMapping("/places/page")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> pagePlaces(
+            Pageable pageable,
+            @RequestParam String lang,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean count,
+            @RequestParam(required = false) List<String> fields,
+            ServerWebExchange exchange
+    ) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (exchange.checkNotModified(versions.collectionTag(EntityType.PLACE))) {
+            return Mono.empty();
+        }
+
+        final var total = count ? placeService.count() : Mono.<Long>empty();
+
+        if (cursor != null) {
+            return PagedResponses.window(placeService.scroll(Cursors.decode(cursor), pageable.getPageSize(), lang, fieldset).map(places -> places.map(place -> Fieldsets.retain(place, fieldset))), total);
+        }
+
+        return PagedResponses.slice(placeService.slice(pageable, lang, fieldset).map(places -> places.map(place -> Fieldsets.retain(place, fieldset))), total);
+    }
+
+    @GetMapping("/places/{id}/list")
+    public Mono<ResponseEntity<Flux<Object>>> listWorldPlaces(@PathVariable String id, @RequestParam String lang, @RequestParam(required = false) List<String> fields, ServerWebExchange exchange) throws QuasarException {
+        final var fieldset = Fieldsets.parse(fields, PlaceRSDTO.class);
+
+        if (exchange.checkNotModified(versions.entityTag(EntityType.WORLD, id))) {
+            return Mono.empty();
+        }
+
+        return Mono.just(ResponseEntity.ok(worldService.listPlaces(id, lang).map(place -> Fieldsets.retain(placeMapper.toRSDTO(place), fieldset))));
+    }
+}
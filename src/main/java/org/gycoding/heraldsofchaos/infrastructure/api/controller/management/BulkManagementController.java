@@ -0,0 +1,55 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.management;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.service.CharacterService;
+import org.gycoding.heraldsofchaos.application.service.CreatureService;
+import org.gycoding.heraldsofchaos.application.service.ItemService;
+import org.gycoding.heraldsofchaos.infrastructure.api.bulk.BulkImporter;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.characters.CharacterRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.creatures.CreatureRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.items.ItemRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.ItemControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@Profile("!reactive")
+@AllArgsConstructor
+public class BulkManagementController {
+    private final CharacterService characterService;
+
+    private final CharacterControllerMapper characterMapper;
+
+    private final CreatureService creatureService;
+
+    private final CreatureControllerMapper creatureMapper;
+
+    private final ItemService itemService;
+
+    private final ItemControllerMapper itemMapper;
+
+    private final BulkImporter importer;
+
+    @PostMapping(value = "/characters/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<?> saveCharacters(InputStream characters) throws QuasarException {
+        return ResponseEntity.ok(importer.save(characters, CharacterRQDTO.class, characterMapper::toIDTO, characterService::saveAll));
+    }
+
+    @PostMapping(value = "/creatures/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<?> saveCreatures(InputStream creatures) throws QuasarException {
+        return ResponseEntity.ok(importer.save(creatures, CreatureRQDTO.class, creatureMapper::toIDTO, creatureService::saveAll));
+    }
+
+    @PostMapping(value = "/items/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<?> saveItems(InputStream items) throws QuasarException {
+        return ResponseEntity.ok(importer.save(items, ItemRQDTO.class, itemMapper::toIDTO, itemService::saveAll));
+    }
+}
@@ -0,0 +1,84 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.management;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.service.CharacterService;
+import org.gycoding.heraldsofchaos.application.service.CreatureService;
+import org.gycoding.heraldsofchaos.application.service.ItemService;
+import org.gycoding.heraldsofchaos.infrastructure.api.bulk.BulkImporter;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.characters.CharacterRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.creatures.CreatureRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.items.ItemRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk.BulkReportRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.ItemControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+
+/**
+ * Reactive counterpart of {@link BulkManagementController}.
+ * <p>
+ * The body is read as it arrives through an {@link InputStream} over its buffers, so the import still holds a single
+ * batch in memory, while the blocking reads and writes run on the bounded elastic scheduler instead of the event loop.
+ */
+@RestController
+@Profile("reactive")
+@AllArgsConstructor
+public class BulkReactiveManagementController {
+    private static final int PREFETCHED_BUFFERS = 4;
+
+    private final CharacterService characterService;
+
+    private final CharacterControllerMapper characterMapper;
+
+    private final CreatureService creatureService;
+
+    private final CreatureControllerMapper creatureMapper;
+
+    private final ItemService itemService;
+
+    private final ItemControllerMapper itemMapper;
+
+    private final BulkImporter importer;
+
+    @PostMapping(value = "/characters/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Mono<ResponseEntity<BulkReportRSDTO>> saveCharacters(@RequestBody Flux<DataBuffer> characters) {
+        return save(characters, body -> importer.save(body, CharacterRQDTO.class, characterMapper::toIDTO, characterService::saveAll));
+    }
+
+    @PostMapping(value = "/creatures/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Mono<ResponseEntity<BulkReportRSDTO>> saveCreatures(@RequestBody Flux<DataBuffer> creatures) {
+        return save(creatures, body -> importer.save(body, CreatureRQDTO.class, creatureMapper::toIDTO, creatureService::saveAll));
+    }
+
+    @PostMapping(value = "/items/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Mono<ResponseEntity<BulkReportRSDTO>> saveItems(@RequestBody Flux<DataBuffer> items) {
+        return save(items, body -> importer.save(body, ItemRQDTO.class, itemMapper::toIDTO, itemService::saveAll));
+    }
+
+    private static Mono<ResponseEntity<BulkReportRSDTO>> save(Flux<DataBuffer> buffers, BulkSave save) {
+        return Mono.fromCallable(() -> {
+                    try (final var body = DataBufferUtils.subscriberInputStream(buffers, PREFETCHED_BUFFERS)) {
+                        return ResponseEntity.ok(save.save(body));
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @FunctionalInterface
+    private interface BulkSave {
+        BulkReportRSDTO save(InputStream body) throws QuasarException;
+    }
+}
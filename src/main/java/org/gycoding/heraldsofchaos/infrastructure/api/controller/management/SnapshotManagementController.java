@@ -0,0 +1,46 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.management;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.service.SnapshotService;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/snapshot")
+@Profile("!reactive")
+@AllArgsConstructor
+public class SnapshotManagementController {
+    public static final String FILE_NAME = "heraldsofchaos.snapshot";
+
+    private final SnapshotService service;
+
+    @GetMapping(value = "", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(FILE_NAME).build().toString())
+                .body(output -> {
+                    try {
+                        service.export(output);
+                    } catch (ServiceException e) {
+                        // Headers are already committed by now, so the only way left to fail is aborting the body.
+                        throw new IOException(e.getMessage(), e);
+                    }
+                });
+    }
+
+    @PostMapping(value = "", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> restore(InputStream snapshot) throws QuasarException {
+        return ResponseEntity.ok(service.restore(snapshot));
+    }
+}
@@ -0,0 +1,12 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk;
+
+import lombok.Builder;
+
+@Builder
+public record BulkItemRSDTO(
+        int index,
+        String identifier,
+        String status,
+        String error,
+        String message
+) { }
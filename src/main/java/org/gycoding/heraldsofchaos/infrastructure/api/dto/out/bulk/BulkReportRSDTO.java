@@ -0,0 +1,13 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BulkReportRSDTO(
+        int total,
+        int saved,
+        int failed,
+        List<BulkItemRSDTO> items
+) { }
@@ -0,0 +1,10 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search;
+
+import lombok.Builder;
+
+@Builder
+public record CompletionRSDTO(
+        String type,
+        String identifier,
+        String name
+) { }
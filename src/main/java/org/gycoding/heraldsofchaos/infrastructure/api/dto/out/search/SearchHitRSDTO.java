@@ -0,0 +1,11 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search;
+
+import lombok.Builder;
+
+@Builder
+public record SearchHitRSDTO(
+        String type,
+        String identifier,
+        String name,
+        double score
+) { }
@@ -0,0 +1,22 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.mapper;
+
+import org.gycoding.heraldsofchaos.application.dto.out.CompletionODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.FuzzyMatchODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.SearchHitODTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search.CompletionRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search.FuzzyMatchRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search.SearchHitRSDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface SearchControllerMapper {
+    @Mapping(target = "type", expression = "java(hit.type().name().toLowerCase())")
+    SearchHitRSDTO toRSDTO(SearchHitODTO hit);
+
+    @Mapping(target = "type", expression = "java(completion.type().name().toLowerCase())")
+    CompletionRSDTO toRSDTO(CompletionODTO completion);
+
+    @Mapping(target = "type", expression = "java(match.type().name().toLowerCase())")
+    FuzzyMatchRSDTO toRSDTO(FuzzyMatchODTO match);
+}
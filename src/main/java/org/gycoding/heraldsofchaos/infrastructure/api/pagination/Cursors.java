@@ -0,0 +1,52 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.pagination;
+
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation tokens of the keyset mode of the {@code /page} endpoints.
+ * <p>
+ * A token wraps the identifier of the last element of a window; an empty token starts from the beginning.
+ */
+public class Cursors {
+    private static final String PREFIX = "k1:";
+
+    public static String encode(String identifier) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((PREFIX + identifier).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String cursor) throws ServiceException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        final String decoded;
+
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ServiceException(HeraldsOfChaosError.INVALID_CURSOR);
+        }
+
+        if (!decoded.startsWith(PREFIX) || decoded.length() == PREFIX.length()) {
+            throw new ServiceException(HeraldsOfChaosError.INVALID_CURSOR);
+        }
+
+        return decoded.substring(PREFIX.length());
+    }
+
+    public static String next(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+
+        final var position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+
+        return encode(String.valueOf(position.getKeys().get("identifier")));
+    }
+}
@@ -0,0 +1,62 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.pagination;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds {@code /page} responses: the body is always the plain list of elements, while paging state travels in
+ * headers so both offset and cursor modes keep the same body shape.
+ */
+public class PagedResponses {
+    public static final String HAS_NEXT_HEADER = "X-Has-Next";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    public static <T> ResponseEntity<List<T>> of(Slice<T> slice, Long total) {
+        return builder(slice.hasNext(), total).body(slice.getContent());
+    }
+
+    public static <T> ResponseEntity<List<T>> of(Window<T> window, Long total) {
+        final var response = builder(window.hasNext(), total);
+        final var next = Cursors.next(window);
+
+        if (next != null) {
+            response.header(NEXT_CURSOR_HEADER, next);
+        }
+
+        return response.body(window.getContent());
+    }
+
+    /**
+     * Reactive variant of {@link #of(Slice, Long)}, adding the total only when {@code total} emits one.
+     */
+    public static <T> Mono<ResponseEntity<List<T>>> slice(Mono<Slice<T>> slice, Mono<Long> total) {
+        return total(total).zipWith(slice, (count, content) -> of(content, count.orElse(null)));
+    }
+
+    /**
+     * Reactive variant of {@link #of(Window, Long)}, adding the total only when {@code total} emits one.
+     */
+    public static <T> Mono<ResponseEntity<List<T>>> window(Mono<Window<T>> window, Mono<Long> total) {
+        return total(total).zipWith(window, (count, content) -> of(content, count.orElse(null)));
+    }
+
+    private static Mono<Optional<Long>> total(Mono<Long> total) {
+        return total.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+
+    private static ResponseEntity.BodyBuilder builder(boolean hasNext, Long total) {
+        final var response = ResponseEntity.ok().header(HAS_NEXT_HEADER, String.valueOf(hasNext));
+
+        if (total != null) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(total));
+        }
+
+        return response;
+    }
+}
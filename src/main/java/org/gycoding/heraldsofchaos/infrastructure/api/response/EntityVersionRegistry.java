@@ -0,0 +1,85 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Version counters behind the strong ETags of the data endpoints.
+ * <p>
+ * Every write published by the services bumps the collection counter of each affected type and the entity counter
+ * of the written identifier. Entity tags also carry the collection counters of the types embedded in the entity, so
+ * a place write changes the tag of every world. Writes without an identifier, such as those another replica reports
+ * through collection versions or deletes seen on a change stream, bump the epoch of their type instead, which is part
+ * of every entity tag of that type. Counters live in memory, so tags are prefixed with a per-process boot id to never
+ * match a tag issued before a restart.
+ * <p>
+ * Entity counters are kept for a bounded number of identifiers per type. Evicting one also bumps the epoch of its
+ * type, as its counter restarts from zero and would otherwise repeat a tag issued before.
+ */
+@Component
+public class EntityVersionRegistry {
+    private static final long MAXIMUM_ENTITIES = 10_000;
+
+    private final String bootId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final Map<EntityType, AtomicLong> collections = new EnumMap<>(EntityType.class);
+
+    private final Map<EntityType, AtomicLong> epochs = new EnumMap<>(EntityType.class);
+
+    private final Map<EntityType, Cache<String, AtomicLong>> entities = new EnumMap<>(EntityType.class);
+
+    public EntityVersionRegistry() {
+        this(MAXIMUM_ENTITIES);
+    }
+
+    EntityVersionRegistry(long maximumEntities) {
+        Arrays.stream(EntityType.values()).forEach(type -> {
+            final var epoch = new AtomicLong();
+
+            collections.put(type, new AtomicLong());
+            epochs.put(type, epoch);
+            entities.put(type, Caffeine.newBuilder()
+                    .maximumSize(maximumEntities)
+                    .executor(Runnable::run)
+                    .evictionListener((String identifier, AtomicLong version, RemovalCause cause) -> epoch.incrementAndGet())
+                    .build());
+        });
+    }
+
+    public String collectionTag(EntityType type) {
+        return String.format("%s-%s-%d", bootId, type, collections.get(type).get());
+    }
+
+    public String entityTag(EntityType type, String identifier) {
+        final var entity = entities.get(type).getIfPresent(identifier);
+        final var embedded = Arrays.stream(EntityType.values())
+                .filter(source -> source != type && source.affected().contains(type))
+                .map(source -> String.valueOf(collections.get(source).get()))
+                .collect(Collectors.joining("."));
+
+        return String.format("%s-%s-%d.%d-%s", bootId, type, epochs.get(type).get(), entity != null ? entity.get() : 0L, embedded);
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.identifier() != null) {
+            entities.get(event.type()).get(event.identifier(), ignored -> new AtomicLong()).incrementAndGet();
+        } else {
+            epochs.get(event.type()).incrementAndGet();
+        }
+
+        event.type().affected().forEach(type -> collections.get(type).incrementAndGet());
+    }
+}
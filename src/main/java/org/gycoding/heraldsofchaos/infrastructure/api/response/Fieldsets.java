@@ -0,0 +1,92 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets of the {@code fields} request parameter, e.g. {@code ?fields=identifier,name,image}.
+ * <p>
+ * Requested fields are checked against the components of the response record before anything is read, and the
+ * response then only serialises those fields. Without {@code fields} every field is returned as the record itself.
+ */
+public class Fieldsets {
+    private static final Map<Class<?>, Set<String>> FIELDS = new ConcurrentHashMap<>();
+
+    public static Fieldset parse(List<String> fields, Class<? extends Record> response) throws ServiceException {
+        if (fields == null) {
+            return Fieldset.ALL;
+        }
+
+        final var requested = fields.stream()
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (!FIELDS.computeIfAbsent(response, Fieldsets::components).containsAll(requested)) {
+            throw new ServiceException(HeraldsOfChaosError.INVALID_FIELDS);
+        }
+
+        return Fieldset.of(requested);
+    }
+
+    /**
+     * The {@code response} itself when every field is requested, otherwise its requested fields in declaration order.
+     */
+    public static Object retain(Record response, Fieldset fields) {
+        if (fields.isAll()) {
+            return response;
+        }
+
+        final var retained = new LinkedHashMap<String, Object>();
+
+        for (final var component : response.getClass().getRecordComponents()) {
+            if (fields.includes(component.getName())) {
+                retained.put(component.getName(), value(response, component));
+            }
+        }
+
+        return retained;
+    }
+
+    public static Map<String, Object> retain(Map<String, Object> response, Fieldset fields) {
+        if (fields.isAll()) {
+            return response;
+        }
+
+        final var retained = new LinkedHashMap<String, Object>();
+
+        response.forEach((field, value) -> {
+            if (fields.includes(field)) {
+                retained.put(field, value);
+            }
+        });
+
+        return retained;
+    }
+
+    private static Set<String> components(Class<?> response) {
+        return Arrays.stream(response.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static Object value(Record response, RecordComponent component) {
+        try {
+            return component.getAccessor().invoke(response);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Materialised {@code /list} responses, kept as the final JSON bytes per entity type and language.
+ * <p>
+ * Every write published by the services drops the responses of the affected types, which are rebuilt by the next
+ * request for each language. Invalidation swaps the whole per-type map, so a rebuild that read the collection before
+ * the write finishes into the discarded map instead of publishing stale bytes.
+ */
+@Component
+@AllArgsConstructor
+public class ListResponseStore {
+    private final ObjectMapper objectMapper;
+
+    private final Map<EntityType, Map<String, byte[]>> responses = new ConcurrentHashMap<>();
+
+    public byte[] get(EntityType type, String language, Body body) throws QuasarException {
+        final var normalizedLanguage = normalize(language);
+        final var languages = responses.computeIfAbsent(type, ignored -> new ConcurrentHashMap<>());
+        final var response = languages.get(normalizedLanguage);
+
+        if (response != null) {
+            return response;
+        }
+
+        final var serialized = serialize(body.get(normalizedLanguage));
+        final var previous = languages.putIfAbsent(normalizedLanguage, serialized);
+
+        return previous != null ? previous : serialized;
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        event.type().affected().forEach(type -> responses.put(type, new ConcurrentHashMap<>()));
+    }
+
+    private static String normalize(String language) {
+        return TranslatedString.ES.equals(language) ? TranslatedString.ES : TranslatedString.EN;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize list response.", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Body {
+        Object get(String language) throws QuasarException;
+    }
+}
@@ -0,0 +1,55 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Writes {@code application/x-ndjson} responses one element per line straight from a cursor-backed stream.
+ * <p>
+ * Every element is serialised and flushed as soon as the cursor yields it, so neither the collection nor the response
+ * is ever held in memory. The cursor is only advanced once the previous line has been written, which blocks while the
+ * client is not reading and thus applies its backpressure all the way to Mongo. The stream is closed, releasing the
+ * cursor, when the body is complete or the client goes away.
+ */
+@Component
+@AllArgsConstructor
+public class NdjsonResponses {
+    private static final String TAG_SUFFIX = "-ndjson";
+
+    private final ObjectMapper objectMapper;
+
+    public ResponseEntity<StreamingResponseBody> of(Stream<?> elements) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(output -> write(elements, output));
+    }
+
+    /**
+     * Strong ETags identify a single representation, so the NDJSON one gets its own tag.
+     */
+    public static String tag(String tag) {
+        return tag + TAG_SUFFIX;
+    }
+
+    void write(Stream<?> elements, OutputStream output) throws IOException {
+        try (elements) {
+            final var iterator = elements.iterator();
+
+            while (iterator.hasNext()) {
+                output.write(objectMapper.writeValueAsBytes(iterator.next()));
+                output.write('\n');
+                output.flush();
+            }
+        }
+    }
+}
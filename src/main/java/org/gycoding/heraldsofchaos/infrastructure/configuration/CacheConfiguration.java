@@ -0,0 +1,21 @@
+package org.gycoding.heraldsofchaos.infrastructure.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-through caches of domain models, keyed by identifier.
+ * <p>
+ * Caches are backed by Caffeine (W-TinyLFU eviction) and configured through {@code spring.cache.*}, which also
+ * registers their hit, miss and eviction metrics on actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+    public static final String CHARACTERS = "characters";
+    public static final String CREATURES = "creatures";
+    public static final String ITEMS = "items";
+    public static final String PLACES = "places";
+    public static final String WORLDS = "worlds";
+    public static final String COUNTS = "counts";
+}
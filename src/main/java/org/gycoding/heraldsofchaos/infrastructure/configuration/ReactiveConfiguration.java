@@ -0,0 +1,33 @@
+package org.gycoding.heraldsofchaos.infrastructure.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive stack of the data API, enabled by the {@code reactive} profile.
+ * <p>
+ * The profile runs WebFlux on Netty and replaces the servlet data controllers by non-blocking ones reading through
+ * the reactive Mongo driver, so bursts of reads wait on Mongo instead of holding a request thread each. Management
+ * endpoints keep using the blocking services, which publish the events the reactive stack relies on as well, and
+ * search and autocomplete are shared with the servlet stack since they only read in-memory indexes. Both are run on
+ * the bounded elastic scheduler so they never block the Netty event loop.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfiguration implements WebFluxConfigurer {
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(new TaskExecutorAdapter(Schedulers.boundedElastic()::schedule));
+    }
+}
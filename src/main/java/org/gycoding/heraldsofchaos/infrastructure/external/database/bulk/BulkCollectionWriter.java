@@ -0,0 +1,55 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.bulk;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Inserts batches of entities with a single unordered {@code bulkWrite}.
+ * <p>
+ * Being unordered, Mongo keeps inserting past a failing document, so one duplicate does not discard the rest of the
+ * batch; the write errors reported back by index are turned into a result per entity.
+ */
+@Component
+@AllArgsConstructor
+public class BulkCollectionWriter {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public <T> List<BulkResultMO> insert(
+            Class<T> type,
+            List<T> entities,
+            Function<T, String> identifier,
+            HeraldsOfChaosError duplicate,
+            HeraldsOfChaosError failure
+    ) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Integer, HeraldsOfChaosError> errors = new HashMap<>();
+
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type).insert(entities).execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getCode() == DUPLICATE_KEY ? duplicate : failure));
+        }
+
+        return IntStream.range(0, entities.size())
+                .mapToObj(index -> errors.containsKey(index)
+                        ? BulkResultMO.failed(identifier.apply(entities.get(index)), errors.get(index))
+                        : BulkResultMO.written(identifier.apply(entities.get(index))))
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.filter;
+
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Builds the criteria of list and page filters, matching the fields covered by the compound indexes of each entity.
+ */
+public class FilterCriteria {
+    /**
+     * Criteria matching documents whose {@code language} variant of the translated {@code field} equals {@code value},
+     * or {@code null} when there is no value to filter on.
+     */
+    public static Criteria translated(String field, String language, String value) {
+        return value != null ? Criteria.where(LanguageProjection.field(field, language)).is(value) : null;
+    }
+
+    /**
+     * Conjunction of the non-null {@code criteria}, or the empty criteria when there are none.
+     */
+    public static Criteria all(Criteria... criteria) {
+        final var present = Arrays.stream(criteria).filter(Objects::nonNull).toList();
+
+        return switch (present.size()) {
+            case 0 -> new Criteria();
+            case 1 -> present.get(0);
+            default -> new Criteria().andOperator(present);
+        };
+    }
+}
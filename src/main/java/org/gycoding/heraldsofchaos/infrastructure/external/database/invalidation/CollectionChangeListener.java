@@ -0,0 +1,243 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.invalidation;
+
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Invalidates local state when another replica writes, so no replica serves stale entities from its caches.
+ * <p>
+ * On a replica set the entity collections and {@code _Order} are watched through a change stream, which also sees
+ * writes made outside the API. Without one, every local write bumps a per-collection counter in {@value #VERSIONS}
+ * and the counters are polled instead; this only sees writes made through the API, {@code _Order} edits included
+ * only once a write of the same type follows. {@link InvalidationMode#AUTO} picks the change stream whenever the
+ * server reports a replica set.
+ */
+@Component
+public class CollectionChangeListener implements SmartLifecycle {
+    public static final String VERSIONS = "_Version";
+    public static final String ORDER = "_Order";
+
+    private static final String VERSION = "version";
+
+    private final MongoTemplate mongoTemplate;
+    private final LocalStateInvalidator invalidator;
+    private final InvalidationMode configuredMode;
+    private final Duration interval;
+
+    private final Map<EntityType, Long> seen = new ConcurrentHashMap<>();
+
+    private volatile InvalidationMode mode = InvalidationMode.NONE;
+    private volatile boolean running = false;
+
+    private Thread watcher;
+    private ScheduledExecutorService poller;
+
+    public CollectionChangeListener(
+            MongoTemplate mongoTemplate,
+            LocalStateInvalidator invalidator,
+            @Value("${heraldsofchaos.invalidation.mode:AUTO}") InvalidationMode mode,
+            @Value("${heraldsofchaos.invalidation.poll-interval:2s}") Duration interval
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.invalidator = invalidator;
+        this.configuredMode = mode;
+        this.interval = interval;
+    }
+
+    @Override
+    public synchronized void start() {
+        mode = configuredMode == InvalidationMode.AUTO ? detectMode() : configuredMode;
+        running = true;
+
+        switch (mode) {
+            case CHANGE_STREAM -> {
+                watcher = daemon(this::watch, "collection-changes");
+                watcher.start();
+            }
+            case POLLING -> {
+                poller = Executors.newSingleThreadScheduledExecutor(task -> daemon(task, "collection-versions"));
+                poller.scheduleWithFixedDelay(this::poll, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            default -> { }
+        }
+
+        Logger.info("Cross-replica invalidation started.", mode.toString());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        if (watcher != null) {
+            watcher.interrupt();
+            watcher = null;
+        }
+
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Bumps the version of the written collection while polling, skipping our own bump on the next poll when no
+     * other replica wrote in between.
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.remote() || mode != InvalidationMode.POLLING) {
+            return;
+        }
+
+        try {
+            final var version = mongoTemplate.getCollection(VERSIONS).findOneAndUpdate(
+                    Filters.eq("_id", LocalStateInvalidator.COLLECTIONS.get(event.type())),
+                    Updates.inc(VERSION, 1L),
+                    new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER)
+            );
+
+            final var current = version.get(VERSION, Number.class).longValue();
+
+            seen.compute(event.type(), (type, previous) -> previous != null && previous == current - 1 ? current : previous);
+        } catch (Exception e) {
+            Logger.error(String.format("Version of %s could not be bumped.", event.type()), e.getMessage());
+        }
+    }
+
+    void watch() {
+        var reconnecting = false;
+
+        while (running) {
+            try (final var changes = mongoTemplate.getDb()
+                    .watch(List.of(
+                            Aggregates.match(Filters.in("ns.coll", watched())),
+                            Aggregates.project(Projections.include("operationType", "ns", "documentKey", "fullDocument.identifier", "fullDocument.collection"))
+                    ))
+                    .fullDocument(FullDocument.UPDATE_LOOKUP)
+                    .maxAwaitTime(1, TimeUnit.SECONDS)
+                    .cursor()) {
+                if (reconnecting) {
+                    // Writes made while the stream was down were missed.
+                    invalidator.invalidateAll();
+                    reconnecting = false;
+                }
+
+                while (running) {
+                    final var change = changes.tryNext();
+
+                    if (change != null && change.getNamespace() != null) {
+                        onChange(change.getNamespace().getCollectionName(), change.getFullDocument());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+
+                Logger.error("Change stream interrupted, reconnecting.", e.getMessage());
+
+                reconnecting = true;
+
+                try {
+                    Thread.sleep(interval.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param document written document, {@code null} for deletes, which invalidate the whole collection
+     */
+    void onChange(String collection, Document document) {
+        if (ORDER.equals(collection)) {
+            final var ordered = document != null ? LocalStateInvalidator.type(document.getString("collection")) : Optional.<EntityType>empty();
+
+            if (ordered.isPresent()) {
+                invalidator.invalidate(ordered.get(), null);
+            } else {
+                invalidator.invalidateAll();
+            }
+
+            return;
+        }
+
+        LocalStateInvalidator.type(collection).ifPresent(type ->
+                invalidator.invalidate(type, document != null ? document.getString("identifier") : null)
+        );
+    }
+
+    void poll() {
+        try {
+            final var versions = mongoTemplate.getCollection(VERSIONS).find().into(new ArrayList<>());
+
+            for (final var version : versions) {
+                LocalStateInvalidator.type(version.getString("_id")).ifPresent(type -> {
+                    final var current = version.get(VERSION, Number.class).longValue();
+                    final var previous = seen.put(type, current);
+
+                    if (previous == null || previous != current) {
+                        invalidator.invalidate(type, null);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            Logger.error("Collection versions could not be polled.", e.getMessage());
+        }
+    }
+
+    private InvalidationMode detectMode() {
+        try {
+            final var hello = mongoTemplate.getDb().runCommand(new Document("hello", 1));
+
+            return hello.containsKey("setName") ? InvalidationMode.CHANGE_STREAM : InvalidationMode.POLLING;
+        } catch (Exception e) {
+            Logger.error("Replica set could not be detected, polling collection versions.", e.getMessage());
+
+            return InvalidationMode.POLLING;
+        }
+    }
+
+    private static Thread daemon(Runnable task, String name) {
+        final var thread = new Thread(task, name);
+
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
+    private static List<String> watched() {
+        return Stream.concat(LocalStateInvalidator.COLLECTIONS.values().stream(), Stream.of(ORDER)).toList();
+    }
+}
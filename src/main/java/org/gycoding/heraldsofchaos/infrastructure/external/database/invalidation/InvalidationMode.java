@@ -0,0 +1,8 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.invalidation;
+
+public enum InvalidationMode {
+    AUTO,
+    CHANGE_STREAM,
+    POLLING,
+    NONE
+}
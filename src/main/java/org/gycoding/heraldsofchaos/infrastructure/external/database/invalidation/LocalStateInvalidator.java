@@ -0,0 +1,83 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.invalidation;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Drops the local state derived from a collection that was written by another replica.
+ * <p>
+ * The entity caches are evicted like the local repositories evict them on writes, and a remote
+ * {@link EntityChangedEvent} takes care of everything else listening for writes (ETags, list responses and the
+ * in-memory read model).
+ */
+@Component
+@AllArgsConstructor
+public class LocalStateInvalidator {
+    public static final Map<EntityType, String> COLLECTIONS = Map.of(
+            EntityType.CHARACTER, "Character",
+            EntityType.CREATURE, "Creature",
+            EntityType.ITEM, "Item",
+            EntityType.PLACE, "Place",
+            EntityType.WORLD, "World"
+    );
+
+    private static final Map<EntityType, String> CACHES = Map.of(
+            EntityType.CHARACTER, CacheConfiguration.CHARACTERS,
+            EntityType.CREATURE, CacheConfiguration.CREATURES,
+            EntityType.ITEM, CacheConfiguration.ITEMS,
+            EntityType.PLACE, CacheConfiguration.PLACES,
+            EntityType.WORLD, CacheConfiguration.WORLDS
+    );
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationEventPublisher publisher;
+
+    public static Optional<EntityType> type(String collection) {
+        return COLLECTIONS.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(collection))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    /**
+     * @param identifier entity written, or {@code null} when unknown, which invalidates the whole collection
+     */
+    public void invalidate(EntityType type, String identifier) {
+        type.affected().forEach(affected -> {
+            final var cache = cacheManager.getCache(CACHES.get(affected));
+
+            if (cache == null) {
+                return;
+            }
+
+            if (affected == type && identifier != null) {
+                cache.evict(identifier);
+            } else {
+                cache.clear();
+            }
+        });
+
+        final var counts = cacheManager.getCache(CacheConfiguration.COUNTS);
+
+        if (counts != null) {
+            counts.evict(COLLECTIONS.get(type));
+        }
+
+        publisher.publishEvent(new EntityChangedEvent(type, identifier, true));
+    }
+
+    public void invalidateAll() {
+        for (final var type : EntityType.values()) {
+            invalidate(type, null);
+        }
+    }
+}
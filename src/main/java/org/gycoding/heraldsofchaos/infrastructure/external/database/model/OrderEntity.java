@@ -2,6 +2,7 @@ package org.gycoding.heraldsofchaos.infrastructure.external.database.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.List;
 @Setter
 @Document(collection = "_Order")
 public class OrderEntity {
+    @Indexed(unique = true)
     private String collection;
     private List<String> order;
 }
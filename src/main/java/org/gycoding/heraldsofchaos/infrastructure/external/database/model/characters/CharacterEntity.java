@@ -6,15 +6,24 @@ import lombok.Setter;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Getter
 @Setter
 @Document(collection = "Character")
+@CompoundIndexes({
+        @CompoundIndex(name = "world_identifier", def = "{'world.$id': 1, 'identifier': 1}"),
+        @CompoundIndex(name = "race_en_identifier", def = "{'race.en': 1, 'identifier': 1}"),
+        @CompoundIndex(name = "race_es_identifier", def = "{'race.es': 1, 'identifier': 1}")
+})
 public class CharacterEntity {
         @Id
         public String mongoId;
+        @Indexed(unique = true)
         public String identifier;
         public TranslatedString name;
         public TranslatedString title;
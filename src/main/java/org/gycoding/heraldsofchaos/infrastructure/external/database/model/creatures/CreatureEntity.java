@@ -5,14 +5,22 @@ import lombok.Getter;
 import lombok.Setter;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Getter
 @Setter
 @Document(collection = "Creature")
+@CompoundIndexes({
+        @CompoundIndex(name = "race_en_identifier", def = "{'race.en': 1, 'identifier': 1}"),
+        @CompoundIndex(name = "race_es_identifier", def = "{'race.es': 1, 'identifier': 1}")
+})
 public class CreatureEntity {
         @Id
         public String mongoId;
+        @Indexed(unique = true)
         public String identifier;
         public TranslatedString name;
         public TranslatedString description;
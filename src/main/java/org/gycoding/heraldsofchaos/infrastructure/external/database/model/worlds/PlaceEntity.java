@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Getter
@@ -13,6 +14,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 public class PlaceEntity {
         @Id
         public String mongoId;
+        @Indexed(unique = true)
         public String identifier;
         public TranslatedString name;
         public TranslatedString description;
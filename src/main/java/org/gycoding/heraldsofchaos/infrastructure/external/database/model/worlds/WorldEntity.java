@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -16,6 +17,7 @@ import java.util.List;
 public class WorldEntity {
         @Id
         public String mongoId;
+        @Indexed(unique = true)
         public String identifier;
         public TranslatedString name;
         public TranslatedString description;
@@ -0,0 +1,35 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.ordering;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Identifier → rank lookup built once from an {@code _Order} document.
+ * <p>
+ * Identifiers that are not present in the order are ranked after every ordered one and
+ * tie-broken by identifier, so the resulting order is always deterministic.
+ */
+public record OrderIndex(List<String> order, Map<String, Integer> ranks) {
+    public static final OrderIndex EMPTY = new OrderIndex(List.of(), Map.of());
+
+    public static OrderIndex of(List<String> order) {
+        final var ranks = new HashMap<String, Integer>(order.size() * 2);
+
+        for (int rank = 0; rank < order.size(); rank++) {
+            ranks.putIfAbsent(order.get(rank), rank);
+        }
+
+        return new OrderIndex(Collections.unmodifiableList(new ArrayList<>(order)), Collections.unmodifiableMap(ranks));
+    }
+
+    public int rank(String identifier) {
+        final var rank = ranks.get(identifier);
+
+        return rank != null ? rank : order.size();
+    }
+
+    public <T> Comparator<T> comparing(Function<T, String> identifier) {
+        return Comparator.<T>comparingInt(element -> rank(identifier.apply(element)))
+                .thenComparing(identifier, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+}
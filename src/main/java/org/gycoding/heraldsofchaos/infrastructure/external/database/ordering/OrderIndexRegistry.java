@@ -0,0 +1,42 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.ordering;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.OrderEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one {@link OrderIndex} per collection, rebuilding it only when the stored {@code _Order} document changes.
+ */
+@Component
+@AllArgsConstructor
+public class OrderIndexRegistry {
+    private final OrderMongoRepository repository;
+
+    private final Map<String, OrderIndex> indexes = new ConcurrentHashMap<>();
+
+    public OrderIndex get(String collection) {
+        final List<String> order = repository.findByCollection(collection)
+                .map(OrderEntity::getOrder)
+                .orElse(List.of());
+
+        final var cached = indexes.get(collection);
+
+        if (cached != null && cached.order().equals(order)) {
+            return cached;
+        }
+
+        Logger.debug("Rebuilding order index.", collection);
+
+        final var index = order.isEmpty() ? OrderIndex.EMPTY : OrderIndex.of(order);
+
+        indexes.put(collection, index);
+
+        return index;
+    }
+}
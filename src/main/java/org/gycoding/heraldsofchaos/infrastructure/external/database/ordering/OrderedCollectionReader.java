@@ -0,0 +1,129 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.ordering;
+
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads whole collections following the order stored in {@code _Order}.
+ * <p>
+ * In {@link OrderingMode#DATABASE} mode the collection is joined against {@code _Order} inside an aggregation
+ * pipeline and sorted by Mongo, so documents reach the JVM already in order. In {@link OrderingMode#MEMORY} mode
+ * the documents are fetched unsorted and ordered through the cached {@link OrderIndex}.
+ */
+@Component
+public class OrderedCollectionReader {
+    private static final String ORDER_COLLECTION = "_Order";
+
+    private static final String ORDER_FIELD = "_order";
+    private static final String RANK_FIELD = "_rank";
+
+    private final MongoTemplate mongoTemplate;
+    private final OrderIndexRegistry orderRegistry;
+    private final OrderingMode mode;
+
+    public OrderedCollectionReader(
+            MongoTemplate mongoTemplate,
+            OrderIndexRegistry orderRegistry,
+            @Value("${heraldsofchaos.ordering.mode:MEMORY}") OrderingMode mode
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.orderRegistry = orderRegistry;
+        this.mode = mode;
+    }
+
+    public <T> List<T> list(String collection, Class<T> type, Function<T, String> identifier) {
+        return list(collection, type, identifier, new Criteria());
+    }
+
+    public <T> List<T> list(String collection, Class<T> type, Function<T, String> identifier, Criteria criteria) {
+        return list(collection, type, identifier, criteria, List.of());
+    }
+
+    /**
+     * Reads the collection in order leaving out the {@code excluded} fields, e.g. those of a
+     * {@link org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection}.
+     */
+    public <T> List<T> list(String collection, Class<T> type, Function<T, String> identifier, Criteria criteria, List<String> excluded) {
+        if (mode == OrderingMode.DATABASE) {
+            return mongoTemplate.aggregate(orderedAggregation(collection, criteria, excluded), collection, type).getMappedResults();
+        }
+
+        final var order = orderRegistry.get(collection);
+
+        return mongoTemplate.find(LanguageProjection.apply(Query.query(criteria), excluded), type, collection).stream()
+                .sorted(order.comparing(identifier))
+                .toList();
+    }
+
+    /**
+     * Streams the collection in order through a server-side cursor. Sorting always happens in Mongo here, since
+     * ordering in memory would require materialising the whole collection first.
+     * The returned stream holds an open cursor and must be closed by the caller.
+     */
+    public <T> Stream<T> stream(String collection, Class<T> type, Criteria criteria) {
+        return stream(collection, type, criteria, List.of());
+    }
+
+    /**
+     * Streams the collection in order leaving out the {@code excluded} fields, see {@link #stream(String, Class, Criteria)}.
+     */
+    public <T> Stream<T> stream(String collection, Class<T> type, Criteria criteria, List<String> excluded) {
+        return mongoTemplate.aggregateStream(orderedAggregation(collection, criteria, excluded), collection, type);
+    }
+
+    /**
+     * Pipeline joining the collection against {@code _Order} and sorting it by rank, then by identifier.
+     */
+    public static Aggregation orderedAggregation(String collection, Criteria criteria, List<String> excluded) {
+        final var lookup = new Document("from", ORDER_COLLECTION)
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("collection", collection)),
+                        new Document("$project", new Document("_id", 0).append("order", 1))
+                ))
+                .append("as", ORDER_FIELD);
+
+        final var order = new Document("$ifNull", List.of(
+                new Document("$arrayElemAt", List.of("$" + ORDER_FIELD + ".order", 0)),
+                List.of()
+        ));
+
+        final var rank = new Document("$let", new Document("vars", new Document("rank", new Document("$indexOfArray", List.of(order, "$identifier"))))
+                .append("in", new Document("$cond", List.of(
+                        new Document("$lt", List.of("$$rank", 0)),
+                        Integer.MAX_VALUE,
+                        "$$rank"
+                ))));
+
+        final var stages = new ArrayList<AggregationOperation>();
+
+        stages.add(Aggregation.match(criteria));
+
+        if (!excluded.isEmpty()) {
+            stages.add(stage(new Document("$project", new Document(excluded.stream().collect(Collectors.toMap(field -> field, field -> (Object) 0))))));
+        }
+
+        stages.add(stage(new Document("$lookup", lookup)));
+        stages.add(stage(new Document("$addFields", new Document(RANK_FIELD, rank))));
+        stages.add(stage(new Document("$sort", new Document(RANK_FIELD, 1).append("identifier", 1))));
+        stages.add(stage(new Document("$project", new Document(ORDER_FIELD, 0).append(RANK_FIELD, 0))));
+
+        return Aggregation.newAggregation(stages);
+    }
+
+    private static AggregationOperation stage(Document stage) {
+        return context -> stage;
+    }
+}
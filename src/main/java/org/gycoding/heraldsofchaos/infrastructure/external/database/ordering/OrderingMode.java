@@ -0,0 +1,6 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.ordering;
+
+public enum OrderingMode {
+    MEMORY,
+    DATABASE
+}
@@ -0,0 +1,61 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.pagination;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads collections in windows ordered by {@code identifier}, continuing after the last identifier read.
+ * <p>
+ * Unlike skip/limit paging, every window is a range scan over the unique {@code identifier} index, so its cost does
+ * not grow with the depth of the window and writes between requests never shift or repeat documents.
+ */
+@Component
+@AllArgsConstructor
+public class KeysetCollectionReader {
+    public static final String KEY = "identifier";
+
+    private final MongoTemplate mongoTemplate;
+
+    public <T> Window<T> scroll(String collection, Class<T> type, Function<T, String> identifier, String after, int size, List<String> excluded) {
+        return scroll(collection, type, identifier, after, size, new Criteria(), excluded);
+    }
+
+    public <T> Window<T> scroll(
+            String collection,
+            Class<T> type,
+            Function<T, String> identifier,
+            String after,
+            int size,
+            Criteria criteria,
+            List<String> excluded
+    ) {
+        return toWindow(mongoTemplate.find(query(after, size, criteria, excluded), type, collection), identifier, size);
+    }
+
+    /**
+     * Query for the window after {@code after}, reading one extra document to detect whether another window follows.
+     */
+    public static Query query(String after, int size, Criteria criteria, List<String> excluded) {
+        return LanguageProjection.apply(Query.query(after != null ? new Criteria().andOperator(criteria, Criteria.where(KEY).gt(after)) : criteria), excluded)
+                .with(Sort.by(KEY))
+                .limit(size + 1);
+    }
+
+    public static <T> Window<T> toWindow(List<T> documents, Function<T, String> identifier, int size) {
+        final var hasNext = documents.size() > size;
+        final var content = hasNext ? documents.subList(0, size) : documents;
+
+        return Window.from(content, index -> ScrollPosition.forward(Map.of(KEY, identifier.apply(content.get(index)))), hasNext);
+    }
+}
@@ -0,0 +1,53 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.pagination;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reads offset pages as {@link Slice}s, fetching one extra document to know whether a next page exists instead of
+ * counting the whole collection.
+ */
+@Component
+@AllArgsConstructor
+public class SliceCollectionReader {
+    private final MongoTemplate mongoTemplate;
+
+    public <T> Slice<T> slice(String collection, Class<T> type, Pageable pageable, List<String> excluded) {
+        return slice(collection, type, pageable, new Criteria(), excluded);
+    }
+
+    public <T> Slice<T> slice(String collection, Class<T> type, Pageable pageable, Criteria criteria, List<String> excluded) {
+        return toSlice(mongoTemplate.find(query(pageable, criteria, excluded), type, collection), pageable);
+    }
+
+    /**
+     * Number of documents matching {@code criteria}, for filtered pages whose total is not the cached collection count.
+     */
+    public long count(String collection, Criteria criteria) {
+        return mongoTemplate.count(Query.query(criteria), collection);
+    }
+
+    public static Query query(Pageable pageable, List<String> excluded) {
+        return query(pageable, new Criteria(), excluded);
+    }
+
+    public static Query query(Pageable pageable, Criteria criteria, List<String> excluded) {
+        return LanguageProjection.apply(Query.query(criteria).with(pageable), excluded)
+                .limit(pageable.getPageSize() + 1);
+    }
+
+    public static <T> Slice<T> toSlice(List<T> documents, Pageable pageable) {
+        final var hasNext = documents.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? documents.subList(0, pageable.getPageSize()) : documents, pageable, hasNext);
+    }
+}
@@ -0,0 +1,79 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.projection;
+
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Field projections that keep a single language of every {@link TranslatedString} of an entity.
+ * <p>
+ * Reads for a given language only ever translate into that language, so the other one is excluded in Mongo
+ * (e.g. {@code name.es} and {@code description.es} for English) instead of being decoded and discarded. Languages
+ * are resolved like {@link TranslatedString#get(String)}, falling back to English. Reads of a sparse {@link Fieldset}
+ * also exclude every unrequested field, always keeping the {@code _id} and {@code identifier} that references and
+ * keyset positions rely on.
+ */
+public class LanguageProjection {
+    private static final String IDENTIFIER = "identifier";
+
+    private static final Map<Class<?>, List<String>> TRANSLATED_FIELDS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, List<String>> FIELDS = new ConcurrentHashMap<>();
+
+    public static List<String> excluded(Class<?> entity, String language) {
+        final var discarded = TranslatedString.ES.equals(language) ? TranslatedString.EN : TranslatedString.ES;
+
+        return TRANSLATED_FIELDS.computeIfAbsent(entity, LanguageProjection::translatedFields).stream()
+                .map(field -> field + "." + discarded)
+                .toList();
+    }
+
+    public static List<String> excluded(Class<?> entity, String language, Fieldset fields) {
+        if (fields.isAll()) {
+            return excluded(entity, language);
+        }
+
+        final var unrequested = FIELDS.computeIfAbsent(entity, LanguageProjection::fields).stream()
+                .filter(field -> !fields.includes(field));
+        final var discarded = excluded(entity, language).stream()
+                .filter(path -> fields.includes(path.substring(0, path.indexOf('.'))));
+
+        return Stream.concat(unrequested, discarded).toList();
+    }
+
+    /**
+     * Path of the {@code language} variant of a translated field, e.g. {@code race.en}, to filter on.
+     */
+    public static String field(String field, String language) {
+        return field + "." + (TranslatedString.ES.equals(language) ? TranslatedString.ES : TranslatedString.EN);
+    }
+
+    public static Query apply(Query query, List<String> excluded) {
+        excluded.forEach(query.fields()::exclude);
+
+        return query;
+    }
+
+    private static List<String> fields(Class<?> entity) {
+        return Arrays.stream(entity.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(Id.class))
+                .map(Field::getName)
+                .filter(field -> !IDENTIFIER.equals(field))
+                .toList();
+    }
+
+    private static List<String> translatedFields(Class<?> entity) {
+        return Arrays.stream(entity.getDeclaredFields())
+                .filter(field -> field.getType() == TranslatedString.class)
+                .map(Field::getName)
+                .toList();
+    }
+}
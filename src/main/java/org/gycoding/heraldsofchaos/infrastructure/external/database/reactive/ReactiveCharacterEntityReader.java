@@ -0,0 +1,105 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reactive;
+
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.characters.CharacterEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.CharacterEntityReader;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link CharacterEntityReader}.
+ * <p>
+ * The reactive driver does not resolve DBRefs, so characters are read as raw documents and the identifiers of the
+ * worlds of every batch are loaded with a single projected {@code $in} query.
+ */
+@Component
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveCharacterEntityReader {
+    private static final int BATCH_SIZE = 100;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReactiveCollectionReader reader;
+    private final CharacterEntityReader characterReader;
+
+    public Mono<CharacterEntity> findByIdentifier(String identifier) {
+        return reader.findByIdentifier(CharacterEntityReader.COLLECTION, Document.class, identifier)
+                .flatMap(character -> resolve(List.of(character)))
+                .map(characters -> characters.get(0));
+    }
+
+    public Flux<CharacterEntity> list(Criteria criteria, String language, Fieldset fields) {
+        return reader.list(CharacterEntityReader.COLLECTION, Document.class, criteria, LanguageProjection.excluded(CharacterEntity.class, language, fields))
+                .buffer(BATCH_SIZE)
+                .concatMap(this::resolve)
+                .flatMapIterable(characters -> characters);
+    }
+
+    public Mono<Slice<CharacterEntity>> slice(Pageable pageable, Criteria criteria, String language, Fieldset fields) {
+        return reader.slice(CharacterEntityReader.COLLECTION, Document.class, pageable, criteria, LanguageProjection.excluded(CharacterEntity.class, language, fields))
+                .flatMap(characters -> resolve(characters.getContent())
+                        .map(entities -> new SliceImpl<>(entities, pageable, characters.hasNext())));
+    }
+
+    public Mono<Window<CharacterEntity>> scroll(String after, int size, Criteria criteria, String language, Fieldset fields) {
+        return reader.scroll(
+                        CharacterEntityReader.COLLECTION,
+                        Document.class,
+                        character -> character.getString("identifier"),
+                        after,
+                        size,
+                        criteria,
+                        LanguageProjection.excluded(CharacterEntity.class, language, fields)
+                )
+                .flatMap(characters -> resolve(characters.getContent())
+                        .map(entities -> Window.from(entities, characters::positionAt, characters.hasNext())));
+    }
+
+    public Mono<Long> count() {
+        return reader.count(CharacterEntityReader.COLLECTION);
+    }
+
+    public Mono<Long> count(Criteria criteria) {
+        return reader.count(CharacterEntityReader.COLLECTION, criteria);
+    }
+
+    /**
+     * The {@code _id} of the world of identifier {@code world}, none when there is no such world.
+     */
+    public Flux<String> findWorldIds(String world) {
+        final var query = Query.query(Criteria.where("identifier").is(world));
+
+        query.fields().include("identifier");
+
+        return mongoTemplate.find(query, WorldEntity.class)
+                .map(WorldEntity::getMongoId);
+    }
+
+    private Mono<List<CharacterEntity>> resolve(List<Document> characters) {
+        final var worldIds = CharacterEntityReader.worldIds(characters);
+
+        if (worldIds.isEmpty()) {
+            return Mono.just(characterReader.stitch(characters, Map.of()));
+        }
+
+        return mongoTemplate.find(CharacterEntityReader.worldsQuery(worldIds), WorldEntity.class)
+                .collectMap(WorldEntity::getMongoId)
+                .map(worlds -> characterReader.stitch(characters, worlds));
+    }
+}
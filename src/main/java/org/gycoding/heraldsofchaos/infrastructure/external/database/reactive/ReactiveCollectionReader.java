@@ -0,0 +1,81 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reactive;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link OrderedCollectionReader}, {@link SliceCollectionReader} and
+ * {@link KeysetCollectionReader}, issuing the same queries through {@link ReactiveMongoTemplate}.
+ * <p>
+ * Whole collections are always ordered inside Mongo, since the in-memory {@code _Order} index is loaded through
+ * blocking reads.
+ */
+@Component
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveCollectionReader {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public <T> Mono<T> findByIdentifier(String collection, Class<T> type, String identifier) {
+        return mongoTemplate.findOne(Query.query(Criteria.where(KeysetCollectionReader.KEY).is(identifier)), type, collection);
+    }
+
+    public <T> Flux<T> list(String collection, Class<T> type, List<String> excluded) {
+        return list(collection, type, new Criteria(), excluded);
+    }
+
+    public <T> Flux<T> list(String collection, Class<T> type, Criteria criteria, List<String> excluded) {
+        return mongoTemplate.aggregate(OrderedCollectionReader.orderedAggregation(collection, criteria, excluded), collection, type);
+    }
+
+    public <T> Mono<Slice<T>> slice(String collection, Class<T> type, Pageable pageable, List<String> excluded) {
+        return slice(collection, type, pageable, new Criteria(), excluded);
+    }
+
+    public <T> Mono<Slice<T>> slice(String collection, Class<T> type, Pageable pageable, Criteria criteria, List<String> excluded) {
+        return mongoTemplate.find(SliceCollectionReader.query(pageable, criteria, excluded), type, collection)
+                .collectList()
+                .map(documents -> SliceCollectionReader.toSlice(documents, pageable));
+    }
+
+    public <T> Mono<Window<T>> scroll(String collection, Class<T> type, Function<T, String> identifier, String after, int size, List<String> excluded) {
+        return scroll(collection, type, identifier, after, size, new Criteria(), excluded);
+    }
+
+    public <T> Mono<Window<T>> scroll(
+            String collection,
+            Class<T> type,
+            Function<T, String> identifier,
+            String after,
+            int size,
+            Criteria criteria,
+            List<String> excluded
+    ) {
+        return mongoTemplate.find(KeysetCollectionReader.query(after, size, criteria, excluded), type, collection)
+                .collectList()
+                .map(documents -> KeysetCollectionReader.toWindow(documents, identifier, size));
+    }
+
+    public Mono<Long> count(String collection) {
+        return mongoTemplate.count(new Query(), collection);
+    }
+
+    public Mono<Long> count(String collection, Criteria criteria) {
+        return mongoTemplate.count(Query.query(criteria), collection);
+    }
+}
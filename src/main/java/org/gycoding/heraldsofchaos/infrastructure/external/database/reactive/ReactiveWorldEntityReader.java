@@ -0,0 +1,86 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reactive;
+
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.WorldEntityReader;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link WorldEntityReader}.
+ * <p>
+ * The reactive driver does not resolve DBRefs, so worlds are read as raw documents and the places of every batch are
+ * loaded with a single {@code $in} query before being stitched by {@link WorldEntityReader#stitch(List, Map)}.
+ */
+@Component
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveWorldEntityReader {
+    private static final int BATCH_SIZE = 100;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReactiveCollectionReader reader;
+    private final WorldEntityReader worldReader;
+
+    public Mono<WorldEntity> findByIdentifier(String identifier) {
+        return reader.findByIdentifier(WorldEntityReader.COLLECTION, Document.class, identifier)
+                .flatMap(world -> resolve(List.of(world), null))
+                .map(worlds -> worlds.get(0));
+    }
+
+    public Flux<WorldEntity> list(String language, Fieldset fields) {
+        return reader.list(WorldEntityReader.COLLECTION, Document.class, LanguageProjection.excluded(WorldEntity.class, language, fields))
+                .buffer(BATCH_SIZE)
+                .concatMap(worlds -> resolve(worlds, language))
+                .flatMapIterable(worlds -> worlds);
+    }
+
+    public Mono<Slice<WorldEntity>> slice(Pageable pageable, String language, Fieldset fields) {
+        return reader.slice(WorldEntityReader.COLLECTION, Document.class, pageable, LanguageProjection.excluded(WorldEntity.class, language, fields))
+                .flatMap(worlds -> resolve(worlds.getContent(), language)
+                        .map(entities -> new SliceImpl<>(entities, pageable, worlds.hasNext())));
+    }
+
+    public Mono<Window<WorldEntity>> scroll(String after, int size, String language, Fieldset fields) {
+        return reader.scroll(
+                        WorldEntityReader.COLLECTION,
+                        Document.class,
+                        world -> world.getString("identifier"),
+                        after,
+                        size,
+                        LanguageProjection.excluded(WorldEntity.class, language, fields)
+                )
+                .flatMap(worlds -> resolve(worlds.getContent(), language)
+                        .map(entities -> Window.from(entities, worlds::positionAt, worlds.hasNext())));
+    }
+
+    public Mono<Long> count() {
+        return reader.count(WorldEntityReader.COLLECTION);
+    }
+
+    private Mono<List<WorldEntity>> resolve(List<Document> worlds, String language) {
+        final var placeIds = WorldEntityReader.placeIds(worlds);
+
+        if (placeIds.isEmpty()) {
+            return Mono.just(worldReader.stitch(worlds, Map.of()));
+        }
+
+        return mongoTemplate.find(WorldEntityReader.placesQuery(placeIds, language), PlaceEntity.class)
+                .collectMap(PlaceEntity::getMongoId)
+                .map(places -> worldReader.stitch(worlds, places));
+    }
+}
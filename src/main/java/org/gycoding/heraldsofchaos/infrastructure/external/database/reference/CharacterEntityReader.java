@@ -0,0 +1,176 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.characters.CharacterEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@link CharacterEntity} documents with a lightweight {@code world} reference.
+ * <p>
+ * Resolving the {@code world} DBRef through Spring Data would load the whole world and, in turn, every one of its
+ * places, while characters only need the world identifier. Characters are therefore fetched as raw documents and
+ * the identifiers of the referenced worlds are loaded with a single projected {@code $in} query.
+ */
+@Component
+@AllArgsConstructor
+public class CharacterEntityReader {
+    public static final String COLLECTION = "Character";
+
+    private static final String WORLD_FIELD = "world";
+
+    private static final int BATCH_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoConverter converter;
+    private final OrderedCollectionReader orderedReader;
+    private final KeysetCollectionReader keysetReader;
+    private final SliceCollectionReader sliceReader;
+
+    public Optional<CharacterEntity> findByIdentifier(String identifier) {
+        final var character = mongoTemplate.findOne(Query.query(Criteria.where("identifier").is(identifier)), Document.class, COLLECTION);
+
+        return character != null ? Optional.of(resolve(List.of(character)).get(0)) : Optional.empty();
+    }
+
+    public List<CharacterEntity> list() {
+        return resolve(orderedReader.list(COLLECTION, Document.class, character -> character.getString("identifier")));
+    }
+
+    public Page<CharacterEntity> page(Pageable pageable) {
+        final var characters = mongoTemplate.find(new Query().with(pageable), Document.class, COLLECTION);
+
+        return PageableExecutionUtils.getPage(resolve(characters), pageable, () -> mongoTemplate.count(new Query(), COLLECTION));
+    }
+
+    public List<CharacterEntity> list(Criteria criteria, String language, Fieldset fields) {
+        final var characters = orderedReader.list(
+                COLLECTION,
+                Document.class,
+                character -> character.getString("identifier"),
+                criteria,
+                LanguageProjection.excluded(CharacterEntity.class, language, fields)
+        );
+
+        return resolve(characters);
+    }
+
+    /**
+     * Streams the characters in order through a Mongo cursor, resolving their references one batch at a time.
+     * The returned stream holds an open cursor and must be closed by the caller.
+     */
+    public Stream<CharacterEntity> stream(Criteria criteria, String language, Fieldset fields) {
+        final var characters = orderedReader.stream(
+                COLLECTION,
+                Document.class,
+                criteria,
+                LanguageProjection.excluded(CharacterEntity.class, language, fields)
+        );
+
+        return StreamBatches.of(characters, BATCH_SIZE).flatMap(batch -> resolve(batch).stream());
+    }
+
+    public Slice<CharacterEntity> slice(Pageable pageable, Criteria criteria, String language, Fieldset fields) {
+        final var characters = sliceReader.slice(COLLECTION, Document.class, pageable, criteria, LanguageProjection.excluded(CharacterEntity.class, language, fields));
+
+        return new SliceImpl<>(resolve(characters.getContent()), pageable, characters.hasNext());
+    }
+
+    public Window<CharacterEntity> scroll(String after, int size, Criteria criteria, String language, Fieldset fields) {
+        final var characters = keysetReader.scroll(
+                COLLECTION,
+                Document.class,
+                character -> character.getString("identifier"),
+                after,
+                size,
+                criteria,
+                LanguageProjection.excluded(CharacterEntity.class, language, fields)
+        );
+
+        return Window.from(resolve(characters.getContent()), characters::positionAt, characters.hasNext());
+    }
+
+    public long count(Criteria criteria) {
+        return sliceReader.count(COLLECTION, criteria);
+    }
+
+    public List<CharacterEntity> resolve(List<Document> characters) {
+        final var worldIds = worldIds(characters);
+
+        final Map<String, WorldEntity> worlds = worldIds.isEmpty() ? Map.of() : mongoTemplate.find(worldsQuery(worldIds), WorldEntity.class).stream()
+                .collect(Collectors.toMap(WorldEntity::getMongoId, Function.identity(), (first, second) -> first));
+
+        return stitch(characters, worlds);
+    }
+
+    /**
+     * Converts raw characters into entities, setting as their world that of {@code worlds} (keyed by {@code _id}).
+     */
+    public List<CharacterEntity> stitch(List<Document> characters, Map<String, WorldEntity> worlds) {
+        return characters.stream()
+                .map(character -> toEntity(character, worlds))
+                .toList();
+    }
+
+    public static List<String> worldIds(List<Document> characters) {
+        return characters.stream()
+                .map(character -> DBRefs.id(character.get(WORLD_FIELD)))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Criteria matching the characters that reference one of the worlds of {@code _id} {@code worldIds}, served by the
+     * {@code world.$id} index. No worlds match no characters.
+     */
+    public static Criteria inWorlds(List<String> worldIds) {
+        return Criteria.where(WORLD_FIELD + ".$id").in(worldIds.stream().map(ObjectId::new).toList());
+    }
+
+    public static Query worldsQuery(List<String> worldIds) {
+        final var query = Query.query(Criteria.where("_id").in(worldIds));
+
+        query.fields().include("identifier");
+
+        return query;
+    }
+
+    private CharacterEntity toEntity(Document character, Map<String, WorldEntity> worlds) {
+        final var worldId = DBRefs.id(character.get(WORLD_FIELD));
+        final var document = new Document(character);
+
+        document.remove(WORLD_FIELD);
+
+        final var entity = converter.read(CharacterEntity.class, document);
+
+        entity.setWorld(worldId != null ? worlds.get(worldId) : null);
+
+        return entity;
+    }
+}
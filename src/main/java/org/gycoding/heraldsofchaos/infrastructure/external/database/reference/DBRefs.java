@@ -0,0 +1,35 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import com.mongodb.DBRef;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Helpers to read {@code $id}s out of raw DBRef values without resolving them.
+ */
+public class DBRefs {
+    public static String id(Object reference) {
+        if (reference instanceof DBRef dbRef) {
+            return Objects.toString(dbRef.getId(), null);
+        }
+
+        if (reference instanceof Map<?, ?> document) {
+            return Objects.toString(document.get("$id"), null);
+        }
+
+        return null;
+    }
+
+    public static List<String> ids(Object references) {
+        if (!(references instanceof List<?> list)) {
+            return List.of();
+        }
+
+        return list.stream()
+                .map(DBRefs::id)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Groups a (cursor-backed) stream into consecutive batches, pulling only one batch ahead of the consumer so that
+ * references can be resolved per batch while the rest of the cursor is still unread.
+ */
+public class StreamBatches {
+    public static <T> Stream<List<T>> of(Stream<T> elements, int size) {
+        final var source = elements.spliterator();
+
+        final var batches = new Spliterators.AbstractSpliterator<List<T>>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super List<T>> action) {
+                final var batch = new ArrayList<T>(size);
+
+                while (batch.size() < size && source.tryAdvance(batch::add)) {
+                    // Pulls the next element of the batch.
+                }
+
+                if (batch.isEmpty()) {
+                    return false;
+                }
+
+                action.accept(batch);
+
+                return true;
+            }
+        };
+
+        return StreamSupport.stream(batches, false).onClose(elements::close);
+    }
+}
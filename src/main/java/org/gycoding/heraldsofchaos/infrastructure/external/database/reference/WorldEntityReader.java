@@ -0,0 +1,181 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import lombok.AllArgsConstructor;
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceMongoRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@link WorldEntity} documents resolving their {@code places} DBRefs in batch.
+ * <p>
+ * Worlds are fetched as raw documents so Spring Data does not resolve every place with its own query; the
+ * referenced places of the whole batch are then loaded with a single {@code $in} query and stitched in memory.
+ */
+@Component
+@AllArgsConstructor
+public class WorldEntityReader {
+    public static final String COLLECTION = "World";
+
+    private static final String PLACES_FIELD = "places";
+
+    private static final int BATCH_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoConverter converter;
+    private final OrderedCollectionReader orderedReader;
+    private final KeysetCollectionReader keysetReader;
+    private final SliceCollectionReader sliceReader;
+    private final PlaceMongoRepository placeRepository;
+
+    public Optional<WorldEntity> findByIdentifier(String identifier) {
+        final var world = mongoTemplate.findOne(Query.query(Criteria.where("identifier").is(identifier)), Document.class, COLLECTION);
+
+        return world != null ? Optional.of(resolve(List.of(world)).get(0)) : Optional.empty();
+    }
+
+    public List<WorldEntity> list() {
+        return resolve(orderedReader.list(COLLECTION, Document.class, world -> world.getString("identifier")));
+    }
+
+    public Page<WorldEntity> page(Pageable pageable) {
+        final var worlds = mongoTemplate.find(new Query().with(pageable), Document.class, COLLECTION);
+
+        return PageableExecutionUtils.getPage(resolve(worlds), pageable, () -> mongoTemplate.count(new Query(), COLLECTION));
+    }
+
+    public List<WorldEntity> list(String language, Fieldset fields) {
+        final var worlds = orderedReader.list(
+                COLLECTION,
+                Document.class,
+                world -> world.getString("identifier"),
+                new Criteria(),
+                LanguageProjection.excluded(WorldEntity.class, language, fields)
+        );
+
+        return resolve(worlds, language);
+    }
+
+    /**
+     * Streams the worlds in order through a Mongo cursor, resolving their references one batch at a time.
+     * The returned stream holds an open cursor and must be closed by the caller.
+     */
+    public Stream<WorldEntity> stream(String language, Fieldset fields) {
+        final var worlds = orderedReader.stream(
+                COLLECTION,
+                Document.class,
+                new Criteria(),
+                LanguageProjection.excluded(WorldEntity.class, language, fields)
+        );
+
+        return StreamBatches.of(worlds, BATCH_SIZE).flatMap(batch -> resolve(batch, language).stream());
+    }
+
+    public Slice<WorldEntity> slice(Pageable pageable, String language, Fieldset fields) {
+        final var worlds = sliceReader.slice(COLLECTION, Document.class, pageable, LanguageProjection.excluded(WorldEntity.class, language, fields));
+
+        return new SliceImpl<>(resolve(worlds.getContent(), language), pageable, worlds.hasNext());
+    }
+
+    public Window<WorldEntity> scroll(String after, int size, String language, Fieldset fields) {
+        final var worlds = keysetReader.scroll(
+                COLLECTION,
+                Document.class,
+                world -> world.getString("identifier"),
+                after,
+                size,
+                LanguageProjection.excluded(WorldEntity.class, language, fields)
+        );
+
+        return Window.from(resolve(worlds.getContent(), language), worlds::positionAt, worlds.hasNext());
+    }
+
+    public List<WorldEntity> resolve(List<Document> worlds) {
+        return resolve(worlds, null);
+    }
+
+    /**
+     * Resolves the places of the worlds, projecting them to the given language unless it is {@code null}.
+     */
+    public List<WorldEntity> resolve(List<Document> worlds, String language) {
+        final var placeIds = placeIds(worlds);
+
+        final Map<String, PlaceEntity> places = placeIds.isEmpty() ? Map.of() : findPlaces(placeIds, language).stream()
+                .collect(Collectors.toMap(PlaceEntity::getMongoId, Function.identity(), (first, second) -> first));
+
+        return stitch(worlds, places);
+    }
+
+    /**
+     * Converts raw worlds into entities, setting as their places those of {@code places} (keyed by {@code _id}).
+     */
+    public List<WorldEntity> stitch(List<Document> worlds, Map<String, PlaceEntity> places) {
+        return worlds.stream()
+                .map(world -> toEntity(world, places))
+                .toList();
+    }
+
+    public static List<String> placeIds(List<Document> worlds) {
+        return worlds.stream()
+                .flatMap(world -> DBRefs.ids(world.get(PLACES_FIELD)).stream())
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Query for the given places, projected to the given language unless it is {@code null}.
+     */
+    public static Query placesQuery(List<String> placeIds, String language) {
+        final var query = Query.query(Criteria.where("_id").in(placeIds));
+
+        return language != null ? LanguageProjection.apply(query, LanguageProjection.excluded(PlaceEntity.class, language)) : query;
+    }
+
+    private List<PlaceEntity> findPlaces(List<String> placeIds, String language) {
+        if (language == null) {
+            return placeRepository.findAllById(placeIds);
+        }
+
+        return mongoTemplate.find(placesQuery(placeIds, language), PlaceEntity.class);
+    }
+
+    private WorldEntity toEntity(Document world, Map<String, PlaceEntity> places) {
+        final var references = DBRefs.ids(world.get(PLACES_FIELD));
+        final var document = new Document(world);
+
+        document.remove(PLACES_FIELD);
+
+        final var entity = converter.read(WorldEntity.class, document);
+
+        entity.setPlaces(references.stream()
+                .map(places::get)
+                .filter(Objects::nonNull)
+                .toList());
+
+        return entity;
+    }
+}
@@ -0,0 +1,11 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository;
+
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface CreatureReactiveMongoRepository extends ReactiveMongoRepository<CreatureEntity, String> {
+    Mono<CreatureEntity> findByIdentifier(String identifier);
+}
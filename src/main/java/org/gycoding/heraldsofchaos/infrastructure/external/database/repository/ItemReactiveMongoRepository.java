@@ -0,0 +1,11 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository;
+
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.items.ItemEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ItemReactiveMongoRepository extends ReactiveMongoRepository<ItemEntity, String> {
+    Mono<ItemEntity> findByIdentifier(String identifier);
+}
@@ -4,11 +4,15 @@ import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PlaceMongoRepository extends MongoRepository<PlaceEntity, String> {
     Optional<PlaceEntity> findByIdentifier(String identifier);
 
+    List<PlaceEntity> findByIdentifierIn(Collection<String> identifiers);
+
     void removeByIdentifier(String identifier);
 }
@@ -0,0 +1,11 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository;
+
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface PlaceReactiveMongoRepository extends ReactiveMongoRepository<PlaceEntity, String> {
+    Mono<PlaceEntity> findByIdentifier(String identifier);
+}
@@ -2,13 +2,22 @@ package org.gycoding.heraldsofchaos.infrastructure.external.database.repository;
 
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WorldMongoRepository extends MongoRepository<WorldEntity, String> {
     Optional<WorldEntity> findByIdentifier(String identifier);
 
+    /**
+     * Worlds with the given identifiers holding only their {@code _id} and identifier, enough to reference them.
+     */
+    @Query(value = "{ 'identifier': { '$in': ?0 } }", fields = "{ 'identifier': 1 }")
+    List<WorldEntity> findReferencesByIdentifierIn(Collection<String> identifiers);
+
     void removeByIdentifier(String identifier);
 }
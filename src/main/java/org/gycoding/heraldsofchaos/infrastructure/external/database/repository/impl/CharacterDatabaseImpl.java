@@ -2,31 +2,54 @@ package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.
 
 import lombok.AllArgsConstructor;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
 import org.gycoding.heraldsofchaos.domain.repository.CharacterRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.bulk.BulkCollectionWriter;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.filter.FilterCriteria;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CharacterDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.characters.CharacterEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.CharacterEntityReader;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.CharacterMongoRepository;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.WorldMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class CharacterDatabaseImpl implements CharacterRepository {
-    private final OrderMongoRepository orderRepository;
     private final CharacterMongoRepository repository;
     private final CharacterDatabaseMapper mapper;
+    private final BulkCollectionWriter bulkWriter;
     private final WorldMongoRepository worldRepository;
+    private final CharacterEntityReader reader;
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.CHARACTERS, key = "#character.identifier()"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Character'")
+    })
     public CharacterMO save(CharacterMO character) throws DatabaseException {
         final var persistedWorld = worldRepository.findByIdentifier(character.world()).orElseThrow(() ->
                 new DatabaseException(HeraldsOfChaosError.WORLD_NOT_FOUND)
@@ -38,6 +61,34 @@ public class CharacterDatabaseImpl implements CharacterRepository {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Character'")
+    public List<BulkResultMO> saveAll(List<CharacterMO> characters) {
+        final var worldIdentifiers = characters.stream().map(CharacterMO::world).filter(Objects::nonNull).distinct().toList();
+        final Map<String, WorldEntity> worlds = worldRepository.findReferencesByIdentifierIn(worldIdentifiers).stream()
+                .collect(Collectors.toMap(WorldEntity::getIdentifier, Function.identity()));
+
+        Logger.debug(String.format("Worlds found for %d characters.", characters.size()), String.valueOf(worlds.size()));
+
+        final var written = bulkWriter.insert(
+                CharacterEntity.class,
+                characters.stream()
+                        .filter(character -> worlds.containsKey(character.world()))
+                        .map(character -> mapper.toEntity(character, worlds.get(character.world())))
+                        .toList(),
+                CharacterEntity::getIdentifier,
+                HeraldsOfChaosError.CHARACTER_ALREADY_EXISTS_CONFLICT,
+                HeraldsOfChaosError.CHARACTER_SAVE_CONFLICT
+        ).iterator();
+
+        return characters.stream()
+                .map(character -> worlds.containsKey(character.world())
+                        ? written.next()
+                        : BulkResultMO.failed(character.identifier(), HeraldsOfChaosError.WORLD_NOT_FOUND))
+                .toList();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfiguration.CHARACTERS, key = "#character.identifier()")
     public CharacterMO update(CharacterMO character) throws DatabaseException {
         final var persistedCharacter = repository.findByIdentifier(character.identifier()).orElseThrow(() ->
                 new DatabaseException(HeraldsOfChaosError.CHARACTER_NOT_FOUND)
@@ -53,31 +104,78 @@ public class CharacterDatabaseImpl implements CharacterRepository {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.CHARACTERS, key = "#identifier"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Character'")
+    })
     public void delete(String identifier) {
         repository.removeByIdentifier(identifier);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.CHARACTERS, key = "#identifier", unless = "#result == null")
     public Optional<CharacterMO> get(String identifier) {
-        return repository.findByIdentifier(identifier)
+        return reader.findByIdentifier(identifier)
                 .map(mapper::toMO);
     }
 
     @Override
     public List<CharacterMO> list() {
-        final var order = orderRepository.findByCollection("Character")
-                .orElse(null)
-                .getOrder();
+        return reader.list().stream()
+                .map(mapper::toMO)
+                .toList();
+    }
 
-        return repository.findAll().stream()
+    @Override
+    public List<CharacterMO> list(CharacterFilterMO filter, String language, Fieldset fields) {
+        return reader.list(criteria(filter, language), language, fields).stream()
                 .map(mapper::toMO)
-                .sorted(Comparator.comparingInt(character -> order.indexOf(character.identifier())))
                 .toList();
     }
 
+    @Override
+    public Stream<CharacterMO> stream(CharacterFilterMO filter, String language, Fieldset fields) {
+        return reader.stream(criteria(filter, language), language, fields)
+                .map(mapper::toMO);
+    }
+
     @Override
     public Page<CharacterMO> page(Pageable pageable) {
-        return repository.findAll(pageable)
+        return reader.page(pageable)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Slice<CharacterMO> slice(Pageable pageable, CharacterFilterMO filter, String language, Fieldset fields) {
+        return reader.slice(pageable, criteria(filter, language), language, fields)
                 .map(mapper::toMO);
     }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfiguration.COUNTS, key = "'Character'")
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public long count(CharacterFilterMO filter, String language) {
+        return reader.count(criteria(filter, language));
+    }
+
+    @Override
+    public Window<CharacterMO> scroll(String after, int size, CharacterFilterMO filter, String language, Fieldset fields) {
+        return reader.scroll(after, size, criteria(filter, language), language, fields)
+                .map(mapper::toMO);
+    }
+
+    /**
+     * Criteria of {@code filter}, resolving the filtered world to the {@code _id} its characters reference.
+     */
+    private Criteria criteria(CharacterFilterMO filter, String language) {
+        final var world = filter.world() == null ? null : CharacterEntityReader.inWorlds(
+                worldRepository.findReferencesByIdentifierIn(List.of(filter.world())).stream().map(WorldEntity::getMongoId).toList()
+        );
+
+        return FilterCriteria.all(world, FilterCriteria.translated("race", language, filter.race()));
+    }
 }
@@ -0,0 +1,80 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.gycoding.heraldsofchaos.domain.repository.CharacterReactiveRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.filter.FilterCriteria;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CharacterDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCharacterEntityReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.CharacterEntityReader;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class CharacterReactiveDatabaseImpl implements CharacterReactiveRepository {
+    private final ReactiveCharacterEntityReader reader;
+    private final CharacterDatabaseMapper mapper;
+
+    @Override
+    public Mono<CharacterMO> get(String identifier) {
+        return reader.findByIdentifier(identifier)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Flux<CharacterMO> list(CharacterFilterMO filter, String language, Fieldset fields) {
+        return criteria(filter, language)
+                .flatMapMany(criteria -> reader.list(criteria, language, fields))
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Mono<Slice<CharacterMO>> slice(Pageable pageable, CharacterFilterMO filter, String language, Fieldset fields) {
+        return criteria(filter, language)
+                .flatMap(criteria -> reader.slice(pageable, criteria, language, fields))
+                .map(characters -> characters.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Window<CharacterMO>> scroll(String after, int size, CharacterFilterMO filter, String language, Fieldset fields) {
+        return criteria(filter, language)
+                .flatMap(criteria -> reader.scroll(after, size, criteria, language, fields))
+                .map(characters -> characters.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return reader.count();
+    }
+
+    @Override
+    public Mono<Long> count(CharacterFilterMO filter, String language) {
+        return criteria(filter, language)
+                .flatMap(reader::count);
+    }
+
+    /**
+     * Criteria of {@code filter}, resolving the filtered world to the {@code _id} its characters reference.
+     */
+    private Mono<Criteria> criteria(CharacterFilterMO filter, String language) {
+        final var race = FilterCriteria.translated("race", language, filter.race());
+
+        if (filter.world() == null) {
+            return Mono.just(FilterCriteria.all(race));
+        }
+
+        return reader.findWorldIds(filter.world())
+                .collectList()
+                .map(worldIds -> FilterCriteria.all(CharacterEntityReader.inWorlds(worldIds), race));
+    }
+}
\ No newline at end of file
@@ -2,34 +2,70 @@ package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.
 
 import lombok.AllArgsConstructor;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
 import org.gycoding.heraldsofchaos.domain.repository.CreatureRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.bulk.BulkCollectionWriter;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.filter.FilterCriteria;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CreatureDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.CreatureMongoRepository;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class CreatureDatabaseImpl implements CreatureRepository {
-    private final OrderMongoRepository orderRepository;
+    private final OrderedCollectionReader orderedReader;
+    private final KeysetCollectionReader keysetReader;
+    private final SliceCollectionReader sliceReader;
     private final CreatureMongoRepository repository;
     private final CreatureDatabaseMapper mapper;
+    private final BulkCollectionWriter bulkWriter;
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.CREATURES, key = "#creature.identifier()"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Creature'")
+    })
     public CreatureMO save(CreatureMO creature) {
         return mapper.toMO(repository.save(mapper.toEntity(creature)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Creature'")
+    public List<BulkResultMO> saveAll(List<CreatureMO> creatures) {
+        return bulkWriter.insert(
+                CreatureEntity.class,
+                creatures.stream().map(mapper::toEntity).toList(),
+                CreatureEntity::getIdentifier,
+                HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT,
+                HeraldsOfChaosError.CREATURE_SAVE_CONFLICT
+        );
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfiguration.CREATURES, key = "#creature.identifier()")
     public CreatureMO update(CreatureMO creature) throws DatabaseException {
         final var persistedCreature = repository.findByIdentifier(creature.identifier()).orElseThrow(() ->
                 new DatabaseException(HeraldsOfChaosError.CREATURE_NOT_FOUND)
@@ -41,11 +77,16 @@ public class CreatureDatabaseImpl implements CreatureRepository {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.CREATURES, key = "#identifier"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Creature'")
+    })
     public void delete(String identifier) {
         repository.removeByIdentifier(identifier);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.CREATURES, key = "#identifier", unless = "#result == null")
     public Optional<CreatureMO> get(String identifier) {
         return repository.findByIdentifier(identifier)
                 .map(mapper::toMO);
@@ -53,19 +94,58 @@ public class CreatureDatabaseImpl implements CreatureRepository {
 
     @Override
     public List<CreatureMO> list() {
-        final var order = orderRepository.findByCollection("Creature")
-                .orElse(null)
-                .getOrder();
+        return orderedReader.list("Creature", CreatureEntity.class, CreatureEntity::getIdentifier).stream()
+                .map(mapper::toMO)
+                .toList();
+    }
 
-        return repository.findAll().stream()
+    @Override
+    public List<CreatureMO> list(CreatureFilterMO filter, String language, Fieldset fields) {
+        final var excluded = LanguageProjection.excluded(CreatureEntity.class, language, fields);
+
+        return orderedReader.list("Creature", CreatureEntity.class, CreatureEntity::getIdentifier, criteria(filter, language), excluded).stream()
                 .map(mapper::toMO)
-                .sorted(Comparator.comparingInt(creature -> order.indexOf(creature.identifier())))
                 .toList();
     }
 
+    @Override
+    public Stream<CreatureMO> stream(CreatureFilterMO filter, String language, Fieldset fields) {
+        final var excluded = LanguageProjection.excluded(CreatureEntity.class, language, fields);
+
+        return orderedReader.stream("Creature", CreatureEntity.class, criteria(filter, language), excluded)
+                .map(mapper::toMO);
+    }
+
     @Override
     public Page<CreatureMO> page(Pageable pageable) {
         return repository.findAll(pageable)
                 .map(mapper::toMO);
     }
+
+    @Override
+    public Slice<CreatureMO> slice(Pageable pageable, CreatureFilterMO filter, String language, Fieldset fields) {
+        return sliceReader.slice("Creature", CreatureEntity.class, pageable, criteria(filter, language), LanguageProjection.excluded(CreatureEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfiguration.COUNTS, key = "'Creature'")
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public long count(CreatureFilterMO filter, String language) {
+        return sliceReader.count("Creature", criteria(filter, language));
+    }
+
+    @Override
+    public Window<CreatureMO> scroll(String after, int size, CreatureFilterMO filter, String language, Fieldset fields) {
+        return keysetReader.scroll("Creature", CreatureEntity.class, CreatureEntity::getIdentifier, after, size, criteria(filter, language), LanguageProjection.excluded(CreatureEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    static Criteria criteria(CreatureFilterMO filter, String language) {
+        return FilterCriteria.all(FilterCriteria.translated("race", language, filter.race()));
+    }
 }
\ No newline at end of file
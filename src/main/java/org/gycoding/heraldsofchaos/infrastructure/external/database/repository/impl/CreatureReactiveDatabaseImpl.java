@@ -0,0 +1,62 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.domain.repository.CreatureReactiveRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CreatureDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.CreatureReactiveMongoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class CreatureReactiveDatabaseImpl implements CreatureReactiveRepository {
+    private final ReactiveCollectionReader reader;
+    private final CreatureReactiveMongoRepository repository;
+    private final CreatureDatabaseMapper mapper;
+
+    @Override
+    public Mono<CreatureMO> get(String identifier) {
+        return repository.findByIdentifier(identifier)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Flux<CreatureMO> list(CreatureFilterMO filter, String language, Fieldset fields) {
+        return reader.list("Creature", CreatureEntity.class, CreatureDatabaseImpl.criteria(filter, language), LanguageProjection.excluded(CreatureEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Mono<Slice<CreatureMO>> slice(Pageable pageable, CreatureFilterMO filter, String language, Fieldset fields) {
+        return reader.slice("Creature", CreatureEntity.class, pageable, CreatureDatabaseImpl.criteria(filter, language), LanguageProjection.excluded(CreatureEntity.class, language, fields))
+                .map(creatures -> creatures.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Window<CreatureMO>> scroll(String after, int size, CreatureFilterMO filter, String language, Fieldset fields) {
+        return reader.scroll("Creature", CreatureEntity.class, CreatureEntity::getIdentifier, after, size, CreatureDatabaseImpl.criteria(filter, language), LanguageProjection.excluded(CreatureEntity.class, language, fields))
+                .map(creatures -> creatures.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return repository.count();
+    }
+
+    @Override
+    public Mono<Long> count(CreatureFilterMO filter, String language) {
+        return reader.count("Creature", CreatureDatabaseImpl.criteria(filter, language));
+    }
+}
\ No newline at end of file
@@ -2,34 +2,70 @@ package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.
 
 import lombok.AllArgsConstructor;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
 import org.gycoding.heraldsofchaos.domain.repository.ItemRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.bulk.BulkCollectionWriter;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.filter.FilterCriteria;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.ItemDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.items.ItemEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.ItemMongoRepository;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class ItemDatabaseImpl implements ItemRepository {
-    private final OrderMongoRepository orderRepository;
+    private final OrderedCollectionReader orderedReader;
+    private final KeysetCollectionReader keysetReader;
+    private final SliceCollectionReader sliceReader;
     private final ItemMongoRepository repository;
     private final ItemDatabaseMapper mapper;
+    private final BulkCollectionWriter bulkWriter;
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.ITEMS, key = "#item.identifier()"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Item'")
+    })
     public ItemMO save(ItemMO item) {
         return mapper.toMO(repository.save(mapper.toEntity(item)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Item'")
+    public List<BulkResultMO> saveAll(List<ItemMO> items) {
+        return bulkWriter.insert(
+                ItemEntity.class,
+                items.stream().map(mapper::toEntity).toList(),
+                ItemEntity::getIdentifier,
+                HeraldsOfChaosError.ITEM_ALREADY_EXISTS_CONFLICT,
+                HeraldsOfChaosError.ITEM_SAVE_CONFLICT
+        );
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfiguration.ITEMS, key = "#item.identifier()")
     public ItemMO update(ItemMO item) throws DatabaseException {
         final var persistedItem = repository.findByIdentifier(item.identifier()).orElseThrow(() ->
                 new DatabaseException(HeraldsOfChaosError.ITEM_NOT_FOUND)
@@ -41,11 +77,16 @@ public class ItemDatabaseImpl implements ItemRepository {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.ITEMS, key = "#identifier"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Item'")
+    })
     public void delete(String identifier) {
         repository.removeByIdentifier(identifier);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.ITEMS, key = "#identifier", unless = "#result == null")
     public Optional<ItemMO> get(String identifier) {
         return repository.findByIdentifier(identifier)
                 .map(mapper::toMO);
@@ -53,19 +94,58 @@ public class ItemDatabaseImpl implements ItemRepository {
 
     @Override
     public List<ItemMO> list() {
-        final var order = orderRepository.findByCollection("Item")
-                .orElse(null)
-                .getOrder();
+        return orderedReader.list("Item", ItemEntity.class, ItemEntity::getIdentifier).stream()
+                .map(mapper::toMO)
+                .toList();
+    }
 
-        return repository.findAll().stream()
+    @Override
+    public List<ItemMO> list(ItemFilterMO filter, String language, Fieldset fields) {
+        final var excluded = LanguageProjection.excluded(ItemEntity.class, language, fields);
+
+        return orderedReader.list("Item", ItemEntity.class, ItemEntity::getIdentifier, criteria(filter, language), excluded).stream()
                 .map(mapper::toMO)
-                .sorted(Comparator.comparingInt(item -> order.indexOf(item.identifier())))
                 .toList();
     }
 
+    @Override
+    public Stream<ItemMO> stream(ItemFilterMO filter, String language, Fieldset fields) {
+        final var excluded = LanguageProjection.excluded(ItemEntity.class, language, fields);
+
+        return orderedReader.stream("Item", ItemEntity.class, criteria(filter, language), excluded)
+                .map(mapper::toMO);
+    }
+
     @Override
     public Page<ItemMO> page(Pageable pageable) {
         return repository.findAll(pageable)
                 .map(mapper::toMO);
     }
+
+    @Override
+    public Slice<ItemMO> slice(Pageable pageable, ItemFilterMO filter, String language, Fieldset fields) {
+        return sliceReader.slice("Item", ItemEntity.class, pageable, criteria(filter, language), LanguageProjection.excluded(ItemEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfiguration.COUNTS, key = "'Item'")
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public long count(ItemFilterMO filter, String language) {
+        return sliceReader.count("Item", criteria(filter, language));
+    }
+
+    @Override
+    public Window<ItemMO> scroll(String after, int size, ItemFilterMO filter, String language, Fieldset fields) {
+        return keysetReader.scroll("Item", ItemEntity.class, ItemEntity::getIdentifier, after, size, criteria(filter, language), LanguageProjection.excluded(ItemEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    static Criteria criteria(ItemFilterMO filter, String language) {
+        return FilterCriteria.all(FilterCriteria.translated("type", language, filter.type()));
+    }
 }
\ No newline at end of file
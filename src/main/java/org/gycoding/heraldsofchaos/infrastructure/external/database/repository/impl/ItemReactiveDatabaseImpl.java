@@ -0,0 +1,62 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.gycoding.heraldsofchaos.domain.repository.ItemReactiveRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.ItemDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.items.ItemEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.ItemReactiveMongoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ItemReactiveDatabaseImpl implements ItemReactiveRepository {
+    private final ReactiveCollectionReader reader;
+    private final ItemReactiveMongoRepository repository;
+    private final ItemDatabaseMapper mapper;
+
+    @Override
+    public Mono<ItemMO> get(String identifier) {
+        return repository.findByIdentifier(identifier)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Flux<ItemMO> list(ItemFilterMO filter, String language, Fieldset fields) {
+        return reader.list("Item", ItemEntity.class, ItemDatabaseImpl.criteria(filter, language), LanguageProjection.excluded(ItemEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Mono<Slice<ItemMO>> slice(Pageable pageable, ItemFilterMO filter, String language, Fieldset fields) {
+        return reader.slice("Item", ItemEntity.class, pageable, ItemDatabaseImpl.criteria(filter, language), LanguageProjection.excluded(ItemEntity.class, language, fields))
+                .map(items -> items.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Window<ItemMO>> scroll(String after, int size, ItemFilterMO filter, String language, Fieldset fields) {
+        return reader.scroll("Item", ItemEntity.class, ItemEntity::getIdentifier, after, size, ItemDatabaseImpl.criteria(filter, language), LanguageProjection.excluded(ItemEntity.class, language, fields))
+                .map(items -> items.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return repository.count();
+    }
+
+    @Override
+    public Mono<Long> count(ItemFilterMO filter, String language) {
+        return reader.count("Item", ItemDatabaseImpl.criteria(filter, language));
+    }
+}
\ No newline at end of file
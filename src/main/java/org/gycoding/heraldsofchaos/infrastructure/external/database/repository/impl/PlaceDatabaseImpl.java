@@ -2,34 +2,56 @@ package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.
 
 import lombok.AllArgsConstructor;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
 import org.gycoding.heraldsofchaos.domain.repository.PlaceRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.PlaceDatabaseMapper;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class PlaceDatabaseImpl implements PlaceRepository {
-    private final OrderMongoRepository orderRepository;
+    private final OrderedCollectionReader orderedReader;
+    private final KeysetCollectionReader keysetReader;
+    private final SliceCollectionReader sliceReader;
     private final PlaceMongoRepository repository;
     private final PlaceDatabaseMapper mapper;
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.PLACES, key = "#place.identifier()"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Place'")
+    })
     public PlaceMO save(PlaceMO place) {
         return mapper.toMO(repository.save(mapper.toEntity(place)));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.PLACES, key = "#place.identifier()"),
+            @CacheEvict(cacheNames = CacheConfiguration.WORLDS, allEntries = true)
+    })
     public PlaceMO update(PlaceMO place) throws DatabaseException {
         final var persistedPlace = repository.findByIdentifier(place.identifier()).orElseThrow(() ->
                 new DatabaseException(HeraldsOfChaosError.PLACE_NOT_FOUND)
@@ -41,11 +63,17 @@ public class PlaceDatabaseImpl implements PlaceRepository {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.PLACES, key = "#identifier"),
+            @CacheEvict(cacheNames = CacheConfiguration.WORLDS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'Place'")
+    })
     public void delete(String identifier) {
         repository.removeByIdentifier(identifier);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.PLACES, key = "#identifier", unless = "#result == null")
     public Optional<PlaceMO> get(String identifier) {
         return repository.findByIdentifier(identifier)
                 .map(mapper::toMO);
@@ -53,19 +81,49 @@ public class PlaceDatabaseImpl implements PlaceRepository {
 
     @Override
     public List<PlaceMO> list() {
-        final var order = orderRepository.findByCollection("Place")
-                .orElse(null)
-                .getOrder();
+        return orderedReader.list("Place", PlaceEntity.class, PlaceEntity::getIdentifier).stream()
+                .map(mapper::toMO)
+                .toList();
+    }
 
-        return repository.findAll().stream()
+    @Override
+    public List<PlaceMO> list(String language, Fieldset fields) {
+        final var excluded = LanguageProjection.excluded(PlaceEntity.class, language, fields);
+
+        return orderedReader.list("Place", PlaceEntity.class, PlaceEntity::getIdentifier, new Criteria(), excluded).stream()
                 .map(mapper::toMO)
-                .sorted(Comparator.comparingInt(place -> order.indexOf(place.identifier())))
                 .toList();
     }
 
+    @Override
+    public Stream<PlaceMO> stream(String language, Fieldset fields) {
+        final var excluded = LanguageProjection.excluded(PlaceEntity.class, language, fields);
+
+        return orderedReader.stream("Place", PlaceEntity.class, new Criteria(), excluded)
+                .map(mapper::toMO);
+    }
+
     @Override
     public Page<PlaceMO> page(Pageable pageable) {
         return repository.findAll(pageable)
                 .map(mapper::toMO);
     }
+
+    @Override
+    public Slice<PlaceMO> slice(Pageable pageable, String language, Fieldset fields) {
+        return sliceReader.slice("Place", PlaceEntity.class, pageable, LanguageProjection.excluded(PlaceEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfiguration.COUNTS, key = "'Place'")
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public Window<PlaceMO> scroll(String after, int size, String language, Fieldset fields) {
+        return keysetReader.scroll("Place", PlaceEntity.class, PlaceEntity::getIdentifier, after, size, LanguageProjection.excluded(PlaceEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
+import org.gycoding.heraldsofchaos.domain.repository.PlaceReactiveRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.PlaceDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceReactiveMongoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class PlaceReactiveDatabaseImpl implements PlaceReactiveRepository {
+    private final ReactiveCollectionReader reader;
+    private final PlaceReactiveMongoRepository repository;
+    private final PlaceDatabaseMapper mapper;
+
+    @Override
+    public Mono<PlaceMO> get(String identifier) {
+        return repository.findByIdentifier(identifier)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Flux<PlaceMO> list(String language, Fieldset fields) {
+        return reader.list("Place", PlaceEntity.class, LanguageProjection.excluded(PlaceEntity.class, language, fields))
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Mono<Slice<PlaceMO>> slice(Pageable pageable, String language, Fieldset fields) {
+        return reader.slice("Place", PlaceEntity.class, pageable, LanguageProjection.excluded(PlaceEntity.class, language, fields))
+                .map(places -> places.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Window<PlaceMO>> scroll(String after, int size, String language, Fieldset fields) {
+        return reader.scroll("Place", PlaceEntity.class, PlaceEntity::getIdentifier, after, size, LanguageProjection.excluded(PlaceEntity.class, language, fields))
+                .map(places -> places.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return repository.count();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.RawBsonDocument;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.repository.SnapshotRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.snapshot.SnapshotReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.snapshot.SnapshotWriter;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies whole collections between Mongo and a snapshot as raw BSON, never mapping documents to entities, so a
+ * restored database is byte-for-byte what was exported, ids and references included.
+ */
+@Service
+public class SnapshotDatabaseImpl implements SnapshotRepository {
+    public static final List<String> COLLECTIONS = List.of("Character", "Creature", "Item", "Place", "World", "_Order");
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public SnapshotDatabaseImpl(MongoTemplate mongoTemplate, @Value("${heraldsofchaos.bulk.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return COLLECTIONS.stream().allMatch(collection -> raw(collection).estimatedDocumentCount() == 0);
+    }
+
+    @Override
+    public void export(OutputStream output) throws DatabaseException {
+        try (final var snapshot = new SnapshotWriter(output)) {
+            for (final var collection : COLLECTIONS) {
+                snapshot.collection(collection);
+
+                try (final var documents = raw(collection).find().batchSize(batchSize).cursor()) {
+                    while (documents.hasNext()) {
+                        snapshot.document(documents.next());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            Logger.error("Snapshot could not be written.", e.getMessage());
+
+            throw new DatabaseException(HeraldsOfChaosError.SNAPSHOT_EXPORT_CONFLICT);
+        }
+    }
+
+    /**
+     * Caches are evicted before the restore, so they are evicted even when it fails partway through writing, and again
+     * after it, dropping whatever was read while the collections were being written.
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(
+                    cacheNames = {
+                            CacheConfiguration.CHARACTERS,
+                            CacheConfiguration.CREATURES,
+                            CacheConfiguration.ITEMS,
+                            CacheConfiguration.PLACES,
+                            CacheConfiguration.WORLDS,
+                            CacheConfiguration.COUNTS
+                    },
+                    allEntries = true,
+                    beforeInvocation = true
+            ),
+            @CacheEvict(
+                    cacheNames = {
+                            CacheConfiguration.CHARACTERS,
+                            CacheConfiguration.CREATURES,
+                            CacheConfiguration.ITEMS,
+                            CacheConfiguration.PLACES,
+                            CacheConfiguration.WORLDS,
+                            CacheConfiguration.COUNTS
+                    },
+                    allEntries = true
+            )
+    })
+    public Map<String, Long> restore(InputStream input) throws DatabaseException {
+        final var restored = new LinkedHashMap<String, Long>();
+
+        try (final var snapshot = new SnapshotReader(input)) {
+            String collection;
+
+            while ((collection = snapshot.nextCollection()) != null) {
+                if (!COLLECTIONS.contains(collection) || restored.containsKey(collection)) {
+                    throw new IOException(String.format("Unexpected collection %s.", collection));
+                }
+
+                restored.put(collection, restore(snapshot, raw(collection)));
+
+                Logger.debug("Snapshot collection restored.", collection);
+            }
+        } catch (IOException e) {
+            Logger.error("Snapshot could not be read.", e.getMessage());
+
+            throw new DatabaseException(HeraldsOfChaosError.INVALID_SNAPSHOT);
+        }
+
+        return restored;
+    }
+
+    private long restore(SnapshotReader snapshot, MongoCollection<RawBsonDocument> target) throws IOException {
+        final var batch = new ArrayList<RawBsonDocument>(batchSize);
+        long restored = 0;
+        RawBsonDocument document;
+
+        while ((document = snapshot.nextDocument()) != null) {
+            batch.add(document);
+
+            if (batch.size() == batchSize) {
+                restored += insert(target, batch);
+            }
+        }
+
+        return restored + insert(target, batch);
+    }
+
+    private static int insert(MongoCollection<RawBsonDocument> target, List<RawBsonDocument> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        target.insertMany(batch, new InsertManyOptions().ordered(false));
+
+        final var inserted = batch.size();
+
+        batch.clear();
+
+        return inserted;
+    }
+
+    private MongoCollection<RawBsonDocument> raw(String collection) {
+        return mongoTemplate.getDb().getCollection(collection, RawBsonDocument.class);
+    }
+}
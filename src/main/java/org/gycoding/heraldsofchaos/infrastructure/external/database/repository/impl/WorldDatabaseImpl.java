@@ -1,45 +1,57 @@
 package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
 
 import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.domain.exceptions.DetailedError;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
 import org.gycoding.heraldsofchaos.domain.repository.WorldRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.WorldDatabaseMapper;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.WorldEntityReader;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceMongoRepository;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.WorldMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @AllArgsConstructor
 public class WorldDatabaseImpl implements WorldRepository {
-    private final OrderMongoRepository orderRepository;
     private final WorldMongoRepository repository;
     private final WorldDatabaseMapper mapper;
     private final PlaceMongoRepository placeRepository;
+    private final WorldEntityReader reader;
 
     @Override
-    public WorldMO save(WorldMO world, List<String> places) {
-        final var persistedPlaces = places.stream()
-                        .map(placeRepository::findByIdentifier)
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .toList();
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.WORLDS, key = "#world.identifier()"),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'World'")
+    })
+    public WorldMO save(WorldMO world, List<String> places) throws DatabaseException {
+        final var persistedPlaces = findPlaces(world, places != null ? places : List.of());
 
-        Logger.debug("Places searched (not specifically found) for world.", world.identifier());
+        Logger.debug("Places found for world.", world.identifier());
 
         return mapper.toMO(repository.save(mapper.toEntity(world, persistedPlaces)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfiguration.WORLDS, key = "#world.identifier()")
     public WorldMO update(WorldMO world, List<String> places) throws DatabaseException {
         final var persistedWorld = repository.findByIdentifier(world.identifier()).orElseThrow(() ->
                 new DatabaseException(HeraldsOfChaosError.WORLD_NOT_FOUND)
@@ -47,43 +59,98 @@ public class WorldDatabaseImpl implements WorldRepository {
 
         Logger.debug("World to be updated found", world.identifier());
 
-        final var persistedPlaces = places.stream()
-                .map(placeRepository::findByIdentifier)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .toList();
+        final var persistedPlaces = places != null ? findPlaces(world, places) : null;
 
-        Logger.debug("Places searched (not specifically found) for world.", world.identifier());
+        Logger.debug("Places found for world.", world.identifier());
 
         return mapper.toMO(repository.save(mapper.toUpdatedEntity(persistedWorld, world, persistedPlaces)));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfiguration.WORLDS, key = "#identifier"),
+            @CacheEvict(cacheNames = CacheConfiguration.CHARACTERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfiguration.COUNTS, key = "'World'")
+    })
     public void delete(String identifier) {
         repository.removeByIdentifier(identifier);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfiguration.WORLDS, key = "#identifier", unless = "#result == null")
     public Optional<WorldMO> get(String identifier) {
-        return repository.findByIdentifier(identifier)
+        return reader.findByIdentifier(identifier)
                 .map(mapper::toMO);
     }
 
     @Override
     public List<WorldMO> list() {
-        final var order = orderRepository.findByCollection("World")
-                .orElse(null)
-                .getOrder();
+        return reader.list().stream()
+                .map(mapper::toMO)
+                .toList();
+    }
 
-        return repository.findAll().stream()
+    @Override
+    public List<WorldMO> list(String language, Fieldset fields) {
+        return reader.list(language, fields).stream()
                 .map(mapper::toMO)
-                .sorted(Comparator.comparingInt(character -> order.indexOf(character.identifier())))
                 .toList();
     }
 
+    @Override
+    public Stream<WorldMO> stream(String language, Fieldset fields) {
+        return reader.stream(language, fields)
+                .map(mapper::toMO);
+    }
+
     @Override
     public Page<WorldMO> page(Pageable pageable) {
-        return repository.findAll(pageable)
+        return reader.page(pageable)
                 .map(mapper::toMO);
     }
+
+    @Override
+    public Slice<WorldMO> slice(Pageable pageable, String language, Fieldset fields) {
+        return reader.slice(pageable, language, fields)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfiguration.COUNTS, key = "'World'")
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public Window<WorldMO> scroll(String after, int size, String language, Fieldset fields) {
+        return reader.scroll(after, size, language, fields)
+                .map(mapper::toMO);
+    }
+
+    private List<PlaceEntity> findPlaces(WorldMO world, List<String> places) throws DatabaseException {
+        if (places.isEmpty()) {
+            return List.of();
+        }
+
+        final var persistedPlaces = placeRepository.findByIdentifierIn(places).stream()
+                .collect(Collectors.toMap(PlaceEntity::getIdentifier, Function.identity(), (first, second) -> first));
+
+        final var missingPlaces = places.stream()
+                .filter(place -> !persistedPlaces.containsKey(place))
+                .distinct()
+                .toList();
+
+        if (!missingPlaces.isEmpty()) {
+            Logger.error(String.format("Places not found for world: %s.", String.join(", ", missingPlaces)), world.identifier());
+
+            throw new DatabaseException(DetailedError.of(
+                    HeraldsOfChaosError.PLACE_NOT_FOUND,
+                    String.format("Missing places: %s.", String.join(", ", missingPlaces))
+            ));
+        }
+
+        return places.stream()
+                .map(persistedPlaces::get)
+                .toList();
+    }
 }
\ No newline at end of file
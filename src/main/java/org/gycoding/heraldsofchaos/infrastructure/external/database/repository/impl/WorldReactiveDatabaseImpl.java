@@ -0,0 +1,52 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import lombok.AllArgsConstructor;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
+import org.gycoding.heraldsofchaos.domain.repository.WorldReactiveRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.WorldDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveWorldEntityReader;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class WorldReactiveDatabaseImpl implements WorldReactiveRepository {
+    private final ReactiveWorldEntityReader reader;
+    private final WorldDatabaseMapper mapper;
+
+    @Override
+    public Mono<WorldMO> get(String identifier) {
+        return reader.findByIdentifier(identifier)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Flux<WorldMO> list(String language, Fieldset fields) {
+        return reader.list(language, fields)
+                .map(mapper::toMO);
+    }
+
+    @Override
+    public Mono<Slice<WorldMO>> slice(Pageable pageable, String language, Fieldset fields) {
+        return reader.slice(pageable, language, fields)
+                .map(worlds -> worlds.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Window<WorldMO>> scroll(String after, int size, String language, Fieldset fields) {
+        return reader.scroll(after, size, language, fields)
+                .map(worlds -> worlds.map(mapper::toMO));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return reader.count();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.snapshot;
+
+import org.bson.RawBsonDocument;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads snapshots written by {@link SnapshotWriter}, one collection section and one raw document at a time.
+ */
+public class SnapshotReader implements Closeable {
+    /**
+     * Largest document Mongo accepts plus headroom, bounding what a corrupt length prefix can make us allocate.
+     */
+    static final int MAX_DOCUMENT_SIZE = 16 * 1024 * 1024 + 16 * 1024;
+
+    private static final int MIN_DOCUMENT_SIZE = 5;
+
+    private final DataInputStream input;
+
+    public SnapshotReader(InputStream input) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(input, SnapshotWriter.BUFFER_SIZE), SnapshotWriter.BUFFER_SIZE));
+
+        final var magic = new byte[SnapshotWriter.MAGIC.length];
+
+        this.input.readFully(magic);
+
+        if (!Arrays.equals(magic, SnapshotWriter.MAGIC)) {
+            throw new IOException("Not a universe snapshot.");
+        }
+
+        final var version = this.input.readInt();
+
+        if (version != SnapshotWriter.VERSION) {
+            throw new IOException(String.format("Unsupported snapshot version %d.", version));
+        }
+    }
+
+    /**
+     * Name of the next collection section, or {@code null} at the end of the snapshot.
+     */
+    public String nextCollection() throws IOException {
+        final var name = input.readUTF();
+
+        return name.isEmpty() ? null : name;
+    }
+
+    /**
+     * Next document of the current collection section, or {@code null} at the end of the section.
+     */
+    public RawBsonDocument nextDocument() throws IOException {
+        final var length = input.readInt();
+
+        if (length == 0) {
+            return null;
+        }
+
+        if (length < MIN_DOCUMENT_SIZE || length > MAX_DOCUMENT_SIZE) {
+            throw new IOException(String.format("Invalid document length %d.", length));
+        }
+
+        final var bytes = new byte[length];
+
+        input.readFully(bytes);
+
+        return new RawBsonDocument(bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -0,0 +1,65 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.snapshot;
+
+import org.bson.RawBsonDocument;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes universe snapshots, a gzip stream laid out as:
+ * <pre>
+ * "HOCS" version:int
+ * ( name:utf ( length:int bson:byte[length] )* 0:int )*
+ * "":utf
+ * </pre>
+ * Documents are copied as the raw BSON read from Mongo, so they are never decoded and only the current one is held.
+ */
+public class SnapshotWriter implements Closeable {
+    static final byte[] MAGIC = { 'H', 'O', 'C', 'S' };
+    static final int VERSION = 1;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataOutputStream output;
+
+    private boolean inCollection = false;
+
+    public SnapshotWriter(OutputStream output) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(output, BUFFER_SIZE), BUFFER_SIZE));
+
+        this.output.write(MAGIC);
+        this.output.writeInt(VERSION);
+    }
+
+    public void collection(String name) throws IOException {
+        endCollection();
+
+        output.writeUTF(name);
+        inCollection = true;
+    }
+
+    public void document(RawBsonDocument document) throws IOException {
+        final var bytes = document.getByteBuffer().asNIO();
+
+        output.writeInt(bytes.remaining());
+        output.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+    }
+
+    @Override
+    public void close() throws IOException {
+        endCollection();
+
+        output.writeUTF("");
+        output.close();
+    }
+
+    private void endCollection() throws IOException {
+        if (inCollection) {
+            output.writeInt(0);
+            inCollection = false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.gycoding.heraldsofchaos.domain.repository.CharacterRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.CharacterDatabaseImpl;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+@Primary
+@Profile("in-memory")
+public class InMemoryCharacterRepository implements CharacterRepository {
+    private final CharacterDatabaseImpl database;
+    private final InMemorySnapshot<CharacterMO> snapshot;
+
+    public InMemoryCharacterRepository(CharacterDatabaseImpl database) {
+        this.database = database;
+        this.snapshot = new InMemorySnapshot<>(EntityType.CHARACTER, () -> InMemoryCollection.of(
+                database.list(),
+                database.page(Pageable.unpaged()).getContent(),
+                CharacterMO::identifier,
+                CharacterMO::world
+        ));
+    }
+
+    @Override
+    public CharacterMO save(CharacterMO character) throws DatabaseException {
+        return database.save(character);
+    }
+
+    @Override
+    public List<BulkResultMO> saveAll(List<CharacterMO> characters) {
+        return database.saveAll(characters);
+    }
+
+    @Override
+    public CharacterMO update(CharacterMO character) throws DatabaseException {
+        return database.update(character);
+    }
+
+    @Override
+    public void delete(String identifier) {
+        database.delete(identifier);
+    }
+
+    @Override
+    public Optional<CharacterMO> get(String identifier) {
+        return snapshot.get().get(identifier);
+    }
+
+    @Override
+    public List<CharacterMO> list() {
+        return snapshot.get().list();
+    }
+
+    @Override
+    public List<CharacterMO> list(CharacterFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() || world(filter) ? collection(filter).list() : database.list(filter, language, fields);
+    }
+
+    @Override
+    public Stream<CharacterMO> stream(CharacterFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() || world(filter) ? collection(filter).list().stream() : database.stream(filter, language, fields);
+    }
+
+    @Override
+    public Page<CharacterMO> page(Pageable pageable) {
+        return pageable.getSort().isSorted() ? database.page(pageable) : snapshot.get().page(pageable);
+    }
+
+    @Override
+    public Slice<CharacterMO> slice(Pageable pageable, CharacterFilterMO filter, String language, Fieldset fields) {
+        return pageable.getSort().isSorted() || !(filter.isEmpty() || world(filter)) ? database.slice(pageable, filter, language, fields) : collection(filter).slice(pageable);
+    }
+
+    @Override
+    public Window<CharacterMO> scroll(String after, int size, CharacterFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() || world(filter) ? collection(filter).scroll(after, size) : database.scroll(after, size, filter, language, fields);
+    }
+
+    @Override
+    public long count() {
+        return snapshot.get().count();
+    }
+
+    @Override
+    public long count(CharacterFilterMO filter, String language) {
+        return world(filter) ? collection(filter).count() : database.count(filter, language);
+    }
+
+    /**
+     * Whether {@code filter} only asks for the characters of a world, which the collection keeps grouped.
+     */
+    private static boolean world(CharacterFilterMO filter) {
+        return filter.world() != null && filter.race() == null;
+    }
+
+    private InMemoryCollection<CharacterMO> collection(CharacterFilterMO filter) {
+        return filter.world() != null ? snapshot.get().related(filter.world()) : snapshot.get();
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type().affected().contains(EntityType.CHARACTER)) {
+            snapshot.reload();
+        }
+    }
+}
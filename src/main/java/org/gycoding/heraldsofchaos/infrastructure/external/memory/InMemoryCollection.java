@@ -0,0 +1,131 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable copy of a whole collection, indexed for every read the repositories serve.
+ * <p>
+ * Elements are kept in the three orders Mongo answers in: the {@code _Order} order of lists, the storage order of
+ * unsorted pages and the identifier order of keyset windows, plus a hash index by identifier. A collection may also
+ * be grouped by a relation, e.g. characters by world, into one collection per related identifier.
+ */
+public final class InMemoryCollection<T> {
+    private final List<T> ordered;
+    private final List<T> natural;
+    private final List<T> sorted;
+    private final String[] identifiers;
+    private final Map<String, T> index;
+    private final Function<T, String> identifier;
+    private final Map<String, InMemoryCollection<T>> related;
+
+    private InMemoryCollection(List<T> ordered, List<T> natural, Function<T, String> identifier, Function<T, String> relation) {
+        this.ordered = List.copyOf(ordered);
+        this.natural = List.copyOf(natural);
+        this.sorted = natural.stream().sorted(Comparator.comparing(identifier)).toList();
+        this.identifiers = sorted.stream().map(identifier).toArray(String[]::new);
+        this.index = new HashMap<>(natural.size() * 2);
+        this.identifier = identifier;
+
+        natural.forEach(element -> index.put(identifier.apply(element), element));
+
+        this.related = relation == null ? Map.of() : group(ordered, natural, identifier, relation);
+    }
+
+    /**
+     * @param ordered    elements as listed, following {@code _Order}
+     * @param natural    elements in storage order, as unsorted pages read them
+     * @param identifier unique identifier of an element
+     */
+    public static <T> InMemoryCollection<T> of(List<T> ordered, List<T> natural, Function<T, String> identifier) {
+        return new InMemoryCollection<>(ordered, natural, identifier, null);
+    }
+
+    /**
+     * Like {@link #of(List, List, Function)}, also grouping the elements by the identifier {@code relation} points to.
+     */
+    public static <T> InMemoryCollection<T> of(List<T> ordered, List<T> natural, Function<T, String> identifier, Function<T, String> relation) {
+        return new InMemoryCollection<>(ordered, natural, identifier, relation);
+    }
+
+    /**
+     * Elements related to {@code key}, in the same orders as the whole collection, or none when nothing relates to it.
+     */
+    public InMemoryCollection<T> related(String key) {
+        return related.getOrDefault(key, new InMemoryCollection<>(List.of(), List.of(), identifier, null));
+    }
+
+    public Optional<T> get(String identifier) {
+        return Optional.ofNullable(index.get(identifier));
+    }
+
+    public List<T> list() {
+        return ordered;
+    }
+
+    /**
+     * Page in storage order; only unsorted pageables are served, sorted ones are left to Mongo by the caller.
+     */
+    public Page<T> page(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(natural, pageable, natural.size());
+        }
+
+        return new PageImpl<>(range(pageable.getOffset(), pageable.getPageSize()), pageable, natural.size());
+    }
+
+    public Slice<T> slice(Pageable pageable) {
+        return SliceCollectionReader.toSlice(range(pageable.getOffset(), pageable.getPageSize() + 1), pageable);
+    }
+
+    public Window<T> scroll(String after, int size) {
+        var from = 0;
+
+        if (after != null) {
+            final var position = Arrays.binarySearch(identifiers, after);
+
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+
+        return KeysetCollectionReader.toWindow(sorted.subList(from, Math.min(from + size + 1, sorted.size())), identifier, size);
+    }
+
+    public long count() {
+        return natural.size();
+    }
+
+    private static <T> Map<String, InMemoryCollection<T>> group(
+            List<T> ordered,
+            List<T> natural,
+            Function<T, String> identifier,
+            Function<T, String> relation
+    ) {
+        final var orderedGroups = ordered.stream().filter(element -> relation.apply(element) != null).collect(Collectors.groupingBy(relation));
+        final var naturalGroups = natural.stream().filter(element -> relation.apply(element) != null).collect(Collectors.groupingBy(relation));
+
+        return naturalGroups.entrySet().stream().collect(Collectors.toMap(
+                Map.Entry::getKey,
+                group -> new InMemoryCollection<>(orderedGroups.getOrDefault(group.getKey(), List.of()), group.getValue(), identifier, null)
+        ));
+    }
+
+    private List<T> range(long offset, int size) {
+        final var from = (int) Math.min(offset, natural.size());
+
+        return natural.subList(from, (int) Math.min((long) from + size, natural.size()));
+    }
+}
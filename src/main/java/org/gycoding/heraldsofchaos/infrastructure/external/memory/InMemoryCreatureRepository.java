@@ -0,0 +1,115 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.domain.repository.CreatureRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.CreatureDatabaseImpl;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+@Primary
+@Profile("in-memory")
+public class InMemoryCreatureRepository implements CreatureRepository {
+    private final CreatureDatabaseImpl database;
+    private final InMemorySnapshot<CreatureMO> snapshot;
+
+    public InMemoryCreatureRepository(CreatureDatabaseImpl database) {
+        this.database = database;
+        this.snapshot = new InMemorySnapshot<>(EntityType.CREATURE, () -> InMemoryCollection.of(
+                database.list(),
+                database.page(Pageable.unpaged()).getContent(),
+                CreatureMO::identifier
+        ));
+    }
+
+    @Override
+    public CreatureMO save(CreatureMO creature) {
+        return database.save(creature);
+    }
+
+    @Override
+    public List<BulkResultMO> saveAll(List<CreatureMO> creatures) {
+        return database.saveAll(creatures);
+    }
+
+    @Override
+    public CreatureMO update(CreatureMO creature) throws DatabaseException {
+        return database.update(creature);
+    }
+
+    @Override
+    public void delete(String identifier) {
+        database.delete(identifier);
+    }
+
+    @Override
+    public Optional<CreatureMO> get(String identifier) {
+        return snapshot.get().get(identifier);
+    }
+
+    @Override
+    public List<CreatureMO> list() {
+        return snapshot.get().list();
+    }
+
+    @Override
+    public List<CreatureMO> list(CreatureFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() ? snapshot.get().list() : database.list(filter, language, fields);
+    }
+
+    @Override
+    public Stream<CreatureMO> stream(CreatureFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() ? snapshot.get().list().stream() : database.stream(filter, language, fields);
+    }
+
+    @Override
+    public Page<CreatureMO> page(Pageable pageable) {
+        return pageable.getSort().isSorted() ? database.page(pageable) : snapshot.get().page(pageable);
+    }
+
+    @Override
+    public Slice<CreatureMO> slice(Pageable pageable, CreatureFilterMO filter, String language, Fieldset fields) {
+        return pageable.getSort().isSorted() || !filter.isEmpty() ? database.slice(pageable, filter, language, fields) : snapshot.get().slice(pageable);
+    }
+
+    @Override
+    public Window<CreatureMO> scroll(String after, int size, CreatureFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() ? snapshot.get().scroll(after, size) : database.scroll(after, size, filter, language, fields);
+    }
+
+    @Override
+    public long count() {
+        return snapshot.get().count();
+    }
+
+    @Override
+    public long count(CreatureFilterMO filter, String language) {
+        return database.count(filter, language);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type().affected().contains(EntityType.CREATURE)) {
+            snapshot.reload();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.gycoding.heraldsofchaos.domain.repository.ItemRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.ItemDatabaseImpl;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+@Primary
+@Profile("in-memory")
+public class InMemoryItemRepository implements ItemRepository {
+    private final ItemDatabaseImpl database;
+    private final InMemorySnapshot<ItemMO> snapshot;
+
+    public InMemoryItemRepository(ItemDatabaseImpl database) {
+        this.database = database;
+        this.snapshot = new InMemorySnapshot<>(EntityType.ITEM, () -> InMemoryCollection.of(
+                database.list(),
+                database.page(Pageable.unpaged()).getContent(),
+                ItemMO::identifier
+        ));
+    }
+
+    @Override
+    public ItemMO save(ItemMO item) {
+        return database.save(item);
+    }
+
+    @Override
+    public List<BulkResultMO> saveAll(List<ItemMO> items) {
+        return database.saveAll(items);
+    }
+
+    @Override
+    public ItemMO update(ItemMO item) throws DatabaseException {
+        return database.update(item);
+    }
+
+    @Override
+    public void delete(String identifier) {
+        database.delete(identifier);
+    }
+
+    @Override
+    public Optional<ItemMO> get(String identifier) {
+        return snapshot.get().get(identifier);
+    }
+
+    @Override
+    public List<ItemMO> list() {
+        return snapshot.get().list();
+    }
+
+    @Override
+    public List<ItemMO> list(ItemFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() ? snapshot.get().list() : database.list(filter, language, fields);
+    }
+
+    @Override
+    public Stream<ItemMO> stream(ItemFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() ? snapshot.get().list().stream() : database.stream(filter, language, fields);
+    }
+
+    @Override
+    public Page<ItemMO> page(Pageable pageable) {
+        return pageable.getSort().isSorted() ? database.page(pageable) : snapshot.get().page(pageable);
+    }
+
+    @Override
+    public Slice<ItemMO> slice(Pageable pageable, ItemFilterMO filter, String language, Fieldset fields) {
+        return pageable.getSort().isSorted() || !filter.isEmpty() ? database.slice(pageable, filter, language, fields) : snapshot.get().slice(pageable);
+    }
+
+    @Override
+    public Window<ItemMO> scroll(String after, int size, ItemFilterMO filter, String language, Fieldset fields) {
+        return filter.isEmpty() ? snapshot.get().scroll(after, size) : database.scroll(after, size, filter, language, fields);
+    }
+
+    @Override
+    public long count() {
+        return snapshot.get().count();
+    }
+
+    @Override
+    public long count(ItemFilterMO filter, String language) {
+        return database.count(filter, language);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type().affected().contains(EntityType.ITEM)) {
+            snapshot.reload();
+        }
+    }
+}
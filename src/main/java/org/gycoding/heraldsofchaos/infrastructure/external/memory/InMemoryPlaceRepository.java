@@ -0,0 +1,103 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
+import org.gycoding.heraldsofchaos.domain.repository.PlaceRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.PlaceDatabaseImpl;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+@Primary
+@Profile("in-memory")
+public class InMemoryPlaceRepository implements PlaceRepository {
+    private final PlaceDatabaseImpl database;
+    private final InMemorySnapshot<PlaceMO> snapshot;
+
+    public InMemoryPlaceRepository(PlaceDatabaseImpl database) {
+        this.database = database;
+        this.snapshot = new InMemorySnapshot<>(EntityType.PLACE, () -> InMemoryCollection.of(
+                database.list(),
+                database.page(Pageable.unpaged()).getContent(),
+                PlaceMO::identifier
+        ));
+    }
+
+    @Override
+    public PlaceMO save(PlaceMO place) {
+        return database.save(place);
+    }
+
+    @Override
+    public PlaceMO update(PlaceMO place) throws DatabaseException {
+        return database.update(place);
+    }
+
+    @Override
+    public void delete(String identifier) {
+        database.delete(identifier);
+    }
+
+    @Override
+    public Optional<PlaceMO> get(String identifier) {
+        return snapshot.get().get(identifier);
+    }
+
+    @Override
+    public List<PlaceMO> list() {
+        return snapshot.get().list();
+    }
+
+    @Override
+    public List<PlaceMO> list(String language, Fieldset fields) {
+        return snapshot.get().list();
+    }
+
+    @Override
+    public Stream<PlaceMO> stream(String language, Fieldset fields) {
+        return snapshot.get().list().stream();
+    }
+
+    @Override
+    public Page<PlaceMO> page(Pageable pageable) {
+        return pageable.getSort().isSorted() ? database.page(pageable) : snapshot.get().page(pageable);
+    }
+
+    @Override
+    public Slice<PlaceMO> slice(Pageable pageable, String language, Fieldset fields) {
+        return pageable.getSort().isSorted() ? database.slice(pageable, language, fields) : snapshot.get().slice(pageable);
+    }
+
+    @Override
+    public Window<PlaceMO> scroll(String after, int size, String language, Fieldset fields) {
+        return snapshot.get().scroll(after, size);
+    }
+
+    @Override
+    public long count() {
+        return snapshot.get().count();
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.type().affected().contains(EntityType.PLACE)) {
+            snapshot.reload();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.quasar.logs.service.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Current {@link InMemoryCollection} of an entity type, replaced as a whole on every reload.
+ * <p>
+ * The in-memory repositories of the {@code in-memory} profile serve reads from it and send writes through to Mongo;
+ * the {@link org.gycoding.heraldsofchaos.application.event.EntityChangedEvent} published after each write reloads
+ * the affected types before the write returns, ahead of any other listener reading through the repositories.
+ * Readers always see one complete collection, either the previous or the next one, and a reload that fails, e.g.
+ * because Mongo is unreachable, keeps serving the previous collection.
+ * <p>
+ * Overlapping reloads are stamped with a generation taken before they read Mongo, and only replace a collection of
+ * an older generation. A reload that started before a later write committed, but finishes after the reload of that
+ * write, is discarded instead of bringing back the collection without it.
+ * <p>
+ * Reads for a language return full translations, as languages only narrow what Mongo decodes. Sorted pages and
+ * filtered reads, other than those of a relation kept by the collection, are still sent to Mongo.
+ */
+public class InMemorySnapshot<T> {
+    private final EntityType type;
+    private final Supplier<InMemoryCollection<T>> loader;
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicReference<Loaded<T>> current;
+
+    public InMemorySnapshot(EntityType type, Supplier<InMemoryCollection<T>> loader) {
+        this.type = type;
+        this.loader = loader;
+        this.current = new AtomicReference<>(new Loaded<>(generations.get(), loader.get()));
+
+        Logger.info("In-memory read model loaded.", String.format("%s: %d", type, get().count()));
+    }
+
+    public InMemoryCollection<T> get() {
+        return current.get().collection();
+    }
+
+    public void reload() {
+        final var generation = generations.incrementAndGet();
+
+        try {
+            final var loaded = new Loaded<>(generation, loader.get());
+
+            if (current.accumulateAndGet(loaded, (previous, next) -> next.generation() > previous.generation() ? next : previous) == loaded) {
+                Logger.debug("In-memory read model reloaded.", type.toString());
+            } else {
+                Logger.debug("In-memory read model reload superseded by a newer one.", type.toString());
+            }
+        } catch (Exception e) {
+            Logger.error(String.format("In-memory read model of %s could not be reloaded, serving the previous one.", type), e.getMessage());
+        }
+    }
+
+    private record Loaded<T>(long generation, InMemoryCollection<T> collection) { }
+}
@@ -0,0 +1,31 @@
+package org.gycoding.heraldsofchaos.infrastructure.monitoring;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Code paths a virtual thread can be pinned in, recognised by the package of the innermost frame that belongs to one.
+ */
+public enum PinningSource {
+    MONGO_DRIVER("com.mongodb."),
+    LOGGER("org.gycoding.quasar.logs."),
+    APPLICATION("org.gycoding.heraldsofchaos."),
+    OTHER("");
+
+    private final String prefix;
+
+    PinningSource(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public boolean matches(String frame) {
+        return this != OTHER && frame.startsWith(prefix);
+    }
+
+    public static PinningSource of(List<String> frames) {
+        return frames.stream()
+                .flatMap(frame -> Arrays.stream(values()).filter(source -> source.matches(frame)))
+                .findFirst()
+                .orElse(OTHER);
+    }
+}
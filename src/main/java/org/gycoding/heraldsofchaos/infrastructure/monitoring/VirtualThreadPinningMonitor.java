@@ -0,0 +1,89 @@
+package org.gycoding.heraldsofchaos.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.gycoding.quasar.logs.service.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reports virtual threads pinned to their carrier thread while running on virtual threads.
+ * <p>
+ * Blocking inside a {@code synchronized} block or a native frame keeps the carrier busy, so a pinning dependency
+ * (e.g. the Mongo driver or the {@link Logger}) silently caps concurrency at the number of carriers. Pins longer than
+ * the threshold are read from the {@code jdk.VirtualThreadPinned} JFR event, logged with the frame responsible for
+ * them and counted in the {@value #METER} meter tagged by {@link PinningSource}.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    public static final String METER = "heraldsofchaos.threads.pinned";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${heraldsofchaos.threads.pinning-threshold:20ms}") Duration threshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+
+        Logger.info("Virtual thread pinning monitor started.", threshold.toString());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    void report(Duration duration, List<String> frames) {
+        final var source = PinningSource.of(frames);
+        final var culprit = frames.stream().filter(source::matches).findFirst().orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+
+        meterRegistry.counter(METER, "source", source.name()).increment();
+
+        Logger.info(String.format("Virtual thread pinned for %d ms by %s.", duration.toMillis(), source), culprit);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        final var frames = event.getStackTrace() == null ? List.<String>of() : event.getStackTrace().getFrames().stream()
+                .map(VirtualThreadPinningMonitor::frame)
+                .toList();
+
+        report(event.getDuration(), frames);
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,39 @@
+package org.gycoding.heraldsofchaos.shared;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Lower-cases text and folds the accented letters of our names into plain ones, so identifiers and search terms
+ * match regardless of how a name was typed.
+ */
+public class TextFolding {
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public static String fold(String text) {
+        return text.toLowerCase()
+                .replace("ä", "a")
+                .replace("ë", "e")
+                .replace("ï", "i")
+                .replace("ö", "o")
+                .replace("ü", "u")
+                .replace("æ", "ae")
+                .replace("ø", "o")
+                .replace("á", "a")
+                .replace("é", "e")
+                .replace("í", "i")
+                .replace("ó", "o")
+                .replace("ú", "u")
+                .replace("ý", "y");
+    }
+
+    /**
+     * Folded words of {@code text}, split on anything that is not a letter or a digit.
+     */
+    public static List<String> tokens(String text) {
+        return Arrays.stream(SEPARATORS.split(fold(text)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
@@ -1,6 +1,7 @@
 package org.gycoding.heraldsofchaos.application.mapper;
 
 import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterIDTO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
 import org.junit.jupiter.api.DisplayName;
@@ -9,9 +10,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class CharacterServiceMapperTest {
@@ -34,7 +38,7 @@ public class CharacterServiceMapperTest {
     @DisplayName("[CHARACTER_SERVICE_MAPPER] - Test unsuccessful mapping from CharacterIDTO to CharacterMO.")
     void testWrongCharacterToMO() {
         // Then
-        final var result = mapper.toMO(null);
+        final var result = mapper.toMO((CharacterIDTO) null);
 
         // Verify
         assertNull(result);
@@ -52,4 +56,26 @@ public class CharacterServiceMapperTest {
         // Verify
         assertNotNull(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[CHARACTER_SERVICE_MAPPER] - Test that mapping a sparse fieldset only translates the requested fields.")
+    void testCharacterToODTOFieldset() {
+        // When
+        final var characterMO = mock(CharacterMO.class);
+        final var name = mock(TranslatedString.class);
+
+        when(characterMO.name()).thenReturn(name);
+        when(name.get(TranslatedString.EN)).thenReturn("mock-name");
+
+        // Then
+        final var result = mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.of(List.of("identifier", "name")));
+
+        // Verify
+        verify(characterMO, never()).title();
+        verify(characterMO, never()).description();
+        verify(characterMO, never()).race();
+
+        assertEquals("mock-name", result.name());
+        assertNull(result.description());
+    }
+}
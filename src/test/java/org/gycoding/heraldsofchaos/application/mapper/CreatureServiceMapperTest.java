@@ -34,7 +34,7 @@ public class CreatureServiceMapperTest {
     @DisplayName("[CREATURE_SERVICE_MAPPER] - Test unsuccessful mapping from CreatureIDTO to CreatureMO.")
     void testWrongCreatureToMO() {
         // Then
-        final var result = mapper.toMO(null);
+        final var result = mapper.toMO((CreatureIDTO) null);
 
         // Verify
         assertNull(result);
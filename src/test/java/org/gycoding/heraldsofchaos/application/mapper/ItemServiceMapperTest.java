@@ -34,7 +34,7 @@ public class ItemServiceMapperTest {
     @DisplayName("[ITEM_SERVICE_MAPPER] - Test unsuccessful mapping from ItemIDTO to ItemMO.")
     void testWrongItemToMO() {
         // Then
-        final var result = mapper.toMO(null);
+        final var result = mapper.toMO((ItemIDTO) null);
 
         // Verify
         assertNull(result);
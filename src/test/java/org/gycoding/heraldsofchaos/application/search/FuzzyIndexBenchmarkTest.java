@@ -0,0 +1,63 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Timings of {@link FuzzyIndex} at production scale, excluded from {@code mvn test} and run with
+ * {@code mvn test -Dgroups=benchmark -DexcludedGroups=}.
+ */
+@Tag("benchmark")
+public class FuzzyIndexBenchmarkTest {
+    @Test
+    @DisplayName("[FUZZY_INDEX_BENCHMARK] - Benchmark lookups of misspelled names among 100k synthetic names.")
+    void testBenchmark() {
+        // When
+        final var random = new Random(42);
+        final var names = IntStream.range(0, 100_000).mapToObj(ignored -> SyntheticNames.name(random)).toList();
+        final var index = new FuzzyIndex<SearchKey>();
+        final var replacements = new HashMap<SearchKey, List<String>>();
+
+        IntStream.range(0, names.size()).forEach(position -> replacements.put(key("name-" + position), List.of(names.get(position))));
+
+        final var built = System.nanoTime();
+
+        index.replace(key -> true, replacements);
+
+        final var buildMillis = (System.nanoTime() - built) / 1_000_000;
+        final var queries = IntStream.range(0, 1_000).map(ignored -> random.nextInt(names.size())).boxed().toList();
+        final var misses = new ArrayList<Integer>();
+
+        // Then
+        final var started = System.nanoTime();
+
+        queries.forEach(position -> {
+            final var matches = index.find(SyntheticNames.typo(names.get(position), random), FuzzyIndex.MAX_DISTANCE, key -> true, 20);
+
+            if (matches.stream().noneMatch(match -> match.key().equals(key("name-" + position)))) {
+                misses.add(position);
+            }
+        });
+
+        final var perQueryMicros = (System.nanoTime() - started) / 1_000 / queries.size();
+
+        System.out.printf("[FUZZY_INDEX_BENCHMARK] 100k names indexed in %d ms, %d us per query.%n", buildMillis, perQueryMicros);
+
+        // Verify
+        assertEquals(List.of(), misses);
+    }
+
+    private static SearchKey key(String identifier) {
+        return new SearchKey(EntityType.CREATURE, identifier);
+    }
+}
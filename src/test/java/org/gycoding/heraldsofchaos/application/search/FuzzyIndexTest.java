@@ -0,0 +1,121 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FuzzyIndexTest {
+    @Test
+    @DisplayName("[FUZZY_INDEX] - Test that accent-folded misspellings are found within the distance, closest first.")
+    void testFind() {
+        // When
+        final var index = new FuzzyIndex<SearchKey>();
+
+        index.put(key("aerendil"), List.of("Ærendil"));
+        index.put(key("gwyneth"), List.of("Gwynëth", "gwyneth"));
+        index.put(key("gwen"), List.of("Gwen"));
+
+        // Then
+        final var aerendil = index.find("Arendil", 2, key -> true, 10);
+        final var gwyneth = index.find("gwineth", 2, key -> true, 10);
+        final var exact = index.find("GWYNËTH", 0, key -> true, 10);
+        final var tooFar = index.find("gwynnethe", 1, key -> true, 10);
+
+        // Verify
+        assertEquals(List.of(new FuzzyIndex.Match<>(key("aerendil"), "aerendil", 1)), aerendil);
+        assertEquals(List.of(new FuzzyIndex.Match<>(key("gwyneth"), "gwyneth", 1)), gwyneth);
+        assertEquals(List.of(new FuzzyIndex.Match<>(key("gwyneth"), "gwyneth", 0)), exact);
+        assertEquals(List.of(), tooFar);
+    }
+
+    @Test
+    @DisplayName("[FUZZY_INDEX] - Test that the distance shrinks for short queries so the trigram bound still filters.")
+    void testDistance() {
+        // Verify
+        assertEquals(0, FuzzyIndex.distance("a", 2));
+        assertEquals(1, FuzzyIndex.distance("ab", 2));
+        assertEquals(2, FuzzyIndex.distance("abcde", 2));
+        assertEquals(FuzzyIndex.MAX_DISTANCE, FuzzyIndex.distance("abcdefghij", 5));
+    }
+
+    @Test
+    @DisplayName("[FUZZY_INDEX] - Test that the banded Levenshtein matches the full one within the bound and stops beyond it.")
+    void testLevenshtein() {
+        // Verify
+        assertEquals(0, FuzzyIndex.levenshtein("dragon", "dragon", 2));
+        assertEquals(1, FuzzyIndex.levenshtein("dragon", "dragn", 2));
+        assertEquals(2, FuzzyIndex.levenshtein("dragon", "dargon", 2));
+        assertEquals(2, FuzzyIndex.levenshtein("kitten", "sittin", 2));
+        assertEquals(3, FuzzyIndex.levenshtein("kitten", "sitting", 2));
+        assertEquals(3, FuzzyIndex.levenshtein("dragon", "wyrm", 2));
+    }
+
+    @Test
+    @DisplayName("[FUZZY_INDEX] - Test that keys are restricted by the filter and follow renames and removals.")
+    void testWrites() {
+        // When
+        final var index = new FuzzyIndex<SearchKey>();
+
+        index.put(key("dragon"), List.of("Dragon"));
+        index.put(new SearchKey(EntityType.ITEM, "dragon_scale"), List.of("Dragon"));
+
+        // Then
+        final var creatures = index.find("dragn", 1, key -> key.type() == EntityType.CREATURE, 10);
+
+        index.put(key("dragon"), List.of("Wyrm"));
+        index.remove(new SearchKey(EntityType.ITEM, "dragon_scale"));
+
+        final var afterWrites = index.find("dragn", 1, key -> true, 10);
+        final var renamed = index.find("wyrn", 1, key -> true, 10);
+
+        // Verify
+        assertEquals(List.of(key("dragon")), keys(creatures));
+        assertEquals(List.of(), afterWrites);
+        assertEquals(List.of(key("dragon")), keys(renamed));
+    }
+
+    @Test
+    @DisplayName("[FUZZY_INDEX] - Test that single-typo lookups find their name among 10k synthetic names.")
+    void testFindAmongSyntheticNames() {
+        // When
+        final var random = new Random(42);
+        final var names = IntStream.range(0, 10_000).mapToObj(ignored -> SyntheticNames.name(random)).toList();
+        final var index = new FuzzyIndex<SearchKey>();
+        final var replacements = new HashMap<SearchKey, List<String>>();
+
+        IntStream.range(0, names.size()).forEach(position -> replacements.put(key("name-" + position), List.of(names.get(position))));
+
+        index.replace(key -> true, replacements);
+
+        final var queries = IntStream.range(0, 500).map(ignored -> random.nextInt(names.size())).boxed().toList();
+        final var misses = new ArrayList<Integer>();
+
+        // Then
+        queries.forEach(position -> {
+            final var matches = index.find(SyntheticNames.typo(names.get(position), random), FuzzyIndex.MAX_DISTANCE, key -> true, 20);
+
+            if (matches.stream().noneMatch(match -> match.key().equals(key("name-" + position)))) {
+                misses.add(position);
+            }
+        });
+
+        // Verify
+        assertEquals(List.of(), misses);
+    }
+
+    private static SearchKey key(String identifier) {
+        return new SearchKey(EntityType.CREATURE, identifier);
+    }
+
+    private static List<SearchKey> keys(List<FuzzyIndex.Match<SearchKey>> matches) {
+        return matches.stream().map(FuzzyIndex.Match::key).toList();
+    }
+}
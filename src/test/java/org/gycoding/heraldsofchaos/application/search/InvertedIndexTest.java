@@ -0,0 +1,72 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InvertedIndexTest {
+    @Test
+    @DisplayName("[INVERTED_INDEX] - Test that documents are ranked by BM25, favouring rarer terms and shorter documents.")
+    void testRanking() {
+        // When
+        final var index = new InvertedIndex<String>();
+
+        index.put("dragon", List.of("red", "dragon", "of", "the", "north"));
+        index.put("dragon-long", List.of("old", "dragon", "of", "the", "south", "and", "the", "east", "seas"));
+        index.put("knight", List.of("knight", "of", "the", "north"));
+
+        // Then
+        final var hits = index.search(List.of("dragon", "north"), key -> true, 10);
+
+        // Verify
+        assertEquals(List.of("dragon", "knight", "dragon-long"), hits.stream().map(InvertedIndex.Hit::key).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("[INVERTED_INDEX] - Test that replaced and removed documents no longer match and filters and limits apply.")
+    void testWrites() {
+        // When
+        final var index = new InvertedIndex<String>();
+
+        index.put("a", List.of("sword"));
+        index.put("b", List.of("sword"));
+        index.put("c", List.of("sword"));
+        index.put("a", List.of("shield"));
+        index.remove("b");
+
+        // Then
+        final var swords = index.search(List.of("sword"), key -> true, 10);
+        final var filtered = index.search(List.of("sword", "shield"), key -> !key.equals("c"), 10);
+        final var limited = index.search(List.of("sword", "shield"), key -> true, 1);
+
+        // Verify
+        assertEquals(List.of("c"), swords.stream().map(InvertedIndex.Hit::key).toList());
+        assertEquals(List.of("a"), filtered.stream().map(InvertedIndex.Hit::key).toList());
+        assertEquals(1, limited.size());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("[INVERTED_INDEX] - Test that replacing a scope swaps only the documents inside it.")
+    void testReplace() {
+        // When
+        final var index = new InvertedIndex<String>();
+
+        index.put("item-a", List.of("sword"));
+        index.put("world-a", List.of("sword"));
+
+        // Then
+        index.replace(key -> key.startsWith("item-"), Map.of("item-b", List.of("sword")));
+
+        final var hits = index.search(List.of("sword"), key -> true, 10);
+
+        // Verify
+        assertEquals(List.of("item-b", "world-a"), hits.stream().map(InvertedIndex.Hit::key).sorted().toList());
+    }
+}
@@ -0,0 +1,106 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NameTrieTest {
+    private static final Set<EntityType> ALL = EnumSet.allOf(EntityType.class);
+
+    @Test
+    @DisplayName("[NAME_TRIE] - Test that names complete from any word, folded, ranking first-word matches and shorter names first.")
+    void testComplete() {
+        // When
+        final var trie = new NameTrie();
+
+        trie.put(key(EntityType.CREATURE, "red_dragon"), "Red Dragón");
+        trie.put(key(EntityType.CREATURE, "dragon"), "Dragon");
+        trie.put(key(EntityType.ITEM, "dragon_scale"), "Dragon Scale");
+        trie.put(key(EntityType.CHARACTER, "drake"), "Drake");
+
+        // Then
+        final var dra = trie.complete("DRÁ", ALL, 10);
+        final var dragon = trie.complete("dragon", ALL, 2);
+        final var red = trie.complete("red d", ALL, 10);
+        final var missing = trie.complete("x", ALL, 10);
+
+        // Verify
+        assertEquals(List.of("drake", "dragon", "dragon_scale", "red_dragon"), identifiers(dra));
+        assertEquals(List.of("dragon", "dragon_scale"), identifiers(dragon));
+        assertEquals(List.of("red_dragon"), identifiers(red));
+        assertEquals("Red Dragón", red.get(0).name());
+        assertEquals(List.of(), missing);
+    }
+
+    @Test
+    @DisplayName("[NAME_TRIE] - Test that completions are restricted to the requested types.")
+    void testCompleteTypes() {
+        // When
+        final var trie = new NameTrie();
+
+        trie.put(key(EntityType.CREATURE, "dragon"), "Dragon");
+        trie.put(key(EntityType.ITEM, "dragon_scale"), "Dragon Scale");
+
+        // Then
+        final var result = trie.complete("dra", EnumSet.of(EntityType.ITEM), 10);
+
+        // Verify
+        assertEquals(List.of("dragon_scale"), identifiers(result));
+    }
+
+    @Test
+    @DisplayName("[NAME_TRIE] - Test that cached completions follow renames and removals beyond the top of a node.")
+    void testWrites() {
+        // When
+        final var trie = new NameTrie();
+
+        IntStream.range(0, NameTrie.TOP + 5).forEach(index -> trie.put(key(EntityType.ITEM, "item-" + index), String.format("Sword %02d", index)));
+
+        // Then
+        trie.remove(key(EntityType.ITEM, "item-0"));
+        trie.put(key(EntityType.ITEM, "item-1"), "Shield");
+
+        final var swords = trie.complete("sw", ALL, NameTrie.TOP);
+        final var shields = trie.complete("sh", ALL, NameTrie.TOP);
+
+        // Verify
+        assertEquals(NameTrie.TOP, swords.size());
+        assertEquals("item-2", swords.get(0).key().identifier());
+        assertEquals("item-11", swords.get(NameTrie.TOP - 1).key().identifier());
+        assertEquals(List.of("item-1"), identifiers(shields));
+    }
+
+    @Test
+    @DisplayName("[NAME_TRIE] - Test that replacing a scope swaps only the names inside it.")
+    void testReplace() {
+        // When
+        final var trie = new NameTrie();
+
+        trie.put(key(EntityType.ITEM, "old_sword"), "Old Sword");
+        trie.put(key(EntityType.WORLD, "sword_coast"), "Sword Coast");
+
+        // Then
+        trie.replace(key -> key.type() == EntityType.ITEM, Map.of(key(EntityType.ITEM, "new_sword"), "New Sword"));
+
+        final var result = trie.complete("sword", ALL, 10);
+
+        // Verify
+        assertEquals(List.of("sword_coast", "new_sword"), identifiers(result));
+    }
+
+    private static SearchKey key(EntityType type, String identifier) {
+        return new SearchKey(type, identifier);
+    }
+
+    private static List<String> identifiers(List<NameTrie.Completion> completions) {
+        return completions.stream().map(completion -> completion.key().identifier()).toList();
+    }
+}
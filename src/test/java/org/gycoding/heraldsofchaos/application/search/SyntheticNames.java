@@ -0,0 +1,33 @@
+package org.gycoding.heraldsofchaos.application.search;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Random lowercase names, and single typos of them, for searching large indexes.
+ */
+class SyntheticNames {
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    static String name(Random random) {
+        final var builder = new StringBuilder();
+
+        IntStream.range(0, 6 + random.nextInt(8)).forEach(ignored -> builder.append(LETTERS.charAt(random.nextInt(LETTERS.length()))));
+
+        return builder.toString();
+    }
+
+    /**
+     * Applies one random substitution, deletion or insertion to {@code name}.
+     */
+    static String typo(String name, Random random) {
+        final var position = random.nextInt(name.length());
+        final var letter = LETTERS.charAt(random.nextInt(LETTERS.length()));
+
+        return switch (random.nextInt(3)) {
+            case 0 -> name.substring(0, position) + letter + name.substring(position + 1);
+            case 1 -> name.substring(0, position) + name.substring(position + 1);
+            default -> name.substring(0, position) + letter + name.substring(position);
+        };
+    }
+}
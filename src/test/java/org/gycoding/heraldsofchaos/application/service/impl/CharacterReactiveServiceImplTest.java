@@ -0,0 +1,197 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.application.mapper.CharacterServiceMapper;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.gycoding.heraldsofchaos.domain.repository.CharacterReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CharacterReactiveServiceImplTest {
+    @Mock
+    private CharacterReactiveRepository repository;
+
+    @Mock
+    private CharacterServiceMapper mapper;
+
+    @InjectMocks
+    private CharacterReactiveServiceImpl service;
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_SERVICE] - Test successful retrieval of a Character.")
+    void testGetCharacter() {
+        // When
+        final var id = "mock-character-identifier";
+        final var characterMO = mock(CharacterMO.class);
+        final var characterODTO = mock(CharacterODTO.class);
+
+        when(repository.get(id)).thenReturn(Mono.just(characterMO));
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(characterODTO)
+                .verifyComplete();
+
+        verify(repository).get(id);
+        verify(mapper).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_SERVICE] - Test unsuccessful retrieval of a Character due to it not being found.")
+    void testWrongGetCharacterNotFound() {
+        // When
+        final var id = "mock-character-identifier";
+        final var expectedException = new ServiceException(HeraldsOfChaosError.CHARACTER_NOT_FOUND);
+
+        when(repository.get(id)).thenReturn(Mono.empty());
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectErrorSatisfies(error -> {
+                    assertEquals(expectedException.getStatus(), ((ServiceException) error).getStatus());
+                    assertEquals(expectedException.getCode(), ((ServiceException) error).getCode());
+                })
+                .verify();
+
+        verify(repository).get(id);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_SERVICE] - Test successful retrieval of a list of Characters.")
+    void testListCharacters() {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().world("mock-world").race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().world("mock-world").race("mock-race").build();
+        final var characterMO = mock(CharacterMO.class);
+        final var characterODTO = mock(CharacterODTO.class);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.list(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(characterMO, characterMO));
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
+
+        // Then
+        final var result = service.list(filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(characterODTO, characterODTO)
+                .verifyComplete();
+
+        verify(repository).list(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper, times(2)).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_SERVICE] - Test successful retrieval of a slice of Characters.")
+    void testSliceCharacters() {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().world("mock-world").race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().world("mock-world").race("mock-race").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var characterMO = mock(CharacterMO.class);
+        final var characterODTO = mock(CharacterODTO.class);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-character-identifier");
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(new SliceImpl<>(List.of(characterMO), pageable, true)));
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
+        when(characterODTO.toMap()).thenReturn(characterMap);
+
+        // Then
+        final var result = service.slice(pageable, filterIDTO, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(characterMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_SERVICE] - Test successful retrieval of a window of Characters after an identifier.")
+    void testScrollCharacters() {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().world("mock-world").race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().world("mock-world").race("mock-race").build();
+        final var after = "mock-character-identifier";
+        final var characterMO = mock(CharacterMO.class);
+        final var characterODTO = mock(CharacterODTO.class);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-next-character-identifier");
+        final Window<CharacterMO> window = Window.from(List.of(characterMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), false);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
+        when(characterODTO.toMap()).thenReturn(characterMap);
+
+        // Then
+        final var result = service.scroll(after, 10, filterIDTO, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(characterMap), result.getContent());
+        assertEquals(false, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_SERVICE] - Test that filtered counts are read from the database while unfiltered ones use the total.")
+    void testCountCharacters() {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().world("mock-world").race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().world("mock-world").race("mock-race").build();
+        final var emptyIDTO = CharacterFilterIDTO.builder().build();
+        final var emptyMO = CharacterFilterMO.builder().build();
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(mapper.toMO(emptyIDTO)).thenReturn(emptyMO);
+        when(repository.count(filterMO, TranslatedString.EN)).thenReturn(Mono.just(2L));
+        when(repository.count()).thenReturn(Mono.just(5L));
+
+        // Then
+        final var filtered = service.count(filterIDTO, TranslatedString.EN).block();
+        final var total = service.count(emptyIDTO, TranslatedString.EN).block();
+
+        // Verify
+        verify(repository).count(filterMO, TranslatedString.EN);
+        verify(repository).count();
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(2L, filtered);
+        assertEquals(5L, total);
+    }
+}
@@ -1,10 +1,17 @@
 package org.gycoding.heraldsofchaos.application.service.impl;
 
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.CharacterServiceMapper;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
 import org.gycoding.heraldsofchaos.domain.repository.CharacterRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
@@ -17,11 +24,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,6 +49,9 @@ public class CharacterServiceImplTest {
     @Mock
     private CharacterServiceMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private CharacterServiceImpl service;
 
@@ -54,7 +71,6 @@ public class CharacterServiceImplTest {
         final var characterMO = mock(CharacterMO.class);
         final var characterODTO = mock(CharacterODTO.class);
 
-        when(repository.get(characterMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(characterIDTO)).thenReturn(characterMO);
         when(repository.save(characterMO)).thenReturn(characterMO);
         when(mapper.toODTO(characterMO, TranslatedString.EN)).thenReturn(characterODTO);
@@ -63,24 +79,74 @@ public class CharacterServiceImplTest {
         final var result = service.save(characterIDTO);
 
         // Verify
-        verify(repository).get(characterMO.identifier());
         verify(mapper).toMO(characterIDTO);
         verify(repository).save(characterMO);
         verify(mapper).toODTO(characterMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CHARACTER, characterMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(characterODTO, result);
     }
 
+    @Test
+    @DisplayName("[CHARACTER_SERVICE] - Test successful bulk save of Characters reporting every element.")
+    void testSaveAllCharacters() throws ServiceException {
+        // When
+        final var characterIDTO = mock(CharacterIDTO.class);
+        final var characterMO = mock(CharacterMO.class);
+        final var results = List.of(
+                BulkResultMO.written("mock-saved-character"),
+                BulkResultMO.failed("mock-duplicated-character", HeraldsOfChaosError.CHARACTER_ALREADY_EXISTS_CONFLICT)
+        );
+
+        when(mapper.toMO(characterIDTO)).thenReturn(characterMO);
+        when(repository.saveAll(List.of(characterMO, characterMO))).thenReturn(results);
+
+        // Then
+        final var result = service.saveAll(List.of(characterIDTO, characterIDTO));
+
+        // Verify
+        verify(mapper, times(2)).toMO(characterIDTO);
+        verify(repository).saveAll(List.of(characterMO, characterMO));
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CHARACTER, null));
+        verifyNoMoreInteractions(mapper, repository, publisher);
+
+        assertEquals(List.of(
+                new BulkResultODTO("mock-saved-character", null),
+                new BulkResultODTO("mock-duplicated-character", HeraldsOfChaosError.CHARACTER_ALREADY_EXISTS_CONFLICT)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_SERVICE] - Test that a failing bulk write reports every Character of the batch as not saved.")
+    void testWrongSaveAllCharacters() throws ServiceException {
+        // When
+        final var characterIDTO = CharacterIDTO.builder().identifier("mock-character-id").build();
+        final var characterMO = mock(CharacterMO.class);
+
+        when(mapper.toMO(characterIDTO)).thenReturn(characterMO);
+        when(repository.saveAll(List.of(characterMO))).thenThrow(new RuntimeException("Connection refused"));
+
+        // Then
+        final var result = service.saveAll(List.of(characterIDTO));
+
+        // Verify
+        verify(repository).saveAll(List.of(characterMO));
+        verifyNoInteractions(publisher);
+
+        assertEquals(List.of(new BulkResultODTO("mock-character-id", HeraldsOfChaosError.CHARACTER_SAVE_CONFLICT)), result);
+    }
+
     @Test
     @DisplayName("[CHARACTER_SERVICE] - Test unsuccessful save of a Character due to it already existing.")
-    void testWrongSaveCharacterAlreadyExists() {
+    void testWrongSaveCharacterAlreadyExists() throws DatabaseException {
         // When
         final var characterIDTO = mock(CharacterIDTO.class);
         final var characterMO = mock(CharacterMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.CHARACTER_ALREADY_EXISTS_CONFLICT);
 
-        when(repository.get(characterMO.identifier())).thenReturn(Optional.of(characterMO));
+        when(mapper.toMO(characterIDTO)).thenReturn(characterMO);
+        when(repository.save(characterMO)).thenThrow(new DuplicateKeyException("Duplicate identifier."));
 
         // Then
         final var error = assertThrows(
@@ -89,7 +155,8 @@ public class CharacterServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(characterMO.identifier());
+        verify(mapper).toMO(characterIDTO);
+        verify(repository).save(characterMO);
         verifyNoMoreInteractions(repository);
 
         assertEquals(expectedException.getStatus(), error.getStatus());
@@ -104,7 +171,6 @@ public class CharacterServiceImplTest {
         final var characterMO = mock(CharacterMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.CHARACTER_SAVE_CONFLICT);
 
-        when(repository.get(characterMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(characterIDTO)).thenReturn(characterMO);
         when(repository.save(characterMO)).thenThrow(new RuntimeException("Any exception."));
 
@@ -115,7 +181,6 @@ public class CharacterServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(characterMO.identifier());
         verify(mapper).toMO(characterIDTO);
         verify(repository).save(characterMO);
         verifyNoMoreInteractions(repository);
@@ -144,6 +209,7 @@ public class CharacterServiceImplTest {
         verify(mapper).toMO(characterIDTO);
         verify(repository).update(characterMO);
         verify(mapper).toODTO(characterUpdatedMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CHARACTER, characterUpdatedMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(characterODTO, result);
@@ -186,6 +252,7 @@ public class CharacterServiceImplTest {
 
         // Verify
         verify(repository).delete(id);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CHARACTER, id));
         verifyNoMoreInteractions(repository);
     }
 
@@ -221,14 +288,14 @@ public class CharacterServiceImplTest {
         final var characterODTO = mock(CharacterODTO.class);
 
         when(repository.get(id)).thenReturn(Optional.of(characterMO));
-        when(mapper.toODTO(characterMO, TranslatedString.EN)).thenReturn(characterODTO);
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
 
         // Then
-        final var result = service.get(id, TranslatedString.EN);
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
         verify(repository).get(id);
-        verify(mapper).toODTO(characterMO, TranslatedString.EN);
+        verify(mapper).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(characterODTO, result);
@@ -246,7 +313,7 @@ public class CharacterServiceImplTest {
         // Then
         final var error = assertThrows(
                 ServiceException.class,
-                () -> service.get(id, TranslatedString.EN)
+                () -> service.get(id, TranslatedString.EN, Fieldset.ALL)
         );
 
         // Verify
@@ -261,18 +328,47 @@ public class CharacterServiceImplTest {
     @DisplayName("[CHARACTER_SERVICE] - Test successful retrieval of a list of Characters.")
     void testListCharacters() throws ServiceException {
         // When
+        final var filterIDTO = CharacterFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().race("mock-race").build();
         final var characterMO = mock(CharacterMO.class);
         final var characterODTO = mock(CharacterODTO.class);
 
-        when(repository.list()).thenReturn(List.of(characterMO));
-        when(mapper.toODTO(characterMO, TranslatedString.EN)).thenReturn(characterODTO);
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.list(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(characterMO));
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
 
         // Then
-        final var result = service.list(TranslatedString.EN);
+        final var result = service.list(filterIDTO, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
-        verify(repository).list();
-        verify(mapper).toODTO(characterMO, TranslatedString.EN);
+        verify(repository).list(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(characterODTO), result);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_SERVICE] - Test successful streaming of the Characters.")
+    void testStreamCharacters() throws ServiceException {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().race("mock-race").build();
+        final var characterMO = mock(CharacterMO.class);
+        final var characterODTO = mock(CharacterODTO.class);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.stream(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(characterMO));
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
+
+        // Then
+        final var result = service.stream(filterIDTO, TranslatedString.EN, Fieldset.ALL).toList();
+
+        // Verify
+        verify(repository).stream(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(List.of(characterODTO), result);
@@ -294,4 +390,90 @@ public class CharacterServiceImplTest {
         verify(repository).page(pageable);
         verifyNoMoreInteractions(mapper, repository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[CHARACTER_SERVICE] - Test successful retrieval of a window of Characters after a given identifier.")
+    void testScrollCharacters() throws ServiceException {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().race("mock-race").build();
+        final var after = "mock-character-identifier";
+        final var characterMO = mock(CharacterMO.class);
+        final var characterODTO = mock(CharacterODTO.class);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-next-character-identifier");
+        final var window = Window.from(List.of(characterMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), true);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
+        when(characterODTO.toMap()).thenReturn(characterMap);
+
+        // Then
+        final var result = service.scroll(after, 10, filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(characterMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_SERVICE] - Test successful retrieval of a slice of Characters.")
+    void testSliceCharacters() throws ServiceException {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().race("mock-race").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var characterMO = mock(CharacterMO.class);
+        final var characterODTO = mock(CharacterODTO.class);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-character-identifier");
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(characterMO), pageable, true));
+        when(mapper.toODTO(characterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
+        when(characterODTO.toMap()).thenReturn(characterMap);
+
+        // Then
+        final var result = service.slice(pageable, filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(characterMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(characterMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_SERVICE] - Test that filtered counts are read from the database while unfiltered ones use the cached total.")
+    void testCountCharacters() throws ServiceException {
+        // When
+        final var filterIDTO = CharacterFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CharacterFilterMO.builder().race("mock-race").build();
+        final var emptyIDTO = CharacterFilterIDTO.builder().build();
+        final var emptyMO = CharacterFilterMO.builder().build();
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(mapper.toMO(emptyIDTO)).thenReturn(emptyMO);
+        when(repository.count(filterMO, TranslatedString.EN)).thenReturn(2L);
+        when(repository.count()).thenReturn(5L);
+
+        // Then
+        final var filtered = service.count(filterIDTO, TranslatedString.EN);
+        final var total = service.count(emptyIDTO, TranslatedString.EN);
+
+        // Verify
+        verify(repository).count(filterMO, TranslatedString.EN);
+        verify(repository).count();
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(2L, filtered);
+        assertEquals(5L, total);
+    }
+}
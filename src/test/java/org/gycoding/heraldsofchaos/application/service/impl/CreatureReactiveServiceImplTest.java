@@ -0,0 +1,197 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.application.mapper.CreatureServiceMapper;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.domain.repository.CreatureReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreatureReactiveServiceImplTest {
+    @Mock
+    private CreatureReactiveRepository repository;
+
+    @Mock
+    private CreatureServiceMapper mapper;
+
+    @InjectMocks
+    private CreatureReactiveServiceImpl service;
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_SERVICE] - Test successful retrieval of a Creature.")
+    void testGetCreature() {
+        // When
+        final var id = "mock-creature-identifier";
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureODTO = mock(CreatureODTO.class);
+
+        when(repository.get(id)).thenReturn(Mono.just(creatureMO));
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(creatureODTO)
+                .verifyComplete();
+
+        verify(repository).get(id);
+        verify(mapper).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_SERVICE] - Test unsuccessful retrieval of a Creature due to it not being found.")
+    void testWrongGetCreatureNotFound() {
+        // When
+        final var id = "mock-creature-identifier";
+        final var expectedException = new ServiceException(HeraldsOfChaosError.CREATURE_NOT_FOUND);
+
+        when(repository.get(id)).thenReturn(Mono.empty());
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectErrorSatisfies(error -> {
+                    assertEquals(expectedException.getStatus(), ((ServiceException) error).getStatus());
+                    assertEquals(expectedException.getCode(), ((ServiceException) error).getCode());
+                })
+                .verify();
+
+        verify(repository).get(id);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_SERVICE] - Test successful retrieval of a list of Creatures.")
+    void testListCreatures() {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureODTO = mock(CreatureODTO.class);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.list(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(creatureMO, creatureMO));
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
+
+        // Then
+        final var result = service.list(filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(creatureODTO, creatureODTO)
+                .verifyComplete();
+
+        verify(repository).list(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper, times(2)).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_SERVICE] - Test successful retrieval of a slice of Creatures.")
+    void testSliceCreatures() {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureODTO = mock(CreatureODTO.class);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-creature-identifier");
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(new SliceImpl<>(List.of(creatureMO), pageable, true)));
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
+        when(creatureODTO.toMap()).thenReturn(creatureMap);
+
+        // Then
+        final var result = service.slice(pageable, filterIDTO, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(creatureMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_SERVICE] - Test successful retrieval of a window of Creatures after an identifier.")
+    void testScrollCreatures() {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final var after = "mock-creature-identifier";
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureODTO = mock(CreatureODTO.class);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-next-creature-identifier");
+        final Window<CreatureMO> window = Window.from(List.of(creatureMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-creature-identifier")), false);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
+        when(creatureODTO.toMap()).thenReturn(creatureMap);
+
+        // Then
+        final var result = service.scroll(after, 10, filterIDTO, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(creatureMap), result.getContent());
+        assertEquals(false, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_SERVICE] - Test that filtered counts are read from the database while unfiltered ones use the total.")
+    void testCountCreatures() {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final var emptyIDTO = CreatureFilterIDTO.builder().build();
+        final var emptyMO = CreatureFilterMO.builder().build();
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(mapper.toMO(emptyIDTO)).thenReturn(emptyMO);
+        when(repository.count(filterMO, TranslatedString.EN)).thenReturn(Mono.just(2L));
+        when(repository.count()).thenReturn(Mono.just(5L));
+
+        // Then
+        final var filtered = service.count(filterIDTO, TranslatedString.EN).block();
+        final var total = service.count(emptyIDTO, TranslatedString.EN).block();
+
+        // Verify
+        verify(repository).count(filterMO, TranslatedString.EN);
+        verify(repository).count();
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(2L, filtered);
+        assertEquals(5L, total);
+    }
+}
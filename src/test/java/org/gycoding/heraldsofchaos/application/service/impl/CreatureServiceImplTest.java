@@ -1,10 +1,17 @@
 package org.gycoding.heraldsofchaos.application.service.impl;
 
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.CreatureServiceMapper;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
 import org.gycoding.heraldsofchaos.domain.repository.CreatureRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
@@ -17,11 +24,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,6 +49,9 @@ public class CreatureServiceImplTest {
     @Mock
     private CreatureServiceMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private CreatureServiceImpl service;
 
@@ -54,7 +71,6 @@ public class CreatureServiceImplTest {
         final var creatureMO = mock(CreatureMO.class);
         final var creatureODTO = mock(CreatureODTO.class);
 
-        when(repository.get(creatureMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(creatureIDTO)).thenReturn(creatureMO);
         when(repository.save(creatureMO)).thenReturn(creatureMO);
         when(mapper.toODTO(creatureMO, TranslatedString.EN)).thenReturn(creatureODTO);
@@ -63,24 +79,74 @@ public class CreatureServiceImplTest {
         final var result = service.save(creatureIDTO);
 
         // Verify
-        verify(repository).get(creatureMO.identifier());
         verify(mapper).toMO(creatureIDTO);
         verify(repository).save(creatureMO);
         verify(mapper).toODTO(creatureMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CREATURE, creatureMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(creatureODTO, result);
     }
 
+    @Test
+    @DisplayName("[CREATURE_SERVICE] - Test successful bulk save of Creatures reporting every element.")
+    void testSaveAllCreatures() throws ServiceException {
+        // When
+        final var creatureIDTO = mock(CreatureIDTO.class);
+        final var creatureMO = mock(CreatureMO.class);
+        final var results = List.of(
+                BulkResultMO.written("mock-saved-creature"),
+                BulkResultMO.failed("mock-duplicated-creature", HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT)
+        );
+
+        when(mapper.toMO(creatureIDTO)).thenReturn(creatureMO);
+        when(repository.saveAll(List.of(creatureMO, creatureMO))).thenReturn(results);
+
+        // Then
+        final var result = service.saveAll(List.of(creatureIDTO, creatureIDTO));
+
+        // Verify
+        verify(mapper, times(2)).toMO(creatureIDTO);
+        verify(repository).saveAll(List.of(creatureMO, creatureMO));
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CREATURE, null));
+        verifyNoMoreInteractions(mapper, repository, publisher);
+
+        assertEquals(List.of(
+                new BulkResultODTO("mock-saved-creature", null),
+                new BulkResultODTO("mock-duplicated-creature", HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_SERVICE] - Test that a failing bulk write reports every Creature of the batch as not saved.")
+    void testWrongSaveAllCreatures() throws ServiceException {
+        // When
+        final var creatureIDTO = CreatureIDTO.builder().identifier("mock-creature-id").build();
+        final var creatureMO = mock(CreatureMO.class);
+
+        when(mapper.toMO(creatureIDTO)).thenReturn(creatureMO);
+        when(repository.saveAll(List.of(creatureMO))).thenThrow(new RuntimeException("Connection refused"));
+
+        // Then
+        final var result = service.saveAll(List.of(creatureIDTO));
+
+        // Verify
+        verify(repository).saveAll(List.of(creatureMO));
+        verifyNoInteractions(publisher);
+
+        assertEquals(List.of(new BulkResultODTO("mock-creature-id", HeraldsOfChaosError.CREATURE_SAVE_CONFLICT)), result);
+    }
+
     @Test
     @DisplayName("[CREATURE_SERVICE] - Test unsuccessful save of a Creature due to it already existing.")
-    void testWrongSaveCreatureAlreadyExists() {
+    void testWrongSaveCreatureAlreadyExists() throws DatabaseException {
         // When
         final var creatureIDTO = mock(CreatureIDTO.class);
         final var creatureMO = mock(CreatureMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT);
 
-        when(repository.get(creatureMO.identifier())).thenReturn(Optional.of(creatureMO));
+        when(mapper.toMO(creatureIDTO)).thenReturn(creatureMO);
+        when(repository.save(creatureMO)).thenThrow(new DuplicateKeyException("Duplicate identifier."));
 
         // Then
         final var error = assertThrows(
@@ -89,7 +155,8 @@ public class CreatureServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(creatureMO.identifier());
+        verify(mapper).toMO(creatureIDTO);
+        verify(repository).save(creatureMO);
         verifyNoMoreInteractions(repository);
 
         assertEquals(expectedException.getStatus(), error.getStatus());
@@ -104,7 +171,6 @@ public class CreatureServiceImplTest {
         final var creatureMO = mock(CreatureMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.CREATURE_SAVE_CONFLICT);
 
-        when(repository.get(creatureMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(creatureIDTO)).thenReturn(creatureMO);
         when(repository.save(creatureMO)).thenThrow(new RuntimeException("Any exception."));
 
@@ -115,7 +181,6 @@ public class CreatureServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(creatureMO.identifier());
         verify(mapper).toMO(creatureIDTO);
         verify(repository).save(creatureMO);
         verifyNoMoreInteractions(repository);
@@ -144,6 +209,7 @@ public class CreatureServiceImplTest {
         verify(mapper).toMO(creatureIDTO);
         verify(repository).update(creatureMO);
         verify(mapper).toODTO(creatureUpdatedMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CREATURE, creatureUpdatedMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(creatureODTO, result);
@@ -186,6 +252,7 @@ public class CreatureServiceImplTest {
 
         // Verify
         verify(repository).delete(id);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.CREATURE, id));
         verifyNoMoreInteractions(repository);
     }
 
@@ -221,14 +288,14 @@ public class CreatureServiceImplTest {
         final var creatureODTO = mock(CreatureODTO.class);
 
         when(repository.get(id)).thenReturn(Optional.of(creatureMO));
-        when(mapper.toODTO(creatureMO, TranslatedString.EN)).thenReturn(creatureODTO);
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
 
         // Then
-        final var result = service.get(id, TranslatedString.EN);
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
         verify(repository).get(id);
-        verify(mapper).toODTO(creatureMO, TranslatedString.EN);
+        verify(mapper).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(creatureODTO, result);
@@ -246,7 +313,7 @@ public class CreatureServiceImplTest {
         // Then
         final var error = assertThrows(
                 ServiceException.class,
-                () -> service.get(id, TranslatedString.EN)
+                () -> service.get(id, TranslatedString.EN, Fieldset.ALL)
         );
 
         // Verify
@@ -261,18 +328,47 @@ public class CreatureServiceImplTest {
     @DisplayName("[CREATURE_SERVICE] - Test successful retrieval of a list of Creatures.")
     void testListCreatures() throws ServiceException {
         // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
         final var creatureMO = mock(CreatureMO.class);
         final var creatureODTO = mock(CreatureODTO.class);
 
-        when(repository.list()).thenReturn(List.of(creatureMO));
-        when(mapper.toODTO(creatureMO, TranslatedString.EN)).thenReturn(creatureODTO);
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.list(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(creatureMO));
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
 
         // Then
-        final var result = service.list(TranslatedString.EN);
+        final var result = service.list(filterIDTO, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
-        verify(repository).list();
-        verify(mapper).toODTO(creatureMO, TranslatedString.EN);
+        verify(repository).list(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(creatureODTO), result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_SERVICE] - Test successful streaming of the Creatures.")
+    void testStreamCreatures() throws ServiceException {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureODTO = mock(CreatureODTO.class);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.stream(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(creatureMO));
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
+
+        // Then
+        final var result = service.stream(filterIDTO, TranslatedString.EN, Fieldset.ALL).toList();
+
+        // Verify
+        verify(repository).stream(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(List.of(creatureODTO), result);
@@ -294,4 +390,90 @@ public class CreatureServiceImplTest {
         verify(repository).page(pageable);
         verifyNoMoreInteractions(mapper, repository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[CREATURE_SERVICE] - Test successful retrieval of a window of Creatures after a given identifier.")
+    void testScrollCreatures() throws ServiceException {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final var after = "mock-creature-identifier";
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureODTO = mock(CreatureODTO.class);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-next-creature-identifier");
+        final var window = Window.from(List.of(creatureMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-creature-identifier")), true);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
+        when(creatureODTO.toMap()).thenReturn(creatureMap);
+
+        // Then
+        final var result = service.scroll(after, 10, filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(creatureMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_SERVICE] - Test successful retrieval of a slice of Creatures.")
+    void testSliceCreatures() throws ServiceException {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureODTO = mock(CreatureODTO.class);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-creature-identifier");
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(creatureMO), pageable, true));
+        when(mapper.toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
+        when(creatureODTO.toMap()).thenReturn(creatureMap);
+
+        // Then
+        final var result = service.slice(pageable, filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(creatureMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(creatureMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_SERVICE] - Test that filtered counts are read from the database while unfiltered ones use the cached total.")
+    void testCountCreatures() throws ServiceException {
+        // When
+        final var filterIDTO = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var filterMO = CreatureFilterMO.builder().race("mock-race").build();
+        final var emptyIDTO = CreatureFilterIDTO.builder().build();
+        final var emptyMO = CreatureFilterMO.builder().build();
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(mapper.toMO(emptyIDTO)).thenReturn(emptyMO);
+        when(repository.count(filterMO, TranslatedString.EN)).thenReturn(2L);
+        when(repository.count()).thenReturn(5L);
+
+        // Then
+        final var filtered = service.count(filterIDTO, TranslatedString.EN);
+        final var total = service.count(emptyIDTO, TranslatedString.EN);
+
+        // Verify
+        verify(repository).count(filterMO, TranslatedString.EN);
+        verify(repository).count();
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(2L, filtered);
+        assertEquals(5L, total);
+    }
+}
@@ -0,0 +1,197 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.application.mapper.ItemServiceMapper;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.gycoding.heraldsofchaos.domain.repository.ItemReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemReactiveServiceImplTest {
+    @Mock
+    private ItemReactiveRepository repository;
+
+    @Mock
+    private ItemServiceMapper mapper;
+
+    @InjectMocks
+    private ItemReactiveServiceImpl service;
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_SERVICE] - Test successful retrieval of a Item.")
+    void testGetItem() {
+        // When
+        final var id = "mock-item-identifier";
+        final var itemMO = mock(ItemMO.class);
+        final var itemODTO = mock(ItemODTO.class);
+
+        when(repository.get(id)).thenReturn(Mono.just(itemMO));
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(itemODTO)
+                .verifyComplete();
+
+        verify(repository).get(id);
+        verify(mapper).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_SERVICE] - Test unsuccessful retrieval of a Item due to it not being found.")
+    void testWrongGetItemNotFound() {
+        // When
+        final var id = "mock-item-identifier";
+        final var expectedException = new ServiceException(HeraldsOfChaosError.ITEM_NOT_FOUND);
+
+        when(repository.get(id)).thenReturn(Mono.empty());
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectErrorSatisfies(error -> {
+                    assertEquals(expectedException.getStatus(), ((ServiceException) error).getStatus());
+                    assertEquals(expectedException.getCode(), ((ServiceException) error).getCode());
+                })
+                .verify();
+
+        verify(repository).get(id);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_SERVICE] - Test successful retrieval of a list of Items.")
+    void testListItems() {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final var itemMO = mock(ItemMO.class);
+        final var itemODTO = mock(ItemODTO.class);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.list(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(itemMO, itemMO));
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
+
+        // Then
+        final var result = service.list(filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(itemODTO, itemODTO)
+                .verifyComplete();
+
+        verify(repository).list(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper, times(2)).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_SERVICE] - Test successful retrieval of a slice of Items.")
+    void testSliceItems() {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var itemMO = mock(ItemMO.class);
+        final var itemODTO = mock(ItemODTO.class);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-item-identifier");
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(new SliceImpl<>(List.of(itemMO), pageable, true)));
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
+        when(itemODTO.toMap()).thenReturn(itemMap);
+
+        // Then
+        final var result = service.slice(pageable, filterIDTO, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(itemMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_SERVICE] - Test successful retrieval of a window of Items after an identifier.")
+    void testScrollItems() {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final var after = "mock-item-identifier";
+        final var itemMO = mock(ItemMO.class);
+        final var itemODTO = mock(ItemODTO.class);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-next-item-identifier");
+        final Window<ItemMO> window = Window.from(List.of(itemMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-item-identifier")), false);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
+        when(itemODTO.toMap()).thenReturn(itemMap);
+
+        // Then
+        final var result = service.scroll(after, 10, filterIDTO, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(itemMap), result.getContent());
+        assertEquals(false, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_SERVICE] - Test that filtered counts are read from the database while unfiltered ones use the total.")
+    void testCountItems() {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final var emptyIDTO = ItemFilterIDTO.builder().build();
+        final var emptyMO = ItemFilterMO.builder().build();
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(mapper.toMO(emptyIDTO)).thenReturn(emptyMO);
+        when(repository.count(filterMO, TranslatedString.EN)).thenReturn(Mono.just(2L));
+        when(repository.count()).thenReturn(Mono.just(5L));
+
+        // Then
+        final var filtered = service.count(filterIDTO, TranslatedString.EN).block();
+        final var total = service.count(emptyIDTO, TranslatedString.EN).block();
+
+        // Verify
+        verify(repository).count(filterMO, TranslatedString.EN);
+        verify(repository).count();
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(2L, filtered);
+        assertEquals(5L, total);
+    }
+}
@@ -1,10 +1,17 @@
 package org.gycoding.heraldsofchaos.application.service.impl;
 
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.in.items.ItemIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.ItemServiceMapper;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
 import org.gycoding.heraldsofchaos.domain.repository.ItemRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
@@ -17,11 +24,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,6 +49,9 @@ public class ItemServiceImplTest {
     @Mock
     private ItemServiceMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private ItemServiceImpl service;
 
@@ -54,7 +71,6 @@ public class ItemServiceImplTest {
         final var itemMO = mock(ItemMO.class);
         final var itemODTO = mock(ItemODTO.class);
 
-        when(repository.get(itemMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(itemIDTO)).thenReturn(itemMO);
         when(repository.save(itemMO)).thenReturn(itemMO);
         when(mapper.toODTO(itemMO, TranslatedString.EN)).thenReturn(itemODTO);
@@ -63,24 +79,74 @@ public class ItemServiceImplTest {
         final var result = service.save(itemIDTO);
 
         // Verify
-        verify(repository).get(itemMO.identifier());
         verify(mapper).toMO(itemIDTO);
         verify(repository).save(itemMO);
         verify(mapper).toODTO(itemMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.ITEM, itemMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(itemODTO, result);
     }
 
+    @Test
+    @DisplayName("[ITEM_SERVICE] - Test successful bulk save of Items reporting every element.")
+    void testSaveAllItems() throws ServiceException {
+        // When
+        final var itemIDTO = mock(ItemIDTO.class);
+        final var itemMO = mock(ItemMO.class);
+        final var results = List.of(
+                BulkResultMO.written("mock-saved-item"),
+                BulkResultMO.failed("mock-duplicated-item", HeraldsOfChaosError.ITEM_ALREADY_EXISTS_CONFLICT)
+        );
+
+        when(mapper.toMO(itemIDTO)).thenReturn(itemMO);
+        when(repository.saveAll(List.of(itemMO, itemMO))).thenReturn(results);
+
+        // Then
+        final var result = service.saveAll(List.of(itemIDTO, itemIDTO));
+
+        // Verify
+        verify(mapper, times(2)).toMO(itemIDTO);
+        verify(repository).saveAll(List.of(itemMO, itemMO));
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.ITEM, null));
+        verifyNoMoreInteractions(mapper, repository, publisher);
+
+        assertEquals(List.of(
+                new BulkResultODTO("mock-saved-item", null),
+                new BulkResultODTO("mock-duplicated-item", HeraldsOfChaosError.ITEM_ALREADY_EXISTS_CONFLICT)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("[ITEM_SERVICE] - Test that a failing bulk write reports every Item of the batch as not saved.")
+    void testWrongSaveAllItems() throws ServiceException {
+        // When
+        final var itemIDTO = ItemIDTO.builder().identifier("mock-item-id").build();
+        final var itemMO = mock(ItemMO.class);
+
+        when(mapper.toMO(itemIDTO)).thenReturn(itemMO);
+        when(repository.saveAll(List.of(itemMO))).thenThrow(new RuntimeException("Connection refused"));
+
+        // Then
+        final var result = service.saveAll(List.of(itemIDTO));
+
+        // Verify
+        verify(repository).saveAll(List.of(itemMO));
+        verifyNoInteractions(publisher);
+
+        assertEquals(List.of(new BulkResultODTO("mock-item-id", HeraldsOfChaosError.ITEM_SAVE_CONFLICT)), result);
+    }
+
     @Test
     @DisplayName("[ITEM_SERVICE] - Test unsuccessful save of a Item due to it already existing.")
-    void testWrongSaveItemAlreadyExists() {
+    void testWrongSaveItemAlreadyExists() throws DatabaseException {
         // When
         final var itemIDTO = mock(ItemIDTO.class);
         final var itemMO = mock(ItemMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.ITEM_ALREADY_EXISTS_CONFLICT);
 
-        when(repository.get(itemMO.identifier())).thenReturn(Optional.of(itemMO));
+        when(mapper.toMO(itemIDTO)).thenReturn(itemMO);
+        when(repository.save(itemMO)).thenThrow(new DuplicateKeyException("Duplicate identifier."));
 
         // Then
         final var error = assertThrows(
@@ -89,7 +155,8 @@ public class ItemServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(itemMO.identifier());
+        verify(mapper).toMO(itemIDTO);
+        verify(repository).save(itemMO);
         verifyNoMoreInteractions(repository);
 
         assertEquals(expectedException.getStatus(), error.getStatus());
@@ -104,7 +171,6 @@ public class ItemServiceImplTest {
         final var itemMO = mock(ItemMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.ITEM_SAVE_CONFLICT);
 
-        when(repository.get(itemMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(itemIDTO)).thenReturn(itemMO);
         when(repository.save(itemMO)).thenThrow(new RuntimeException("Any exception."));
 
@@ -115,7 +181,6 @@ public class ItemServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(itemMO.identifier());
         verify(mapper).toMO(itemIDTO);
         verify(repository).save(itemMO);
         verifyNoMoreInteractions(repository);
@@ -144,6 +209,7 @@ public class ItemServiceImplTest {
         verify(mapper).toMO(itemIDTO);
         verify(repository).update(itemMO);
         verify(mapper).toODTO(itemUpdatedMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.ITEM, itemUpdatedMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(itemODTO, result);
@@ -186,6 +252,7 @@ public class ItemServiceImplTest {
 
         // Verify
         verify(repository).delete(id);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.ITEM, id));
         verifyNoMoreInteractions(repository);
     }
 
@@ -221,14 +288,14 @@ public class ItemServiceImplTest {
         final var itemODTO = mock(ItemODTO.class);
 
         when(repository.get(id)).thenReturn(Optional.of(itemMO));
-        when(mapper.toODTO(itemMO, TranslatedString.EN)).thenReturn(itemODTO);
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
 
         // Then
-        final var result = service.get(id, TranslatedString.EN);
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
         verify(repository).get(id);
-        verify(mapper).toODTO(itemMO, TranslatedString.EN);
+        verify(mapper).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(itemODTO, result);
@@ -246,7 +313,7 @@ public class ItemServiceImplTest {
         // Then
         final var error = assertThrows(
                 ServiceException.class,
-                () -> service.get(id, TranslatedString.EN)
+                () -> service.get(id, TranslatedString.EN, Fieldset.ALL)
         );
 
         // Verify
@@ -261,18 +328,47 @@ public class ItemServiceImplTest {
     @DisplayName("[ITEM_SERVICE] - Test successful retrieval of a list of Items.")
     void testListItems() throws ServiceException {
         // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
         final var itemMO = mock(ItemMO.class);
         final var itemODTO = mock(ItemODTO.class);
 
-        when(repository.list()).thenReturn(List.of(itemMO));
-        when(mapper.toODTO(itemMO, TranslatedString.EN)).thenReturn(itemODTO);
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.list(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(itemMO));
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
 
         // Then
-        final var result = service.list(TranslatedString.EN);
+        final var result = service.list(filterIDTO, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
-        verify(repository).list();
-        verify(mapper).toODTO(itemMO, TranslatedString.EN);
+        verify(repository).list(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(itemODTO), result);
+    }
+
+    @Test
+    @DisplayName("[ITEM_SERVICE] - Test successful streaming of the Items.")
+    void testStreamItems() throws ServiceException {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final var itemMO = mock(ItemMO.class);
+        final var itemODTO = mock(ItemODTO.class);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.stream(filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(itemMO));
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
+
+        // Then
+        final var result = service.stream(filterIDTO, TranslatedString.EN, Fieldset.ALL).toList();
+
+        // Verify
+        verify(repository).stream(filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(List.of(itemODTO), result);
@@ -294,4 +390,90 @@ public class ItemServiceImplTest {
         verify(repository).page(pageable);
         verifyNoMoreInteractions(mapper, repository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[ITEM_SERVICE] - Test successful retrieval of a window of Items after a given identifier.")
+    void testScrollItems() throws ServiceException {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final var after = "mock-item-identifier";
+        final var itemMO = mock(ItemMO.class);
+        final var itemODTO = mock(ItemODTO.class);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-next-item-identifier");
+        final var window = Window.from(List.of(itemMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-item-identifier")), true);
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
+        when(itemODTO.toMap()).thenReturn(itemMap);
+
+        // Then
+        final var result = service.scroll(after, 10, filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).scroll(after, 10, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(itemMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[ITEM_SERVICE] - Test successful retrieval of a slice of Items.")
+    void testSliceItems() throws ServiceException {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var itemMO = mock(ItemMO.class);
+        final var itemODTO = mock(ItemODTO.class);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-item-identifier");
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(repository.slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(itemMO), pageable, true));
+        when(mapper.toODTO(itemMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
+        when(itemODTO.toMap()).thenReturn(itemMap);
+
+        // Then
+        final var result = service.slice(pageable, filterIDTO, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).slice(pageable, filterMO, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(filterIDTO);
+        verify(mapper).toODTO(itemMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(itemMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[ITEM_SERVICE] - Test that filtered counts are read from the database while unfiltered ones use the cached total.")
+    void testCountItems() throws ServiceException {
+        // When
+        final var filterIDTO = ItemFilterIDTO.builder().type("mock-type").build();
+        final var filterMO = ItemFilterMO.builder().type("mock-type").build();
+        final var emptyIDTO = ItemFilterIDTO.builder().build();
+        final var emptyMO = ItemFilterMO.builder().build();
+
+        when(mapper.toMO(filterIDTO)).thenReturn(filterMO);
+        when(mapper.toMO(emptyIDTO)).thenReturn(emptyMO);
+        when(repository.count(filterMO, TranslatedString.EN)).thenReturn(2L);
+        when(repository.count()).thenReturn(5L);
+
+        // Then
+        final var filtered = service.count(filterIDTO, TranslatedString.EN);
+        final var total = service.count(emptyIDTO, TranslatedString.EN);
+
+        // Verify
+        verify(repository).count(filterMO, TranslatedString.EN);
+        verify(repository).count();
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(2L, filtered);
+        assertEquals(5L, total);
+    }
+}
@@ -0,0 +1,159 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.mapper.PlaceServiceMapper;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
+import org.gycoding.heraldsofchaos.domain.repository.PlaceReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceReactiveServiceImplTest {
+    @Mock
+    private PlaceReactiveRepository repository;
+
+    @Mock
+    private PlaceServiceMapper mapper;
+
+    @InjectMocks
+    private PlaceReactiveServiceImpl service;
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_SERVICE] - Test successful retrieval of a Place.")
+    void testGetPlace() {
+        // When
+        final var id = "mock-place-identifier";
+        final var placeMO = mock(PlaceMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+
+        when(repository.get(id)).thenReturn(Mono.just(placeMO));
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(placeODTO)
+                .verifyComplete();
+
+        verify(repository).get(id);
+        verify(mapper).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+    }
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_SERVICE] - Test unsuccessful retrieval of a Place due to it not being found.")
+    void testWrongGetPlaceNotFound() {
+        // When
+        final var id = "mock-place-identifier";
+        final var expectedException = new ServiceException(HeraldsOfChaosError.PLACE_NOT_FOUND);
+
+        when(repository.get(id)).thenReturn(Mono.empty());
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectErrorSatisfies(error -> {
+                    assertEquals(expectedException.getStatus(), ((ServiceException) error).getStatus());
+                    assertEquals(expectedException.getCode(), ((ServiceException) error).getCode());
+                })
+                .verify();
+
+        verify(repository).get(id);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_SERVICE] - Test successful retrieval of a list of Places.")
+    void testListPlaces() {
+        // When
+        final var placeMO = mock(PlaceMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+
+        when(repository.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(placeMO, placeMO));
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
+
+        // Then
+        final var result = service.list(TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(placeODTO, placeODTO)
+                .verifyComplete();
+
+        verify(repository).list(TranslatedString.EN, Fieldset.ALL);
+        verify(mapper, times(2)).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
+    }
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_SERVICE] - Test successful retrieval of a slice of Places.")
+    void testSlicePlaces() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var placeMO = mock(PlaceMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+        final Map<String, Object> placeMap = Map.of("identifier", "mock-place-identifier");
+
+        when(repository.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(new SliceImpl<>(List.of(placeMO), pageable, true)));
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
+        when(placeODTO.toMap()).thenReturn(placeMap);
+
+        // Then
+        final var result = service.slice(pageable, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).slice(pageable, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(placeMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_SERVICE] - Test successful retrieval of a window of Places after an identifier.")
+    void testScrollPlaces() {
+        // When
+        final var after = "mock-place-identifier";
+        final var placeMO = mock(PlaceMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+        final Map<String, Object> placeMap = Map.of("identifier", "mock-next-place-identifier");
+        final Window<PlaceMO> window = Window.from(List.of(placeMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-place-identifier")), false);
+
+        when(repository.scroll(after, 10, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
+        when(placeODTO.toMap()).thenReturn(placeMap);
+
+        // Then
+        final var result = service.scroll(after, 10, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(placeMap), result.getContent());
+        assertEquals(false, result.hasNext());
+    }
+}
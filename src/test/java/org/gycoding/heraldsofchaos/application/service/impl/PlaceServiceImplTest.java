@@ -2,8 +2,11 @@ package org.gycoding.heraldsofchaos.application.service.impl;
 
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.PlaceIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.PlaceServiceMapper;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
 import org.gycoding.heraldsofchaos.domain.repository.PlaceRepository;
@@ -17,11 +20,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,6 +45,9 @@ public class PlaceServiceImplTest {
     @Mock
     private PlaceServiceMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private PlaceServiceImpl service;
 
@@ -54,7 +67,6 @@ public class PlaceServiceImplTest {
         final var placeMO = mock(PlaceMO.class);
         final var placeODTO = mock(PlaceODTO.class);
 
-        when(repository.get(placeMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(placeIDTO)).thenReturn(placeMO);
         when(repository.save(placeMO)).thenReturn(placeMO);
         when(mapper.toODTO(placeMO, TranslatedString.EN)).thenReturn(placeODTO);
@@ -63,10 +75,10 @@ public class PlaceServiceImplTest {
         final var result = service.save(placeIDTO);
 
         // Verify
-        verify(repository).get(placeMO.identifier());
         verify(mapper).toMO(placeIDTO);
         verify(repository).save(placeMO);
         verify(mapper).toODTO(placeMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.PLACE, placeMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(placeODTO, result);
@@ -74,13 +86,14 @@ public class PlaceServiceImplTest {
 
     @Test
     @DisplayName("[PLACE_SERVICE] - Test unsuccessful save of a Place due to it already existing.")
-    void testWrongSavePlaceAlreadyExists() {
+    void testWrongSavePlaceAlreadyExists() throws DatabaseException {
         // When
         final var placeIDTO = mock(PlaceIDTO.class);
         final var placeMO = mock(PlaceMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.PLACE_ALREADY_EXISTS_CONFLICT);
 
-        when(repository.get(placeMO.identifier())).thenReturn(Optional.of(placeMO));
+        when(mapper.toMO(placeIDTO)).thenReturn(placeMO);
+        when(repository.save(placeMO)).thenThrow(new DuplicateKeyException("Duplicate identifier."));
 
         // Then
         final var error = assertThrows(
@@ -89,7 +102,8 @@ public class PlaceServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(placeMO.identifier());
+        verify(mapper).toMO(placeIDTO);
+        verify(repository).save(placeMO);
         verifyNoMoreInteractions(repository);
 
         assertEquals(expectedException.getStatus(), error.getStatus());
@@ -104,7 +118,6 @@ public class PlaceServiceImplTest {
         final var placeMO = mock(PlaceMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.PLACE_SAVE_CONFLICT);
 
-        when(repository.get(placeMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(placeIDTO)).thenReturn(placeMO);
         when(repository.save(placeMO)).thenThrow(new RuntimeException("Any exception."));
 
@@ -115,7 +128,6 @@ public class PlaceServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(placeMO.identifier());
         verify(mapper).toMO(placeIDTO);
         verify(repository).save(placeMO);
         verifyNoMoreInteractions(repository);
@@ -144,6 +156,7 @@ public class PlaceServiceImplTest {
         verify(mapper).toMO(placeIDTO);
         verify(repository).update(placeMO);
         verify(mapper).toODTO(placeUpdatedMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.PLACE, placeUpdatedMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(placeODTO, result);
@@ -186,6 +199,7 @@ public class PlaceServiceImplTest {
 
         // Verify
         verify(repository).delete(id);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.PLACE, id));
         verifyNoMoreInteractions(repository);
     }
 
@@ -221,14 +235,14 @@ public class PlaceServiceImplTest {
         final var placeODTO = mock(PlaceODTO.class);
 
         when(repository.get(id)).thenReturn(Optional.of(placeMO));
-        when(mapper.toODTO(placeMO, TranslatedString.EN)).thenReturn(placeODTO);
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
 
         // Then
-        final var result = service.get(id, TranslatedString.EN);
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
         verify(repository).get(id);
-        verify(mapper).toODTO(placeMO, TranslatedString.EN);
+        verify(mapper).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(placeODTO, result);
@@ -246,7 +260,7 @@ public class PlaceServiceImplTest {
         // Then
         final var error = assertThrows(
                 ServiceException.class,
-                () -> service.get(id, TranslatedString.EN)
+                () -> service.get(id, TranslatedString.EN, Fieldset.ALL)
         );
 
         // Verify
@@ -264,15 +278,36 @@ public class PlaceServiceImplTest {
         final var placeMO = mock(PlaceMO.class);
         final var placeODTO = mock(PlaceODTO.class);
 
-        when(repository.list()).thenReturn(List.of(placeMO));
-        when(mapper.toODTO(placeMO, TranslatedString.EN)).thenReturn(placeODTO);
+        when(repository.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(placeMO));
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
 
         // Then
-        final var result = service.list(TranslatedString.EN);
+        final var result = service.list(TranslatedString.EN, Fieldset.ALL);
 
         // Verify
-        verify(repository).list();
-        verify(mapper).toODTO(placeMO, TranslatedString.EN);
+        verify(repository).list(TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(placeODTO), result);
+    }
+
+    @Test
+    @DisplayName("[PLACE_SERVICE] - Test successful streaming of the Places.")
+    void testStreamPlaces() throws ServiceException {
+        // When
+        final var placeMO = mock(PlaceMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+
+        when(repository.stream(TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(placeMO));
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
+
+        // Then
+        final var result = service.stream(TranslatedString.EN, Fieldset.ALL).toList();
+
+        // Verify
+        verify(repository).stream(TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(List.of(placeODTO), result);
@@ -294,4 +329,55 @@ public class PlaceServiceImplTest {
         verify(repository).page(pageable);
         verifyNoMoreInteractions(mapper, repository);
     }
+
+    @Test
+    @DisplayName("[PLACE_SERVICE] - Test successful retrieval of a window of Places after a given identifier.")
+    void testScrollPlaces() throws ServiceException {
+        // When
+        final var after = "mock-place-identifier";
+        final var placeMO = mock(PlaceMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+        final Map<String, Object> placeMap = Map.of("identifier", "mock-next-place-identifier");
+        final var window = Window.from(List.of(placeMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-place-identifier")), true);
+
+        when(repository.scroll(after, 10, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
+        when(placeODTO.toMap()).thenReturn(placeMap);
+
+        // Then
+        final var result = service.scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(placeMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[PLACE_SERVICE] - Test successful retrieval of a slice of Places.")
+    void testSlicePlaces() throws ServiceException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var placeMO = mock(PlaceMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+        final Map<String, Object> placeMap = Map.of("identifier", "mock-place-identifier");
+
+        when(repository.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(placeMO), pageable, true));
+        when(mapper.toODTO(placeMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
+        when(placeODTO.toMap()).thenReturn(placeMap);
+
+        // Then
+        final var result = service.slice(pageable, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).slice(pageable, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(placeMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(placeMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
 }
\ No newline at end of file
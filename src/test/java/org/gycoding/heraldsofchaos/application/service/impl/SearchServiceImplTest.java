@@ -0,0 +1,193 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import org.gycoding.heraldsofchaos.application.dto.out.CompletionODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.FuzzyMatchODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.SearchHitODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.gycoding.heraldsofchaos.domain.repository.CharacterRepository;
+import org.gycoding.heraldsofchaos.domain.repository.CreatureRepository;
+import org.gycoding.heraldsofchaos.domain.repository.ItemRepository;
+import org.gycoding.heraldsofchaos.domain.repository.PlaceRepository;
+import org.gycoding.heraldsofchaos.domain.repository.WorldRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceImplTest {
+    @Mock
+    private CharacterRepository characterRepository;
+
+    @Mock
+    private CreatureRepository creatureRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private WorldRepository worldRepository;
+
+    @InjectMocks
+    private SearchServiceImpl service;
+
+    private final CreatureMO dragon = CreatureMO.builder()
+            .identifier("dragon")
+            .name(new TranslatedString("Dragón", "Dragon"))
+            .description(new TranslatedString("Bestia alada", "Winged beast"))
+            .race(new TranslatedString("Bestia", "Beast"))
+            .build();
+
+    private final ItemMO scale = ItemMO.builder()
+            .identifier("dragon_scale")
+            .name(new TranslatedString("Escama de dragón", "Dragon scale"))
+            .description(new TranslatedString("Arrancada de una bestia", "Torn from a beast"))
+            .build();
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void build() {
+        when(creatureRepository.list()).thenReturn(List.of(dragon));
+        when(itemRepository.list()).thenReturn(List.of(scale));
+
+        service.rebuild();
+    }
+
+    @Test
+    @DisplayName("[SEARCH_SERVICE] - Test that accent-folded queries match in the requested language only.")
+    void testSearch() throws ServiceException {
+        // Then
+        final var spanish = service.search("DRAGON bestia", TranslatedString.ES, null, 10);
+        final var english = service.search("bestia", TranslatedString.EN, null, 10);
+
+        // Verify
+        assertEquals(List.of("dragon", "dragon_scale"), spanish.stream().map(SearchHitODTO::identifier).toList());
+        assertEquals("Dragón", spanish.get(0).name());
+        assertEquals(EntityType.CREATURE, spanish.get(0).type());
+        assertEquals(List.of(), english);
+    }
+
+    @Test
+    @DisplayName("[SEARCH_SERVICE] - Test that searches are restricted to the requested types.")
+    void testSearchTypes() throws ServiceException {
+        // Then
+        final var result = service.search("dragon", TranslatedString.EN, List.of("item"), 10);
+
+        // Verify
+        assertEquals(List.of("dragon_scale"), result.stream().map(SearchHitODTO::identifier).toList());
+    }
+
+    @Test
+    @DisplayName("[SEARCH_SERVICE] - Test unsuccessful search due to an unknown type.")
+    void testWrongSearchTypes() {
+        // When
+        final var expectedException = new ServiceException(HeraldsOfChaosError.INVALID_SEARCH_TYPE);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> service.search("dragon", TranslatedString.EN, List.of("spell"), 10)
+        );
+
+        // Verify
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+    }
+
+    @Test
+    @DisplayName("[SEARCH_SERVICE] - Test that writes re-index only the written entity and removals drop it.")
+    void testIncrementalUpdates() throws ServiceException {
+        // When
+        final var renamed = CreatureMO.builder()
+                .identifier("dragon")
+                .name(new TranslatedString("Wyrm", "Wyrm"))
+                .build();
+
+        when(creatureRepository.get("dragon")).thenReturn(Optional.of(renamed));
+        when(itemRepository.get("dragon_scale")).thenReturn(Optional.empty());
+
+        // Then
+        service.onEntityChanged(new EntityChangedEvent(EntityType.CREATURE, "dragon"));
+        service.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, "dragon_scale"));
+
+        // Verify
+        verify(creatureRepository, times(1)).list();
+
+        assertEquals(List.of(), service.search("dragon", TranslatedString.EN, null, 10));
+        assertEquals("Wyrm", service.search("wyrm", TranslatedString.EN, null, 10).get(0).name());
+    }
+
+    @Test
+    @DisplayName("[SEARCH_SERVICE] - Test that names complete in the requested language and follow writes.")
+    void testComplete() throws ServiceException {
+        // When
+        when(itemRepository.get("dragon_scale")).thenReturn(Optional.empty());
+
+        // Then
+        final var spanish = service.complete("escama", TranslatedString.ES, null, 10);
+        final var english = service.complete("dra", TranslatedString.EN, null, 10);
+
+        service.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, "dragon_scale"));
+
+        final var afterRemoval = service.complete("dra", TranslatedString.EN, null, 10);
+
+        // Verify
+        assertEquals(List.of("dragon_scale"), spanish.stream().map(CompletionODTO::identifier).toList());
+        assertEquals("Escama de dragón", spanish.get(0).name());
+        assertEquals(List.of("dragon", "dragon_scale"), english.stream().map(CompletionODTO::identifier).toList());
+        assertEquals(List.of("dragon"), afterRemoval.stream().map(CompletionODTO::identifier).toList());
+    }
+
+    @Test
+    @DisplayName("[SEARCH_SERVICE] - Test that misspelled names and identifiers are found in any language and follow writes.")
+    void testFuzzy() throws ServiceException {
+        // When
+        when(creatureRepository.get("dragon")).thenReturn(Optional.empty());
+
+        // Then
+        final var misspelled = service.fuzzy("Dragn", TranslatedString.ES, null, 2, 10);
+        final var spanish = service.fuzzy("escama de dragn", TranslatedString.EN, null, 2, 10);
+        final var identifier = service.fuzzy("dragon_scal", TranslatedString.EN, List.of("item"), 1, 10);
+
+        service.onEntityChanged(new EntityChangedEvent(EntityType.CREATURE, "dragon"));
+
+        final var afterRemoval = service.fuzzy("dragn", TranslatedString.EN, null, 2, 10);
+
+        // Verify
+        assertEquals(List.of("dragon"), misspelled.stream().map(FuzzyMatchODTO::identifier).toList());
+        assertEquals("Dragón", misspelled.get(0).name());
+        assertEquals(1, misspelled.get(0).distance());
+        assertEquals(List.of("dragon_scale"), spanish.stream().map(FuzzyMatchODTO::identifier).toList());
+        assertEquals("Dragon scale", spanish.get(0).name());
+        assertEquals(List.of("dragon_scale"), identifier.stream().map(FuzzyMatchODTO::identifier).toList());
+        assertEquals(List.of(), afterRemoval);
+    }
+}
@@ -0,0 +1,133 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.repository.SnapshotRepository;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SnapshotServiceImplTest {
+    @Mock
+    private SnapshotRepository repository;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @InjectMocks
+    private SnapshotServiceImpl service;
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_SERVICE] - Test successful export of a snapshot.")
+    void testExportSnapshot() throws ServiceException, DatabaseException {
+        // When
+        final var output = new ByteArrayOutputStream();
+
+        // Then
+        service.export(output);
+
+        // Verify
+        verify(repository).export(output);
+        verifyNoMoreInteractions(repository);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_SERVICE] - Test successful restore of a snapshot, invalidating every entity type.")
+    void testRestoreSnapshot() throws ServiceException, DatabaseException {
+        // When
+        final var input = new ByteArrayInputStream(new byte[0]);
+        final var restored = Map.of("Character", 2L);
+
+        when(repository.isEmpty()).thenReturn(true);
+        when(repository.restore(input)).thenReturn(restored);
+
+        // Then
+        final var result = service.restore(input);
+
+        // Verify
+        verify(repository).isEmpty();
+        verify(repository).restore(input);
+        verifyNoMoreInteractions(repository);
+
+        for (final var type : EntityType.values()) {
+            verify(publisher).publishEvent(new EntityChangedEvent(type, null));
+        }
+
+        assertEquals(restored, result);
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_SERVICE] - Test unsuccessful restore of a snapshot due to the database not being empty.")
+    void testWrongRestoreSnapshotNotEmpty() throws DatabaseException {
+        // When
+        final var input = new ByteArrayInputStream(new byte[0]);
+        final var expectedException = new ServiceException(HeraldsOfChaosError.SNAPSHOT_TARGET_NOT_EMPTY_CONFLICT);
+
+        when(repository.isEmpty()).thenReturn(false);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> service.restore(input)
+        );
+
+        // Verify
+        verify(repository).isEmpty();
+        verify(repository, never()).restore(input);
+        verifyNoInteractions(publisher);
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_SERVICE] - Test unsuccessful restore of a snapshot due to it not being valid.")
+    void testWrongRestoreSnapshotInvalid() throws DatabaseException {
+        // When
+        final var input = new ByteArrayInputStream(new byte[0]);
+        final var expectedException = new ServiceException(HeraldsOfChaosError.INVALID_SNAPSHOT);
+
+        when(repository.isEmpty()).thenReturn(true);
+        when(repository.restore(input)).thenThrow(new DatabaseException(HeraldsOfChaosError.INVALID_SNAPSHOT));
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> service.restore(input)
+        );
+
+        // Verify
+        verify(repository).restore(input);
+        verify(publisher, times(EntityType.values().length)).publishEvent(any(EntityChangedEvent.class));
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+    }
+}
@@ -0,0 +1,183 @@
+package org.gycoding.heraldsofchaos.application.service.impl;
+
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.application.mapper.WorldServiceMapper;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
+import org.gycoding.heraldsofchaos.domain.repository.WorldReactiveRepository;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WorldReactiveServiceImplTest {
+    @Mock
+    private WorldReactiveRepository repository;
+
+    @Mock
+    private WorldServiceMapper mapper;
+
+    @InjectMocks
+    private WorldReactiveServiceImpl service;
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_SERVICE] - Test successful retrieval of a World.")
+    void testGetWorld() {
+        // When
+        final var id = "mock-world-identifier";
+        final var worldMO = mock(WorldMO.class);
+        final var worldODTO = mock(WorldODTO.class);
+
+        when(repository.get(id)).thenReturn(Mono.just(worldMO));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(worldODTO)
+                .verifyComplete();
+
+        verify(repository).get(id);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_SERVICE] - Test unsuccessful retrieval of a World due to it not being found.")
+    void testWrongGetWorldNotFound() {
+        // When
+        final var id = "mock-world-identifier";
+        final var expectedException = new ServiceException(HeraldsOfChaosError.WORLD_NOT_FOUND);
+
+        when(repository.get(id)).thenReturn(Mono.empty());
+
+        // Then
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectErrorSatisfies(error -> {
+                    assertEquals(expectedException.getStatus(), ((ServiceException) error).getStatus());
+                    assertEquals(expectedException.getCode(), ((ServiceException) error).getCode());
+                })
+                .verify();
+
+        verify(repository).get(id);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_SERVICE] - Test successful retrieval of a list of Worlds.")
+    void testListWorlds() {
+        // When
+        final var worldMO = mock(WorldMO.class);
+        final var worldODTO = mock(WorldODTO.class);
+
+        when(repository.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(worldMO, worldMO));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+
+        // Then
+        final var result = service.list(TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(worldODTO, worldODTO)
+                .verifyComplete();
+
+        verify(repository).list(TranslatedString.EN, Fieldset.ALL);
+        verify(mapper, times(2)).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_SERVICE] - Test successful retrieval of a slice of Worlds.")
+    void testSliceWorlds() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var worldMO = mock(WorldMO.class);
+        final var worldODTO = mock(WorldODTO.class);
+        final Map<String, Object> worldMap = Map.of("identifier", "mock-world-identifier");
+
+        when(repository.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(new SliceImpl<>(List.of(worldMO), pageable, true)));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+        when(worldODTO.toMap()).thenReturn(worldMap);
+
+        // Then
+        final var result = service.slice(pageable, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).slice(pageable, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(worldMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_SERVICE] - Test successful retrieval of a window of Worlds after an identifier.")
+    void testScrollWorlds() {
+        // When
+        final var after = "mock-world-identifier";
+        final var worldMO = mock(WorldMO.class);
+        final var worldODTO = mock(WorldODTO.class);
+        final Map<String, Object> worldMap = Map.of("identifier", "mock-next-world-identifier");
+        final Window<WorldMO> window = Window.from(List.of(worldMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-world-identifier")), false);
+
+        when(repository.scroll(after, 10, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+        when(worldODTO.toMap()).thenReturn(worldMap);
+
+        // Then
+        final var result = service.scroll(after, 10, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(repository).scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(worldMap), result.getContent());
+        assertEquals(false, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_SERVICE] - Test successful retrieval of the Places of a World.")
+    void testListPlaces() {
+        // When
+        final var id = "mock-world-identifier";
+        final var worldMO = mock(WorldMO.class);
+        final var placeODTO = mock(PlaceODTO.class);
+        final var worldODTO = WorldODTO.builder().identifier(id).places(List.of(placeODTO)).build();
+
+        when(repository.get(id)).thenReturn(Mono.just(worldMO));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+
+        // Then
+        final var result = service.listPlaces(id, TranslatedString.EN);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(placeODTO)
+                .verifyComplete();
+
+        verify(repository).get(id);
+    }
+}
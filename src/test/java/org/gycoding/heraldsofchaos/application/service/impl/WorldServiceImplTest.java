@@ -2,8 +2,12 @@ package org.gycoding.heraldsofchaos.application.service.impl;
 
 import org.gycoding.heraldsofchaos.application.dto.in.worlds.WorldIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
 import org.gycoding.heraldsofchaos.application.mapper.WorldServiceMapper;
+import org.gycoding.heraldsofchaos.domain.exceptions.DetailedError;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
 import org.gycoding.heraldsofchaos.domain.repository.WorldRepository;
@@ -17,11 +21,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -35,6 +46,9 @@ public class WorldServiceImplTest {
     @Mock
     private WorldServiceMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @InjectMocks
     private WorldServiceImpl service;
 
@@ -48,13 +62,12 @@ public class WorldServiceImplTest {
 
     @Test
     @DisplayName("[WORLD_SERVICE] - Test successful save of a World.")
-    void testSaveWorld() throws ServiceException {
+    void testSaveWorld() throws ServiceException, DatabaseException {
         // When
         final var worldIDTO = mock(WorldIDTO.class);
         final var worldMO = mock(WorldMO.class);
         final var worldODTO = mock(WorldODTO.class);
 
-        when(repository.get(worldMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(worldIDTO)).thenReturn(worldMO);
         when(repository.save(worldMO, worldIDTO.places())).thenReturn(worldMO);
         when(mapper.toODTO(worldMO, TranslatedString.EN)).thenReturn(worldODTO);
@@ -63,10 +76,10 @@ public class WorldServiceImplTest {
         final var result = service.save(worldIDTO);
 
         // Verify
-        verify(repository).get(worldMO.identifier());
         verify(mapper).toMO(worldIDTO);
         verify(repository).save(worldMO, worldIDTO.places());
         verify(mapper).toODTO(worldMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.WORLD, worldMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(worldODTO, result);
@@ -74,13 +87,14 @@ public class WorldServiceImplTest {
 
     @Test
     @DisplayName("[WORLD_SERVICE] - Test unsuccessful save of a World due to it already existing.")
-    void testWrongSaveWorldAlreadyExists() {
+    void testWrongSaveWorldAlreadyExists() throws DatabaseException {
         // When
         final var worldIDTO = mock(WorldIDTO.class);
         final var worldMO = mock(WorldMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.WORLD_ALREADY_EXISTS_CONFLICT);
 
-        when(repository.get(worldMO.identifier())).thenReturn(Optional.of(worldMO));
+        when(mapper.toMO(worldIDTO)).thenReturn(worldMO);
+        when(repository.save(worldMO, worldIDTO.places())).thenThrow(new DuplicateKeyException("Duplicate identifier."));
 
         // Then
         final var error = assertThrows(
@@ -89,7 +103,8 @@ public class WorldServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(worldMO.identifier());
+        verify(mapper).toMO(worldIDTO);
+        verify(repository).save(worldMO, worldIDTO.places());
         verifyNoMoreInteractions(repository);
 
         assertEquals(expectedException.getStatus(), error.getStatus());
@@ -98,13 +113,12 @@ public class WorldServiceImplTest {
 
     @Test
     @DisplayName("[WORLD_SERVICE] - Test unsuccessful save of a World due to an unknown conflict while saving.")
-    void testWrongSaveWorldUnknownConflict() {
+    void testWrongSaveWorldUnknownConflict() throws DatabaseException {
         // When
         final var worldIDTO = mock(WorldIDTO.class);
         final var worldMO = mock(WorldMO.class);
         final var expectedException = new ServiceException(HeraldsOfChaosError.WORLD_SAVE_CONFLICT);
 
-        when(repository.get(worldMO.identifier())).thenReturn(Optional.empty());
         when(mapper.toMO(worldIDTO)).thenReturn(worldMO);
         when(repository.save(worldMO, worldIDTO.places())).thenThrow(new RuntimeException("Any exception."));
 
@@ -115,7 +129,6 @@ public class WorldServiceImplTest {
         );
 
         // Verify
-        verify(repository).get(worldMO.identifier());
         verify(mapper).toMO(worldIDTO);
         verify(repository).save(worldMO, worldIDTO.places());
         verifyNoMoreInteractions(repository);
@@ -124,6 +137,33 @@ public class WorldServiceImplTest {
         assertEquals(expectedException.getCode(), error.getCode());
     }
 
+    @Test
+    @DisplayName("[WORLD_SERVICE] - Test unsuccessful save of a World due to some of its places not existing.")
+    void testWrongSaveWorldMissingPlaces() throws DatabaseException {
+        // When
+        final var worldIDTO = mock(WorldIDTO.class);
+        final var worldMO = mock(WorldMO.class);
+        final var expectedException = new DatabaseException(DetailedError.of(HeraldsOfChaosError.PLACE_NOT_FOUND, "Missing places: mock-place-identifier."));
+
+        when(mapper.toMO(worldIDTO)).thenReturn(worldMO);
+        when(repository.save(worldMO, worldIDTO.places())).thenThrow(expectedException);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> service.save(worldIDTO)
+        );
+
+        // Verify
+        verify(mapper).toMO(worldIDTO);
+        verify(repository).save(worldMO, worldIDTO.places());
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+        assertEquals(expectedException.getMessage(), error.getMessage());
+    }
+
     @Test
     @DisplayName("[WORLD_SERVICE] - Test successful update of a World.")
     void testUpdateWorld() throws ServiceException, DatabaseException {
@@ -144,6 +184,7 @@ public class WorldServiceImplTest {
         verify(mapper).toMO(worldIDTO);
         verify(repository).update(worldMO, worldIDTO.places());
         verify(mapper).toODTO(worldUpdatedMO, TranslatedString.EN);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.WORLD, worldUpdatedMO.identifier()));
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(worldODTO, result);
@@ -175,6 +216,33 @@ public class WorldServiceImplTest {
         assertEquals(expectedException.getCode(), error.getCode());
     }
 
+    @Test
+    @DisplayName("[WORLD_SERVICE] - Test unsuccessful update of a World due to some of its places not existing.")
+    void testWrongUpdateWorldMissingPlaces() throws DatabaseException {
+        // When
+        final var worldIDTO = mock(WorldIDTO.class);
+        final var worldMO = mock(WorldMO.class);
+        final var expectedException = new DatabaseException(DetailedError.of(HeraldsOfChaosError.PLACE_NOT_FOUND, "Missing places: mock-place-identifier."));
+
+        when(mapper.toMO(worldIDTO)).thenReturn(worldMO);
+        when(repository.update(worldMO, worldIDTO.places())).thenThrow(expectedException);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> service.update(worldIDTO)
+        );
+
+        // Verify
+        verify(mapper).toMO(worldIDTO);
+        verify(repository).update(worldMO, worldIDTO.places());
+        verifyNoMoreInteractions(repository);
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+        assertEquals(expectedException.getMessage(), error.getMessage());
+    }
+
     @Test
     @DisplayName("[WORLD_SERVICE] - Test successful removal of a World.")
     void testDeleteWorld() throws ServiceException {
@@ -186,6 +254,7 @@ public class WorldServiceImplTest {
 
         // Verify
         verify(repository).delete(id);
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.WORLD, id));
         verifyNoMoreInteractions(repository);
     }
 
@@ -221,14 +290,14 @@ public class WorldServiceImplTest {
         final var worldODTO = mock(WorldODTO.class);
 
         when(repository.get(id)).thenReturn(Optional.of(worldMO));
-        when(mapper.toODTO(worldMO, TranslatedString.EN)).thenReturn(worldODTO);
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
 
         // Then
-        final var result = service.get(id, TranslatedString.EN);
+        final var result = service.get(id, TranslatedString.EN, Fieldset.ALL);
 
         // Verify
         verify(repository).get(id);
-        verify(mapper).toODTO(worldMO, TranslatedString.EN);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(worldODTO, result);
@@ -246,7 +315,7 @@ public class WorldServiceImplTest {
         // Then
         final var error = assertThrows(
                 ServiceException.class,
-                () -> service.get(id, TranslatedString.EN)
+                () -> service.get(id, TranslatedString.EN, Fieldset.ALL)
         );
 
         // Verify
@@ -264,15 +333,36 @@ public class WorldServiceImplTest {
         final var worldMO = mock(WorldMO.class);
         final var worldODTO = mock(WorldODTO.class);
 
-        when(repository.list()).thenReturn(List.of(worldMO));
-        when(mapper.toODTO(worldMO, TranslatedString.EN)).thenReturn(worldODTO);
+        when(repository.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(worldMO));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
 
         // Then
-        final var result = service.list(TranslatedString.EN);
+        final var result = service.list(TranslatedString.EN, Fieldset.ALL);
 
         // Verify
-        verify(repository).list();
-        verify(mapper).toODTO(worldMO, TranslatedString.EN);
+        verify(repository).list(TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(worldODTO), result);
+    }
+
+    @Test
+    @DisplayName("[WORLD_SERVICE] - Test successful streaming of the Worlds.")
+    void testStreamWorlds() throws ServiceException {
+        // When
+        final var worldMO = mock(WorldMO.class);
+        final var worldODTO = mock(WorldODTO.class);
+
+        when(repository.stream(TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(worldMO));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+
+        // Then
+        final var result = service.stream(TranslatedString.EN, Fieldset.ALL).toList();
+
+        // Verify
+        verify(repository).stream(TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(List.of(worldODTO), result);
@@ -304,16 +394,67 @@ public class WorldServiceImplTest {
         final var worldODTO = mock(WorldODTO.class);
 
         when(repository.get(id)).thenReturn(Optional.of(worldMO));
-        when(mapper.toODTO(worldMO, TranslatedString.EN)).thenReturn(worldODTO);
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
 
         // Then
         final var result = service.listPlaces(id, TranslatedString.EN);
 
         // Verify
         verify(repository).get(id);
-        verify(mapper).toODTO(worldMO, TranslatedString.EN);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(mapper, repository);
 
         assertEquals(worldODTO.places(), result);
     }
+
+    @Test
+    @DisplayName("[WORLD_SERVICE] - Test successful retrieval of a window of Worlds after a given identifier.")
+    void testScrollWorlds() throws ServiceException {
+        // When
+        final var after = "mock-world-identifier";
+        final var worldMO = mock(WorldMO.class);
+        final var worldODTO = mock(WorldODTO.class);
+        final Map<String, Object> worldMap = Map.of("identifier", "mock-next-world-identifier");
+        final var window = Window.from(List.of(worldMO), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-world-identifier")), true);
+
+        when(repository.scroll(after, 10, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+        when(worldODTO.toMap()).thenReturn(worldMap);
+
+        // Then
+        final var result = service.scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(worldMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[WORLD_SERVICE] - Test successful retrieval of a slice of Worlds.")
+    void testSliceWorlds() throws ServiceException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var worldMO = mock(WorldMO.class);
+        final var worldODTO = mock(WorldODTO.class);
+        final Map<String, Object> worldMap = Map.of("identifier", "mock-world-identifier");
+
+        when(repository.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(worldMO), pageable, true));
+        when(mapper.toODTO(worldMO, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
+        when(worldODTO.toMap()).thenReturn(worldMap);
+
+        // Then
+        final var result = service.slice(pageable, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(repository).slice(pageable, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toODTO(worldMO, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(mapper, repository);
+
+        assertEquals(List.of(worldMap), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
 }
\ No newline at end of file
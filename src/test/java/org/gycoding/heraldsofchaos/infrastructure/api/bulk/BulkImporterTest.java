@@ -0,0 +1,114 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gycoding.heraldsofchaos.application.dto.out.BulkResultODTO;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.creatures.CreatureRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk.BulkItemRSDTO;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BulkImporterTest {
+    private BulkImporter importer;
+
+    private List<List<String>> batches;
+
+    @BeforeEach
+    void setup() {
+        importer = new BulkImporter(new ObjectMapper(), 2);
+        batches = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("[BULK_IMPORTER] - Test that a JSON array is written in batches of the configured size.")
+    void testSaveJsonArrayInBatches() throws QuasarException {
+        // When
+        final var body = body("[" + String.join(",", creature("a"), creature("b"), creature("c"), creature("d"), creature("e")) + "]");
+
+        // Then
+        final var report = importer.save(body, CreatureRQDTO.class, creature -> creature.name().en(), this::write);
+
+        // Verify
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), batches);
+        assertEquals(5, report.total());
+        assertEquals(5, report.saved());
+        assertEquals(0, report.failed());
+        assertEquals(List.of("a", "b", "c", "d", "e"), report.items().stream().map(BulkItemRSDTO::identifier).toList());
+    }
+
+    @Test
+    @DisplayName("[BULK_IMPORTER] - Test that NDJSON elements that cannot be read or written are reported in place without stopping the import.")
+    void testSaveNdjsonReportsEveryElement() throws QuasarException {
+        // When
+        final var body = body(String.join("\n",
+                creature("a"),
+                "{\"name\":5}",
+                creature("duplicate"),
+                "{\"image\":\"no-name.png\"}",
+                creature("b")
+        ));
+
+        // Then
+        final var report = importer.save(body, CreatureRQDTO.class, creature -> creature.name().en(), this::write);
+
+        // Verify
+        assertEquals(List.of(List.of("a", "duplicate"), List.of("b")), batches);
+        assertEquals(5, report.total());
+        assertEquals(2, report.saved());
+        assertEquals(3, report.failed());
+        assertEquals(List.of(0, 1, 2, 3, 4), report.items().stream().map(BulkItemRSDTO::index).toList());
+        assertEquals(
+                List.of(BulkImporter.SAVED, BulkImporter.FAILED, BulkImporter.FAILED, BulkImporter.FAILED, BulkImporter.SAVED),
+                report.items().stream().map(BulkItemRSDTO::status).toList()
+        );
+        assertEquals(HeraldsOfChaosError.INVALID_BULK_ITEM.code, report.items().get(1).error());
+        assertEquals(HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT.code, report.items().get(2).error());
+        assertEquals(HeraldsOfChaosError.INVALID_BULK_ITEM.code, report.items().get(3).error());
+    }
+
+    @Test
+    @DisplayName("[BULK_IMPORTER] - Test that a body which is not well-formed JSON is rejected.")
+    void testWrongBody() {
+        // When
+        final var expectedException = new ServiceException(HeraldsOfChaosError.INVALID_BULK_BODY);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> importer.save(body("[" + creature("a") + ", {\"name\":"), CreatureRQDTO.class, creature -> creature.name().en(), this::write)
+        );
+
+        // Verify
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+        assertEquals(List.of(), batches);
+    }
+
+    private List<BulkResultODTO> write(List<String> batch) {
+        batches.add(batch);
+
+        return batch.stream()
+                .map(identifier -> new BulkResultODTO(identifier, "duplicate".equals(identifier) ? HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT : null))
+                .toList();
+    }
+
+    private static String creature(String name) {
+        return String.format("{\"name\":{\"en\":\"%s\",\"es\":\"%s\"},\"image\":\"%s.png\"}", name, name, name);
+    }
+
+    private static InputStream body(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
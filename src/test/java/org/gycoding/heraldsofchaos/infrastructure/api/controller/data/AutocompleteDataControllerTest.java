@@ -0,0 +1,52 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import org.gycoding.heraldsofchaos.application.dto.out.CompletionODTO;
+import org.gycoding.heraldsofchaos.application.search.NameTrie;
+import org.gycoding.heraldsofchaos.application.service.SearchService;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search.CompletionRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.SearchControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AutocompleteDataControllerTest {
+    @Mock
+    private SearchService service;
+
+    @Mock
+    private SearchControllerMapper mapper;
+
+    @InjectMocks
+    private AutocompleteDataController controller;
+
+    @Test
+    @DisplayName("[AUTOCOMPLETE_DATA_CONTROLLER] - Test successful completion, bounding the requested size to the cached top.")
+    void testComplete() throws QuasarException {
+        // When
+        final var completionODTO = mock(CompletionODTO.class);
+        final var completionRSDTO = mock(CompletionRSDTO.class);
+
+        when(service.complete("dra", "es", null, NameTrie.TOP)).thenReturn(List.of(completionODTO));
+        when(mapper.toRSDTO(completionODTO)).thenReturn(completionRSDTO);
+
+        // Then
+        final var result = controller.complete("dra", "es", null, 50);
+
+        // Verify
+        verify(service).complete("dra", "es", null, NameTrie.TOP);
+        verify(mapper).toRSDTO(completionODTO);
+        verifyNoMoreInteractions(service, mapper);
+
+        assertEquals(List.of(completionRSDTO), result.getBody());
+    }
+}
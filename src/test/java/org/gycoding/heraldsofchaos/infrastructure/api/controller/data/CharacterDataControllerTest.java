@@ -1,25 +1,43 @@
 package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
 
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
 import org.gycoding.heraldsofchaos.application.service.CharacterService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.characters.CharacterRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.ListResponseStore;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.NdjsonResponses;
 import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +48,18 @@ public class CharacterDataControllerTest {
     @Mock
     private CharacterControllerMapper mapper;
 
+    @Mock
+    private ListResponseStore responseStore;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private NdjsonResponses ndjsonResponses;
+
+    @Mock
+    private WebRequest request;
+
     @InjectMocks
     private CharacterDataController controller;
 
@@ -41,14 +71,14 @@ public class CharacterDataControllerTest {
         final var characterRSDTO = mock(CharacterRSDTO.class);
         final var id = "mock-character-id";
 
-        when(service.get(id, TranslatedString.EN)).thenReturn(characterODTO);
+        when(service.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(characterODTO);
         when(mapper.toRSDTO(characterODTO)).thenReturn(characterRSDTO);
 
         // Then
-        final var result = controller.getCharacter(id, TranslatedString.EN);
+        final var result = controller.getCharacter(id, TranslatedString.EN, null, request);
 
         // Verify
-        verify(service).get(id, TranslatedString.EN);
+        verify(service).get(id, TranslatedString.EN, Fieldset.ALL);
         verify(mapper).toRSDTO(characterODTO);
         verifyNoMoreInteractions(mapper, service);
 
@@ -59,41 +89,232 @@ public class CharacterDataControllerTest {
     @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test successful retrieval of a list of Characters.")
     void testListCharacters() throws QuasarException {
         // When
+        final var filter = CharacterFilterIDTO.builder().build();
         final var characterODTO = mock(CharacterODTO.class);
         final var characterRSDTO = mock(CharacterRSDTO.class);
 
-        when(service.list(TranslatedString.EN)).thenReturn(List.of(characterODTO));
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(characterODTO));
+        when(responseStore.get(eq(EntityType.CHARACTER), eq(TranslatedString.EN), any())).thenAnswer(invocation ->
+                invocation.<ListResponseStore.Body>getArgument(2).get(TranslatedString.EN).toString().getBytes()
+        );
         when(mapper.toRSDTO(characterODTO)).thenReturn(characterRSDTO);
 
         // Then
-        final var result = controller.listCharacters(TranslatedString.EN);
+        final var result = controller.listCharacters(TranslatedString.EN, null, null, null, request);
 
         // Verify
-        verify(service).list(TranslatedString.EN);
+        verify(responseStore).get(eq(EntityType.CHARACTER), eq(TranslatedString.EN), any());
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
         verify(mapper).toRSDTO(characterODTO);
         verifyNoMoreInteractions(mapper, service);
 
         assertNotEquals(List.of(), result.getBody());
     }
 
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test successful streaming of the Characters as NDJSON.")
+    void testStreamCharacters() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().build();
+        final var characterODTO = mock(CharacterODTO.class);
+        final var characterRSDTO = mock(CharacterRSDTO.class);
+        final var streamed = new ArrayList<>();
+
+        when(service.stream(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(characterODTO));
+        when(mapper.toRSDTO(characterODTO)).thenReturn(characterRSDTO);
+        when(ndjsonResponses.of(any())).thenAnswer(invocation -> {
+            invocation.<Stream<?>>getArgument(0).forEach(streamed::add);
+
+            return ResponseEntity.ok().build();
+        });
+
+        // Then
+        controller.streamCharacters(TranslatedString.EN, null, null, null, request);
+
+        // Verify
+        verify(service).stream(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(characterODTO);
+        verifyNoMoreInteractions(mapper, service);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(characterRSDTO), streamed);
+    }
+
     @Test
     @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test successful retrieval of a paginated list of Characters.")
     void testPageCharacters() throws QuasarException {
         // When
+        final var filter = CharacterFilterIDTO.builder().build();
         final Pageable pageable = Pageable.ofSize(10).withPage(0);
-        final Page<Map<String, Object>> pagedCharacters = mock(Page.class);
         final Map<String, Object> characterMap = Map.of("id", "mock-id", "name", "mock-name");
 
-        when(service.page(pageable, TranslatedString.EN)).thenReturn(pagedCharacters);
-        when(pagedCharacters.getContent()).thenReturn(List.of(characterMap));
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(characterMap), pageable, true));
 
         // Then
-        final var result = controller.pageCharacters(pageable, TranslatedString.EN);
+        final var result = controller.pageCharacters(pageable, TranslatedString.EN, null, false, null, null, null, request);
 
         // Verify
-        verify(service).page(pageable, TranslatedString.EN);
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(service);
 
         assertNotEquals(List.of(), result.getBody());
+        assertEquals("true", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test that an unchanged Character is answered as not modified without reading it.")
+    void testCharacterNotModified() throws QuasarException {
+        // When
+        final var id = "mock-character-id";
+        final var tag = "mock-character-tag";
+
+        when(versions.entityTag(EntityType.CHARACTER, id)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.getCharacter(id, TranslatedString.EN, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(service, mapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test that an unchanged list of Characters is answered as not modified without serializing it.")
+    void testListCharactersNotModified() throws QuasarException {
+        // When
+        final var tag = "mock-character-collection-tag";
+
+        when(versions.collectionTag(EntityType.CHARACTER)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.listCharacters(TranslatedString.EN, null, null, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(service, mapper, responseStore);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test successful retrieval of a window of Characters continuing from a cursor.")
+    void testScrollCharacters() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-next-character-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(characterMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), true);
+
+        when(service.scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+
+        // Then
+        final var result = controller.pageCharacters(pageable, TranslatedString.EN, Cursors.encode("mock-character-identifier"), false, null, null, null, request);
+
+        // Verify
+        verify(service).scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(List.of(characterMap), result.getBody());
+        assertEquals(Cursors.encode("mock-next-character-identifier"), result.getHeaders().getFirst(PagedResponses.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test successful retrieval of a page of Characters with their total count when asked for it.")
+    void testPageCharactersWithCount() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-character-identifier");
+
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(characterMap), pageable, false));
+        when(service.count(filter, TranslatedString.EN)).thenReturn(1L);
+
+        // Then
+        final var result = controller.pageCharacters(pageable, TranslatedString.EN, null, true, null, null, null, request);
+
+        // Verify
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(service).count(filter, TranslatedString.EN);
+        verifyNoMoreInteractions(service);
+
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test that a filtered list of Characters is read from the service instead of the stored responses.")
+    void testListFilteredCharacters() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().world("mock-world-identifier").race("mock-race").build();
+        final var characterODTO = mock(CharacterODTO.class);
+        final var characterRSDTO = mock(CharacterRSDTO.class);
+
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(characterODTO));
+        when(mapper.toRSDTO(characterODTO)).thenReturn(characterRSDTO);
+
+        // Then
+        final var result = controller.listCharacters(TranslatedString.EN, "mock-world-identifier", "mock-race", null, request);
+
+        // Verify
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(characterODTO);
+        verifyNoMoreInteractions(mapper, service);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(characterRSDTO), result.getBody());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test that a list of Characters with fields only serialises the requested fields.")
+    void testListCharactersWithFields() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().build();
+        final var fieldset = Fieldset.of(List.of("identifier", "name", "image"));
+        final var characterODTO = mock(CharacterODTO.class);
+        final var characterRSDTO = CharacterRSDTO.builder()
+                .identifier("mock-character-identifier")
+                .name("mock-name")
+                .image("mock-image")
+                .build();
+
+        when(service.list(filter, TranslatedString.EN, fieldset)).thenReturn(List.of(characterODTO));
+        when(mapper.toRSDTO(characterODTO)).thenReturn(characterRSDTO);
+
+        // Then
+        final var result = controller.listCharacters(TranslatedString.EN, null, null, List.of("identifier", "name", "image"), request);
+
+        // Verify
+        verify(service).list(filter, TranslatedString.EN, fieldset);
+        verify(mapper).toRSDTO(characterODTO);
+        verifyNoMoreInteractions(mapper, service);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(
+                List.of(Map.of("identifier", "mock-character-identifier", "name", "mock-name", "image", "mock-image")),
+                result.getBody()
+        );
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATA_CONTROLLER] - Test that unknown fields are rejected before reading any Character.")
+    void testWrongCharacterFields() {
+        // When
+        final var expectedException = new ServiceException(HeraldsOfChaosError.INVALID_FIELDS);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> controller.listCharacters(TranslatedString.EN, null, null, List.of("name", "password"), request)
+        );
+
+        // Verify
+        verifyNoInteractions(service, mapper, responseStore, request);
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
     }
-}
\ No newline at end of file
+}
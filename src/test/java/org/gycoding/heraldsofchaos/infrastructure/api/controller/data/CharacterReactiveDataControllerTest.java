@@ -0,0 +1,161 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.characters.CharacterODTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterReactiveService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.characters.CharacterRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CharacterReactiveDataControllerTest {
+    @Mock
+    private CharacterReactiveService service;
+
+    @Mock
+    private CharacterControllerMapper mapper;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private ServerWebExchange exchange;
+
+    @InjectMocks
+    private CharacterReactiveDataController controller;
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a Character.")
+    void testGetCharacter() throws QuasarException {
+        // When
+        final var characterODTO = mock(CharacterODTO.class);
+        final var characterRSDTO = mock(CharacterRSDTO.class);
+        final var id = "mock-character-id";
+
+        when(service.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(characterODTO));
+        when(mapper.toRSDTO(characterODTO)).thenReturn(characterRSDTO);
+
+        // Then
+        final var result = controller.getCharacter(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verify(service).get(id, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(characterODTO);
+        verifyNoMoreInteractions(mapper, service);
+
+        assertEquals(characterRSDTO, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATA_CONTROLLER] - Test that a Character whose version did not change is answered without reading it.")
+    void testGetCharacterNotModified() throws QuasarException {
+        // When
+        final var id = "mock-character-id";
+
+        when(versions.entityTag(EntityType.CHARACTER, id)).thenReturn("mock-tag");
+        when(exchange.checkNotModified("mock-tag")).thenReturn(true);
+
+        // Then
+        final var result = controller.getCharacter(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verifyNoInteractions(service, mapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a list of Characters.")
+    void testListCharacters() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().world("mock-world").race("mock-race").build();
+        final var characterODTO = mock(CharacterODTO.class);
+        final var characterRSDTO = mock(CharacterRSDTO.class);
+
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(characterODTO));
+        when(mapper.toRSDTO(characterODTO)).thenReturn(characterRSDTO);
+
+        // Then
+        final var result = controller.listCharacters(TranslatedString.EN, "mock-world", "mock-race", null, exchange).block();
+
+        // Verify
+        assertEquals(List.of(characterRSDTO), result.getBody().collectList().block());
+
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(characterODTO);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a page of Characters with their total count when asked for it.")
+    void testPageCharactersWithCount() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().world("mock-world").race("mock-race").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-character-identifier");
+        final Slice<Map<String, Object>> slice = new SliceImpl<>(List.of(characterMap), pageable, false);
+
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(slice));
+        when(service.count(filter, TranslatedString.EN)).thenReturn(Mono.just(1L));
+
+        // Then
+        final var result = controller.pageCharacters(pageable, TranslatedString.EN, null, true, "mock-world", "mock-race", null, exchange).block();
+
+        // Verify
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(service).count(filter, TranslatedString.EN);
+
+        assertEquals(List.of(characterMap), result.getBody());
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a window of Characters continuing from a cursor.")
+    void testScrollCharacters() throws QuasarException {
+        // When
+        final var filter = CharacterFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-next-character-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(characterMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), true);
+
+        when(service.scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+
+        // Then
+        final var result = controller.pageCharacters(pageable, TranslatedString.EN, Cursors.encode("mock-character-identifier"), false, null, null, null, exchange).block();
+
+        // Verify
+        verify(service).scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(List.of(characterMap), result.getBody());
+        assertNull(result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+        assertEquals(Cursors.encode("mock-next-character-identifier"), result.getHeaders().getFirst(PagedResponses.NEXT_CURSOR_HEADER));
+    }
+}
@@ -1,10 +1,18 @@
 package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
 
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
 import org.gycoding.heraldsofchaos.application.service.CreatureService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.creatures.CreatureRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.ListResponseStore;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.NdjsonResponses;
 import org.gycoding.quasar.exceptions.model.QuasarException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,14 +20,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +45,18 @@ public class CreatureDataControllerTest {
     @Mock
     private CreatureControllerMapper mapper;
 
+    @Mock
+    private ListResponseStore responseStore;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private NdjsonResponses ndjsonResponses;
+
+    @Mock
+    private WebRequest request;
+
     @InjectMocks
     private CreatureDataController controller;
 
@@ -41,14 +68,14 @@ public class CreatureDataControllerTest {
         final var creatureRSDTO = mock(CreatureRSDTO.class);
         final var id = "mock-creature-id";
 
-        when(service.get(id, TranslatedString.EN)).thenReturn(creatureODTO);
+        when(service.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(creatureODTO);
         when(mapper.toRSDTO(creatureODTO)).thenReturn(creatureRSDTO);
 
         // Then
-        final var result = controller.getCreature(id, TranslatedString.EN);
+        final var result = controller.getCreature(id, TranslatedString.EN, null, request);
 
         // Verify
-        verify(service).get(id, TranslatedString.EN);
+        verify(service).get(id, TranslatedString.EN, Fieldset.ALL);
         verify(mapper).toRSDTO(creatureODTO);
         verifyNoMoreInteractions(mapper, service);
 
@@ -59,41 +86,201 @@ public class CreatureDataControllerTest {
     @DisplayName("[CREATURE_DATA_CONTROLLER] - Test successful retrieval of a list of Creatures.")
     void testListCreatures() throws QuasarException {
         // When
+        final var filter = CreatureFilterIDTO.builder().build();
         final var creatureODTO = mock(CreatureODTO.class);
         final var creatureRSDTO = mock(CreatureRSDTO.class);
 
-        when(service.list(TranslatedString.EN)).thenReturn(List.of(creatureODTO));
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(creatureODTO));
+        when(responseStore.get(eq(EntityType.CREATURE), eq(TranslatedString.EN), any())).thenAnswer(invocation ->
+                invocation.<ListResponseStore.Body>getArgument(2).get(TranslatedString.EN).toString().getBytes()
+        );
         when(mapper.toRSDTO(creatureODTO)).thenReturn(creatureRSDTO);
 
         // Then
-        final var result = controller.listCreatures(TranslatedString.EN);
+        final var result = controller.listCreatures(TranslatedString.EN, null, null, request);
 
         // Verify
-        verify(service).list(TranslatedString.EN);
+        verify(responseStore).get(eq(EntityType.CREATURE), eq(TranslatedString.EN), any());
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
         verify(mapper).toRSDTO(creatureODTO);
         verifyNoMoreInteractions(mapper, service);
 
         assertNotEquals(List.of(), result.getBody());
     }
 
+    @Test
+    @DisplayName("[CREATURE_DATA_CONTROLLER] - Test successful streaming of the Creatures as NDJSON.")
+    void testStreamCreatures() throws QuasarException {
+        // When
+        final var filter = CreatureFilterIDTO.builder().build();
+        final var creatureODTO = mock(CreatureODTO.class);
+        final var creatureRSDTO = mock(CreatureRSDTO.class);
+        final var streamed = new ArrayList<>();
+
+        when(service.stream(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(creatureODTO));
+        when(mapper.toRSDTO(creatureODTO)).thenReturn(creatureRSDTO);
+        when(ndjsonResponses.of(any())).thenAnswer(invocation -> {
+            invocation.<Stream<?>>getArgument(0).forEach(streamed::add);
+
+            return ResponseEntity.ok().build();
+        });
+
+        // Then
+        controller.streamCreatures(TranslatedString.EN, null, null, request);
+
+        // Verify
+        verify(service).stream(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(creatureODTO);
+        verifyNoMoreInteractions(mapper, service);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(creatureRSDTO), streamed);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATA_CONTROLLER] - Test that unchanged Creatures are answered as not modified without opening a cursor.")
+    void testStreamCreaturesNotModified() throws QuasarException {
+        // When
+        final var tag = "mock-creatures-tag";
+
+        when(versions.collectionTag(EntityType.CREATURE)).thenReturn(tag);
+        when(request.checkNotModified(NdjsonResponses.tag(tag))).thenReturn(true);
+
+        // Then
+        final var result = controller.streamCreatures(TranslatedString.EN, null, null, request);
+
+        // Verify
+        verify(request).checkNotModified(NdjsonResponses.tag(tag));
+        verifyNoInteractions(service, mapper, ndjsonResponses);
+
+        assertNull(result);
+    }
+
     @Test
     @DisplayName("[CREATURE_DATA_CONTROLLER] - Test successful retrieval of a paginated list of Creatures.")
     void testPageCreatures() throws QuasarException {
         // When
+        final var filter = CreatureFilterIDTO.builder().build();
         final Pageable pageable = Pageable.ofSize(10).withPage(0);
-        final Page<Map<String, Object>> pagedCreatures = mock(Page.class);
         final Map<String, Object> creatureMap = Map.of("id", "mock-id", "name", "mock-name");
 
-        when(service.page(pageable, TranslatedString.EN)).thenReturn(pagedCreatures);
-        when(pagedCreatures.getContent()).thenReturn(List.of(creatureMap));
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(creatureMap), pageable, true));
 
         // Then
-        final var result = controller.pageCreatures(pageable, TranslatedString.EN);
+        final var result = controller.pageCreatures(pageable, TranslatedString.EN, null, false, null, null, request);
 
         // Verify
-        verify(service).page(pageable, TranslatedString.EN);
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(service);
 
         assertNotEquals(List.of(), result.getBody());
+        assertEquals("true", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATA_CONTROLLER] - Test that an unchanged Creature is answered as not modified without reading it.")
+    void testCreatureNotModified() throws QuasarException {
+        // When
+        final var id = "mock-creature-id";
+        final var tag = "mock-creature-tag";
+
+        when(versions.entityTag(EntityType.CREATURE, id)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.getCreature(id, TranslatedString.EN, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(service, mapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATA_CONTROLLER] - Test that an unchanged list of Creatures is answered as not modified without serializing it.")
+    void testListCreaturesNotModified() throws QuasarException {
+        // When
+        final var tag = "mock-creature-collection-tag";
+
+        when(versions.collectionTag(EntityType.CREATURE)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.listCreatures(TranslatedString.EN, null, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(service, mapper, responseStore);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATA_CONTROLLER] - Test successful retrieval of a window of Creatures continuing from a cursor.")
+    void testScrollCreatures() throws QuasarException {
+        // When
+        final var filter = CreatureFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-next-creature-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(creatureMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-creature-identifier")), true);
+
+        when(service.scroll("mock-creature-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+
+        // Then
+        final var result = controller.pageCreatures(pageable, TranslatedString.EN, Cursors.encode("mock-creature-identifier"), false, null, null, request);
+
+        // Verify
+        verify(service).scroll("mock-creature-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(List.of(creatureMap), result.getBody());
+        assertEquals(Cursors.encode("mock-next-creature-identifier"), result.getHeaders().getFirst(PagedResponses.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATA_CONTROLLER] - Test successful retrieval of a page of Creatures with their total count when asked for it.")
+    void testPageCreaturesWithCount() throws QuasarException {
+        // When
+        final var filter = CreatureFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-creature-identifier");
+
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(creatureMap), pageable, false));
+        when(service.count(filter, TranslatedString.EN)).thenReturn(1L);
+
+        // Then
+        final var result = controller.pageCreatures(pageable, TranslatedString.EN, null, true, null, null, request);
+
+        // Verify
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(service).count(filter, TranslatedString.EN);
+        verifyNoMoreInteractions(service);
+
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATA_CONTROLLER] - Test that a filtered list of Creatures is read from the service instead of the stored responses.")
+    void testListFilteredCreatures() throws QuasarException {
+        // When
+        final var filter = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var creatureODTO = mock(CreatureODTO.class);
+        final var creatureRSDTO = mock(CreatureRSDTO.class);
+
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(creatureODTO));
+        when(mapper.toRSDTO(creatureODTO)).thenReturn(creatureRSDTO);
+
+        // Then
+        final var result = controller.listCreatures(TranslatedString.EN, "mock-race", null, request);
+
+        // Verify
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(creatureODTO);
+        verifyNoMoreInteractions(mapper, service);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(creatureRSDTO), result.getBody());
     }
-}
\ No newline at end of file
+}
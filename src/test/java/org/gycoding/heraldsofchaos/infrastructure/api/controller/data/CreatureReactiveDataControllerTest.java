@@ -0,0 +1,205 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.creatures.CreatureODTO;
+import org.gycoding.heraldsofchaos.application.service.CreatureReactiveService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.creatures.CreatureRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreatureReactiveDataControllerTest {
+    @Mock
+    private CreatureReactiveService service;
+
+    @Mock
+    private CreatureControllerMapper mapper;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private ServerWebExchange exchange;
+
+    @InjectMocks
+    private CreatureReactiveDataController controller;
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a Creature.")
+    void testGetCreature() throws QuasarException {
+        // When
+        final var creatureODTO = mock(CreatureODTO.class);
+        final var creatureRSDTO = mock(CreatureRSDTO.class);
+        final var id = "mock-creature-id";
+
+        when(service.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(creatureODTO));
+        when(mapper.toRSDTO(creatureODTO)).thenReturn(creatureRSDTO);
+
+        // Then
+        final var result = controller.getCreature(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verify(service).get(id, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(creatureODTO);
+        verifyNoMoreInteractions(mapper, service);
+
+        assertEquals(creatureRSDTO, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATA_CONTROLLER] - Test that a Creature whose version did not change is answered without reading it.")
+    void testGetCreatureNotModified() throws QuasarException {
+        // When
+        final var id = "mock-creature-id";
+
+        when(versions.entityTag(EntityType.CREATURE, id)).thenReturn("mock-tag");
+        when(exchange.checkNotModified("mock-tag")).thenReturn(true);
+
+        // Then
+        final var result = controller.getCreature(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verifyNoInteractions(service, mapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a list of Creatures.")
+    void testListCreatures() throws QuasarException {
+        // When
+        final var filter = CreatureFilterIDTO.builder().race("mock-race").build();
+        final var creatureODTO = mock(CreatureODTO.class);
+        final var creatureRSDTO = mock(CreatureRSDTO.class);
+
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(creatureODTO));
+        when(mapper.toRSDTO(creatureODTO)).thenReturn(creatureRSDTO);
+
+        // Then
+        final var result = controller.listCreatures(TranslatedString.EN, "mock-race", null, exchange).block();
+
+        // Verify
+        assertEquals(List.of(creatureRSDTO), result.getBody().collectList().block());
+
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(creatureODTO);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a page of Creatures with their total count when asked for it.")
+    void testPageCreaturesWithCount() throws QuasarException {
+        // When
+        final var filter = CreatureFilterIDTO.builder().race("mock-race").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-creature-identifier");
+        final Slice<Map<String, Object>> slice = new SliceImpl<>(List.of(creatureMap), pageable, false);
+
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(slice));
+        when(service.count(filter, TranslatedString.EN)).thenReturn(Mono.just(1L));
+
+        // Then
+        final var result = controller.pageCreatures(pageable, TranslatedString.EN, null, true, "mock-race", null, exchange).block();
+
+        // Verify
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(service).count(filter, TranslatedString.EN);
+
+        assertEquals(List.of(creatureMap), result.getBody());
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a window of Creatures continuing from a cursor.")
+    void testScrollCreatures() throws QuasarException {
+        // When
+        final var filter = CreatureFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-next-creature-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(creatureMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-creature-identifier")), true);
+
+        when(service.scroll("mock-creature-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+
+        // Then
+        final var result = controller.pageCreatures(pageable, TranslatedString.EN, Cursors.encode("mock-creature-identifier"), false, null, null, exchange).block();
+
+        // Verify
+        verify(service).scroll("mock-creature-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(List.of(creatureMap), result.getBody());
+        assertNull(result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+        assertEquals(Cursors.encode("mock-next-creature-identifier"), result.getHeaders().getFirst(PagedResponses.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATA_CONTROLLER] - Test that a page of Creatures only retains the requested fields.")
+    void testPageCreaturesWithFields() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var filter = CreatureFilterIDTO.builder().build();
+        final var fieldset = Fieldset.of(List.of("identifier"));
+        final Map<String, Object> creatureMap = Map.of("identifier", "mock-creature-identifier", "name", "mock-name");
+        final Slice<Map<String, Object>> slice = new SliceImpl<>(List.of(creatureMap), pageable, false);
+
+        when(service.slice(pageable, filter, TranslatedString.EN, fieldset)).thenReturn(Mono.just(slice));
+
+        // Then
+        final var result = controller.pageCreatures(pageable, TranslatedString.EN, null, false, null, List.of("identifier"), exchange).block();
+
+        // Verify
+        verify(service).slice(pageable, filter, TranslatedString.EN, fieldset);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(List.of(Map.of("identifier", "mock-creature-identifier")), result.getBody());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATA_CONTROLLER] - Test unsuccessful retrieval of a Creature due to requesting fields outside its response.")
+    void testWrongGetCreatureInvalidFields() {
+        // When
+        final var expectedException = new ServiceException(HeraldsOfChaosError.INVALID_FIELDS);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> controller.getCreature("mock-creature-id", TranslatedString.EN, List.of("title"), exchange)
+        );
+
+        // Verify
+        verifyNoInteractions(service, mapper, exchange);
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+    }
+}
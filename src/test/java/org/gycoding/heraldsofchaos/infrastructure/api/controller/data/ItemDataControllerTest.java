@@ -1,10 +1,18 @@
 package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
 
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
 import org.gycoding.heraldsofchaos.application.service.ItemService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.items.ItemRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.ItemControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.ListResponseStore;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.NdjsonResponses;
 import org.gycoding.quasar.exceptions.model.QuasarException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,14 +20,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +45,18 @@ public class ItemDataControllerTest {
     @Mock
     private ItemControllerMapper mapper;
 
+    @Mock
+    private ListResponseStore responseStore;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private NdjsonResponses ndjsonResponses;
+
+    @Mock
+    private WebRequest request;
+
     @InjectMocks
     private ItemDataController controller;
 
@@ -41,14 +68,14 @@ public class ItemDataControllerTest {
         final var itemRSDTO = mock(ItemRSDTO.class);
         final var id = "mock-item-id";
 
-        when(service.get(id, TranslatedString.EN)).thenReturn(itemODTO);
+        when(service.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(itemODTO);
         when(mapper.toRSDTO(itemODTO)).thenReturn(itemRSDTO);
 
         // Then
-        final var result = controller.getItem(id, TranslatedString.EN);
+        final var result = controller.getItem(id, TranslatedString.EN, null, request);
 
         // Verify
-        verify(service).get(id, TranslatedString.EN);
+        verify(service).get(id, TranslatedString.EN, Fieldset.ALL);
         verify(mapper).toRSDTO(itemODTO);
         verifyNoMoreInteractions(mapper, service);
 
@@ -59,41 +86,182 @@ public class ItemDataControllerTest {
     @DisplayName("[ITEM_DATA_CONTROLLER] - Test successful retrieval of a list of Items.")
     void testListItems() throws QuasarException {
         // When
+        final var filter = ItemFilterIDTO.builder().build();
         final var itemODTO = mock(ItemODTO.class);
         final var itemRSDTO = mock(ItemRSDTO.class);
 
-        when(service.list(TranslatedString.EN)).thenReturn(List.of(itemODTO));
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(itemODTO));
+        when(responseStore.get(eq(EntityType.ITEM), eq(TranslatedString.EN), any())).thenAnswer(invocation ->
+                invocation.<ListResponseStore.Body>getArgument(2).get(TranslatedString.EN).toString().getBytes()
+        );
         when(mapper.toRSDTO(itemODTO)).thenReturn(itemRSDTO);
 
         // Then
-        final var result = controller.listItems(TranslatedString.EN);
+        final var result = controller.listItems(TranslatedString.EN, null, null, request);
 
         // Verify
-        verify(service).list(TranslatedString.EN);
+        verify(responseStore).get(eq(EntityType.ITEM), eq(TranslatedString.EN), any());
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
         verify(mapper).toRSDTO(itemODTO);
         verifyNoMoreInteractions(mapper, service);
 
         assertNotEquals(List.of(), result.getBody());
     }
 
+    @Test
+    @DisplayName("[ITEM_DATA_CONTROLLER] - Test successful streaming of the Items as NDJSON.")
+    void testStreamItems() throws QuasarException {
+        // When
+        final var filter = ItemFilterIDTO.builder().build();
+        final var itemODTO = mock(ItemODTO.class);
+        final var itemRSDTO = mock(ItemRSDTO.class);
+        final var streamed = new ArrayList<>();
+
+        when(service.stream(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(itemODTO));
+        when(mapper.toRSDTO(itemODTO)).thenReturn(itemRSDTO);
+        when(ndjsonResponses.of(any())).thenAnswer(invocation -> {
+            invocation.<Stream<?>>getArgument(0).forEach(streamed::add);
+
+            return ResponseEntity.ok().build();
+        });
+
+        // Then
+        controller.streamItems(TranslatedString.EN, null, null, request);
+
+        // Verify
+        verify(service).stream(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(itemODTO);
+        verifyNoMoreInteractions(mapper, service);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(itemRSDTO), streamed);
+    }
+
     @Test
     @DisplayName("[ITEM_DATA_CONTROLLER] - Test successful retrieval of a paginated list of Items.")
     void testPageItems() throws QuasarException {
         // When
+        final var filter = ItemFilterIDTO.builder().build();
         final Pageable pageable = Pageable.ofSize(10).withPage(0);
-        final Page<Map<String, Object>> pagedItems = mock(Page.class);
         final Map<String, Object> itemMap = Map.of("id", "mock-id", "name", "mock-name");
 
-        when(service.page(pageable, TranslatedString.EN)).thenReturn(pagedItems);
-        when(pagedItems.getContent()).thenReturn(List.of(itemMap));
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(itemMap), pageable, true));
 
         // Then
-        final var result = controller.pageItems(pageable, TranslatedString.EN);
+        final var result = controller.pageItems(pageable, TranslatedString.EN, null, false, null, null, request);
 
         // Verify
-        verify(service).page(pageable, TranslatedString.EN);
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(service);
 
         assertNotEquals(List.of(), result.getBody());
+        assertEquals("true", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATA_CONTROLLER] - Test that an unchanged Item is answered as not modified without reading it.")
+    void testItemNotModified() throws QuasarException {
+        // When
+        final var id = "mock-item-id";
+        final var tag = "mock-item-tag";
+
+        when(versions.entityTag(EntityType.ITEM, id)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.getItem(id, TranslatedString.EN, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(service, mapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATA_CONTROLLER] - Test that an unchanged list of Items is answered as not modified without serializing it.")
+    void testListItemsNotModified() throws QuasarException {
+        // When
+        final var tag = "mock-item-collection-tag";
+
+        when(versions.collectionTag(EntityType.ITEM)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.listItems(TranslatedString.EN, null, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(service, mapper, responseStore);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATA_CONTROLLER] - Test successful retrieval of a window of Items continuing from a cursor.")
+    void testScrollItems() throws QuasarException {
+        // When
+        final var filter = ItemFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-next-item-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(itemMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-item-identifier")), true);
+
+        when(service.scroll("mock-item-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+
+        // Then
+        final var result = controller.pageItems(pageable, TranslatedString.EN, Cursors.encode("mock-item-identifier"), false, null, null, request);
+
+        // Verify
+        verify(service).scroll("mock-item-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(List.of(itemMap), result.getBody());
+        assertEquals(Cursors.encode("mock-next-item-identifier"), result.getHeaders().getFirst(PagedResponses.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATA_CONTROLLER] - Test successful retrieval of a page of Items with their total count when asked for it.")
+    void testPageItemsWithCount() throws QuasarException {
+        // When
+        final var filter = ItemFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-item-identifier");
+
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(itemMap), pageable, false));
+        when(service.count(filter, TranslatedString.EN)).thenReturn(1L);
+
+        // Then
+        final var result = controller.pageItems(pageable, TranslatedString.EN, null, true, null, null, request);
+
+        // Verify
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(service).count(filter, TranslatedString.EN);
+        verifyNoMoreInteractions(service);
+
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATA_CONTROLLER] - Test that a filtered list of Items is read from the service instead of the stored responses.")
+    void testListFilteredItems() throws QuasarException {
+        // When
+        final var filter = ItemFilterIDTO.builder().type("mock-type").build();
+        final var itemODTO = mock(ItemODTO.class);
+        final var itemRSDTO = mock(ItemRSDTO.class);
+
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(itemODTO));
+        when(mapper.toRSDTO(itemODTO)).thenReturn(itemRSDTO);
+
+        // Then
+        final var result = controller.listItems(TranslatedString.EN, "mock-type", null, request);
+
+        // Verify
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(itemODTO);
+        verifyNoMoreInteractions(mapper, service);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(itemRSDTO), result.getBody());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.items.ItemODTO;
+import org.gycoding.heraldsofchaos.application.service.ItemReactiveService;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.items.ItemRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.ItemControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemReactiveDataControllerTest {
+    @Mock
+    private ItemReactiveService service;
+
+    @Mock
+    private ItemControllerMapper mapper;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private ServerWebExchange exchange;
+
+    @InjectMocks
+    private ItemReactiveDataController controller;
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a Item.")
+    void testGetItem() throws QuasarException {
+        // When
+        final var itemODTO = mock(ItemODTO.class);
+        final var itemRSDTO = mock(ItemRSDTO.class);
+        final var id = "mock-item-id";
+
+        when(service.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(itemODTO));
+        when(mapper.toRSDTO(itemODTO)).thenReturn(itemRSDTO);
+
+        // Then
+        final var result = controller.getItem(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verify(service).get(id, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(itemODTO);
+        verifyNoMoreInteractions(mapper, service);
+
+        assertEquals(itemRSDTO, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATA_CONTROLLER] - Test that a Item whose version did not change is answered without reading it.")
+    void testGetItemNotModified() throws QuasarException {
+        // When
+        final var id = "mock-item-id";
+
+        when(versions.entityTag(EntityType.ITEM, id)).thenReturn("mock-tag");
+        when(exchange.checkNotModified("mock-tag")).thenReturn(true);
+
+        // Then
+        final var result = controller.getItem(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verifyNoInteractions(service, mapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a list of Items.")
+    void testListItems() throws QuasarException {
+        // When
+        final var filter = ItemFilterIDTO.builder().type("mock-type").build();
+        final var itemODTO = mock(ItemODTO.class);
+        final var itemRSDTO = mock(ItemRSDTO.class);
+
+        when(service.list(filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(itemODTO));
+        when(mapper.toRSDTO(itemODTO)).thenReturn(itemRSDTO);
+
+        // Then
+        final var result = controller.listItems(TranslatedString.EN, "mock-type", null, exchange).block();
+
+        // Verify
+        assertEquals(List.of(itemRSDTO), result.getBody().collectList().block());
+
+        verify(service).list(filter, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toRSDTO(itemODTO);
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a page of Items with their total count when asked for it.")
+    void testPageItemsWithCount() throws QuasarException {
+        // When
+        final var filter = ItemFilterIDTO.builder().type("mock-type").build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-item-identifier");
+        final Slice<Map<String, Object>> slice = new SliceImpl<>(List.of(itemMap), pageable, false);
+
+        when(service.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(slice));
+        when(service.count(filter, TranslatedString.EN)).thenReturn(Mono.just(1L));
+
+        // Then
+        final var result = controller.pageItems(pageable, TranslatedString.EN, null, true, "mock-type", null, exchange).block();
+
+        // Verify
+        verify(service).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(service).count(filter, TranslatedString.EN);
+
+        assertEquals(List.of(itemMap), result.getBody());
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a window of Items continuing from a cursor.")
+    void testScrollItems() throws QuasarException {
+        // When
+        final var filter = ItemFilterIDTO.builder().build();
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> itemMap = Map.of("identifier", "mock-next-item-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(itemMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-item-identifier")), true);
+
+        when(service.scroll("mock-item-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+
+        // Then
+        final var result = controller.pageItems(pageable, TranslatedString.EN, Cursors.encode("mock-item-identifier"), false, null, null, exchange).block();
+
+        // Verify
+        verify(service).scroll("mock-item-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(List.of(itemMap), result.getBody());
+        assertNull(result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+        assertEquals(Cursors.encode("mock-next-item-identifier"), result.getHeaders().getFirst(PagedResponses.NEXT_CURSOR_HEADER));
+    }
+}
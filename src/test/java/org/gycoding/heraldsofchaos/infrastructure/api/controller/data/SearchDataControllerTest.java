@@ -0,0 +1,75 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import org.gycoding.heraldsofchaos.application.dto.out.FuzzyMatchODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.SearchHitODTO;
+import org.gycoding.heraldsofchaos.application.search.FuzzyIndex;
+import org.gycoding.heraldsofchaos.application.service.SearchService;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search.FuzzyMatchRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.search.SearchHitRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.SearchControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchDataControllerTest {
+    @Mock
+    private SearchService service;
+
+    @Mock
+    private SearchControllerMapper mapper;
+
+    @InjectMocks
+    private SearchDataController controller;
+
+    @Test
+    @DisplayName("[SEARCH_DATA_CONTROLLER] - Test successful search, bounding the requested size.")
+    void testSearch() throws QuasarException {
+        // When
+        final var hitODTO = mock(SearchHitODTO.class);
+        final var hitRSDTO = mock(SearchHitRSDTO.class);
+
+        when(service.search("dragon", "en", List.of("item"), SearchDataController.MAX_SIZE)).thenReturn(List.of(hitODTO));
+        when(mapper.toRSDTO(hitODTO)).thenReturn(hitRSDTO);
+
+        // Then
+        final var result = controller.search("dragon", "en", List.of("item"), 1000);
+
+        // Verify
+        verify(service).search("dragon", "en", List.of("item"), SearchDataController.MAX_SIZE);
+        verify(mapper).toRSDTO(hitODTO);
+        verifyNoMoreInteractions(service, mapper);
+
+        assertEquals(List.of(hitRSDTO), result.getBody());
+    }
+
+    @Test
+    @DisplayName("[SEARCH_DATA_CONTROLLER] - Test successful fuzzy lookup, bounding the requested distance and size.")
+    void testFuzzy() throws QuasarException {
+        // When
+        final var matchODTO = mock(FuzzyMatchODTO.class);
+        final var matchRSDTO = mock(FuzzyMatchRSDTO.class);
+
+        when(service.fuzzy("gwyneth", "en", null, FuzzyIndex.MAX_DISTANCE, 1)).thenReturn(List.of(matchODTO));
+        when(mapper.toRSDTO(matchODTO)).thenReturn(matchRSDTO);
+
+        // Then
+        final var result = controller.fuzzy("gwyneth", "en", null, 10, 0);
+
+        // Verify
+        verify(service).fuzzy("gwyneth", "en", null, FuzzyIndex.MAX_DISTANCE, 1);
+        verify(mapper).toRSDTO(matchODTO);
+        verifyNoMoreInteractions(service, mapper);
+
+        assertEquals(List.of(matchRSDTO), result.getBody());
+    }
+}
@@ -1,29 +1,48 @@
 package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
 
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
 import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterService;
 import org.gycoding.heraldsofchaos.application.service.PlaceService;
 import org.gycoding.heraldsofchaos.application.service.WorldService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
 import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.PlaceRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.WorldRSDTO;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.PlaceControllerMapper;
 import org.gycoding.heraldsofchaos.infrastructure.api.mapper.WorldControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.ListResponseStore;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.NdjsonResponses;
 import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +59,21 @@ public class WorldDataControllerTest {
     @Mock
     private PlaceControllerMapper placeMapper;
 
+    @Mock
+    private CharacterService characterService;
+
+    @Mock
+    private ListResponseStore responseStore;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private NdjsonResponses ndjsonResponses;
+
+    @Mock
+    private WebRequest request;
+
     @InjectMocks
     private WorldDataController controller;
 
@@ -51,14 +85,14 @@ public class WorldDataControllerTest {
         final var worldRSDTO = mock(WorldRSDTO.class);
         final var id = "mock-world-id";
 
-        when(worldService.get(id, TranslatedString.EN)).thenReturn(worldODTO);
+        when(worldService.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(worldODTO);
         when(worldMapper.toRSDTO(worldODTO)).thenReturn(worldRSDTO);
 
         // Then
-        final var result = controller.getWorld(id, TranslatedString.EN);
+        final var result = controller.getWorld(id, TranslatedString.EN, null, request);
 
         // Verify
-        verify(worldService).get(id, TranslatedString.EN);
+        verify(worldService).get(id, TranslatedString.EN, Fieldset.ALL);
         verify(worldMapper).toRSDTO(worldODTO);
         verifyNoMoreInteractions(worldMapper, worldService);
 
@@ -72,39 +106,70 @@ public class WorldDataControllerTest {
         final var worldODTO = mock(WorldODTO.class);
         final var worldRSDTO = mock(WorldRSDTO.class);
 
-        when(worldService.list(TranslatedString.EN)).thenReturn(List.of(worldODTO));
+        when(worldService.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(worldODTO));
+        when(responseStore.get(eq(EntityType.WORLD), eq(TranslatedString.EN), any())).thenAnswer(invocation ->
+                invocation.<ListResponseStore.Body>getArgument(2).get(TranslatedString.EN).toString().getBytes()
+        );
         when(worldMapper.toRSDTO(worldODTO)).thenReturn(worldRSDTO);
 
         // Then
-        final var result = controller.listWorlds(TranslatedString.EN);
+        final var result = controller.listWorlds(TranslatedString.EN, null, request);
 
         // Verify
-        verify(worldService).list(TranslatedString.EN);
+        verify(responseStore).get(eq(EntityType.WORLD), eq(TranslatedString.EN), any());
+        verify(worldService).list(TranslatedString.EN, Fieldset.ALL);
         verify(worldMapper).toRSDTO(worldODTO);
         verifyNoMoreInteractions(worldMapper, worldService);
 
         assertNotEquals(List.of(), result.getBody());
     }
 
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful streaming of the Worlds as NDJSON.")
+    void testStreamWorlds() throws QuasarException {
+        // When
+        final var worldODTO = mock(WorldODTO.class);
+        final var worldRSDTO = mock(WorldRSDTO.class);
+        final var streamed = new ArrayList<>();
+
+        when(worldService.stream(TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(worldODTO));
+        when(worldMapper.toRSDTO(worldODTO)).thenReturn(worldRSDTO);
+        when(ndjsonResponses.of(any())).thenAnswer(invocation -> {
+            invocation.<Stream<?>>getArgument(0).forEach(streamed::add);
+
+            return ResponseEntity.ok().build();
+        });
+
+        // Then
+        controller.streamWorlds(TranslatedString.EN, null, request);
+
+        // Verify
+        verify(worldService).stream(TranslatedString.EN, Fieldset.ALL);
+        verify(worldMapper).toRSDTO(worldODTO);
+        verifyNoMoreInteractions(worldMapper, worldService);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(worldRSDTO), streamed);
+    }
+
     @Test
     @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful retrieval of a paginated list of Worlds.")
     void testPageWorld() throws QuasarException {
         // When
         final Pageable pageable = Pageable.ofSize(10).withPage(0);
-        final Page<Map<String, Object>> pagedWorlds = mock(Page.class);
         final Map<String, Object> worldMap = Map.of("id", "mock-id", "name", "mock-name");
 
-        when(worldService.page(pageable, TranslatedString.EN)).thenReturn(pagedWorlds);
-        when(pagedWorlds.getContent()).thenReturn(List.of(worldMap));
+        when(worldService.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(worldMap), pageable, true));
 
         // Then
-        final var result = controller.pageWorlds(pageable, TranslatedString.EN);
+        final var result = controller.pageWorlds(pageable, TranslatedString.EN, null, false, null, request);
 
         // Verify
-        verify(worldService).page(pageable, TranslatedString.EN);
+        verify(worldService).slice(pageable, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(worldService);
 
         assertNotEquals(List.of(), result.getBody());
+        assertEquals("true", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
     }
 
     @Test
@@ -115,14 +180,14 @@ public class WorldDataControllerTest {
         final var placeRSDTO = mock(PlaceRSDTO.class);
         final var id = "mock-place-id";
 
-        when(placeService.get(id, TranslatedString.EN)).thenReturn(placeODTO);
+        when(placeService.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(placeODTO);
         when(placeMapper.toRSDTO(placeODTO)).thenReturn(placeRSDTO);
 
         // Then
-        final var result = controller.getPlace(id, TranslatedString.EN);
+        final var result = controller.getPlace(id, TranslatedString.EN, null, request);
 
         // Verify
-        verify(placeService).get(id, TranslatedString.EN);
+        verify(placeService).get(id, TranslatedString.EN, Fieldset.ALL);
         verify(placeMapper).toRSDTO(placeODTO);
         verifyNoMoreInteractions(placeMapper, placeService);
 
@@ -136,39 +201,70 @@ public class WorldDataControllerTest {
         final var placeODTO = mock(PlaceODTO.class);
         final var placeRSDTO = mock(PlaceRSDTO.class);
 
-        when(placeService.list(TranslatedString.EN)).thenReturn(List.of(placeODTO));
+        when(placeService.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(List.of(placeODTO));
+        when(responseStore.get(eq(EntityType.PLACE), eq(TranslatedString.EN), any())).thenAnswer(invocation ->
+                invocation.<ListResponseStore.Body>getArgument(2).get(TranslatedString.EN).toString().getBytes()
+        );
         when(placeMapper.toRSDTO(placeODTO)).thenReturn(placeRSDTO);
 
         // Then
-        final var result = controller.listPlaces(TranslatedString.EN);
+        final var result = controller.listPlaces(TranslatedString.EN, null, request);
 
         // Verify
-        verify(placeService).list(TranslatedString.EN);
+        verify(responseStore).get(eq(EntityType.PLACE), eq(TranslatedString.EN), any());
+        verify(placeService).list(TranslatedString.EN, Fieldset.ALL);
         verify(placeMapper).toRSDTO(placeODTO);
         verifyNoMoreInteractions(placeMapper, placeService);
 
         assertNotEquals(List.of(), result.getBody());
     }
 
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful streaming of the Places as NDJSON.")
+    void testStreamPlaces() throws QuasarException {
+        // When
+        final var placeODTO = mock(PlaceODTO.class);
+        final var placeRSDTO = mock(PlaceRSDTO.class);
+        final var streamed = new ArrayList<>();
+
+        when(placeService.stream(TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(placeODTO));
+        when(placeMapper.toRSDTO(placeODTO)).thenReturn(placeRSDTO);
+        when(ndjsonResponses.of(any())).thenAnswer(invocation -> {
+            invocation.<Stream<?>>getArgument(0).forEach(streamed::add);
+
+            return ResponseEntity.ok().build();
+        });
+
+        // Then
+        controller.streamPlaces(TranslatedString.EN, null, request);
+
+        // Verify
+        verify(placeService).stream(TranslatedString.EN, Fieldset.ALL);
+        verify(placeMapper).toRSDTO(placeODTO);
+        verifyNoMoreInteractions(placeMapper, placeService);
+        verifyNoInteractions(responseStore);
+
+        assertEquals(List.of(placeRSDTO), streamed);
+    }
+
     @Test
     @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful retrieval of a paginated list of Places.")
     void testPagePlaces() throws QuasarException {
         // When
         final Pageable pageable = Pageable.ofSize(10).withPage(0);
-        final Page<Map<String, Object>> pagedPlaces = mock(Page.class);
         final Map<String, Object> placeMap = Map.of("id", "mock-id", "name", "mock-name");
 
-        when(placeService.page(pageable, TranslatedString.EN)).thenReturn(pagedPlaces);
-        when(pagedPlaces.getContent()).thenReturn(List.of(placeMap));
+        when(placeService.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(placeMap), pageable, true));
 
         // Then
-        final var result = controller.pagePlaces(pageable, TranslatedString.EN);
+        final var result = controller.pagePlaces(pageable, TranslatedString.EN, null, false, null, request);
 
         // Verify
-        verify(placeService).page(pageable, TranslatedString.EN);
+        verify(placeService).slice(pageable, TranslatedString.EN, Fieldset.ALL);
         verifyNoMoreInteractions(placeService);
 
         assertNotEquals(List.of(), result.getBody());
+        assertEquals("true", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
     }
 
     @Test
@@ -183,7 +279,7 @@ public class WorldDataControllerTest {
         when(placeMapper.toRSDTO(placeODTO)).thenReturn(placeRSDTO);
 
         // Then
-        final var result = controller.listWorldPlaces(id, TranslatedString.EN);
+        final var result = controller.listWorldPlaces(id, TranslatedString.EN, null, request);
 
         // Verify
         verify(worldService).listPlaces(id, TranslatedString.EN);
@@ -192,4 +288,157 @@ public class WorldDataControllerTest {
 
         assertNotEquals(List.of(), result.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test that an unchanged World is answered as not modified without reading it.")
+    void testWorldNotModified() throws QuasarException {
+        // When
+        final var id = "mock-world-id";
+        final var tag = "mock-world-tag";
+
+        when(versions.entityTag(EntityType.WORLD, id)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.getWorld(id, TranslatedString.EN, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(worldService, worldMapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test that an unchanged list of Worlds is answered as not modified without serializing it.")
+    void testListWorldsNotModified() throws QuasarException {
+        // When
+        final var tag = "mock-world-collection-tag";
+
+        when(versions.collectionTag(EntityType.WORLD)).thenReturn(tag);
+        when(request.checkNotModified(tag)).thenReturn(true);
+
+        // Then
+        final var result = controller.listWorlds(TranslatedString.EN, null, request);
+
+        // Verify
+        verify(request).checkNotModified(tag);
+        verifyNoInteractions(worldService, worldMapper, responseStore);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful retrieval of a window of Worlds continuing from a cursor.")
+    void testScrollWorlds() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> worldMap = Map.of("identifier", "mock-next-world-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(worldMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-world-identifier")), true);
+
+        when(worldService.scroll("mock-world-identifier", 10, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+
+        // Then
+        final var result = controller.pageWorlds(pageable, TranslatedString.EN, Cursors.encode("mock-world-identifier"), false, null, request);
+
+        // Verify
+        verify(worldService).scroll("mock-world-identifier", 10, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(worldService);
+
+        assertEquals(List.of(worldMap), result.getBody());
+        assertEquals(Cursors.encode("mock-next-world-identifier"), result.getHeaders().getFirst(PagedResponses.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful retrieval of a page of Worlds with their total count when asked for it.")
+    void testPageWorldsWithCount() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> worldMap = Map.of("identifier", "mock-world-identifier");
+
+        when(worldService.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(worldMap), pageable, false));
+        when(worldService.count()).thenReturn(1L);
+
+        // Then
+        final var result = controller.pageWorlds(pageable, TranslatedString.EN, null, true, null, request);
+
+        // Verify
+        verify(worldService).slice(pageable, TranslatedString.EN, Fieldset.ALL);
+        verify(worldService).count();
+        verifyNoMoreInteractions(worldService);
+
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful retrieval of a page of the Characters of a World with their total count.")
+    void testPageWorldCharacters() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var filter = CharacterFilterIDTO.builder().world("mock-world-id").build();
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-character-identifier");
+
+        when(characterService.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(characterMap), pageable, false));
+        when(characterService.count(filter, TranslatedString.EN)).thenReturn(1L);
+
+        // Then
+        final var result = controller.pageWorldCharacters("mock-world-id", pageable, TranslatedString.EN, null, true, null, request);
+
+        // Verify
+        verify(characterService).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(characterService).count(filter, TranslatedString.EN);
+        verify(worldService).get("mock-world-id", TranslatedString.EN, Fieldset.of(List.of("identifier")));
+        verifyNoMoreInteractions(characterService, worldService);
+        verifyNoInteractions(placeService);
+
+        assertEquals(List.of(characterMap), result.getBody());
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test successful retrieval of a window of the Characters of a World continuing from a cursor.")
+    void testScrollWorldCharacters() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var filter = CharacterFilterIDTO.builder().world("mock-world-id").build();
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-next-character-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(characterMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), false);
+
+        when(characterService.scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+
+        // Then
+        final var result = controller.pageWorldCharacters("mock-world-id", pageable, TranslatedString.EN, Cursors.encode("mock-character-identifier"), false, null, request);
+
+        // Verify
+        verify(characterService).scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(characterService);
+
+        assertEquals(List.of(characterMap), result.getBody());
+        assertEquals("false", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATA_CONTROLLER] - Test unsuccessful retrieval of the Characters of a World due to the World not being found.")
+    void testWrongPageWorldCharactersNotFound() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var expectedException = new ServiceException(HeraldsOfChaosError.WORLD_NOT_FOUND);
+
+        when(worldService.get("mock-world-id", TranslatedString.EN, Fieldset.of(List.of("identifier")))).thenThrow(expectedException);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> controller.pageWorldCharacters("mock-world-id", pageable, TranslatedString.EN, null, true, null, request)
+        );
+
+        // Verify
+        verify(worldService).get("mock-world-id", TranslatedString.EN, Fieldset.of(List.of("identifier")));
+        verifyNoMoreInteractions(worldService);
+        verifyNoInteractions(characterService, placeService);
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+    }
+}
@@ -0,0 +1,266 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.data;
+
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterFilterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.PlaceODTO;
+import org.gycoding.heraldsofchaos.application.dto.out.worlds.WorldODTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterReactiveService;
+import org.gycoding.heraldsofchaos.application.service.PlaceReactiveService;
+import org.gycoding.heraldsofchaos.application.service.WorldReactiveService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.PlaceRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.worlds.WorldRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.PlaceControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.WorldControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.Cursors;
+import org.gycoding.heraldsofchaos.infrastructure.api.pagination.PagedResponses;
+import org.gycoding.heraldsofchaos.infrastructure.api.response.EntityVersionRegistry;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WorldReactiveDataControllerTest {
+    @Mock
+    private WorldReactiveService worldService;
+
+    @Mock
+    private PlaceReactiveService placeService;
+
+    @Mock
+    private CharacterReactiveService characterService;
+
+    @Mock
+    private WorldControllerMapper worldMapper;
+
+    @Mock
+    private PlaceControllerMapper placeMapper;
+
+    @Mock
+    private EntityVersionRegistry versions;
+
+    @Mock
+    private ServerWebExchange exchange;
+
+    @InjectMocks
+    private WorldReactiveDataController controller;
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a World.")
+    void testGetWorld() throws QuasarException {
+        // When
+        final var worldODTO = mock(WorldODTO.class);
+        final var worldRSDTO = mock(WorldRSDTO.class);
+        final var id = "mock-world-id";
+
+        when(worldService.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(worldODTO));
+        when(worldMapper.toRSDTO(worldODTO)).thenReturn(worldRSDTO);
+
+        // Then
+        final var result = controller.getWorld(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verify(worldService).get(id, TranslatedString.EN, Fieldset.ALL);
+        verify(worldMapper).toRSDTO(worldODTO);
+        verifyNoMoreInteractions(worldMapper, worldService);
+        verifyNoInteractions(placeService, placeMapper);
+
+        assertEquals(worldRSDTO, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a list of Worlds.")
+    void testListWorlds() throws QuasarException {
+        // When
+        final var worldODTO = mock(WorldODTO.class);
+        final var worldRSDTO = mock(WorldRSDTO.class);
+
+        when(worldService.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(worldODTO));
+        when(worldMapper.toRSDTO(worldODTO)).thenReturn(worldRSDTO);
+
+        // Then
+        final var result = controller.listWorlds(TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        assertEquals(List.of(worldRSDTO), result.getBody().collectList().block());
+
+        verify(worldService).list(TranslatedString.EN, Fieldset.ALL);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a Place.")
+    void testGetPlace() throws QuasarException {
+        // When
+        final var placeODTO = mock(PlaceODTO.class);
+        final var placeRSDTO = mock(PlaceRSDTO.class);
+        final var id = "mock-place-id";
+
+        when(placeService.get(id, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(placeODTO));
+        when(placeMapper.toRSDTO(placeODTO)).thenReturn(placeRSDTO);
+
+        // Then
+        final var result = controller.getPlace(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verify(placeService).get(id, TranslatedString.EN, Fieldset.ALL);
+        verify(placeMapper).toRSDTO(placeODTO);
+        verifyNoInteractions(worldService, worldMapper);
+
+        assertEquals(placeRSDTO, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a page of Places without counting them.")
+    void testPagePlaces() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final Map<String, Object> placeMap = Map.of("identifier", "mock-place-identifier");
+        final Slice<Map<String, Object>> slice = new SliceImpl<>(List.of(placeMap), pageable, true);
+
+        when(placeService.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(slice));
+
+        // Then
+        final var result = controller.pagePlaces(pageable, TranslatedString.EN, null, false, null, exchange).block();
+
+        // Verify
+        verify(placeService).slice(pageable, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(placeService);
+
+        assertEquals(List.of(placeMap), result.getBody());
+        assertEquals("true", result.getHeaders().getFirst(PagedResponses.HAS_NEXT_HEADER));
+        assertNull(result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of the Places of a World.")
+    void testListWorldPlaces() throws QuasarException {
+        // When
+        final var placeODTO = mock(PlaceODTO.class);
+        final var placeRSDTO = mock(PlaceRSDTO.class);
+        final var id = "mock-world-id";
+
+        when(worldService.listPlaces(id, TranslatedString.EN)).thenReturn(Flux.just(placeODTO));
+        when(placeMapper.toRSDTO(placeODTO)).thenReturn(placeRSDTO);
+
+        // Then
+        final var result = controller.listWorldPlaces(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        assertEquals(List.of(placeRSDTO), result.getBody().collectList().block());
+
+        verify(worldService).listPlaces(id, TranslatedString.EN);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test that the Places of a World whose version did not change are answered without reading them.")
+    void testListWorldPlacesNotModified() throws QuasarException {
+        // When
+        final var id = "mock-world-id";
+
+        when(versions.entityTag(EntityType.WORLD, id)).thenReturn("mock-tag");
+        when(exchange.checkNotModified("mock-tag")).thenReturn(true);
+
+        // Then
+        final var result = controller.listWorldPlaces(id, TranslatedString.EN, null, exchange).block();
+
+        // Verify
+        verifyNoInteractions(worldService, placeService, placeMapper);
+
+        assertNull(result);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a page of the Characters of a World with their total count.")
+    void testPageWorldCharacters() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var filter = CharacterFilterIDTO.builder().world("mock-world-id").build();
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-character-identifier");
+        final Slice<Map<String, Object>> slice = new SliceImpl<>(List.of(characterMap), pageable, false);
+
+        when(worldService.get("mock-world-id", TranslatedString.EN, Fieldset.of(List.of("identifier")))).thenReturn(Mono.just(mock(WorldODTO.class)));
+        when(characterService.slice(pageable, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(slice));
+        when(characterService.count(filter, TranslatedString.EN)).thenReturn(Mono.just(1L));
+
+        // Then
+        final var result = controller.pageWorldCharacters("mock-world-id", pageable, TranslatedString.EN, null, true, null, exchange).block();
+
+        // Verify
+        verify(worldService).get("mock-world-id", TranslatedString.EN, Fieldset.of(List.of("identifier")));
+        verify(characterService).slice(pageable, filter, TranslatedString.EN, Fieldset.ALL);
+        verify(characterService).count(filter, TranslatedString.EN);
+        verifyNoMoreInteractions(characterService, worldService);
+
+        assertEquals(List.of(characterMap), result.getBody());
+        assertEquals("1", result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test successful retrieval of a window of the Characters of a World continuing from a cursor.")
+    void testScrollWorldCharacters() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var filter = CharacterFilterIDTO.builder().world("mock-world-id").build();
+        final Map<String, Object> characterMap = Map.of("identifier", "mock-next-character-identifier");
+        final Window<Map<String, Object>> window = Window.from(List.of(characterMap), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), false);
+
+        when(worldService.get("mock-world-id", TranslatedString.EN, Fieldset.of(List.of("identifier")))).thenReturn(Mono.just(mock(WorldODTO.class)));
+        when(characterService.scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+
+        // Then
+        final var result = controller.pageWorldCharacters("mock-world-id", pageable, TranslatedString.EN, Cursors.encode("mock-character-identifier"), false, null, exchange).block();
+
+        // Verify
+        verify(characterService).scroll("mock-character-identifier", 10, filter, TranslatedString.EN, Fieldset.ALL);
+        verifyNoMoreInteractions(characterService);
+
+        assertEquals(List.of(characterMap), result.getBody());
+        assertNull(result.getHeaders().getFirst(PagedResponses.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATA_CONTROLLER] - Test unsuccessful retrieval of the Characters of a World due to the World not being found.")
+    void testWrongPageWorldCharactersNotFound() throws QuasarException {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var expectedException = new ServiceException(HeraldsOfChaosError.WORLD_NOT_FOUND);
+
+        when(worldService.get("mock-world-id", TranslatedString.EN, Fieldset.of(List.of("identifier")))).thenReturn(Mono.error(expectedException));
+
+        // Then
+        final var result = controller.pageWorldCharacters("mock-world-id", pageable, TranslatedString.EN, null, true, null, exchange);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectErrorSatisfies(error -> {
+                    assertEquals(expectedException.getStatus(), ((ServiceException) error).getStatus());
+                    assertEquals(expectedException.getCode(), ((ServiceException) error).getCode());
+                })
+                .verify();
+
+        verifyNoInteractions(characterService, exchange);
+    }
+}
@@ -0,0 +1,131 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.management;
+
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureIDTO;
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemIDTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterService;
+import org.gycoding.heraldsofchaos.application.service.CreatureService;
+import org.gycoding.heraldsofchaos.application.service.ItemService;
+import org.gycoding.heraldsofchaos.infrastructure.api.bulk.BulkImporter;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.characters.CharacterRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.creatures.CreatureRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.items.ItemRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk.BulkReportRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.ItemControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkManagementControllerTest {
+    @Mock
+    private CharacterService characterService;
+
+    @Mock
+    private CharacterControllerMapper characterMapper;
+
+    @Mock
+    private CreatureService creatureService;
+
+    @Mock
+    private CreatureControllerMapper creatureMapper;
+
+    @Mock
+    private ItemService itemService;
+
+    @Mock
+    private ItemControllerMapper itemMapper;
+
+    @Mock
+    private BulkImporter importer;
+
+    @InjectMocks
+    private BulkManagementController controller;
+
+    @Test
+    @DisplayName("[BULK_MANAGEMENT_CONTROLLER] - Test successful bulk save of Characters.")
+    void testSaveCharacters() throws QuasarException {
+        // When
+        final var body = new ByteArrayInputStream(new byte[0]);
+        final var characterIDTO = mock(CharacterIDTO.class);
+        final var report = BulkReportRSDTO.builder().total(1).saved(1).items(List.of()).build();
+
+        when(importer.save(eq(body), eq(CharacterRQDTO.class), any(), any())).thenAnswer(invocation -> {
+            invocation.<BulkImporter.BatchWriter<CharacterIDTO>>getArgument(3).write(List.of(characterIDTO));
+
+            return report;
+        });
+
+        // Then
+        final var result = controller.saveCharacters(body);
+
+        // Verify
+        verify(importer).save(eq(body), eq(CharacterRQDTO.class), any(), any());
+        verify(characterService).saveAll(List.of(characterIDTO));
+        verifyNoMoreInteractions(importer, characterService);
+
+        assertEquals(report, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[BULK_MANAGEMENT_CONTROLLER] - Test successful bulk save of Creatures.")
+    void testSaveCreatures() throws QuasarException {
+        // When
+        final var body = new ByteArrayInputStream(new byte[0]);
+        final var creatureIDTO = mock(CreatureIDTO.class);
+        final var report = BulkReportRSDTO.builder().total(1).saved(1).items(List.of()).build();
+
+        when(importer.save(eq(body), eq(CreatureRQDTO.class), any(), any())).thenAnswer(invocation -> {
+            invocation.<BulkImporter.BatchWriter<CreatureIDTO>>getArgument(3).write(List.of(creatureIDTO));
+
+            return report;
+        });
+
+        // Then
+        final var result = controller.saveCreatures(body);
+
+        // Verify
+        verify(importer).save(eq(body), eq(CreatureRQDTO.class), any(), any());
+        verify(creatureService).saveAll(List.of(creatureIDTO));
+        verifyNoMoreInteractions(importer, creatureService);
+
+        assertEquals(report, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[BULK_MANAGEMENT_CONTROLLER] - Test successful bulk save of Items.")
+    void testSaveItems() throws QuasarException {
+        // When
+        final var body = new ByteArrayInputStream(new byte[0]);
+        final var itemIDTO = mock(ItemIDTO.class);
+        final var report = BulkReportRSDTO.builder().total(1).saved(1).items(List.of()).build();
+
+        when(importer.save(eq(body), eq(ItemRQDTO.class), any(), any())).thenAnswer(invocation -> {
+            invocation.<BulkImporter.BatchWriter<ItemIDTO>>getArgument(3).write(List.of(itemIDTO));
+
+            return report;
+        });
+
+        // Then
+        final var result = controller.saveItems(body);
+
+        // Verify
+        verify(importer).save(eq(body), eq(ItemRQDTO.class), any(), any());
+        verify(itemService).saveAll(List.of(itemIDTO));
+        verifyNoMoreInteractions(importer, itemService);
+
+        assertEquals(report, result.getBody());
+    }
+}
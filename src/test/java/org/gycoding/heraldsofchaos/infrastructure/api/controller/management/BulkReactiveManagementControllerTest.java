@@ -0,0 +1,149 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.management;
+
+import org.gycoding.heraldsofchaos.application.dto.in.characters.CharacterIDTO;
+import org.gycoding.heraldsofchaos.application.dto.in.creatures.CreatureIDTO;
+import org.gycoding.heraldsofchaos.application.dto.in.items.ItemIDTO;
+import org.gycoding.heraldsofchaos.application.service.CharacterService;
+import org.gycoding.heraldsofchaos.application.service.CreatureService;
+import org.gycoding.heraldsofchaos.application.service.ItemService;
+import org.gycoding.heraldsofchaos.infrastructure.api.bulk.BulkImporter;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.characters.CharacterRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.creatures.CreatureRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.in.items.ItemRQDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.bulk.BulkReportRSDTO;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CharacterControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.CreatureControllerMapper;
+import org.gycoding.heraldsofchaos.infrastructure.api.mapper.ItemControllerMapper;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkReactiveManagementControllerTest {
+    @Mock
+    private CharacterService characterService;
+
+    @Mock
+    private CharacterControllerMapper characterMapper;
+
+    @Mock
+    private CreatureService creatureService;
+
+    @Mock
+    private CreatureControllerMapper creatureMapper;
+
+    @Mock
+    private ItemService itemService;
+
+    @Mock
+    private ItemControllerMapper itemMapper;
+
+    @Mock
+    private BulkImporter importer;
+
+    @InjectMocks
+    private BulkReactiveManagementController controller;
+
+    @Test
+    @DisplayName("[BULK_REACTIVE_MANAGEMENT_CONTROLLER] - Test successful bulk save of Characters reading the body as it arrives.")
+    void testSaveCharacters() throws QuasarException {
+        // When
+        final var body = Flux.just(buffer("[{\"identifier\":"), buffer("\"mock-character-identifier\"}]"));
+        final var read = new ArrayList<String>();
+        final var characterIDTO = mock(CharacterIDTO.class);
+        final var report = BulkReportRSDTO.builder().total(1).saved(1).items(List.of()).build();
+
+        when(importer.save(any(), eq(CharacterRQDTO.class), any(), any())).thenAnswer(invocation -> {
+            read.add(new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8));
+            invocation.<BulkImporter.BatchWriter<CharacterIDTO>>getArgument(3).write(List.of(characterIDTO));
+
+            return report;
+        });
+
+        // Then
+        final var result = controller.saveCharacters(body).block();
+
+        // Verify
+        verify(importer).save(any(), eq(CharacterRQDTO.class), any(), any());
+        verify(characterService).saveAll(List.of(characterIDTO));
+        verifyNoMoreInteractions(importer, characterService);
+
+        assertEquals(List.of("[{\"identifier\":\"mock-character-identifier\"}]"), read);
+        assertEquals(report, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[BULK_REACTIVE_MANAGEMENT_CONTROLLER] - Test successful bulk save of Creatures reading the body as it arrives.")
+    void testSaveCreatures() throws QuasarException {
+        // When
+        final var body = Flux.just(buffer("[{\"identifier\":"), buffer("\"mock-creature-identifier\"}]"));
+        final var read = new ArrayList<String>();
+        final var creatureIDTO = mock(CreatureIDTO.class);
+        final var report = BulkReportRSDTO.builder().total(1).saved(1).items(List.of()).build();
+
+        when(importer.save(any(), eq(CreatureRQDTO.class), any(), any())).thenAnswer(invocation -> {
+            read.add(new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8));
+            invocation.<BulkImporter.BatchWriter<CreatureIDTO>>getArgument(3).write(List.of(creatureIDTO));
+
+            return report;
+        });
+
+        // Then
+        final var result = controller.saveCreatures(body).block();
+
+        // Verify
+        verify(importer).save(any(), eq(CreatureRQDTO.class), any(), any());
+        verify(creatureService).saveAll(List.of(creatureIDTO));
+        verifyNoMoreInteractions(importer, creatureService);
+
+        assertEquals(List.of("[{\"identifier\":\"mock-creature-identifier\"}]"), read);
+        assertEquals(report, result.getBody());
+    }
+
+    @Test
+    @DisplayName("[BULK_REACTIVE_MANAGEMENT_CONTROLLER] - Test successful bulk save of Items reading the body as it arrives.")
+    void testSaveItems() throws QuasarException {
+        // When
+        final var body = Flux.just(buffer("[{\"identifier\":"), buffer("\"mock-item-identifier\"}]"));
+        final var read = new ArrayList<String>();
+        final var itemIDTO = mock(ItemIDTO.class);
+        final var report = BulkReportRSDTO.builder().total(1).saved(1).items(List.of()).build();
+
+        when(importer.save(any(), eq(ItemRQDTO.class), any(), any())).thenAnswer(invocation -> {
+            read.add(new String(invocation.<InputStream>getArgument(0).readAllBytes(), StandardCharsets.UTF_8));
+            invocation.<BulkImporter.BatchWriter<ItemIDTO>>getArgument(3).write(List.of(itemIDTO));
+
+            return report;
+        });
+
+        // Then
+        final var result = controller.saveItems(body).block();
+
+        // Verify
+        verify(importer).save(any(), eq(ItemRQDTO.class), any(), any());
+        verify(itemService).saveAll(List.of(itemIDTO));
+        verifyNoMoreInteractions(importer, itemService);
+
+        assertEquals(List.of("[{\"identifier\":\"mock-item-identifier\"}]"), read);
+        assertEquals(report, result.getBody());
+    }
+
+    private static DataBuffer buffer(String content) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.controller.management;
+
+import org.gycoding.heraldsofchaos.application.service.SnapshotService;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SnapshotManagementControllerTest {
+    @Mock
+    private SnapshotService service;
+
+    @InjectMocks
+    private SnapshotManagementController controller;
+
+    @Test
+    @DisplayName("[SNAPSHOT_MANAGEMENT_CONTROLLER] - Test that the snapshot is streamed as a downloadable file.")
+    void testExportSnapshot() throws IOException, ServiceException {
+        // When
+        final var output = new ByteArrayOutputStream();
+
+        // Then
+        final var result = controller.export();
+
+        result.getBody().writeTo(output);
+
+        // Verify
+        verify(service).export(output);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, result.getHeaders().getContentType());
+        assertEquals(
+                "attachment; filename=\"" + SnapshotManagementController.FILE_NAME + "\"",
+                result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)
+        );
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_MANAGEMENT_CONTROLLER] - Test that a failed export aborts the streamed body.")
+    void testWrongExportSnapshot() throws ServiceException {
+        // When
+        final var output = new ByteArrayOutputStream();
+
+        doThrow(new ServiceException(HeraldsOfChaosError.SNAPSHOT_EXPORT_CONFLICT)).when(service).export(output);
+
+        // Then
+        final var body = controller.export().getBody();
+
+        // Verify
+        assertThrows(IOException.class, () -> body.writeTo(output));
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_MANAGEMENT_CONTROLLER] - Test successful restore of a snapshot.")
+    void testRestoreSnapshot() throws QuasarException {
+        // When
+        final var body = new ByteArrayInputStream(new byte[0]);
+        final var restored = Map.of("World", 3L);
+
+        when(service.restore(body)).thenReturn(restored);
+
+        // Then
+        final var result = controller.restore(body);
+
+        // Verify
+        verify(service).restore(body);
+        verifyNoMoreInteractions(service);
+
+        assertEquals(restored, result.getBody());
+    }
+}
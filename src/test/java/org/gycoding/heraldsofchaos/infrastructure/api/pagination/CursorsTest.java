@@ -0,0 +1,52 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.pagination;
+
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CursorsTest {
+    @Test
+    @DisplayName("[CURSORS] - Test that an encoded cursor decodes back to its identifier.")
+    void testRoundTrip() throws ServiceException {
+        // Verify
+        assertEquals("mock-identifier", Cursors.decode(Cursors.encode("mock-identifier")));
+        assertNull(Cursors.decode(""));
+    }
+
+    @Test
+    @DisplayName("[CURSORS] - Test that tampered cursors are rejected.")
+    void testWrongCursor() {
+        // When
+        final var expectedException = new ServiceException(HeraldsOfChaosError.INVALID_CURSOR);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> Cursors.decode("not a cursor")
+        );
+
+        // Verify
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+    }
+
+    @Test
+    @DisplayName("[CURSORS] - Test that the next cursor points after the last element and is absent on the last window.")
+    void testNextCursor() {
+        // When
+        final var window = Window.from(List.of("a", "b"), index -> ScrollPosition.forward(Map.of("identifier", List.of("a", "b").get(index))), true);
+        final var lastWindow = Window.from(List.of("c"), index -> ScrollPosition.forward(Map.of("identifier", "c")), false);
+
+        // Verify
+        assertEquals(Cursors.encode("b"), Cursors.next(window));
+        assertNull(Cursors.next(lastWindow));
+    }
+}
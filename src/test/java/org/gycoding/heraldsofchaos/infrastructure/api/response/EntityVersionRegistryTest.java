@@ -0,0 +1,100 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class EntityVersionRegistryTest {
+    private EntityVersionRegistry versions;
+
+    @BeforeEach
+    void setup() {
+        versions = new EntityVersionRegistry();
+    }
+
+    @Test
+    @DisplayName("[ENTITY_VERSION_REGISTRY] - Test that a write changes the tags of the written entity and its collection only.")
+    void testWriteChangesOwnTags() {
+        // When
+        final var creatureTag = versions.entityTag(EntityType.CREATURE, "mock-creature");
+        final var otherCreatureTag = versions.entityTag(EntityType.CREATURE, "mock-other-creature");
+        final var creaturesTag = versions.collectionTag(EntityType.CREATURE);
+        final var itemsTag = versions.collectionTag(EntityType.ITEM);
+
+        // Then
+        versions.onEntityChanged(new EntityChangedEvent(EntityType.CREATURE, "mock-creature"));
+
+        // Verify
+        assertNotEquals(creatureTag, versions.entityTag(EntityType.CREATURE, "mock-creature"));
+        assertNotEquals(creaturesTag, versions.collectionTag(EntityType.CREATURE));
+        assertEquals(otherCreatureTag, versions.entityTag(EntityType.CREATURE, "mock-other-creature"));
+        assertEquals(itemsTag, versions.collectionTag(EntityType.ITEM));
+    }
+
+    @Test
+    @DisplayName("[ENTITY_VERSION_REGISTRY] - Test that a Place write changes the tags of every World, which embed their Places.")
+    void testPlaceWriteChangesWorldTags() {
+        // When
+        final var worldTag = versions.entityTag(EntityType.WORLD, "mock-world");
+        final var worldsTag = versions.collectionTag(EntityType.WORLD);
+
+        // Then
+        versions.onEntityChanged(new EntityChangedEvent(EntityType.PLACE, "mock-place"));
+
+        // Verify
+        assertNotEquals(worldTag, versions.entityTag(EntityType.WORLD, "mock-world"));
+        assertNotEquals(worldsTag, versions.collectionTag(EntityType.WORLD));
+    }
+
+    @Test
+    @DisplayName("[ENTITY_VERSION_REGISTRY] - Test that a write without identifier, as reported by another replica, changes the tag of every entity of its type.")
+    void testRemoteWriteChangesEveryEntityTag() {
+        // When
+        final var characterTag = versions.entityTag(EntityType.CHARACTER, "mock-character");
+        final var otherCharacterTag = versions.entityTag(EntityType.CHARACTER, "mock-other-character");
+        final var creatureTag = versions.entityTag(EntityType.CREATURE, "mock-creature");
+
+        // Then
+        versions.onEntityChanged(new EntityChangedEvent(EntityType.CHARACTER, null, true));
+
+        // Verify
+        assertNotEquals(characterTag, versions.entityTag(EntityType.CHARACTER, "mock-character"));
+        assertNotEquals(otherCharacterTag, versions.entityTag(EntityType.CHARACTER, "mock-other-character"));
+        assertEquals(creatureTag, versions.entityTag(EntityType.CREATURE, "mock-creature"));
+    }
+
+    @Test
+    @DisplayName("[ENTITY_VERSION_REGISTRY] - Test that entity counters are bounded and evicting one never brings back a previous tag.")
+    void testEvictedCounterChangesTags() {
+        // When
+        final var bounded = new EntityVersionRegistry(1);
+        final var initialTag = bounded.entityTag(EntityType.ITEM, "mock-item");
+
+        // Then
+        bounded.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, "mock-item"));
+
+        final var writtenTag = bounded.entityTag(EntityType.ITEM, "mock-item");
+
+        bounded.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, "mock-other-item"));
+        bounded.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, "mock-third-item"));
+
+        final var evictedTag = bounded.entityTag(EntityType.ITEM, "mock-item");
+
+        // Verify
+        assertNotEquals(initialTag, writtenTag);
+        assertNotEquals(initialTag, evictedTag);
+        assertNotEquals(writtenTag, evictedTag);
+    }
+
+    @Test
+    @DisplayName("[ENTITY_VERSION_REGISTRY] - Test that tags are not shared across restarts.")
+    void testTagsDependOnBoot() {
+        // Verify
+        assertNotEquals(versions.collectionTag(EntityType.ITEM), new EntityVersionRegistry().collectionTag(EntityType.ITEM));
+    }
+}
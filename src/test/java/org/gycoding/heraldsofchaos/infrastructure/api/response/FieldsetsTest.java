@@ -0,0 +1,70 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.infrastructure.api.dto.out.creatures.CreatureRSDTO;
+import org.gycoding.quasar.exceptions.model.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FieldsetsTest {
+    @Test
+    @DisplayName("[FIELDSETS] - Test that requested fields are parsed ignoring blanks, and that no fields request every field.")
+    void testParse() throws ServiceException {
+        // Then
+        final var fieldset = Fieldsets.parse(List.of("identifier", " name", ""), CreatureRSDTO.class);
+        final var all = Fieldsets.parse(null, CreatureRSDTO.class);
+
+        // Verify
+        assertEquals(Fieldset.of(List.of("identifier", "name")), fieldset);
+        assertEquals(Fieldset.ALL, all);
+        assertTrue(all.includes("description"));
+    }
+
+    @Test
+    @DisplayName("[FIELDSETS] - Test that fields outside the response are rejected.")
+    void testWrongFields() {
+        // When
+        final var expectedException = new ServiceException(HeraldsOfChaosError.INVALID_FIELDS);
+
+        // Then
+        final var error = assertThrows(
+                ServiceException.class,
+                () -> Fieldsets.parse(List.of("name", "title"), CreatureRSDTO.class)
+        );
+
+        // Verify
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+    }
+
+    @Test
+    @DisplayName("[FIELDSETS] - Test that responses only retain the requested fields, in declaration order.")
+    void testRetain() {
+        // When
+        final var fieldset = Fieldset.of(List.of("image", "identifier"));
+        final var creature = CreatureRSDTO.builder()
+                .identifier("mock-creature-identifier")
+                .name("mock-name")
+                .image("mock-image")
+                .build();
+        final var creatureMap = new HashMap<String, Object>(Map.of("identifier", "mock-creature-identifier", "name", "mock-name"));
+
+        // Then
+        final var retained = Fieldsets.retain(creature, fieldset);
+        final var retainedMap = Fieldsets.retain(creatureMap, fieldset);
+
+        // Verify
+        assertEquals(List.of("identifier", "image"), new ArrayList<>(((Map<?, ?>) retained).keySet()));
+        assertEquals(Map.of("identifier", "mock-creature-identifier", "image", "mock-image"), retained);
+        assertEquals(Map.of("identifier", "mock-creature-identifier"), retainedMap);
+        assertSame(creature, Fieldsets.retain(creature, Fieldset.ALL));
+    }
+}
@@ -0,0 +1,80 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.quasar.exceptions.model.QuasarException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ListResponseStoreTest {
+    private ListResponseStore store;
+
+    private List<String> builds;
+
+    @BeforeEach
+    void setup() {
+        store = new ListResponseStore(new ObjectMapper());
+        builds = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("[LIST_RESPONSE_STORE] - Test that a list response is serialized once and then served as the same bytes.")
+    void testResponseIsMaterialised() throws QuasarException {
+        // Then
+        final var first = store.get(EntityType.CREATURE, TranslatedString.EN, this::body);
+        final var second = store.get(EntityType.CREATURE, TranslatedString.EN, this::body);
+
+        // Verify
+        assertSame(first, second);
+        assertArrayEquals("[{\"language\":\"en\"}]".getBytes(), first);
+        assertEquals(List.of(TranslatedString.EN), builds);
+    }
+
+    @Test
+    @DisplayName("[LIST_RESPONSE_STORE] - Test that unknown languages share the response of the default language.")
+    void testLanguageIsNormalized() throws QuasarException {
+        // Then
+        store.get(EntityType.ITEM, "fr", this::body);
+        store.get(EntityType.ITEM, TranslatedString.EN, this::body);
+        store.get(EntityType.ITEM, TranslatedString.ES, this::body);
+
+        // Verify
+        assertEquals(List.of(TranslatedString.EN, TranslatedString.ES), builds);
+    }
+
+    @Test
+    @DisplayName("[LIST_RESPONSE_STORE] - Test that a Place write rebuilds the Place and World responses only.")
+    void testWriteInvalidatesAffectedTypes() throws QuasarException {
+        // When
+        store.get(EntityType.PLACE, TranslatedString.EN, this::body);
+        store.get(EntityType.WORLD, TranslatedString.EN, this::body);
+        store.get(EntityType.CREATURE, TranslatedString.EN, this::body);
+
+        // Then
+        store.onEntityChanged(new EntityChangedEvent(EntityType.PLACE, "mock-place-identifier"));
+
+        store.get(EntityType.PLACE, TranslatedString.EN, this::body);
+        store.get(EntityType.WORLD, TranslatedString.EN, this::body);
+        store.get(EntityType.CREATURE, TranslatedString.EN, this::body);
+
+        // Verify
+        assertEquals(5, builds.size());
+    }
+
+    private Object body(String language) {
+        builds.add(language);
+
+        return List.of(Map.of("language", language));
+    }
+}
@@ -0,0 +1,96 @@
+package org.gycoding.heraldsofchaos.infrastructure.api.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NdjsonResponsesTest {
+    private NdjsonResponses responses;
+
+    private List<String> pulled;
+
+    private AtomicBoolean closed;
+
+    @BeforeEach
+    void setup() {
+        responses = new NdjsonResponses(new ObjectMapper());
+        pulled = new ArrayList<>();
+        closed = new AtomicBoolean();
+    }
+
+    @Test
+    @DisplayName("[NDJSON_RESPONSES] - Test that every element is written and flushed on its own line, then the cursor is released.")
+    void testWriteFlushesEveryElement() throws IOException {
+        // When
+        final var output = new FlushCountingOutputStream();
+
+        // Then
+        final var response = responses.of(elements("first", "second", "third"));
+
+        response.getBody().writeTo(output);
+
+        // Verify
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(HttpHeaders.ACCEPT, response.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals("{\"identifier\":\"first\"}\n{\"identifier\":\"second\"}\n{\"identifier\":\"third\"}\n", output.toString());
+        assertEquals(3, output.flushes);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("[NDJSON_RESPONSES] - Test that a client going away stops reading the cursor and releases it.")
+    void testWriteStopsWhenClientGoesAway() {
+        // When
+        final var output = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Then
+        assertThrows(IOException.class, () -> responses.write(elements("first", "second", "third"), output));
+
+        // Verify
+        assertEquals(List.of("first"), pulled);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("[NDJSON_RESPONSES] - Test that the NDJSON representation is tagged apart from the JSON one.")
+    void testTag() {
+        // Verify
+        assertNotEquals("mock-tag", NdjsonResponses.tag("mock-tag"));
+        assertEquals(NdjsonResponses.tag("mock-tag"), NdjsonResponses.tag("mock-tag"));
+    }
+
+    private Stream<Map<String, String>> elements(String... identifiers) {
+        return Stream.of(identifiers)
+                .peek(pulled::add)
+                .map(identifier -> Map.of("identifier", identifier))
+                .onClose(() -> closed.set(true));
+    }
+
+    private static class FlushCountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
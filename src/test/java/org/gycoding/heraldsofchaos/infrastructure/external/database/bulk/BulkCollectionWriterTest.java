@@ -0,0 +1,86 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.bulk;
+
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.BsonDocument;
+import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCollectionWriterTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private BulkCollectionWriter writer;
+
+    @Test
+    @DisplayName("[BULK_WRITER] - Test that a batch is inserted with one unordered bulk write and failures are reported by index.")
+    void testInsertReportsFailuresByIndex() {
+        // When
+        final var creatures = List.of(creature("a"), creature("b"), creature("c"));
+        final var exception = mock(BulkOperationException.class);
+
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CreatureEntity.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(creatures)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(exception);
+        when(exception.getErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0),
+                new BulkWriteError(121, "Document failed validation", new BsonDocument(), 2)
+        ));
+
+        // Then
+        final var result = writer.insert(
+                CreatureEntity.class,
+                creatures,
+                CreatureEntity::getIdentifier,
+                HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT,
+                HeraldsOfChaosError.CREATURE_SAVE_CONFLICT
+        );
+
+        // Verify
+        verify(mongoTemplate).bulkOps(BulkOperations.BulkMode.UNORDERED, CreatureEntity.class);
+        verify(bulkOperations).insert(creatures);
+        verify(bulkOperations).execute();
+        verifyNoMoreInteractions(mongoTemplate, bulkOperations);
+
+        assertEquals(List.of(
+                BulkResultMO.failed("a", HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT),
+                BulkResultMO.written("b"),
+                BulkResultMO.failed("c", HeraldsOfChaosError.CREATURE_SAVE_CONFLICT)
+        ), result);
+    }
+
+    @Test
+    @DisplayName("[BULK_WRITER] - Test that an empty batch does not reach Mongo.")
+    void testInsertEmptyBatch() {
+        // Then
+        final var result = writer.insert(CreatureEntity.class, List.of(), CreatureEntity::getIdentifier, null, null);
+
+        // Verify
+        verifyNoInteractions(mongoTemplate);
+
+        assertEquals(List.of(), result);
+    }
+
+    private static CreatureEntity creature(String identifier) {
+        return CreatureEntity.builder().identifier(identifier).build();
+    }
+}
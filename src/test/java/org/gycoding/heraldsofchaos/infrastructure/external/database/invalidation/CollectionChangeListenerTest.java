@@ -0,0 +1,142 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.invalidation;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CollectionChangeListenerTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private LocalStateInvalidator invalidator;
+
+    @Mock
+    private MongoCollection<Document> versions;
+
+    @Mock
+    private FindIterable<Document> found;
+
+    private CollectionChangeListener listener;
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void create() {
+        listener = new CollectionChangeListener(mongoTemplate, invalidator, InvalidationMode.POLLING, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("[COLLECTION_CHANGE_LISTENER] - Test that entity changes invalidate the written identifier, or the collection on deletes.")
+    void testEntityChange() {
+        // Then
+        listener.onChange("Creature", new Document("identifier", "mock-creature-identifier"));
+        listener.onChange("Creature", null);
+        listener.onChange("Unknown", new Document("identifier", "mock-identifier"));
+
+        // Verify
+        verify(invalidator).invalidate(EntityType.CREATURE, "mock-creature-identifier");
+        verify(invalidator).invalidate(EntityType.CREATURE, null);
+        verifyNoMoreInteractions(invalidator);
+    }
+
+    @Test
+    @DisplayName("[COLLECTION_CHANGE_LISTENER] - Test that order changes invalidate the ordered collection, or everything when unknown.")
+    void testOrderChange() {
+        // Then
+        listener.onChange(CollectionChangeListener.ORDER, new Document("collection", "World"));
+        listener.onChange(CollectionChangeListener.ORDER, null);
+
+        // Verify
+        verify(invalidator).invalidate(EntityType.WORLD, null);
+        verify(invalidator).invalidateAll();
+        verifyNoMoreInteractions(invalidator);
+    }
+
+    @Test
+    @DisplayName("[COLLECTION_CHANGE_LISTENER] - Test that polling invalidates the collections whose version changed since the last poll.")
+    void testPoll() {
+        // When
+        when(mongoTemplate.getCollection(CollectionChangeListener.VERSIONS)).thenReturn(versions);
+        when(versions.find()).thenReturn(found);
+        when(found.into(any())).then(versionsOf(1L, 4L)).then(versionsOf(1L, 4L)).then(versionsOf(2L, 4L));
+
+        // Then
+        listener.poll();
+        clearInvocations(invalidator);
+
+        listener.poll();
+        listener.poll();
+
+        // Verify
+        verify(invalidator).invalidate(EntityType.ITEM, null);
+        verifyNoMoreInteractions(invalidator);
+    }
+
+    @Test
+    @DisplayName("[COLLECTION_CHANGE_LISTENER] - Test that local writes bump their version and are not invalidated again by the next poll.")
+    void testLocalWriteSkipped() {
+        // When
+        when(mongoTemplate.getCollection(CollectionChangeListener.VERSIONS)).thenReturn(versions);
+        when(versions.find()).thenReturn(found);
+        when(found.into(any())).then(versionsOf(1L, 4L)).then(versionsOf(2L, 4L));
+        when(versions.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+                .thenReturn(new Document("_id", "Item").append("version", 2L));
+
+        listener.start();
+        listener.stop();
+        listener.poll();
+        clearInvocations(invalidator);
+
+        // Then
+        listener.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, "mock-item-identifier"));
+        listener.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, "mock-item-identifier", true));
+        listener.poll();
+
+        // Verify
+        verify(versions, times(1)).findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class));
+        verifyNoInteractions(invalidator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Answer<Collection<Document>> versionsOf(long item, long world) {
+        return invocation -> {
+            final var target = (Collection<Document>) invocation.getArgument(0);
+
+            target.addAll(List.of(
+                    new Document("_id", "Item").append("version", item),
+                    new Document("_id", "World").append("version", world)
+            ));
+
+            return target;
+        };
+    }
+}
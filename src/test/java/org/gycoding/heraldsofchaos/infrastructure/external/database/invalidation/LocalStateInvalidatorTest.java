@@ -0,0 +1,70 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.invalidation;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalStateInvalidatorTest {
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+            CacheConfiguration.WORLDS,
+            CacheConfiguration.CHARACTERS,
+            CacheConfiguration.COUNTS
+    );
+
+    private LocalStateInvalidator invalidator;
+
+    @BeforeEach
+    void setup() {
+        invalidator = new LocalStateInvalidator(cacheManager, publisher);
+
+        cacheManager.getCache(CacheConfiguration.WORLDS).put("written-world", "written");
+        cacheManager.getCache(CacheConfiguration.WORLDS).put("other-world", "other");
+        cacheManager.getCache(CacheConfiguration.CHARACTERS).put("character", "character");
+        cacheManager.getCache(CacheConfiguration.COUNTS).put("World", 2L);
+        cacheManager.getCache(CacheConfiguration.COUNTS).put("Character", 1L);
+    }
+
+    @Test
+    @DisplayName("[LOCAL_STATE_INVALIDATOR] - Test that a remote write evicts the entity, the types embedding it and its count.")
+    void testInvalidateEntity() {
+        // Then
+        invalidator.invalidate(EntityType.WORLD, "written-world");
+
+        // Verify
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.WORLD, "written-world", true));
+
+        assertNull(cacheManager.getCache(CacheConfiguration.WORLDS).get("written-world"));
+        assertNotNull(cacheManager.getCache(CacheConfiguration.WORLDS).get("other-world"));
+        assertNull(cacheManager.getCache(CacheConfiguration.CHARACTERS).get("character"));
+        assertNull(cacheManager.getCache(CacheConfiguration.COUNTS).get("World"));
+        assertNotNull(cacheManager.getCache(CacheConfiguration.COUNTS).get("Character"));
+    }
+
+    @Test
+    @DisplayName("[LOCAL_STATE_INVALIDATOR] - Test that a remote write without identifier evicts the whole collection.")
+    void testInvalidateCollection() {
+        // Then
+        invalidator.invalidate(EntityType.WORLD, null);
+
+        // Verify
+        verify(publisher).publishEvent(new EntityChangedEvent(EntityType.WORLD, null, true));
+
+        assertNull(cacheManager.getCache(CacheConfiguration.WORLDS).get("other-world"));
+    }
+}
@@ -0,0 +1,118 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.ordering;
+
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.OrderEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderIndexRegistryTest {
+    @Mock
+    private OrderMongoRepository repository;
+
+    @InjectMocks
+    private OrderIndexRegistry registry;
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @Test
+    @DisplayName("[ORDER_INDEX_REGISTRY] - Test that the index is reused while the _Order document does not change.")
+    void testIndexIsCached() {
+        // When
+        final var orderEntity = new OrderEntity();
+        orderEntity.setCollection("Character");
+        orderEntity.setOrder(List.of("b", "a"));
+
+        when(repository.findByCollection("Character")).thenReturn(Optional.of(orderEntity));
+
+        // Then
+        final var first = registry.get("Character");
+        final var second = registry.get("Character");
+
+        // Verify
+        verify(repository, times(2)).findByCollection("Character");
+        verifyNoMoreInteractions(repository);
+
+        assertSame(first, second);
+        assertEquals(0, first.rank("b"));
+        assertEquals(1, first.rank("a"));
+    }
+
+    @Test
+    @DisplayName("[ORDER_INDEX_REGISTRY] - Test that the index is rebuilt when the _Order document changes.")
+    void testIndexIsRebuilt() {
+        // When
+        final var orderEntity = new OrderEntity();
+        orderEntity.setCollection("Character");
+        orderEntity.setOrder(List.of("b", "a"));
+
+        final var updatedOrderEntity = new OrderEntity();
+        updatedOrderEntity.setCollection("Character");
+        updatedOrderEntity.setOrder(List.of("a", "b"));
+
+        when(repository.findByCollection("Character"))
+                .thenReturn(Optional.of(orderEntity))
+                .thenReturn(Optional.of(updatedOrderEntity));
+
+        // Then
+        final var first = registry.get("Character");
+        final var second = registry.get("Character");
+
+        // Verify
+        assertNotSame(first, second);
+        assertEquals(0, second.rank("a"));
+        assertEquals(1, second.rank("b"));
+    }
+
+    @Test
+    @DisplayName("[ORDER_INDEX_REGISTRY] - Test that a missing _Order document places every entity in the deterministic tail.")
+    void testMissingOrder() {
+        // When
+        when(repository.findByCollection("Item")).thenReturn(Optional.empty());
+
+        // Then
+        final var index = registry.get("Item");
+        final var sorted = List.of("c", "a", "b").stream()
+                .sorted(index.comparing(Function.identity()))
+                .toList();
+
+        // Verify
+        assertEquals(List.of("a", "b", "c"), sorted);
+    }
+
+    @Test
+    @DisplayName("[ORDER_INDEX_REGISTRY] - Test that unordered identifiers are sorted after the ordered ones.")
+    void testUnorderedTail() {
+        // When
+        final var index = OrderIndex.of(List.of("z", "y"));
+
+        // Then
+        final var sorted = List.of("b", "y", "a", "z").stream()
+                .sorted(index.comparing(Function.identity()))
+                .toList();
+
+        // Verify
+        assertEquals(List.of("z", "y", "a", "b"), sorted);
+        assertEquals(2, index.rank("a"));
+        assertEquals(2, index.rank("b"));
+    }
+}
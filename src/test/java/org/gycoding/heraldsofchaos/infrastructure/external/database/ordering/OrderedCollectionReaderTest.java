@@ -0,0 +1,83 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.ordering;
+
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.items.ItemEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderedCollectionReaderTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private OrderIndexRegistry orderRegistry;
+
+    @Test
+    @DisplayName("[ORDERED_READER] - Test that MEMORY mode sorts the fetched documents through the order index.")
+    void testListInMemory() {
+        // When
+        final var reader = new OrderedCollectionReader(mongoTemplate, orderRegistry, OrderingMode.MEMORY);
+        final var first = ItemEntity.builder().identifier("first").build();
+        final var second = ItemEntity.builder().identifier("second").build();
+        final var unordered = ItemEntity.builder().identifier("unordered").build();
+
+        when(orderRegistry.get("Item")).thenReturn(OrderIndex.of(List.of("first", "second")));
+        when(mongoTemplate.find(any(Query.class), eq(ItemEntity.class), eq("Item"))).thenReturn(List.of(unordered, second, first));
+
+        // Then
+        final var result = reader.list("Item", ItemEntity.class, ItemEntity::getIdentifier);
+
+        // Verify
+        verify(orderRegistry).get("Item");
+        verify(mongoTemplate).find(any(Query.class), eq(ItemEntity.class), eq("Item"));
+        verifyNoMoreInteractions(orderRegistry, mongoTemplate);
+
+        assertEquals(List.of(first, second, unordered), result);
+    }
+
+    @Test
+    @DisplayName("[ORDERED_READER] - Test that DATABASE mode sorts inside a Mongo aggregation joined against _Order.")
+    void testListInDatabase() {
+        // When
+        final var reader = new OrderedCollectionReader(mongoTemplate, orderRegistry, OrderingMode.DATABASE);
+        final var item = ItemEntity.builder().identifier("first").build();
+        final AggregationResults<ItemEntity> results = mock(AggregationResults.class);
+        final var aggregation = ArgumentCaptor.forClass(Aggregation.class);
+
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("Item"), eq(ItemEntity.class))).thenReturn(results);
+        when(results.getMappedResults()).thenReturn(List.of(item));
+
+        // Then
+        final var result = reader.list("Item", ItemEntity.class, ItemEntity::getIdentifier);
+
+        // Verify
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq("Item"), eq(ItemEntity.class));
+        verifyNoMoreInteractions(mongoTemplate);
+        verifyNoInteractions(orderRegistry);
+
+        final var stages = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).stream()
+                .map(stage -> stage.keySet().iterator().next())
+                .toList();
+        final var lookup = (Document) aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).get(1).get("$lookup");
+
+        assertEquals(List.of("$match", "$lookup", "$addFields", "$sort", "$project"), stages);
+        assertEquals("_Order", lookup.getString("from"));
+        assertEquals(List.of(item), result);
+    }
+}
@@ -0,0 +1,81 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.pagination;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class KeysetCollectionReaderTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private KeysetCollectionReader reader;
+
+    @Test
+    @DisplayName("[KEYSET_READER] - Test that a window continues after the given identifier through an indexed range predicate.")
+    void testScrollAfterIdentifier() {
+        // When
+        final var query = ArgumentCaptor.forClass(Query.class);
+        final var documents = List.of(document("b"), document("c"), document("d"));
+
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("Creature"))).thenReturn(documents);
+
+        // Then
+        final var result = reader.scroll("Creature", Document.class, document -> document.getString("identifier"), "a", 2, List.of());
+
+        // Verify
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq("Creature"));
+        verifyNoMoreInteractions(mongoTemplate);
+
+        assertEquals(new Document("identifier", 1), query.getValue().getSortObject());
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(
+                new Document("$and", List.of(new Document(), new Document("identifier", new Document("$gt", "a")))),
+                query.getValue().getQueryObject()
+        );
+        assertEquals(List.of(documents.get(0), documents.get(1)), result.getContent());
+        assertTrue(result.hasNext());
+        assertEquals(Map.of("identifier", "c"), ((KeysetScrollPosition) result.positionAt(1)).getKeys());
+    }
+
+    @Test
+    @DisplayName("[KEYSET_READER] - Test that the first window starts from the lowest identifier and detects the last window.")
+    void testScrollFirstWindow() {
+        // When
+        final var query = ArgumentCaptor.forClass(Query.class);
+        final var documents = List.of(document("a"));
+
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("Creature"))).thenReturn(documents);
+
+        // Then
+        final var result = reader.scroll("Creature", Document.class, document -> document.getString("identifier"), null, 2, List.of());
+
+        // Verify
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq("Creature"));
+
+        assertEquals(new Document(), query.getValue().getQueryObject());
+        assertEquals(documents, result.getContent());
+        assertFalse(result.hasNext());
+    }
+
+    private static Document document(String identifier) {
+        return new Document("identifier", identifier);
+    }
+}
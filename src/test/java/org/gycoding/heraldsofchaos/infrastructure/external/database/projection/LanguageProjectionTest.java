@@ -0,0 +1,59 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.projection;
+
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LanguageProjectionTest {
+    @Test
+    @DisplayName("[LANGUAGE_PROJECTION] - Test that English reads exclude the Spanish side of every translated field.")
+    void testExcludedForEnglish() {
+        // Then
+        final var result = LanguageProjection.excluded(CreatureEntity.class, TranslatedString.EN);
+
+        // Verify
+        assertEquals(List.of("name.es", "description.es", "race.es"), result);
+    }
+
+    @Test
+    @DisplayName("[LANGUAGE_PROJECTION] - Test that Spanish reads exclude the English side and unknown languages fall back to English.")
+    void testExcludedForSpanishAndFallback() {
+        // Then
+        final var spanish = LanguageProjection.excluded(CreatureEntity.class, TranslatedString.ES);
+        final var unknown = LanguageProjection.excluded(CreatureEntity.class, "fr");
+
+        // Verify
+        assertEquals(List.of("name.en", "description.en", "race.en"), spanish);
+        assertEquals(List.of("name.es", "description.es", "race.es"), unknown);
+    }
+
+    @Test
+    @DisplayName("[LANGUAGE_PROJECTION] - Test that sparse reads also exclude every unrequested field but the identifier.")
+    void testExcludedForFieldset() {
+        // Then
+        final var result = LanguageProjection.excluded(CreatureEntity.class, TranslatedString.EN, Fieldset.of(List.of("name", "image")));
+        final var all = LanguageProjection.excluded(CreatureEntity.class, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        assertEquals(List.of("description", "race", "name.es"), result);
+        assertEquals(List.of("name.es", "description.es", "race.es"), all);
+    }
+
+    @Test
+    @DisplayName("[LANGUAGE_PROJECTION] - Test that the excluded fields are added to the query projection.")
+    void testApply() {
+        // Then
+        final var query = LanguageProjection.apply(new Query(), List.of("name.es", "description.es"));
+
+        // Verify
+        assertEquals(new Document("name.es", 0).append("description.es", 0), query.getFieldsObject());
+    }
+}
@@ -0,0 +1,82 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reactive;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveCollectionReaderTest {
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ReactiveCollectionReader reader;
+
+    @Test
+    @DisplayName("[REACTIVE_READER] - Test that a slice reads one extra projected document to know whether a next slice exists.")
+    void testSlice() {
+        // When
+        final var query = ArgumentCaptor.forClass(Query.class);
+        final var documents = List.of(document("a"), document("b"), document("c"));
+        final Pageable pageable = Pageable.ofSize(2).withPage(1);
+
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("Creature"))).thenReturn(Flux.fromIterable(documents));
+
+        // Then
+        final var result = reader.slice("Creature", Document.class, pageable, List.of("name.es")).block();
+
+        // Verify
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq("Creature"));
+        verifyNoMoreInteractions(mongoTemplate);
+
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(2, query.getValue().getSkip());
+        assertEquals(new Document("name.es", 0), query.getValue().getFieldsObject());
+        assertEquals(List.of(documents.get(0), documents.get(1)), result.getContent());
+        assertTrue(result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[REACTIVE_READER] - Test that a window continues after the given identifier and exposes the position of its last element.")
+    void testScroll() {
+        // When
+        final var query = ArgumentCaptor.forClass(Query.class);
+        final var documents = List.of(document("b"));
+
+        when(mongoTemplate.find(any(Query.class), eq(Document.class), eq("Creature"))).thenReturn(Flux.fromIterable(documents));
+
+        // Then
+        final var result = reader.scroll("Creature", Document.class, document -> document.getString("identifier"), "a", 2, List.of()).block();
+
+        // Verify
+        verify(mongoTemplate).find(query.capture(), eq(Document.class), eq("Creature"));
+
+        assertEquals(new Document("identifier", 1), query.getValue().getSortObject());
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(documents, result.getContent());
+        assertFalse(result.hasNext());
+        assertEquals(Map.of("identifier", "b"), ((KeysetScrollPosition) result.positionAt(0)).getKeys());
+    }
+
+    private static Document document(String identifier) {
+        return new Document("identifier", identifier);
+    }
+}
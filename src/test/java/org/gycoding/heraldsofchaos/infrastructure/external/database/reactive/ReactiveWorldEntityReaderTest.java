@@ -0,0 +1,120 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reactive;
+
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.WorldEntityReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveWorldEntityReaderTest {
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Mock
+    private ReactiveCollectionReader collectionReader;
+
+    private ReactiveWorldEntityReader reader;
+
+    @BeforeEach
+    void setup() {
+        final var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+
+        final var blockingTemplate = mock(MongoTemplate.class);
+        final var worldReader = new WorldEntityReader(
+                blockingTemplate,
+                converter,
+                mock(OrderedCollectionReader.class),
+                new KeysetCollectionReader(blockingTemplate),
+                new SliceCollectionReader(blockingTemplate),
+                mock(PlaceMongoRepository.class)
+        );
+
+        reader = new ReactiveWorldEntityReader(mongoTemplate, collectionReader, worldReader);
+    }
+
+    @Test
+    @DisplayName("[REACTIVE_WORLD_READER] - Test that listing Worlds resolves the Places of the whole batch with one projected query.")
+    void testListWorldsResolvesPlacesInBatch() {
+        // When
+        final var places = IntStream.range(0, 6)
+                .mapToObj(index -> PlaceEntity.builder().mongoId(new ObjectId().toHexString()).identifier("place-" + index).build())
+                .toList();
+        final var worlds = IntStream.range(0, 3)
+                .mapToObj(index -> world("world-" + index, places.subList(index * 2, index * 2 + 2)))
+                .toList();
+        final var query = ArgumentCaptor.forClass(Query.class);
+
+        when(collectionReader.list(eq("World"), eq(Document.class), any())).thenReturn(Flux.fromIterable(worlds));
+        when(mongoTemplate.find(any(Query.class), eq(PlaceEntity.class))).thenReturn(Flux.fromIterable(places));
+
+        // Then
+        final var result = reader.list(TranslatedString.EN, Fieldset.ALL).collectList().block();
+
+        // Verify
+        verify(collectionReader).list("World", Document.class, List.of("name.es", "description.es"));
+        verify(mongoTemplate).find(query.capture(), eq(PlaceEntity.class));
+        verifyNoMoreInteractions(collectionReader, mongoTemplate);
+
+        assertEquals(new Document("name.es", 0).append("description.es", 0), query.getValue().getFieldsObject());
+        assertEquals(List.of("world-0", "world-1", "world-2"), result.stream().map(WorldEntity::getIdentifier).toList());
+        assertEquals(List.of("place-2", "place-3"), result.get(1).getPlaces().stream().map(PlaceEntity::getIdentifier).toList());
+    }
+
+    @Test
+    @DisplayName("[REACTIVE_WORLD_READER] - Test that a World without Places is read without querying Places.")
+    void testGetWorldWithoutPlaces() {
+        // When
+        final var world = world("world", List.of());
+
+        when(collectionReader.findByIdentifier("World", Document.class, "world")).thenReturn(Mono.just(world));
+
+        // Then
+        final var result = reader.findByIdentifier("world").block();
+
+        // Verify
+        verifyNoInteractions(mongoTemplate);
+
+        assertEquals("world", result.getIdentifier());
+        assertEquals(List.of(), result.getPlaces());
+    }
+
+    private static Document world(String identifier, List<PlaceEntity> places) {
+        return new Document("_id", new ObjectId())
+                .append("identifier", identifier)
+                .append("places", places.stream()
+                        .map(place -> new DBRef("Place", new ObjectId(place.getMongoId())))
+                        .toList());
+    }
+}
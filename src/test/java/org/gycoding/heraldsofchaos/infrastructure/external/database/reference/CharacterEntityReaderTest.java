@@ -0,0 +1,156 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.characters.CharacterEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderIndexRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderingMode;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CharacterEntityReaderTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private OrderedCollectionReader orderedReader;
+
+    private CharacterEntityReader reader;
+
+    @BeforeEach
+    void setup() {
+        final var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+
+        reader = new CharacterEntityReader(mongoTemplate, converter, orderedReader, new KeysetCollectionReader(mongoTemplate), new SliceCollectionReader(mongoTemplate));
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_READER] - Test that listing Characters costs three Mongo commands where resolving their World DBRefs costs one more per Character.")
+    void testListCharactersCommandCount() {
+        try (final var mongo = new RecordingMongo()) {
+            // When
+            final var template = mongo.template();
+            final var worlds = IntStream.range(0, 3)
+                    .mapToObj(index -> WorldEntity.builder().mongoId(new ObjectId().toHexString()).identifier("world-" + index).image("mock-image").build())
+                    .toList();
+            final var characters = IntStream.range(0, 30)
+                    .mapToObj(index -> character(String.format("character-%02d", index), worlds.get(index % worlds.size())))
+                    .toList();
+            final var projectedReader = new CharacterEntityReader(
+                    template,
+                    template.getConverter(),
+                    new OrderedCollectionReader(template, new OrderIndexRegistry(mongo.repository(OrderMongoRepository.class)), OrderingMode.MEMORY),
+                    new KeysetCollectionReader(template),
+                    new SliceCollectionReader(template)
+            );
+
+            template.insertAll(worlds);
+            template.getCollection("Character").insertMany(characters);
+            mongo.reset();
+
+            // Then
+            final var dbRefResult = template.findAll(CharacterEntity.class);
+            final var dbRefCommands = mongo.commands();
+
+            mongo.reset();
+
+            final var result = projectedReader.list();
+
+            // Verify
+            assertEquals(31, dbRefCommands.size());
+            assertEquals(30, dbRefCommands.stream().filter("find World"::equals).count());
+            assertEquals(List.of("find _Order", "find Character", "find World"), mongo.commands());
+            assertEquals(30, dbRefResult.size());
+            assertEquals(30, result.size());
+            assertEquals("world-1", result.get(4).getWorld().getIdentifier());
+            assertEquals("mock-image", dbRefResult.get(4).getWorld().getImage());
+            assertNull(result.get(4).getWorld().getImage());
+        }
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_READER] - Test that streaming Characters resolves their Worlds once per batch of the cursor.")
+    void testStreamCharactersResolvesPerBatch() {
+        // When
+        final var worlds = IntStream.range(0, 3)
+                .mapToObj(index -> WorldEntity.builder().mongoId(new ObjectId().toHexString()).identifier("world-" + index).build())
+                .toList();
+        final var characters = IntStream.range(0, 250)
+                .mapToObj(index -> character("character-" + index, worlds.get(index % worlds.size())))
+                .toList();
+
+        when(orderedReader.stream(eq("Character"), eq(Document.class), any(), anyList())).thenReturn(characters.stream());
+        when(mongoTemplate.find(any(Query.class), eq(WorldEntity.class))).thenReturn(worlds);
+
+        // Then
+        final List<CharacterEntity> result;
+
+        try (final var stream = reader.stream(new Criteria(), TranslatedString.EN, Fieldset.ALL)) {
+            result = stream.toList();
+        }
+
+        // Verify
+        verify(orderedReader).stream(eq("Character"), eq(Document.class), any(), anyList());
+        verify(mongoTemplate, times(3)).find(any(Query.class), eq(WorldEntity.class));
+        verifyNoMoreInteractions(orderedReader, mongoTemplate);
+
+        assertEquals(250, result.size());
+        assertEquals("character-249", result.get(249).getIdentifier());
+        assertEquals("world-0", result.get(249).getWorld().getIdentifier());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_READER] - Test that a Character without World is read without querying Worlds.")
+    void testGetCharacterWithoutWorld() {
+        // When
+        final var character = new Document("_id", new ObjectId()).append("identifier", "character");
+
+        when(mongoTemplate.findOne(any(Query.class), eq(Document.class), eq("Character"))).thenReturn(character);
+
+        // Then
+        final var result = reader.findByIdentifier("character");
+
+        // Verify
+        verify(mongoTemplate).findOne(any(Query.class), eq(Document.class), eq("Character"));
+        verifyNoMoreInteractions(mongoTemplate);
+
+        assertEquals("character", result.orElseThrow().getIdentifier());
+        assertNull(result.orElseThrow().getWorld());
+    }
+
+    private static Document character(String identifier, WorldEntity world) {
+        return new Document("_id", new ObjectId())
+                .append("identifier", identifier)
+                .append("world", new DBRef("World", new ObjectId(world.getMongoId())));
+    }
+}
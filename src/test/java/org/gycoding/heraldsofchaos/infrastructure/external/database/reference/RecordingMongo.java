@@ -0,0 +1,75 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process Mongo server speaking the wire protocol, recording every command the driver sends to it as
+ * {@code <command> <collection>}, e.g. {@code find World}, to count the round trips of a read.
+ */
+class RecordingMongo implements CommandListener, AutoCloseable {
+    private static final Set<String> IGNORED = Set.of("endSessions", "hello", "isMaster", "buildInfo");
+
+    private final MongoServer server = new MongoServer(new MemoryBackend());
+    private final MongoClient client;
+    private final MongoTemplate template;
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+
+    RecordingMongo() {
+        final var address = server.bind();
+
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString("mongodb://" + address.getHostString() + ":" + address.getPort()))
+                .addCommandListener(this)
+                .build());
+        template = new MongoTemplate(client, "heraldsofchaos");
+    }
+
+    MongoTemplate template() {
+        return template;
+    }
+
+    <T> T repository(Class<T> repository) {
+        return new MongoRepositoryFactory(template).getRepository(repository);
+    }
+
+    /**
+     * Commands sent since the last {@link #reset()}, in order.
+     */
+    List<String> commands() {
+        return List.copyOf(commands);
+    }
+
+    void reset() {
+        commands.clear();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (IGNORED.contains(event.getCommandName())) {
+            return;
+        }
+
+        final var target = event.getCommand().get(event.getCommandName());
+
+        commands.add(target != null && target.isString() ? event.getCommandName() + " " + target.asString().getValue() : event.getCommandName());
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        server.shutdownNow();
+    }
+}
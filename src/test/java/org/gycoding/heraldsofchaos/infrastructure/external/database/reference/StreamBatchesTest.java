@@ -0,0 +1,44 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamBatchesTest {
+    @Test
+    @DisplayName("[STREAM_BATCHES] - Test that a stream is split into ordered batches with a shorter last one.")
+    void testBatches() {
+        // Then
+        final var batches = StreamBatches.of(IntStream.range(0, 7).boxed(), 3).toList();
+
+        // Verify
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), batches);
+    }
+
+    @Test
+    @DisplayName("[STREAM_BATCHES] - Test that the source is read only one batch ahead and closed with the batches.")
+    void testBatchesAreLazy() {
+        // When
+        final var pulled = new ArrayList<Integer>();
+        final var closed = new AtomicBoolean();
+        final var source = IntStream.range(0, 1000).boxed()
+                .peek(pulled::add)
+                .onClose(() -> closed.set(true));
+
+        // Then
+        try (final var batches = StreamBatches.of(source, 100)) {
+            assertEquals(List.of(100, 101), batches.skip(1).findFirst().orElseThrow().subList(0, 2));
+        }
+
+        // Verify
+        assertEquals(200, pulled.size());
+        assertTrue(closed.get());
+    }
+}
@@ -0,0 +1,135 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.reference;
+
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderIndexRegistry;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderingMode;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceMongoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WorldEntityReaderTest {
+    private RecordingMongo mongo;
+
+    private WorldEntityReader reader;
+
+    @BeforeEach
+    void setup() {
+        mongo = new RecordingMongo();
+
+        final var template = mongo.template();
+        final var orderedReader = new OrderedCollectionReader(template, new OrderIndexRegistry(mongo.repository(OrderMongoRepository.class)), OrderingMode.MEMORY);
+
+        reader = new WorldEntityReader(
+                template,
+                template.getConverter(),
+                orderedReader,
+                new KeysetCollectionReader(template),
+                new SliceCollectionReader(template),
+                mongo.repository(PlaceMongoRepository.class)
+        );
+    }
+
+    @AfterEach
+    void teardown() {
+        mongo.close();
+    }
+
+    @Test
+    @DisplayName("[WORLD_READER] - Test that listing Worlds costs the same three Mongo commands regardless of the number of Worlds and Places.")
+    void testListWorldsCommandCount() {
+        // When
+        insertWorlds(3, 3);
+
+        // Then
+        final var result = reader.list();
+        final var commands = mongo.commands();
+
+        mongo.reset();
+        insertWorlds(20, 5);
+        mongo.reset();
+
+        final var largerResult = reader.list();
+
+        // Verify
+        assertEquals(List.of("find _Order", "find World", "find Place"), commands);
+        assertEquals(commands, mongo.commands());
+        assertEquals(3, result.size());
+        assertEquals(List.of("place-1-0", "place-1-1", "place-1-2"), result.get(1).getPlaces().stream().map(PlaceEntity::getIdentifier).toList());
+        assertEquals(23, largerResult.size());
+    }
+
+    @Test
+    @DisplayName("[WORLD_READER] - Test that resolving the Places DBRefs through Spring Data costs one Mongo command per World instead.")
+    void testDbRefWorldsCommandCount() {
+        // When
+        insertWorlds(3, 3);
+
+        // Then
+        final var result = mongo.template().findAll(WorldEntity.class);
+
+        // Verify
+        assertEquals(List.of("find World", "find Place", "find Place", "find Place"), mongo.commands());
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    @DisplayName("[WORLD_READER] - Test that retrieving a World costs two Mongo commands and skips missing Places.")
+    void testGetWorldCommandCount() {
+        // When
+        final var place = PlaceEntity.builder().mongoId(new ObjectId().toHexString()).identifier("place").build();
+        final var missingPlace = PlaceEntity.builder().mongoId(new ObjectId().toHexString()).identifier("missing").build();
+
+        mongo.template().insert(place);
+        mongo.template().getCollection("World").insertOne(world("world", List.of(place, missingPlace)));
+        mongo.reset();
+
+        // Then
+        final var result = reader.findByIdentifier("world");
+
+        // Verify
+        assertEquals(List.of("find World", "find Place"), mongo.commands());
+        assertEquals("world", result.orElseThrow().getIdentifier());
+        assertEquals(List.of("place"), result.orElseThrow().getPlaces().stream().map(PlaceEntity::getIdentifier).toList());
+    }
+
+    /**
+     * Inserts {@code worlds} Worlds of {@code places} Places each, recording no commands.
+     */
+    private void insertWorlds(int worlds, int places) {
+        final var offset = (int) mongo.template().getCollection("World").countDocuments();
+
+        IntStream.range(offset, offset + worlds).forEach(index -> {
+            final var worldPlaces = IntStream.range(0, places)
+                    .mapToObj(place -> PlaceEntity.builder().mongoId(new ObjectId().toHexString()).identifier("place-" + index + "-" + place).build())
+                    .toList();
+
+            mongo.template().insertAll(worldPlaces);
+            mongo.template().getCollection("World").insertOne(world("world-" + index, worldPlaces));
+        });
+
+        mongo.reset();
+    }
+
+    private static Document world(String identifier, List<PlaceEntity> places) {
+        return new Document("_id", new ObjectId())
+                .append("identifier", identifier)
+                .append("places", places.stream()
+                        .map(place -> new DBRef("Place", new ObjectId(place.getMongoId())))
+                        .toList());
+    }
+}
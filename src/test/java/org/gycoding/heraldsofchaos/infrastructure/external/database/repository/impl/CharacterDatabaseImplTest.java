@@ -1,13 +1,19 @@
 package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
 
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.bulk.BulkCollectionWriter;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CharacterDatabaseMapper;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.model.OrderEntity;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.characters.CharacterEntity;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.CharacterEntityReader;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.CharacterMongoRepository;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.WorldMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.exceptions.model.ServiceException;
@@ -16,33 +22,45 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class CharacterDatabaseImplTest {
-    @Mock
-    private OrderMongoRepository orderRepository;
-
     @Mock
     private CharacterMongoRepository repository;
 
     @Mock
     private CharacterDatabaseMapper mapper;
 
+    @Mock
+    private BulkCollectionWriter bulkWriter;
+
     @Mock
     private WorldMongoRepository worldRepository;
 
+    @Mock
+    private CharacterEntityReader reader;
+
     @InjectMocks
     private CharacterDatabaseImpl database;
 
@@ -80,6 +98,41 @@ public class CharacterDatabaseImplTest {
         assertEquals(characterMO, result);
     }
 
+    @Test
+    @DisplayName("[CHARACTER_DATABASE] - Test bulk save of Characters resolving their Worlds with a single query.")
+    void testSaveAllCharacters() {
+        // When
+        final var found = CharacterMO.builder().identifier("mock-found-character").world("mock-world").build();
+        final var lost = CharacterMO.builder().identifier("mock-lost-character").world("mock-missing-world").build();
+        final var world = WorldEntity.builder().mongoId("mock-world-mongo-id").identifier("mock-world").build();
+        final var characterEntity = mock(CharacterEntity.class);
+        final var written = List.of(BulkResultMO.written("mock-found-character"));
+
+        when(worldRepository.findReferencesByIdentifierIn(List.of("mock-world", "mock-missing-world"))).thenReturn(List.of(world));
+        when(mapper.toEntity(found, world)).thenReturn(characterEntity);
+        when(bulkWriter.insert(
+                eq(CharacterEntity.class),
+                eq(List.of(characterEntity)),
+                any(),
+                eq(HeraldsOfChaosError.CHARACTER_ALREADY_EXISTS_CONFLICT),
+                eq(HeraldsOfChaosError.CHARACTER_SAVE_CONFLICT)
+        )).thenReturn(written);
+
+        // Then
+        final var result = database.saveAll(List.of(found, lost));
+
+        // Verify
+        verify(worldRepository).findReferencesByIdentifierIn(List.of("mock-world", "mock-missing-world"));
+        verify(mapper).toEntity(found, world);
+        verify(bulkWriter).insert(eq(CharacterEntity.class), eq(List.of(characterEntity)), any(), any(), any());
+        verifyNoMoreInteractions(worldRepository, repository, mapper, bulkWriter);
+
+        assertEquals(List.of(
+                BulkResultMO.written("mock-found-character"),
+                BulkResultMO.failed("mock-lost-character", HeraldsOfChaosError.WORLD_NOT_FOUND)
+        ), result);
+    }
+
     @Test
     @DisplayName("[CHARACTER_DATABASE] - Test unsuccessful save of a Character due to the world not existing.")
     void testWrongSaveCharacter() {
@@ -181,16 +234,16 @@ public class CharacterDatabaseImplTest {
         final var characterMO = mock(CharacterMO.class);
         final var characterEntity = mock(CharacterEntity.class);
 
-        when(repository.findByIdentifier(id)).thenReturn(Optional.of(characterEntity));
+        when(reader.findByIdentifier(id)).thenReturn(Optional.of(characterEntity));
         when(mapper.toMO(characterEntity)).thenReturn(characterMO);
 
         // Then
         final var result = database.get(id);
 
         // Verify
-        verify(repository).findByIdentifier(id);
+        verify(reader).findByIdentifier(id);
         verify(mapper).toMO(characterEntity);
-        verifyNoMoreInteractions(repository, mapper);
+        verifyNoMoreInteractions(reader, repository, mapper);
 
         assertEquals(Optional.of(characterMO), result);
     }
@@ -199,26 +252,50 @@ public class CharacterDatabaseImplTest {
     @DisplayName("[CHARACTER_DATABASE] - Test successful retrieval of a list of Characters.")
     void testListCharacters() {
         // When
-        final var orderEntity = mock(OrderEntity.class);
         final var characterMO = mock(CharacterMO.class);
         final var characterEntity = mock(CharacterEntity.class);
 
-        when(orderRepository.findByCollection("Character")).thenReturn(Optional.of(orderEntity));
-        when(repository.findAll()).thenReturn(List.of(characterEntity));
+        when(reader.list()).thenReturn(List.of(characterEntity));
         when(mapper.toMO(characterEntity)).thenReturn(characterMO);
 
         // Then
         final var result = database.list();
 
         // Verify
-        verify(orderRepository).findByCollection("Character");
-        verify(repository).findAll();
+        verify(reader).list();
         verify(mapper).toMO(characterEntity);
-        verifyNoMoreInteractions(orderRepository, repository, mapper);
+        verifyNoMoreInteractions(reader, repository, mapper);
 
         assertEquals(List.of(characterMO), result);
     }
 
+    @Test
+    @DisplayName("[CHARACTER_DATABASE] - Test that streaming the Characters maps them lazily and releases the cursor on close.")
+    void testStreamCharacters() {
+        // When
+        final var characterMO = mock(CharacterMO.class);
+        final var characterEntity = mock(CharacterEntity.class);
+        final var closed = new AtomicBoolean();
+
+        when(reader.stream(new Criteria(), TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(characterEntity).onClose(() -> closed.set(true)));
+        when(mapper.toMO(characterEntity)).thenReturn(characterMO);
+
+        // Then
+        final List<CharacterMO> result;
+
+        try (final var characters = database.stream(CharacterFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL)) {
+            result = characters.toList();
+        }
+
+        // Verify
+        verify(reader).stream(new Criteria(), TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(characterEntity);
+        verifyNoMoreInteractions(reader, repository, mapper);
+
+        assertEquals(List.of(characterMO), result);
+        assertTrue(closed.get());
+    }
+
     @Test
     @DisplayName("[CHARACTER_DATABASE] - Test successful retrieval of a paginated list of Characters.")
     void testPageCharacters() {
@@ -226,13 +303,109 @@ public class CharacterDatabaseImplTest {
         final Pageable pageable = Pageable.ofSize(10).withPage(0);
         final Page pagedCharacters = mock(Page.class);
 
-        when(repository.findAll(pageable)).thenReturn(pagedCharacters);
+        when(reader.page(pageable)).thenReturn(pagedCharacters);
 
         // Then
         final var result = database.page(pageable);
 
         // Verify
-        verify(repository).findAll(pageable);
-        verifyNoMoreInteractions(repository);
+        verify(reader).page(pageable);
+        verifyNoMoreInteractions(reader, repository);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATABASE] - Test successful retrieval of a window of Characters after a given identifier.")
+    void testScrollCharacters() {
+        // When
+        final var after = "mock-character-identifier";
+        final var characterEntity = mock(CharacterEntity.class);
+        final var characterMO = mock(CharacterMO.class);
+        final var window = Window.from(List.of(characterEntity), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), false);
+
+        when(reader.scroll(after, 10, new Criteria(), TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+        when(mapper.toMO(characterEntity)).thenReturn(characterMO);
+
+        // Then
+        final var result = database.scroll(after, 10, CharacterFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(reader).scroll(after, 10, new Criteria(), TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(characterEntity);
+        verifyNoInteractions(repository);
+
+        assertEquals(List.of(characterMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATABASE] - Test successful retrieval of a slice of Characters without counting them.")
+    void testSliceCharacters() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var characterEntity = mock(CharacterEntity.class);
+        final var characterMO = mock(CharacterMO.class);
+
+        when(reader.slice(pageable, new Criteria(), TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(characterEntity), pageable, false));
+        when(mapper.toMO(characterEntity)).thenReturn(characterMO);
+
+        // Then
+        final var result = database.slice(pageable, CharacterFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(reader).slice(pageable, new Criteria(), TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(characterEntity);
+        verify(repository, never()).count();
+
+        assertEquals(List.of(characterMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATABASE] - Test that filtered Characters are read through world and race criteria, resolving the world to its id.")
+    void testListFilteredCharacters() {
+        // When
+        final var worldId = new ObjectId();
+        final var world = WorldEntity.builder().mongoId(worldId.toHexString()).identifier("mock-world-identifier").build();
+        final var filter = CharacterFilterMO.builder().world("mock-world-identifier").race("mock-race").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(worldRepository.findReferencesByIdentifierIn(List.of("mock-world-identifier"))).thenReturn(List.of(world));
+        when(reader.list(any(Criteria.class), eq(TranslatedString.ES), eq(Fieldset.ALL))).thenReturn(List.of());
+
+        // Then
+        final var result = database.list(filter, TranslatedString.ES, Fieldset.ALL);
+
+        // Verify
+        verify(worldRepository).findReferencesByIdentifierIn(List.of("mock-world-identifier"));
+        verify(reader).list(criteria.capture(), eq(TranslatedString.ES), eq(Fieldset.ALL));
+        verifyNoMoreInteractions(reader, worldRepository);
+
+        assertEquals(
+                new Document("$and", List.of(
+                        new Document("world.$id", new Document("$in", List.of(worldId))),
+                        new Document("race.es", "mock-race")
+                )),
+                criteria.getValue().getCriteriaObject()
+        );
+        assertEquals(List.of(), result);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_DATABASE] - Test that counting the Characters of an unknown world matches none without the cached total.")
+    void testCountCharactersOfUnknownWorld() {
+        // When
+        final var filter = CharacterFilterMO.builder().world("mock-missing-world-identifier").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(worldRepository.findReferencesByIdentifierIn(List.of("mock-missing-world-identifier"))).thenReturn(List.of());
+        when(reader.count(any(Criteria.class))).thenReturn(0L);
+
+        // Then
+        final var result = database.count(filter, TranslatedString.EN);
+
+        // Verify
+        verify(reader).count(criteria.capture());
+        verify(repository, never()).count();
+
+        assertEquals(new Document("world.$id", new Document("$in", List.of())), criteria.getValue().getCriteriaObject());
+        assertEquals(0L, result);
     }
-}
\ No newline at end of file
+}
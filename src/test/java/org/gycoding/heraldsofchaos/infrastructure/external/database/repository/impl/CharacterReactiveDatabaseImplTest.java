@@ -0,0 +1,172 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CharacterDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.characters.CharacterEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCharacterEntityReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.CharacterEntityReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CharacterReactiveDatabaseImplTest {
+    @Mock
+    private ReactiveCharacterEntityReader reader;
+
+    @Mock
+    private CharacterDatabaseMapper mapper;
+
+    @InjectMocks
+    private CharacterReactiveDatabaseImpl database;
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATABASE] - Test successful retrieval of a Character.")
+    void testGetCharacter() {
+        // When
+        final var id = "mock-character-identifier";
+        final var characterEntity = mock(CharacterEntity.class);
+        final var characterMO = mock(CharacterMO.class);
+
+        when(reader.findByIdentifier(id)).thenReturn(Mono.just(characterEntity));
+        when(mapper.toMO(characterEntity)).thenReturn(characterMO);
+
+        // Then
+        final var result = database.get(id);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(characterMO)
+                .verifyComplete();
+
+        verify(reader).findByIdentifier(id);
+        verify(mapper).toMO(characterEntity);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATABASE] - Test unsuccessful retrieval of a Character that does not exist.")
+    void testGetMissingCharacter() {
+        // When
+        final var id = "mock-character-identifier";
+
+        when(reader.findByIdentifier(id)).thenReturn(Mono.empty());
+
+        // Then
+        final var result = database.get(id);
+
+        // Verify
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATABASE] - Test successful retrieval of a list of Characters.")
+    void testListCharacters() {
+        // When
+        final var characterEntity = mock(CharacterEntity.class);
+        final var characterMO = mock(CharacterMO.class);
+
+        when(reader.list(any(Criteria.class), eq(TranslatedString.EN), eq(Fieldset.ALL))).thenReturn(Flux.just(characterEntity));
+        when(mapper.toMO(characterEntity)).thenReturn(characterMO);
+
+        // Then
+        final var result = database.list(CharacterFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(characterMO)
+                .verifyComplete();
+
+        verify(reader).list(any(Criteria.class), eq(TranslatedString.EN), eq(Fieldset.ALL));
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATABASE] - Test successful retrieval of a window of Characters after an identifier.")
+    void testScrollCharacters() {
+        // When
+        final var after = "mock-character-identifier";
+        final var characterEntity = mock(CharacterEntity.class);
+        final var characterMO = mock(CharacterMO.class);
+        final Window<CharacterEntity> window = Window.from(List.of(characterEntity), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-character-identifier")), true);
+
+        when(reader.scroll(eq(after), eq(10), any(Criteria.class), eq(TranslatedString.EN), eq(Fieldset.ALL))).thenReturn(Mono.just(window));
+        when(mapper.toMO(characterEntity)).thenReturn(characterMO);
+
+        // Then
+        final var result = database.scroll(after, 10, CharacterFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(reader).scroll(eq(after), eq(10), any(Criteria.class), eq(TranslatedString.EN), eq(Fieldset.ALL));
+
+        assertEquals(List.of(characterMO), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATABASE] - Test that Characters filtered by world are listed through the identifier of that world.")
+    void testListCharactersOfWorld() {
+        // When
+        final var worldId = "5f1d7f1f1f1f1f1f1f1f1f1f";
+        final var filter = CharacterFilterMO.builder().world("mock-world-identifier").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(reader.findWorldIds("mock-world-identifier")).thenReturn(Flux.just(worldId));
+        when(reader.list(any(Criteria.class), eq(TranslatedString.EN), eq(Fieldset.ALL))).thenReturn(Flux.empty());
+
+        // Then
+        final var result = database.list(filter, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        verify(reader).findWorldIds("mock-world-identifier");
+        verify(reader).list(criteria.capture(), eq(TranslatedString.EN), eq(Fieldset.ALL));
+
+        assertEquals(CharacterEntityReader.inWorlds(List.of(worldId)).getCriteriaObject(), criteria.getValue().getCriteriaObject());
+    }
+
+    @Test
+    @DisplayName("[CHARACTER_REACTIVE_DATABASE] - Test that filtered Characters are counted through the race of the requested language.")
+    void testCountFilteredCharacters() {
+        // When
+        final var filter = CharacterFilterMO.builder().race("mock-race").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(reader.count(any(Criteria.class))).thenReturn(Mono.just(2L));
+
+        // Then
+        final var result = database.count(filter, TranslatedString.ES).block();
+
+        // Verify
+        verify(reader).count(criteria.capture());
+        verifyNoMoreInteractions(reader);
+
+        assertEquals(new Document("race.es", "mock-race"), criteria.getValue().getCriteriaObject());
+        assertEquals(2L, result);
+    }
+}
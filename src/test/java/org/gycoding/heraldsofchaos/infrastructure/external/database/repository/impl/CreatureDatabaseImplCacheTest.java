@@ -0,0 +1,181 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.domain.repository.CreatureRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.bulk.BulkCollectionWriter;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CreatureDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.CreatureMongoRepository;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+public class CreatureDatabaseImplCacheTest {
+    @Configuration
+    @Import(CacheConfiguration.class)
+    static class Context {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfiguration.CREATURES, CacheConfiguration.COUNTS);
+        }
+
+        @Bean
+        CreatureMongoRepository creatureMongoRepository() {
+            return mock(CreatureMongoRepository.class);
+        }
+
+        @Bean
+        CreatureDatabaseMapper creatureDatabaseMapper() {
+            return mock(CreatureDatabaseMapper.class);
+        }
+
+        @Bean
+        CreatureRepository creatureRepository(CreatureMongoRepository repository, CreatureDatabaseMapper mapper) {
+            return new CreatureDatabaseImpl(mock(OrderedCollectionReader.class), mock(KeysetCollectionReader.class), mock(SliceCollectionReader.class), repository, mapper, mock(BulkCollectionWriter.class));
+        }
+    }
+
+    @Autowired
+    private CreatureRepository database;
+
+    @Autowired
+    private CreatureMongoRepository repository;
+
+    @Autowired
+    private CreatureDatabaseMapper mapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void reset() {
+        clearInvocations(repository, mapper);
+        cacheManager.getCache(CacheConfiguration.CREATURES).clear();
+        cacheManager.getCache(CacheConfiguration.COUNTS).clear();
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE_CACHE] - Test that repeated retrievals of a Creature are served from the cache.")
+    void testGetCreatureIsCached() {
+        // When
+        final var id = "mock-creature-identifier";
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var creatureMO = CreatureMO.builder().identifier(id).build();
+
+        when(repository.findByIdentifier(id)).thenReturn(Optional.of(creatureEntity));
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+
+        // Then
+        final var first = database.get(id);
+        final var second = database.get(id);
+
+        // Verify
+        verify(repository, times(1)).findByIdentifier(id);
+
+        assertEquals(Optional.of(creatureMO), first);
+        assertEquals(Optional.of(creatureMO), second);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE_CACHE] - Test that missing Creatures are not cached.")
+    void testMissingCreatureIsNotCached() {
+        // When
+        final var id = "mock-missing-creature-identifier";
+
+        when(repository.findByIdentifier(id)).thenReturn(Optional.empty());
+
+        // Then
+        database.get(id);
+        final var result = database.get(id);
+
+        // Verify
+        verify(repository, times(2)).findByIdentifier(id);
+
+        assertEquals(Optional.empty(), result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE_CACHE] - Test that updating and removing a Creature evicts it from the cache.")
+    void testWritesEvictCreature() throws DatabaseException {
+        // When
+        final var id = "mock-creature-identifier";
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var creatureMO = CreatureMO.builder().identifier(id).build();
+
+        when(repository.findByIdentifier(id)).thenReturn(Optional.of(creatureEntity));
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+        when(mapper.toUpdatedEntity(creatureEntity, creatureMO)).thenReturn(creatureEntity);
+        when(repository.save(creatureEntity)).thenReturn(creatureEntity);
+
+        // Then
+        database.get(id);
+        database.update(creatureMO);
+        database.get(id);
+        database.delete(id);
+        database.get(id);
+
+        // Verify
+        verify(repository, times(4)).findByIdentifier(id);
+        verify(repository).removeByIdentifier(id);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE_CACHE] - Test that the total count of Creatures is cached until a Creature is saved or removed.")
+    void testCountIsCached() {
+        // When
+        final var creatureMO = CreatureMO.builder().identifier("mock-creature-identifier").build();
+        final var creatureEntity = mock(CreatureEntity.class);
+
+        when(repository.count()).thenReturn(1L, 2L, 1L);
+        when(mapper.toEntity(creatureMO)).thenReturn(creatureEntity);
+        when(repository.save(creatureEntity)).thenReturn(creatureEntity);
+
+        // Then
+        final var first = database.count();
+        final var cached = database.count();
+
+        database.save(creatureMO);
+
+        final var afterSave = database.count();
+
+        database.delete(creatureMO.identifier());
+
+        final var afterDelete = database.count();
+
+        // Verify
+        verify(repository, times(3)).count();
+
+        assertEquals(1L, first);
+        assertEquals(1L, cached);
+        assertEquals(2L, afterSave);
+        assertEquals(1L, afterDelete);
+    }
+}
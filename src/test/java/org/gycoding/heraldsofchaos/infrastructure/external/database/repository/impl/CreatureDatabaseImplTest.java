@@ -1,12 +1,19 @@
 package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
 
+import org.bson.Document;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.bulk.BulkCollectionWriter;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CreatureDatabaseMapper;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.model.OrderEntity;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.CreatureMongoRepository;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.gycoding.quasar.logs.service.Logger;
@@ -14,23 +21,40 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class CreatureDatabaseImplTest {
     @Mock
-    private OrderMongoRepository orderRepository;
+    private OrderedCollectionReader orderedReader;
+
+    @Mock
+    private KeysetCollectionReader keysetReader;
+
+    @Mock
+    private SliceCollectionReader sliceReader;
 
     @Mock
     private CreatureMongoRepository repository;
@@ -38,6 +62,9 @@ public class CreatureDatabaseImplTest {
     @Mock
     private CreatureDatabaseMapper mapper;
 
+    @Mock
+    private BulkCollectionWriter bulkWriter;
+
     @InjectMocks
     private CreatureDatabaseImpl database;
 
@@ -72,6 +99,34 @@ public class CreatureDatabaseImplTest {
         assertEquals(creatureMO, result);
     }
 
+    @Test
+    @DisplayName("[CREATURE_DATABASE] - Test successful bulk save of Creatures through a single unordered bulk write.")
+    void testSaveAllCreatures() {
+        // When
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var written = List.of(BulkResultMO.written("mock-creature-id"));
+
+        when(mapper.toEntity(creatureMO)).thenReturn(creatureEntity);
+        when(bulkWriter.insert(
+                eq(CreatureEntity.class),
+                eq(List.of(creatureEntity)),
+                any(),
+                eq(HeraldsOfChaosError.CREATURE_ALREADY_EXISTS_CONFLICT),
+                eq(HeraldsOfChaosError.CREATURE_SAVE_CONFLICT)
+        )).thenReturn(written);
+
+        // Then
+        final var result = database.saveAll(List.of(creatureMO));
+
+        // Verify
+        verify(mapper).toEntity(creatureMO);
+        verify(bulkWriter).insert(eq(CreatureEntity.class), eq(List.of(creatureEntity)), any(), any(), any());
+        verifyNoMoreInteractions(repository, mapper, bulkWriter);
+
+        assertEquals(written, result);
+    }
+
     @Test
     @DisplayName("[CREATURE_DATABASE] - Test successful update of a Creature.")
     void testUpdateCreature() throws DatabaseException {
@@ -165,26 +220,50 @@ public class CreatureDatabaseImplTest {
     @DisplayName("[CREATURE_DATABASE] - Test successful retrieval of a list of Creatures.")
     void testListCreatures() {
         // When
-        final var orderEntity = mock(OrderEntity.class);
         final var creatureMO = mock(CreatureMO.class);
         final var creatureEntity = mock(CreatureEntity.class);
 
-        when(orderRepository.findByCollection("Creature")).thenReturn(Optional.of(orderEntity));
-        when(repository.findAll()).thenReturn(List.of(creatureEntity));
+        when(orderedReader.list(eq("Creature"), eq(CreatureEntity.class), any())).thenReturn(List.of(creatureEntity));
         when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
 
         // Then
         final var result = database.list();
 
         // Verify
-        verify(orderRepository).findByCollection("Creature");
-        verify(repository).findAll();
+        verify(orderedReader).list(eq("Creature"), eq(CreatureEntity.class), any());
         verify(mapper).toMO(creatureEntity);
-        verifyNoMoreInteractions(orderRepository, repository, mapper);
+        verifyNoMoreInteractions(orderedReader, repository, mapper);
 
         assertEquals(List.of(creatureMO), result);
     }
 
+    @Test
+    @DisplayName("[CREATURE_DATABASE] - Test that streaming the Creatures maps them lazily and releases the cursor on close.")
+    void testStreamCreatures() {
+        // When
+        final var creatureMO = mock(CreatureMO.class);
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var closed = new AtomicBoolean();
+
+        when(orderedReader.stream(eq("Creature"), eq(CreatureEntity.class), any(Criteria.class), anyList())).thenReturn(Stream.of(creatureEntity).onClose(() -> closed.set(true)));
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+
+        // Then
+        final List<CreatureMO> result;
+
+        try (final var creatures = database.stream(CreatureFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL)) {
+            result = creatures.toList();
+        }
+
+        // Verify
+        verify(orderedReader).stream(eq("Creature"), eq(CreatureEntity.class), any(Criteria.class), anyList());
+        verify(mapper).toMO(creatureEntity);
+        verifyNoMoreInteractions(orderedReader, repository, mapper);
+
+        assertEquals(List.of(creatureMO), result);
+        assertTrue(closed.get());
+    }
+
     @Test
     @DisplayName("[CREATURE_DATABASE] - Test successful retrieval of a paginated list of Creatures.")
     void testPageCreatures() {
@@ -201,4 +280,87 @@ public class CreatureDatabaseImplTest {
         verify(repository).findAll(pageable);
         verifyNoMoreInteractions(repository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE] - Test successful retrieval of a window of Creatures after a given identifier.")
+    void testScrollCreatures() {
+        // When
+        final var after = "mock-creature-identifier";
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var creatureMO = mock(CreatureMO.class);
+        final var window = Window.from(List.of(creatureEntity), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-creature-identifier")), false);
+
+        when(keysetReader.scroll(eq("Creature"), eq(CreatureEntity.class), any(), eq(after), eq(10), any(Criteria.class), any())).thenReturn(window);
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+
+        // Then
+        final var result = database.scroll(after, 10, CreatureFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(keysetReader).scroll(eq("Creature"), eq(CreatureEntity.class), any(), eq(after), eq(10), any(Criteria.class), any());
+        verify(mapper).toMO(creatureEntity);
+        verifyNoInteractions(repository);
+
+        assertEquals(List.of(creatureMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE] - Test successful retrieval of a slice of Creatures without counting them.")
+    void testSliceCreatures() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var creatureMO = mock(CreatureMO.class);
+
+        when(sliceReader.slice(eq("Creature"), eq(CreatureEntity.class), eq(pageable), any(Criteria.class), eq(List.of("name.es", "description.es", "race.es")))).thenReturn(new SliceImpl<>(List.of(creatureEntity), pageable, false));
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+
+        // Then
+        final var result = database.slice(pageable, CreatureFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(sliceReader).slice(eq("Creature"), eq(CreatureEntity.class), eq(pageable), any(Criteria.class), any());
+        verify(mapper).toMO(creatureEntity);
+        verify(repository, never()).count();
+
+        assertEquals(List.of(creatureMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE] - Test that filtered Creatures are listed in order through the race of the requested language.")
+    void testListFilteredCreatures() {
+        // When
+        final var filter = CreatureFilterMO.builder().race("mock-race").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(orderedReader.list(eq("Creature"), eq(CreatureEntity.class), any(), any(Criteria.class), anyList())).thenReturn(List.of());
+
+        // Then
+        final var result = database.list(filter, TranslatedString.ES, Fieldset.ALL);
+
+        // Verify
+        verify(orderedReader).list(eq("Creature"), eq(CreatureEntity.class), any(), criteria.capture(), anyList());
+        verifyNoMoreInteractions(orderedReader, repository);
+
+        assertEquals(new Document("race.es", "mock-race"), criteria.getValue().getCriteriaObject());
+        assertEquals(List.of(), result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_DATABASE] - Test that filtered Creatures are counted through the filter instead of the cached total.")
+    void testCountFilteredCreatures() {
+        // When
+        final var filter = CreatureFilterMO.builder().race("mock-race").build();
+
+        when(sliceReader.count(eq("Creature"), any(Criteria.class))).thenReturn(3L);
+
+        // Then
+        final var result = database.count(filter, TranslatedString.EN);
+
+        // Verify
+        verify(sliceReader).count("Creature", Criteria.where("race.en").is("mock-race"));
+        verify(repository, never()).count();
+
+        assertEquals(3L, result);
+    }
+}
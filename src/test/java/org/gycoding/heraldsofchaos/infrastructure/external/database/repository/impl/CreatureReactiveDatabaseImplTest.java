@@ -0,0 +1,173 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.CreatureDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.creatures.CreatureEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.projection.LanguageProjection;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.CreatureReactiveMongoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreatureReactiveDatabaseImplTest {
+    @Mock
+    private ReactiveCollectionReader reader;
+
+    @Mock
+    private CreatureReactiveMongoRepository repository;
+
+    @Mock
+    private CreatureDatabaseMapper mapper;
+
+    @InjectMocks
+    private CreatureReactiveDatabaseImpl database;
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATABASE] - Test successful retrieval of a Creature.")
+    void testGetCreature() {
+        // When
+        final var id = "mock-creature-identifier";
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var creatureMO = mock(CreatureMO.class);
+
+        when(repository.findByIdentifier(id)).thenReturn(Mono.just(creatureEntity));
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+
+        // Then
+        final var result = database.get(id);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(creatureMO)
+                .verifyComplete();
+
+        verify(repository).findByIdentifier(id);
+        verify(mapper).toMO(creatureEntity);
+        verifyNoInteractions(reader);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATABASE] - Test that the list of Creatures is read projected to the requested language.")
+    void testListCreatures() {
+        // When
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var creatureMO = mock(CreatureMO.class);
+
+        when(reader.list(eq("Creature"), eq(CreatureEntity.class), any(Criteria.class), eq(List.of("name.es", "description.es", "race.es")))).thenReturn(Flux.just(creatureEntity));
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+
+        // Then
+        final var result = database.list(CreatureFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(creatureMO)
+                .verifyComplete();
+
+        verify(reader).list(eq("Creature"), eq(CreatureEntity.class), any(Criteria.class), eq(List.of("name.es", "description.es", "race.es")));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATABASE] - Test successful retrieval of a slice of Creatures.")
+    void testSliceCreatures() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var creatureEntity = mock(CreatureEntity.class);
+        final var creatureMO = mock(CreatureMO.class);
+
+        when(reader.slice(eq("Creature"), eq(CreatureEntity.class), eq(pageable), any(Criteria.class), eq(List.of("name.es", "description.es", "race.es")))).thenReturn(Mono.just(new SliceImpl<>(List.of(creatureEntity), pageable, true)));
+        when(mapper.toMO(creatureEntity)).thenReturn(creatureMO);
+
+        // Then
+        final var result = database.slice(pageable, CreatureFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(reader).slice(eq("Creature"), eq(CreatureEntity.class), eq(pageable), any(Criteria.class), eq(List.of("name.es", "description.es", "race.es")));
+
+        assertEquals(List.of(creatureMO), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATABASE] - Test successful count of Creatures.")
+    void testCountCreatures() {
+        // When
+        when(repository.count()).thenReturn(Mono.just(3L));
+
+        // Then
+        final var result = database.count();
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(repository).count();
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATABASE] - Test that filtered Creatures are counted through the race of the requested language.")
+    void testCountFilteredCreatures() {
+        // When
+        final var filter = CreatureFilterMO.builder().race("mock-race").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(reader.count(eq("Creature"), any(Criteria.class))).thenReturn(Mono.just(2L));
+
+        // Then
+        final var result = database.count(filter, TranslatedString.ES).block();
+
+        // Verify
+        verify(reader).count(eq("Creature"), criteria.capture());
+        verifyNoInteractions(repository);
+
+        assertEquals(new Document("race.es", "mock-race"), criteria.getValue().getCriteriaObject());
+        assertEquals(2L, result);
+    }
+
+    @Test
+    @DisplayName("[CREATURE_REACTIVE_DATABASE] - Test that a slice of Creatures only reads the requested fields.")
+    void testSliceCreaturesWithFields() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var fieldset = Fieldset.of(List.of("identifier", "name"));
+        final var excluded = LanguageProjection.excluded(CreatureEntity.class, TranslatedString.EN, fieldset);
+
+        when(reader.slice(eq("Creature"), eq(CreatureEntity.class), eq(pageable), any(Criteria.class), eq(excluded))).thenReturn(Mono.just(new SliceImpl<>(List.of(), pageable, false)));
+
+        // Then
+        database.slice(pageable, CreatureFilterMO.builder().build(), TranslatedString.EN, fieldset).block();
+
+        // Verify
+        verify(reader).slice(eq("Creature"), eq(CreatureEntity.class), eq(pageable), any(Criteria.class), eq(excluded));
+
+        assertTrue(excluded.containsAll(List.of("description", "image", "name.es")));
+        assertFalse(excluded.contains("name.en"));
+    }
+}
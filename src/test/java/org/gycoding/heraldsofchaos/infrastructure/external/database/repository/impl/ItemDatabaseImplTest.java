@@ -1,12 +1,19 @@
 package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
 
+import org.bson.Document;
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.BulkResultMO;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
 import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.bulk.BulkCollectionWriter;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.ItemDatabaseMapper;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.model.OrderEntity;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.items.ItemEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.ItemMongoRepository;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.exceptions.model.ServiceException;
 import org.gycoding.quasar.logs.service.Logger;
@@ -14,23 +21,40 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemDatabaseImplTest {
     @Mock
-    private OrderMongoRepository orderRepository;
+    private OrderedCollectionReader orderedReader;
+
+    @Mock
+    private KeysetCollectionReader keysetReader;
+
+    @Mock
+    private SliceCollectionReader sliceReader;
 
     @Mock
     private ItemMongoRepository repository;
@@ -38,6 +62,9 @@ public class ItemDatabaseImplTest {
     @Mock
     private ItemDatabaseMapper mapper;
 
+    @Mock
+    private BulkCollectionWriter bulkWriter;
+
     @InjectMocks
     private ItemDatabaseImpl database;
 
@@ -72,6 +99,34 @@ public class ItemDatabaseImplTest {
         assertEquals(itemMO, result);
     }
 
+    @Test
+    @DisplayName("[ITEM_DATABASE] - Test successful bulk save of Items through a single unordered bulk write.")
+    void testSaveAllItems() {
+        // When
+        final var itemMO = mock(ItemMO.class);
+        final var itemEntity = mock(ItemEntity.class);
+        final var written = List.of(BulkResultMO.written("mock-item-id"));
+
+        when(mapper.toEntity(itemMO)).thenReturn(itemEntity);
+        when(bulkWriter.insert(
+                eq(ItemEntity.class),
+                eq(List.of(itemEntity)),
+                any(),
+                eq(HeraldsOfChaosError.ITEM_ALREADY_EXISTS_CONFLICT),
+                eq(HeraldsOfChaosError.ITEM_SAVE_CONFLICT)
+        )).thenReturn(written);
+
+        // Then
+        final var result = database.saveAll(List.of(itemMO));
+
+        // Verify
+        verify(mapper).toEntity(itemMO);
+        verify(bulkWriter).insert(eq(ItemEntity.class), eq(List.of(itemEntity)), any(), any(), any());
+        verifyNoMoreInteractions(repository, mapper, bulkWriter);
+
+        assertEquals(written, result);
+    }
+
     @Test
     @DisplayName("[ITEM_DATABASE] - Test successful update of a Item.")
     void testUpdateItem() throws DatabaseException {
@@ -161,26 +216,50 @@ public class ItemDatabaseImplTest {
     @DisplayName("[ITEM_DATABASE] - Test successful retrieval of a list of Items.")
     void testListItems() {
         // When
-        final var orderEntity = mock(OrderEntity.class);
         final var itemMO = mock(ItemMO.class);
         final var itemEntity = mock(ItemEntity.class);
 
-        when(orderRepository.findByCollection("Item")).thenReturn(Optional.of(orderEntity));
-        when(repository.findAll()).thenReturn(List.of(itemEntity));
+        when(orderedReader.list(eq("Item"), eq(ItemEntity.class), any())).thenReturn(List.of(itemEntity));
         when(mapper.toMO(itemEntity)).thenReturn(itemMO);
 
         // Then
         final var result = database.list();
 
         // Verify
-        verify(orderRepository).findByCollection("Item");
-        verify(repository).findAll();
+        verify(orderedReader).list(eq("Item"), eq(ItemEntity.class), any());
         verify(mapper).toMO(itemEntity);
-        verifyNoMoreInteractions(orderRepository, repository, mapper);
+        verifyNoMoreInteractions(orderedReader, repository, mapper);
 
         assertEquals(List.of(itemMO), result);
     }
 
+    @Test
+    @DisplayName("[ITEM_DATABASE] - Test that streaming the Items maps them lazily and releases the cursor on close.")
+    void testStreamItems() {
+        // When
+        final var itemMO = mock(ItemMO.class);
+        final var itemEntity = mock(ItemEntity.class);
+        final var closed = new AtomicBoolean();
+
+        when(orderedReader.stream(eq("Item"), eq(ItemEntity.class), any(Criteria.class), anyList())).thenReturn(Stream.of(itemEntity).onClose(() -> closed.set(true)));
+        when(mapper.toMO(itemEntity)).thenReturn(itemMO);
+
+        // Then
+        final List<ItemMO> result;
+
+        try (final var items = database.stream(ItemFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL)) {
+            result = items.toList();
+        }
+
+        // Verify
+        verify(orderedReader).stream(eq("Item"), eq(ItemEntity.class), any(Criteria.class), anyList());
+        verify(mapper).toMO(itemEntity);
+        verifyNoMoreInteractions(orderedReader, repository, mapper);
+
+        assertEquals(List.of(itemMO), result);
+        assertTrue(closed.get());
+    }
+
     @Test
     @DisplayName("[ITEM_DATABASE] - Test successful retrieval of a paginated list of Items.")
     void testPageItems() {
@@ -197,4 +276,87 @@ public class ItemDatabaseImplTest {
         verify(repository).findAll(pageable);
         verifyNoMoreInteractions(repository);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[ITEM_DATABASE] - Test successful retrieval of a window of Items after a given identifier.")
+    void testScrollItems() {
+        // When
+        final var after = "mock-item-identifier";
+        final var itemEntity = mock(ItemEntity.class);
+        final var itemMO = mock(ItemMO.class);
+        final var window = Window.from(List.of(itemEntity), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-item-identifier")), false);
+
+        when(keysetReader.scroll(eq("Item"), eq(ItemEntity.class), any(), eq(after), eq(10), any(Criteria.class), any())).thenReturn(window);
+        when(mapper.toMO(itemEntity)).thenReturn(itemMO);
+
+        // Then
+        final var result = database.scroll(after, 10, ItemFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(keysetReader).scroll(eq("Item"), eq(ItemEntity.class), any(), eq(after), eq(10), any(Criteria.class), any());
+        verify(mapper).toMO(itemEntity);
+        verifyNoInteractions(repository);
+
+        assertEquals(List.of(itemMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATABASE] - Test successful retrieval of a slice of Items without counting them.")
+    void testSliceItems() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var itemEntity = mock(ItemEntity.class);
+        final var itemMO = mock(ItemMO.class);
+
+        when(sliceReader.slice(eq("Item"), eq(ItemEntity.class), eq(pageable), any(Criteria.class), eq(List.of("name.es", "description.es", "type.es")))).thenReturn(new SliceImpl<>(List.of(itemEntity), pageable, false));
+        when(mapper.toMO(itemEntity)).thenReturn(itemMO);
+
+        // Then
+        final var result = database.slice(pageable, ItemFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(sliceReader).slice(eq("Item"), eq(ItemEntity.class), eq(pageable), any(Criteria.class), any());
+        verify(mapper).toMO(itemEntity);
+        verify(repository, never()).count();
+
+        assertEquals(List.of(itemMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATABASE] - Test that filtered Items are listed in order through the type of the requested language.")
+    void testListFilteredItems() {
+        // When
+        final var filter = ItemFilterMO.builder().type("mock-type").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(orderedReader.list(eq("Item"), eq(ItemEntity.class), any(), any(Criteria.class), anyList())).thenReturn(List.of());
+
+        // Then
+        final var result = database.list(filter, TranslatedString.ES, Fieldset.ALL);
+
+        // Verify
+        verify(orderedReader).list(eq("Item"), eq(ItemEntity.class), any(), criteria.capture(), anyList());
+        verifyNoMoreInteractions(orderedReader, repository);
+
+        assertEquals(new Document("type.es", "mock-type"), criteria.getValue().getCriteriaObject());
+        assertEquals(List.of(), result);
+    }
+
+    @Test
+    @DisplayName("[ITEM_DATABASE] - Test that filtered Items are counted through the filter instead of the cached total.")
+    void testCountFilteredItems() {
+        // When
+        final var filter = ItemFilterMO.builder().type("mock-type").build();
+
+        when(sliceReader.count(eq("Item"), any(Criteria.class))).thenReturn(3L);
+
+        // Then
+        final var result = database.count(filter, TranslatedString.EN);
+
+        // Verify
+        verify(sliceReader).count("Item", Criteria.where("type.en").is("mock-type"));
+        verify(repository, never()).count();
+
+        assertEquals(3L, result);
+    }
+}
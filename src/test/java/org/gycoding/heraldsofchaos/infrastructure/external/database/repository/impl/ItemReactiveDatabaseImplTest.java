@@ -0,0 +1,150 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import org.bson.Document;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.items.ItemMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.ItemDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.items.ItemEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.ItemReactiveMongoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemReactiveDatabaseImplTest {
+    @Mock
+    private ReactiveCollectionReader reader;
+
+    @Mock
+    private ItemReactiveMongoRepository repository;
+
+    @Mock
+    private ItemDatabaseMapper mapper;
+
+    @InjectMocks
+    private ItemReactiveDatabaseImpl database;
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATABASE] - Test successful retrieval of a Item.")
+    void testGetItem() {
+        // When
+        final var id = "mock-item-identifier";
+        final var itemEntity = mock(ItemEntity.class);
+        final var itemMO = mock(ItemMO.class);
+
+        when(repository.findByIdentifier(id)).thenReturn(Mono.just(itemEntity));
+        when(mapper.toMO(itemEntity)).thenReturn(itemMO);
+
+        // Then
+        final var result = database.get(id);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(itemMO)
+                .verifyComplete();
+
+        verify(repository).findByIdentifier(id);
+        verify(mapper).toMO(itemEntity);
+        verifyNoInteractions(reader);
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATABASE] - Test that the list of Items is read projected to the requested language.")
+    void testListItems() {
+        // When
+        final var itemEntity = mock(ItemEntity.class);
+        final var itemMO = mock(ItemMO.class);
+
+        when(reader.list(eq("Item"), eq(ItemEntity.class), any(Criteria.class), eq(List.of("name.es", "description.es", "type.es")))).thenReturn(Flux.just(itemEntity));
+        when(mapper.toMO(itemEntity)).thenReturn(itemMO);
+
+        // Then
+        final var result = database.list(ItemFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(itemMO)
+                .verifyComplete();
+
+        verify(reader).list(eq("Item"), eq(ItemEntity.class), any(Criteria.class), eq(List.of("name.es", "description.es", "type.es")));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATABASE] - Test successful retrieval of a slice of Items.")
+    void testSliceItems() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var itemEntity = mock(ItemEntity.class);
+        final var itemMO = mock(ItemMO.class);
+
+        when(reader.slice(eq("Item"), eq(ItemEntity.class), eq(pageable), any(Criteria.class), eq(List.of("name.es", "description.es", "type.es")))).thenReturn(Mono.just(new SliceImpl<>(List.of(itemEntity), pageable, true)));
+        when(mapper.toMO(itemEntity)).thenReturn(itemMO);
+
+        // Then
+        final var result = database.slice(pageable, ItemFilterMO.builder().build(), TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(reader).slice(eq("Item"), eq(ItemEntity.class), eq(pageable), any(Criteria.class), eq(List.of("name.es", "description.es", "type.es")));
+
+        assertEquals(List.of(itemMO), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATABASE] - Test successful count of Items.")
+    void testCountItems() {
+        // When
+        when(repository.count()).thenReturn(Mono.just(3L));
+
+        // Then
+        final var result = database.count();
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(repository).count();
+    }
+
+    @Test
+    @DisplayName("[ITEM_REACTIVE_DATABASE] - Test that filtered Items are counted through the type of the requested language.")
+    void testCountFilteredItems() {
+        // When
+        final var filter = ItemFilterMO.builder().type("mock-type").build();
+        final var criteria = ArgumentCaptor.forClass(Criteria.class);
+
+        when(reader.count(eq("Item"), any(Criteria.class))).thenReturn(Mono.just(2L));
+
+        // Then
+        final var result = database.count(filter, TranslatedString.ES).block();
+
+        // Verify
+        verify(reader).count(eq("Item"), criteria.capture());
+        verifyNoInteractions(repository);
+
+        assertEquals(new Document("type.es", "mock-type"), criteria.getValue().getCriteriaObject());
+        assertEquals(2L, result);
+    }
+}
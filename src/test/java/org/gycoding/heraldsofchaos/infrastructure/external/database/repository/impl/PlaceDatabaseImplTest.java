@@ -1,11 +1,14 @@
 package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
 
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.PlaceDatabaseMapper;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.model.OrderEntity;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.ordering.OrderedCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.KeysetCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.pagination.SliceCollectionReader;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
 import org.gycoding.quasar.exceptions.model.ServiceException;
@@ -19,18 +22,34 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.core.query.Criteria;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class PlaceDatabaseImplTest {
     @Mock
-    private OrderMongoRepository orderRepository;
+    private OrderedCollectionReader orderedReader;
+
+    @Mock
+    private KeysetCollectionReader keysetReader;
+
+    @Mock
+    private SliceCollectionReader sliceReader;
 
     @Mock
     private PlaceMongoRepository repository;
@@ -161,26 +180,50 @@ public class PlaceDatabaseImplTest {
     @DisplayName("[PLACE_DATABASE] - Test successful retrieval of a list of Places.")
     void testListPlaces() {
         // When
-        final var orderEntity = mock(OrderEntity.class);
         final var placeMO = mock(PlaceMO.class);
         final var placeEntity = mock(PlaceEntity.class);
 
-        when(orderRepository.findByCollection("Place")).thenReturn(Optional.of(orderEntity));
-        when(repository.findAll()).thenReturn(List.of(placeEntity));
+        when(orderedReader.list(eq("Place"), eq(PlaceEntity.class), any())).thenReturn(List.of(placeEntity));
         when(mapper.toMO(placeEntity)).thenReturn(placeMO);
 
         // Then
         final var result = database.list();
 
         // Verify
-        verify(orderRepository).findByCollection("Place");
-        verify(repository).findAll();
+        verify(orderedReader).list(eq("Place"), eq(PlaceEntity.class), any());
         verify(mapper).toMO(placeEntity);
-        verifyNoMoreInteractions(orderRepository, repository, mapper);
+        verifyNoMoreInteractions(orderedReader, repository, mapper);
 
         assertEquals(List.of(placeMO), result);
     }
 
+    @Test
+    @DisplayName("[PLACE_DATABASE] - Test that streaming the Places maps them lazily and releases the cursor on close.")
+    void testStreamPlaces() {
+        // When
+        final var placeMO = mock(PlaceMO.class);
+        final var placeEntity = mock(PlaceEntity.class);
+        final var closed = new AtomicBoolean();
+
+        when(orderedReader.stream(eq("Place"), eq(PlaceEntity.class), any(Criteria.class), anyList())).thenReturn(Stream.of(placeEntity).onClose(() -> closed.set(true)));
+        when(mapper.toMO(placeEntity)).thenReturn(placeMO);
+
+        // Then
+        final List<PlaceMO> result;
+
+        try (final var places = database.stream(TranslatedString.EN, Fieldset.ALL)) {
+            result = places.toList();
+        }
+
+        // Verify
+        verify(orderedReader).stream(eq("Place"), eq(PlaceEntity.class), any(Criteria.class), anyList());
+        verify(mapper).toMO(placeEntity);
+        verifyNoMoreInteractions(orderedReader, repository, mapper);
+
+        assertEquals(List.of(placeMO), result);
+        assertTrue(closed.get());
+    }
+
     @Test
     @DisplayName("[PLACE_DATABASE] - Test successful retrieval of a paginated list of Places.")
     void testPagePlaces() {
@@ -197,4 +240,49 @@ public class PlaceDatabaseImplTest {
         verify(repository).findAll(pageable);
         verifyNoMoreInteractions(repository);
     }
+
+    @Test
+    @DisplayName("[PLACE_DATABASE] - Test successful retrieval of a window of Places after a given identifier.")
+    void testScrollPlaces() {
+        // When
+        final var after = "mock-place-identifier";
+        final var placeEntity = mock(PlaceEntity.class);
+        final var placeMO = mock(PlaceMO.class);
+        final var window = Window.from(List.of(placeEntity), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-place-identifier")), false);
+
+        when(keysetReader.scroll(eq("Place"), eq(PlaceEntity.class), any(), eq(after), eq(10), any())).thenReturn(window);
+        when(mapper.toMO(placeEntity)).thenReturn(placeMO);
+
+        // Then
+        final var result = database.scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(keysetReader).scroll(eq("Place"), eq(PlaceEntity.class), any(), eq(after), eq(10), any());
+        verify(mapper).toMO(placeEntity);
+        verifyNoInteractions(repository);
+
+        assertEquals(List.of(placeMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[PLACE_DATABASE] - Test successful retrieval of a slice of Places without counting them.")
+    void testSlicePlaces() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var placeEntity = mock(PlaceEntity.class);
+        final var placeMO = mock(PlaceMO.class);
+
+        when(sliceReader.slice(eq("Place"), eq(PlaceEntity.class), eq(pageable), eq(List.of("name.es", "description.es")))).thenReturn(new SliceImpl<>(List.of(placeEntity), pageable, false));
+        when(mapper.toMO(placeEntity)).thenReturn(placeMO);
+
+        // Then
+        final var result = database.slice(pageable, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(sliceReader).slice(eq("Place"), eq(PlaceEntity.class), eq(pageable), any());
+        verify(mapper).toMO(placeEntity);
+        verify(repository, never()).count();
+
+        assertEquals(List.of(placeMO), result.getContent());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.PlaceDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveCollectionReader;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceReactiveMongoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlaceReactiveDatabaseImplTest {
+    @Mock
+    private ReactiveCollectionReader reader;
+
+    @Mock
+    private PlaceReactiveMongoRepository repository;
+
+    @Mock
+    private PlaceDatabaseMapper mapper;
+
+    @InjectMocks
+    private PlaceReactiveDatabaseImpl database;
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_DATABASE] - Test successful retrieval of a Place.")
+    void testGetPlace() {
+        // When
+        final var id = "mock-place-identifier";
+        final var placeEntity = mock(PlaceEntity.class);
+        final var placeMO = mock(PlaceMO.class);
+
+        when(repository.findByIdentifier(id)).thenReturn(Mono.just(placeEntity));
+        when(mapper.toMO(placeEntity)).thenReturn(placeMO);
+
+        // Then
+        final var result = database.get(id);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(placeMO)
+                .verifyComplete();
+
+        verify(repository).findByIdentifier(id);
+        verify(mapper).toMO(placeEntity);
+        verifyNoInteractions(reader);
+    }
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_DATABASE] - Test that the list of Places is read projected to the requested language.")
+    void testListPlaces() {
+        // When
+        final var placeEntity = mock(PlaceEntity.class);
+        final var placeMO = mock(PlaceMO.class);
+
+        when(reader.list("Place", PlaceEntity.class, List.of("name.es", "description.es"))).thenReturn(Flux.just(placeEntity));
+        when(mapper.toMO(placeEntity)).thenReturn(placeMO);
+
+        // Then
+        final var result = database.list(TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(placeMO)
+                .verifyComplete();
+
+        verify(reader).list("Place", PlaceEntity.class, List.of("name.es", "description.es"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_DATABASE] - Test successful retrieval of a slice of Places.")
+    void testSlicePlaces() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var placeEntity = mock(PlaceEntity.class);
+        final var placeMO = mock(PlaceMO.class);
+
+        when(reader.slice("Place", PlaceEntity.class, pageable, List.of("name.es", "description.es"))).thenReturn(Mono.just(new SliceImpl<>(List.of(placeEntity), pageable, true)));
+        when(mapper.toMO(placeEntity)).thenReturn(placeMO);
+
+        // Then
+        final var result = database.slice(pageable, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(reader).slice("Place", PlaceEntity.class, pageable, List.of("name.es", "description.es"));
+
+        assertEquals(List.of(placeMO), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+
+    @Test
+    @DisplayName("[PLACE_REACTIVE_DATABASE] - Test successful count of Places.")
+    void testCountPlaces() {
+        // When
+        when(repository.count()).thenReturn(Mono.just(3L));
+
+        // Then
+        final var result = database.count();
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(3L)
+                .verifyComplete();
+
+        verify(repository).count();
+    }
+}
@@ -0,0 +1,82 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import org.gycoding.heraldsofchaos.domain.repository.SnapshotRepository;
+import org.gycoding.heraldsofchaos.infrastructure.configuration.CacheConfiguration;
+import org.gycoding.quasar.exceptions.model.DatabaseException;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+public class SnapshotDatabaseImplCacheTest {
+    @Configuration
+    @Import(CacheConfiguration.class)
+    static class Context {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(
+                    CacheConfiguration.CHARACTERS,
+                    CacheConfiguration.CREATURES,
+                    CacheConfiguration.ITEMS,
+                    CacheConfiguration.PLACES,
+                    CacheConfiguration.WORLDS,
+                    CacheConfiguration.COUNTS
+            );
+        }
+
+        @Bean
+        SnapshotRepository snapshotRepository() {
+            return new SnapshotDatabaseImpl(mock(MongoTemplate.class), 500);
+        }
+    }
+
+    @Autowired
+    private SnapshotRepository database;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_DATABASE_CACHE] - Test that a failed restore still evicts every cache.")
+    void testWrongRestoreEvictsCaches() {
+        // When
+        final var input = new ByteArrayInputStream("not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+        cacheManager.getCache(CacheConfiguration.CREATURES).put("mock-creature-identifier", "mock-creature");
+        cacheManager.getCache(CacheConfiguration.COUNTS).put("Creature", 1L);
+
+        // Then
+        assertThrows(
+                DatabaseException.class,
+                () -> database.restore(input)
+        );
+
+        // Verify
+        assertNull(cacheManager.getCache(CacheConfiguration.CREATURES).get("mock-creature-identifier"));
+        assertNull(cacheManager.getCache(CacheConfiguration.COUNTS).get("Creature"));
+    }
+}
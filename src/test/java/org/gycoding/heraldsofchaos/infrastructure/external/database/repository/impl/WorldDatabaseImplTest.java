@@ -1,12 +1,13 @@
 package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
 
 import org.gycoding.heraldsofchaos.domain.exceptions.HeraldsOfChaosError;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
 import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.WorldDatabaseMapper;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.model.OrderEntity;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.PlaceEntity;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
-import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.OrderMongoRepository;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reference.WorldEntityReader;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.PlaceMongoRepository;
 import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.WorldMongoRepository;
 import org.gycoding.quasar.exceptions.model.DatabaseException;
@@ -21,19 +22,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class WorldDatabaseImplTest {
-    @Mock
-    private OrderMongoRepository orderRepository;
-
     @Mock
     private WorldMongoRepository repository;
 
@@ -43,6 +48,9 @@ public class WorldDatabaseImplTest {
     @Mock
     private PlaceMongoRepository placeRepository;
 
+    @Mock
+    private WorldEntityReader reader;
+
     @InjectMocks
     private WorldDatabaseImpl database;
 
@@ -56,14 +64,15 @@ public class WorldDatabaseImplTest {
 
     @Test
     @DisplayName("[WORLD_DATABASE] - Test successful save of a World.")
-    void testSaveWorld() {
+    void testSaveWorld() throws DatabaseException {
         // When
         final var worldMO = mock(WorldMO.class);
         final var places = List.of("mock-place-identifier");
         final var placeEntity = mock(PlaceEntity.class);
         final var worldEntity = mock(WorldEntity.class);
 
-        when(placeRepository.findByIdentifier("mock-place-identifier")).thenReturn(Optional.of(placeEntity));
+        when(placeEntity.getIdentifier()).thenReturn("mock-place-identifier");
+        when(placeRepository.findByIdentifierIn(places)).thenReturn(List.of(placeEntity));
         when(mapper.toEntity(worldMO, List.of(placeEntity))).thenReturn(worldEntity);
         when(repository.save(worldEntity)).thenReturn(worldEntity);
         when(mapper.toMO(worldEntity)).thenReturn(worldMO);
@@ -72,7 +81,7 @@ public class WorldDatabaseImplTest {
         final var result = database.save(worldMO, places);
 
         // Verify
-        verify(placeRepository).findByIdentifier("mock-place-identifier");
+        verify(placeRepository).findByIdentifierIn(places);
         verify(mapper).toEntity(worldMO, List.of(placeEntity));
         verify(repository).save(worldEntity);
         verify(mapper).toMO(worldEntity);
@@ -92,7 +101,8 @@ public class WorldDatabaseImplTest {
         final var worldUpdatedEntity = mock(WorldEntity.class);
 
         when(repository.findByIdentifier(worldMO.identifier())).thenReturn(Optional.of(worldEntity));
-        when(placeRepository.findByIdentifier("mock-place-identifier")).thenReturn(Optional.of(placeEntity));
+        when(placeEntity.getIdentifier()).thenReturn("mock-place-identifier");
+        when(placeRepository.findByIdentifierIn(places)).thenReturn(List.of(placeEntity));
         when(mapper.toUpdatedEntity(worldEntity, worldMO, List.of(placeEntity))).thenReturn(worldUpdatedEntity);
         when(repository.save(worldUpdatedEntity)).thenReturn(worldUpdatedEntity);
         when(mapper.toMO(worldUpdatedEntity)).thenReturn(worldMO);
@@ -102,7 +112,7 @@ public class WorldDatabaseImplTest {
 
         // Verify
         verify(repository).findByIdentifier(worldMO.identifier());
-        verify(placeRepository).findByIdentifier("mock-place-identifier");
+        verify(placeRepository).findByIdentifierIn(places);
         verify(mapper).toUpdatedEntity(worldEntity, worldMO, List.of(placeEntity));
         verify(repository).save(worldUpdatedEntity);
         verify(mapper).toMO(worldUpdatedEntity);
@@ -135,6 +145,33 @@ public class WorldDatabaseImplTest {
         assertEquals(expectedException.getCode(), error.getCode());
     }
 
+    @Test
+    @DisplayName("[WORLD_DATABASE] - Test unsuccessful save of a World due to some of its places not existing.")
+    void testWrongSaveWorldMissingPlaces() {
+        // When
+        final var worldMO = mock(WorldMO.class);
+        final var places = List.of("mock-place-identifier", "mock-missing-place-identifier");
+        final var placeEntity = mock(PlaceEntity.class);
+        final var expectedException = new ServiceException(HeraldsOfChaosError.PLACE_NOT_FOUND);
+
+        when(placeEntity.getIdentifier()).thenReturn("mock-place-identifier");
+        when(placeRepository.findByIdentifierIn(places)).thenReturn(List.of(placeEntity));
+
+        // Then
+        final var error = assertThrows(
+                DatabaseException.class,
+                () -> database.save(worldMO, places)
+        );
+
+        // Verify
+        verify(placeRepository).findByIdentifierIn(places);
+        verifyNoMoreInteractions(placeRepository, repository, mapper);
+
+        assertEquals(expectedException.getStatus(), error.getStatus());
+        assertEquals(expectedException.getCode(), error.getCode());
+        assertTrue(error.getMessage().contains("mock-missing-place-identifier"));
+    }
+
     @Test
     @DisplayName("[WORLD_DATABASE] - Test successful removal of a World.")
     void testDeleteWorld() {
@@ -157,16 +194,16 @@ public class WorldDatabaseImplTest {
         final var worldMO = mock(WorldMO.class);
         final var worldEntity = mock(WorldEntity.class);
 
-        when(repository.findByIdentifier(id)).thenReturn(Optional.of(worldEntity));
+        when(reader.findByIdentifier(id)).thenReturn(Optional.of(worldEntity));
         when(mapper.toMO(worldEntity)).thenReturn(worldMO);
 
         // Then
         final var result = database.get(id);
 
         // Verify
-        verify(repository).findByIdentifier(id);
+        verify(reader).findByIdentifier(id);
         verify(mapper).toMO(worldEntity);
-        verifyNoMoreInteractions(repository, mapper);
+        verifyNoMoreInteractions(reader, repository, mapper);
 
         assertEquals(Optional.of(worldMO), result);
     }
@@ -175,24 +212,48 @@ public class WorldDatabaseImplTest {
     @DisplayName("[WORLD_DATABASE] - Test successful retrieval of a list of Worlds.")
     void testListWorlds() {
         // When
-        final var orderEntity = mock(OrderEntity.class);
         final var worldMO = mock(WorldMO.class);
         final var worldEntity = mock(WorldEntity.class);
 
-        when(orderRepository.findByCollection("World")).thenReturn(Optional.of(orderEntity));
-        when(repository.findAll()).thenReturn(List.of(worldEntity));
+        when(reader.list()).thenReturn(List.of(worldEntity));
         when(mapper.toMO(worldEntity)).thenReturn(worldMO);
 
         // Then
         final var result = database.list();
 
         // Verify
-        verify(orderRepository).findByCollection("World");
-        verify(repository).findAll();
+        verify(reader).list();
+        verify(mapper).toMO(worldEntity);
+        verifyNoMoreInteractions(reader, repository, mapper);
+
+        assertEquals(List.of(worldMO), result);
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATABASE] - Test that streaming the Worlds maps them lazily and releases the cursor on close.")
+    void testStreamWorlds() {
+        // When
+        final var worldMO = mock(WorldMO.class);
+        final var worldEntity = mock(WorldEntity.class);
+        final var closed = new AtomicBoolean();
+
+        when(reader.stream(TranslatedString.EN, Fieldset.ALL)).thenReturn(Stream.of(worldEntity).onClose(() -> closed.set(true)));
+        when(mapper.toMO(worldEntity)).thenReturn(worldMO);
+
+        // Then
+        final List<WorldMO> result;
+
+        try (final var worlds = database.stream(TranslatedString.EN, Fieldset.ALL)) {
+            result = worlds.toList();
+        }
+
+        // Verify
+        verify(reader).stream(TranslatedString.EN, Fieldset.ALL);
         verify(mapper).toMO(worldEntity);
-        verifyNoMoreInteractions(orderRepository, repository, mapper);
+        verifyNoMoreInteractions(reader, repository, mapper);
 
         assertEquals(List.of(worldMO), result);
+        assertTrue(closed.get());
     }
 
     @Test
@@ -202,13 +263,58 @@ public class WorldDatabaseImplTest {
         final Pageable pageable = Pageable.ofSize(10).withPage(0);
         final Page pagedWorlds = mock(Page.class);
 
-        when(repository.findAll(pageable)).thenReturn(pagedWorlds);
+        when(reader.page(pageable)).thenReturn(pagedWorlds);
 
         // Then
         final var result = database.page(pageable);
 
         // Verify
-        verify(repository).findAll(pageable);
-        verifyNoMoreInteractions(repository);
+        verify(reader).page(pageable);
+        verifyNoMoreInteractions(reader, repository);
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATABASE] - Test successful retrieval of a window of Worlds after a given identifier.")
+    void testScrollWorlds() {
+        // When
+        final var after = "mock-world-identifier";
+        final var worldEntity = mock(WorldEntity.class);
+        final var worldMO = mock(WorldMO.class);
+        final var window = Window.from(List.of(worldEntity), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-world-identifier")), false);
+
+        when(reader.scroll(after, 10, TranslatedString.EN, Fieldset.ALL)).thenReturn(window);
+        when(mapper.toMO(worldEntity)).thenReturn(worldMO);
+
+        // Then
+        final var result = database.scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(reader).scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(worldEntity);
+        verifyNoInteractions(repository);
+
+        assertEquals(List.of(worldMO), result.getContent());
+    }
+
+    @Test
+    @DisplayName("[WORLD_DATABASE] - Test successful retrieval of a slice of Worlds without counting them.")
+    void testSliceWorlds() {
+        // When
+        final Pageable pageable = Pageable.ofSize(10).withPage(0);
+        final var worldEntity = mock(WorldEntity.class);
+        final var worldMO = mock(WorldMO.class);
+
+        when(reader.slice(pageable, TranslatedString.EN, Fieldset.ALL)).thenReturn(new SliceImpl<>(List.of(worldEntity), pageable, false));
+        when(mapper.toMO(worldEntity)).thenReturn(worldMO);
+
+        // Then
+        final var result = database.slice(pageable, TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        verify(reader).slice(pageable, TranslatedString.EN, Fieldset.ALL);
+        verify(mapper).toMO(worldEntity);
+        verify(repository, never()).count();
+
+        assertEquals(List.of(worldMO), result.getContent());
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl;
+
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.TranslatedString;
+import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.mapper.WorldDatabaseMapper;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.model.worlds.WorldEntity;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.reactive.ReactiveWorldEntityReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class WorldReactiveDatabaseImplTest {
+    @Mock
+    private ReactiveWorldEntityReader reader;
+
+    @Mock
+    private WorldDatabaseMapper mapper;
+
+    @InjectMocks
+    private WorldReactiveDatabaseImpl database;
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATABASE] - Test successful retrieval of a World.")
+    void testGetWorld() {
+        // When
+        final var id = "mock-world-identifier";
+        final var worldEntity = mock(WorldEntity.class);
+        final var worldMO = mock(WorldMO.class);
+
+        when(reader.findByIdentifier(id)).thenReturn(Mono.just(worldEntity));
+        when(mapper.toMO(worldEntity)).thenReturn(worldMO);
+
+        // Then
+        final var result = database.get(id);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(worldMO)
+                .verifyComplete();
+
+        verify(reader).findByIdentifier(id);
+        verify(mapper).toMO(worldEntity);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATABASE] - Test unsuccessful retrieval of a World that does not exist.")
+    void testGetMissingWorld() {
+        // When
+        final var id = "mock-world-identifier";
+
+        when(reader.findByIdentifier(id)).thenReturn(Mono.empty());
+
+        // Then
+        final var result = database.get(id);
+
+        // Verify
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATABASE] - Test successful retrieval of a list of Worlds.")
+    void testListWorlds() {
+        // When
+        final var worldEntity = mock(WorldEntity.class);
+        final var worldMO = mock(WorldMO.class);
+
+        when(reader.list(TranslatedString.EN, Fieldset.ALL)).thenReturn(Flux.just(worldEntity));
+        when(mapper.toMO(worldEntity)).thenReturn(worldMO);
+
+        // Then
+        final var result = database.list(TranslatedString.EN, Fieldset.ALL);
+
+        // Verify
+        StepVerifier.create(result)
+                .expectNext(worldMO)
+                .verifyComplete();
+
+        verify(reader).list(TranslatedString.EN, Fieldset.ALL);
+    }
+
+    @Test
+    @DisplayName("[WORLD_REACTIVE_DATABASE] - Test successful retrieval of a window of Worlds after an identifier.")
+    void testScrollWorlds() {
+        // When
+        final var after = "mock-world-identifier";
+        final var worldEntity = mock(WorldEntity.class);
+        final var worldMO = mock(WorldMO.class);
+        final Window<WorldEntity> window = Window.from(List.of(worldEntity), index -> ScrollPosition.forward(Map.of("identifier", "mock-next-world-identifier")), true);
+
+        when(reader.scroll(after, 10, TranslatedString.EN, Fieldset.ALL)).thenReturn(Mono.just(window));
+        when(mapper.toMO(worldEntity)).thenReturn(worldMO);
+
+        // Then
+        final var result = database.scroll(after, 10, TranslatedString.EN, Fieldset.ALL).block();
+
+        // Verify
+        verify(reader).scroll(after, 10, TranslatedString.EN, Fieldset.ALL);
+
+        assertEquals(List.of(worldMO), result.getContent());
+        assertEquals(true, result.hasNext());
+    }
+}
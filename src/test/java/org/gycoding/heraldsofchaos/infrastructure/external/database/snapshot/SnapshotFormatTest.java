@@ -0,0 +1,89 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.database.snapshot;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotFormatTest {
+    @Test
+    @DisplayName("[SNAPSHOT_FORMAT] - Test that collections and raw documents read back in the order they were written.")
+    void testRoundTrip() throws IOException {
+        // When
+        final var first = document("first");
+        final var second = document("second");
+        final var output = new ByteArrayOutputStream();
+
+        try (final var writer = new SnapshotWriter(output)) {
+            writer.collection("Character");
+            writer.document(first);
+            writer.document(second);
+            writer.collection("Creature");
+        }
+
+        // Then
+        try (final var reader = new SnapshotReader(new ByteArrayInputStream(output.toByteArray()))) {
+            // Verify
+            assertEquals("Character", reader.nextCollection());
+            assertEquals(first, reader.nextDocument());
+            assertEquals(second, reader.nextDocument());
+            assertNull(reader.nextDocument());
+            assertEquals("Creature", reader.nextCollection());
+            assertNull(reader.nextDocument());
+            assertNull(reader.nextCollection());
+        }
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_FORMAT] - Test that a stream without the snapshot header is rejected.")
+    void testWrongMagic() throws IOException {
+        // When
+        final var output = new ByteArrayOutputStream();
+
+        try (final var data = new DataOutputStream(new GZIPOutputStream(output))) {
+            data.writeBytes("JSON");
+            data.writeInt(SnapshotWriter.VERSION);
+        }
+
+        // Then
+        final var error = assertThrows(IOException.class, () -> new SnapshotReader(new ByteArrayInputStream(output.toByteArray())));
+
+        // Verify
+        assertEquals("Not a universe snapshot.", error.getMessage());
+    }
+
+    @Test
+    @DisplayName("[SNAPSHOT_FORMAT] - Test that a corrupt document length is rejected before allocating it.")
+    void testWrongDocumentLength() throws IOException {
+        // When
+        final var output = new ByteArrayOutputStream();
+
+        try (final var data = new DataOutputStream(new GZIPOutputStream(output))) {
+            data.write(SnapshotWriter.MAGIC);
+            data.writeInt(SnapshotWriter.VERSION);
+            data.writeUTF("Character");
+            data.writeInt(SnapshotReader.MAX_DOCUMENT_SIZE + 1);
+        }
+
+        // Then
+        try (final var reader = new SnapshotReader(new ByteArrayInputStream(output.toByteArray()))) {
+            reader.nextCollection();
+
+            // Verify
+            assertThrows(IOException.class, reader::nextDocument);
+        }
+    }
+
+    private static RawBsonDocument document(String identifier) {
+        return RawBsonDocument.parse(new BsonDocument("identifier", new BsonString(identifier)).toJson());
+    }
+}
@@ -0,0 +1,164 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.characters.CharacterMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.CharacterDatabaseImpl;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryCharacterRepositoryTest {
+    @Mock
+    private CharacterDatabaseImpl database;
+
+    private InMemoryCharacterRepository repository;
+
+    private final CharacterMO aerendil = CharacterMO.builder().identifier("mock-aerendil-identifier").world("mock-world-identifier").build();
+    private final CharacterMO gwyneth = CharacterMO.builder().identifier("mock-gwyneth-identifier").world("mock-other-world-identifier").build();
+    private final CharacterMO gwen = CharacterMO.builder().identifier("mock-gwen-identifier").world("mock-world-identifier").build();
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void load() {
+        when(database.list()).thenReturn(List.of(gwen, gwyneth, aerendil));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(aerendil, gwyneth, gwen)));
+
+        repository = new InMemoryCharacterRepository(database);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CHARACTER_REPOSITORY] - Test that reads are served from memory without reaching Mongo.")
+    void testReadsFromMemory() {
+        // When
+        clearInvocations(database);
+
+        // Then
+        final var found = repository.get(gwyneth.identifier());
+        final var list = repository.list(CharacterFilterMO.builder().build(), "es", Fieldset.ALL);
+        final var count = repository.count();
+
+        // Verify
+        verifyNoInteractions(database);
+
+        assertEquals(Optional.of(gwyneth), found);
+        assertEquals(List.of(gwen, gwyneth, aerendil), list);
+        assertEquals(3L, count);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CHARACTER_REPOSITORY] - Test that the Characters of a World are read from memory, grouped by World in the same orders.")
+    void testWorldCharactersFromMemory() {
+        // When
+        final var filter = CharacterFilterMO.builder().world("mock-world-identifier").build();
+
+        clearInvocations(database);
+
+        // Then
+        final var list = repository.list(filter, "es", Fieldset.ALL);
+        final var slice = repository.slice(PageRequest.of(0, 10), filter, "es", Fieldset.ALL);
+        final var count = repository.count(filter, "es");
+        final var unknown = repository.list(CharacterFilterMO.builder().world("mock-unknown-world-identifier").build(), "es", Fieldset.ALL);
+
+        // Verify
+        verifyNoInteractions(database);
+
+        assertEquals(List.of(gwen, aerendil), list);
+        assertEquals(List.of(aerendil, gwen), slice.getContent());
+        assertEquals(2L, count);
+        assertEquals(List.of(), unknown);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CHARACTER_REPOSITORY] - Test that a write of a World reloads the Characters, and that unrelated writes do not.")
+    void testReloadOnEntityChanged() {
+        // When
+        final var moved = CharacterMO.builder().identifier(gwyneth.identifier()).world("mock-world-identifier").build();
+        final var filter = CharacterFilterMO.builder().world("mock-world-identifier").build();
+
+        when(database.list()).thenReturn(List.of(gwen, moved, aerendil));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(aerendil, moved, gwen)));
+
+        // Then
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.PLACE, null));
+
+        final var beforeReload = repository.count(filter, "es");
+
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.WORLD, "mock-world-identifier"));
+
+        // Verify
+        verify(database, times(2)).list();
+
+        assertEquals(2L, beforeReload);
+        assertEquals(List.of(gwen, moved, aerendil), repository.list(filter, "es", Fieldset.ALL));
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CHARACTER_REPOSITORY] - Test that sorted pages and slices are still read from Mongo.")
+    void testSortedPageFromDatabase() {
+        // When
+        final var pageable = PageRequest.of(0, 10, Sort.by("image"));
+        final var filter = CharacterFilterMO.builder().world("mock-world-identifier").build();
+        final var page = new PageImpl<>(List.of(aerendil), pageable, 1);
+        final var slice = new SliceImpl<>(List.of(aerendil), pageable, false);
+
+        when(database.page(pageable)).thenReturn(page);
+        when(database.slice(pageable, filter, "es", Fieldset.ALL)).thenReturn(slice);
+
+        // Then
+        final var pageResult = repository.page(pageable);
+        final var sliceResult = repository.slice(pageable, filter, "es", Fieldset.ALL);
+
+        // Verify
+        verify(database).page(pageable);
+        verify(database).slice(pageable, filter, "es", Fieldset.ALL);
+
+        assertEquals(page, pageResult);
+        assertEquals(slice, sliceResult);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CHARACTER_REPOSITORY] - Test that reads filtered by race are left to the indexed Mongo queries.")
+    void testFilteredReadsFromDatabase() {
+        // When
+        final var filter = CharacterFilterMO.builder().world("mock-world-identifier").race("mock-race").build();
+
+        clearInvocations(database);
+        when(database.count(filter, "es")).thenReturn(0L);
+
+        // Then
+        final var count = repository.count(filter, "es");
+
+        // Verify
+        verify(database).count(filter, "es");
+        verifyNoMoreInteractions(database);
+
+        assertEquals(0L, count);
+    }
+}
@@ -0,0 +1,93 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryCollectionTest {
+    private final InMemoryCollection<String> collection = InMemoryCollection.of(
+            List.of("c", "a", "d", "b"),
+            List.of("d", "b", "a", "c"),
+            Function.identity()
+    );
+
+    @Test
+    @DisplayName("[IN_MEMORY_COLLECTION] - Test that lists follow the given order and elements are found by identifier.")
+    void testListAndGet() {
+        // Then
+        final var list = collection.list();
+        final var found = collection.get("b");
+        final var missing = collection.get("z");
+
+        // Verify
+        assertEquals(List.of("c", "a", "d", "b"), list);
+        assertEquals(Optional.of("b"), found);
+        assertEquals(Optional.empty(), missing);
+        assertEquals(4, collection.count());
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_COLLECTION] - Test that pages and slices follow the storage order.")
+    void testPageAndSlice() {
+        // Then
+        final var page = collection.page(PageRequest.of(1, 3));
+        final var slice = collection.slice(PageRequest.of(0, 3));
+        final var beyond = collection.slice(PageRequest.of(5, 3));
+
+        // Verify
+        assertEquals(List.of("c"), page.getContent());
+        assertEquals(4, page.getTotalElements());
+        assertEquals(List.of("d", "b", "a"), slice.getContent());
+        assertTrue(slice.hasNext());
+        assertEquals(List.of(), beyond.getContent());
+        assertFalse(beyond.hasNext());
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_COLLECTION] - Test that windows follow the identifier order, also after a missing identifier.")
+    void testScroll() {
+        // Then
+        final var first = collection.scroll(null, 2);
+        final var afterExisting = collection.scroll("b", 2);
+        final var afterMissing = collection.scroll("bb", 2);
+
+        // Verify
+        assertEquals(List.of("a", "b"), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("c", "d"), afterExisting.getContent());
+        assertFalse(afterExisting.hasNext());
+        assertEquals(List.of("c", "d"), afterMissing.getContent());
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_COLLECTION] - Test that related elements keep every order of the collection and unknown relations are empty.")
+    void testRelated() {
+        // When
+        final var grouped = InMemoryCollection.of(
+                List.of("c1", "a2", "d1", "b2", "e"),
+                List.of("d1", "b2", "a2", "c1", "e"),
+                Function.identity(),
+                element -> element.length() > 1 ? element.substring(1) : null
+        );
+
+        // Then
+        final var first = grouped.related("1");
+        final var second = grouped.related("2");
+        final var missing = grouped.related("3");
+
+        // Verify
+        assertEquals(List.of("c1", "d1"), first.list());
+        assertEquals(List.of("d1"), first.slice(PageRequest.of(0, 1)).getContent());
+        assertEquals(List.of("a2", "b2"), second.scroll(null, 5).getContent());
+        assertEquals(Optional.of("b2"), second.get("b2"));
+        assertEquals(Optional.empty(), second.get("c1"));
+        assertEquals(0, missing.count());
+        assertEquals(5, grouped.count());
+    }
+}
@@ -0,0 +1,145 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureFilterMO;
+import org.gycoding.heraldsofchaos.domain.model.creatures.CreatureMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.CreatureDatabaseImpl;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryCreatureRepositoryTest {
+    @Mock
+    private CreatureDatabaseImpl database;
+
+    private InMemoryCreatureRepository repository;
+
+    private final CreatureMO creature = CreatureMO.builder().identifier("mock-creature-identifier").build();
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void load() {
+        when(database.list()).thenReturn(List.of(creature));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(creature)));
+
+        repository = new InMemoryCreatureRepository(database);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CREATURE_REPOSITORY] - Test that reads are served from memory without reaching Mongo.")
+    void testReadsFromMemory() {
+        // When
+        clearInvocations(database);
+
+        // Then
+        final var found = repository.get(creature.identifier());
+        final var list = repository.list(CreatureFilterMO.builder().build(), "es", Fieldset.ALL);
+        final var count = repository.count();
+
+        // Verify
+        verifyNoInteractions(database);
+
+        assertEquals(Optional.of(creature), found);
+        assertEquals(List.of(creature), list);
+        assertEquals(1L, count);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CREATURE_REPOSITORY] - Test that a write of an affecting type reloads the Creatures.")
+    void testReloadOnEntityChanged() {
+        // When
+        final var added = CreatureMO.builder().identifier("mock-added-creature-identifier").build();
+
+        when(database.list()).thenReturn(List.of(creature, added));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(creature, added)));
+
+        // Then
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.ITEM, null));
+
+        final var beforeReload = repository.count();
+
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.CREATURE, added.identifier()));
+
+        // Verify
+        verify(database, times(2)).list();
+
+        assertEquals(1L, beforeReload);
+        assertEquals(2L, repository.count());
+        assertEquals(Optional.of(added), repository.get(added.identifier()));
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CREATURE_REPOSITORY] - Test that a failed reload keeps serving the previous Creatures.")
+    void testFailedReloadKeepsPrevious() {
+        // When
+        when(database.list()).thenThrow(new RuntimeException("Mongo is unreachable."));
+
+        // Then
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.CREATURE, null));
+
+        // Verify
+        assertEquals(List.of(creature), repository.list());
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CREATURE_REPOSITORY] - Test that sorted pages are still read from Mongo.")
+    void testSortedPageFromDatabase() {
+        // When
+        final var pageable = PageRequest.of(0, 10, Sort.by("image"));
+        final var page = new PageImpl<>(List.of(creature), pageable, 1);
+
+        when(database.page(pageable)).thenReturn(page);
+
+        // Then
+        final var result = repository.page(pageable);
+
+        // Verify
+        verify(database).page(pageable);
+
+        assertEquals(page, result);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_CREATURE_REPOSITORY] - Test that filtered reads are left to the indexed Mongo queries.")
+    void testFilteredReadsFromDatabase() {
+        // When
+        final var filter = CreatureFilterMO.builder().race("mock-race").build();
+
+        clearInvocations(database);
+        when(database.list(filter, "es", Fieldset.ALL)).thenReturn(List.of());
+
+        // Then
+        final var list = repository.list(filter, "es", Fieldset.ALL);
+
+        // Verify
+        verify(database).list(filter, "es", Fieldset.ALL);
+        verifyNoMoreInteractions(database);
+
+        assertEquals(List.of(), list);
+    }
+}
@@ -0,0 +1,111 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.PlaceDatabaseImpl;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryPlaceRepositoryTest {
+    @Mock
+    private PlaceDatabaseImpl database;
+
+    private InMemoryPlaceRepository repository;
+
+    private final PlaceMO place = PlaceMO.builder().identifier("mock-place-identifier").build();
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void load() {
+        when(database.list()).thenReturn(List.of(place));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(place)));
+
+        repository = new InMemoryPlaceRepository(database);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_PLACE_REPOSITORY] - Test that reads are served from memory without reaching Mongo.")
+    void testReadsFromMemory() {
+        // When
+        clearInvocations(database);
+
+        // Then
+        final var found = repository.get(place.identifier());
+        final var list = repository.list("es", Fieldset.ALL);
+        final var count = repository.count();
+
+        // Verify
+        verifyNoInteractions(database);
+
+        assertEquals(Optional.of(place), found);
+        assertEquals(List.of(place), list);
+        assertEquals(1L, count);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_PLACE_REPOSITORY] - Test that a write of a Place reloads the Places, while a write of a World does not.")
+    void testReloadOnEntityChanged() {
+        // When
+        final var added = PlaceMO.builder().identifier("mock-added-place-identifier").build();
+
+        when(database.list()).thenReturn(List.of(place, added));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(place, added)));
+
+        // Then
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.WORLD, null));
+
+        final var beforeReload = repository.count();
+
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.PLACE, added.identifier()));
+
+        // Verify
+        verify(database, times(2)).list();
+
+        assertEquals(1L, beforeReload);
+        assertEquals(Optional.of(added), repository.get(added.identifier()));
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_PLACE_REPOSITORY] - Test that sorted pages are still read from Mongo.")
+    void testSortedPageFromDatabase() {
+        // When
+        final var pageable = PageRequest.of(0, 10, Sort.by("image"));
+        final var page = new PageImpl<>(List.of(place), pageable, 1);
+
+        when(database.page(pageable)).thenReturn(page);
+
+        // Then
+        final var result = repository.page(pageable);
+
+        // Verify
+        verify(database).page(pageable);
+
+        assertEquals(page, result);
+    }
+}
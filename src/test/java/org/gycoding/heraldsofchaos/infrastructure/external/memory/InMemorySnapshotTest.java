@@ -0,0 +1,87 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemorySnapshotTest {
+    @Test
+    @DisplayName("[IN_MEMORY_SNAPSHOT] - Test that a reload replaces the collection, and that a failing one keeps the previous collection.")
+    void testReload() {
+        // When
+        final var loads = new AtomicInteger();
+        final var snapshot = new InMemorySnapshot<>(EntityType.CREATURE, () -> switch (loads.getAndIncrement()) {
+            case 0 -> collection("initial");
+            case 1 -> collection("reloaded");
+            default -> throw new IllegalStateException("Mongo is unreachable");
+        });
+
+        // Then
+        final var initial = snapshot.get().list();
+
+        snapshot.reload();
+        final var reloaded = snapshot.get().list();
+
+        snapshot.reload();
+        final var failed = snapshot.get().list();
+
+        // Verify
+        assertEquals(List.of("initial"), initial);
+        assertEquals(List.of("reloaded"), reloaded);
+        assertEquals(List.of("reloaded"), failed);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_SNAPSHOT] - Test that a slow reload finishing after a newer one does not replace the newer collection.")
+    void testOverlappingReloads() throws Exception {
+        // When
+        final var loads = new AtomicInteger();
+        final var staleLoading = new CountDownLatch(1);
+        final var staleRelease = new CountDownLatch(1);
+        final var snapshot = new InMemorySnapshot<>(EntityType.CREATURE, () -> switch (loads.getAndIncrement()) {
+            case 0 -> collection("initial");
+            case 1 -> {
+                staleLoading.countDown();
+                await(staleRelease);
+                yield collection("stale");
+            }
+            default -> collection("fresh");
+        });
+
+        // Then
+        final var staleReload = CompletableFuture.runAsync(snapshot::reload);
+
+        assertTrue(staleLoading.await(5, TimeUnit.SECONDS));
+        snapshot.reload();
+        final var fresh = snapshot.get().list();
+
+        staleRelease.countDown();
+        staleReload.get(5, TimeUnit.SECONDS);
+
+        // Verify
+        assertEquals(List.of("fresh"), fresh);
+        assertEquals(List.of("fresh"), snapshot.get().list());
+        assertEquals(3, loads.get());
+    }
+
+    private static InMemoryCollection<String> collection(String element) {
+        return InMemoryCollection.of(List.of(element), List.of(element), Function.identity());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.gycoding.heraldsofchaos.infrastructure.external.memory;
+
+import org.gycoding.heraldsofchaos.application.event.EntityChangedEvent;
+import org.gycoding.heraldsofchaos.domain.model.EntityType;
+import org.gycoding.heraldsofchaos.domain.model.Fieldset;
+import org.gycoding.heraldsofchaos.domain.model.worlds.PlaceMO;
+import org.gycoding.heraldsofchaos.domain.model.worlds.WorldMO;
+import org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.WorldDatabaseImpl;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryWorldRepositoryTest {
+    @Mock
+    private WorldDatabaseImpl database;
+
+    private InMemoryWorldRepository repository;
+
+    private final PlaceMO place = PlaceMO.builder().identifier("mock-place-identifier").build();
+    private final WorldMO world = WorldMO.builder().identifier("mock-world-identifier").places(List.of(place)).build();
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void load() {
+        when(database.list()).thenReturn(List.of(world));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(world)));
+
+        repository = new InMemoryWorldRepository(database);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_WORLD_REPOSITORY] - Test that Worlds are read from memory with their places embedded.")
+    void testReadsFromMemory() {
+        // When
+        clearInvocations(database);
+
+        // Then
+        final var found = repository.get(world.identifier());
+        final var list = repository.list("es", Fieldset.ALL);
+        final var count = repository.count();
+
+        // Verify
+        verifyNoInteractions(database);
+
+        assertEquals(Optional.of(world), found);
+        assertEquals(List.of(place), found.orElseThrow().places());
+        assertEquals(List.of(world), list);
+        assertEquals(1L, count);
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_WORLD_REPOSITORY] - Test that a write of a Place reloads the Worlds embedding it, and that unrelated writes do not.")
+    void testReloadOnPlaceChanged() {
+        // When
+        final var renamed = PlaceMO.builder().identifier(place.identifier()).image("mock-image").build();
+        final var reloaded = WorldMO.builder().identifier(world.identifier()).places(List.of(renamed)).build();
+
+        when(database.list()).thenReturn(List.of(reloaded));
+        when(database.page(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(reloaded)));
+
+        // Then
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.CHARACTER, null));
+
+        final var beforeReload = repository.get(world.identifier());
+
+        repository.onEntityChanged(new EntityChangedEvent(EntityType.PLACE, place.identifier()));
+
+        // Verify
+        verify(database, times(2)).list();
+
+        assertEquals(Optional.of(world), beforeReload);
+        assertEquals(List.of(renamed), repository.get(world.identifier()).orElseThrow().places());
+    }
+
+    @Test
+    @DisplayName("[IN_MEMORY_WORLD_REPOSITORY] - Test that sorted pages and slices are still read from Mongo.")
+    void testSortedPageFromDatabase() {
+        // When
+        final var pageable = PageRequest.of(0, 10, Sort.by("image"));
+        final var page = new PageImpl<>(List.of(world), pageable, 1);
+        final var slice = new SliceImpl<>(List.of(world), pageable, false);
+
+        when(database.page(pageable)).thenReturn(page);
+        when(database.slice(pageable, "es", Fieldset.ALL)).thenReturn(slice);
+
+        // Then
+        final var pageResult = repository.page(pageable);
+        final var sliceResult = repository.slice(pageable, "es", Fieldset.ALL);
+
+        // Verify
+        verify(database).page(pageable);
+        verify(database).slice(pageable, "es", Fieldset.ALL);
+
+        assertEquals(page, pageResult);
+        assertEquals(slice, sliceResult);
+    }
+}
@@ -0,0 +1,78 @@
+package org.gycoding.heraldsofchaos.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gycoding.quasar.logs.service.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mockStatic;
+
+public class VirtualThreadPinningMonitorTest {
+    private SimpleMeterRegistry meterRegistry;
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeAll
+    static void setup() {
+        try {
+            mockStatic(Logger.class);
+        } catch (Exception ignored) {
+        }
+    }
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(20));
+    }
+
+    @Test
+    @DisplayName("[PINNING_MONITOR] - Test that pins are attributed to the innermost known code path.")
+    void testReportBySource() {
+        // When
+        final var mongoFrames = List.of(
+                "java.lang.Object.wait0:-1",
+                "com.mongodb.internal.connection.DefaultConnectionPool.get:180",
+                "org.gycoding.heraldsofchaos.infrastructure.external.database.repository.impl.CreatureDatabaseImpl.get:70"
+        );
+        final var loggerFrames = List.of(
+                "java.io.PrintStream.println:1027",
+                "org.gycoding.quasar.logs.service.Logger.info:40",
+                "org.gycoding.heraldsofchaos.application.service.impl.CreatureServiceImpl.save:60"
+        );
+
+        // Then
+        monitor.report(Duration.ofMillis(35), mongoFrames);
+        monitor.report(Duration.ofMillis(50), mongoFrames);
+        monitor.report(Duration.ofMillis(25), loggerFrames);
+        monitor.report(Duration.ofMillis(25), List.of("java.lang.Thread.sleep:500"));
+
+        // Verify
+        assertEquals(2.0, count(PinningSource.MONGO_DRIVER));
+        assertEquals(1.0, count(PinningSource.LOGGER));
+        assertEquals(1.0, count(PinningSource.OTHER));
+        assertEquals(0.0, count(PinningSource.APPLICATION));
+    }
+
+    @Test
+    @DisplayName("[PINNING_MONITOR] - Test that pins without a stack trace are still counted.")
+    void testReportWithoutFrames() {
+        // Then
+        monitor.report(Duration.ofMillis(25), List.of());
+
+        // Verify
+        assertEquals(1.0, count(PinningSource.OTHER));
+    }
+
+    private double count(PinningSource source) {
+        final var counter = meterRegistry.find(VirtualThreadPinningMonitor.METER).tag("source", source.name()).counter();
+
+        return counter != null ? counter.count() : 0.0;
+    }
+}
@@ -0,0 +1,21 @@
+package org.gycoding.heraldsofchaos.shared;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TextFoldingTest {
+    @Test
+    @DisplayName("[TEXT_FOLDING] - Test that tokens are folded like identifiers and split on punctuation.")
+    void testTokens() {
+        // Then
+        final var tokens = TextFolding.tokens("Ædrïn, the Dragón-Slayer!");
+
+        // Verify
+        assertEquals(List.of("aedrin", "the", "dragon", "slayer"), tokens);
+        assertEquals("aedrin_the_dragon", IdentifierGenerator.generate("Ædrïn the Dragón"));
+    }
+}